@@ -34,6 +34,7 @@ import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.ClusterInfoProvider;
 import com.linkedin.venice.meta.IngestionMode;
+import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
@@ -218,6 +219,13 @@ public class DaVinciBackend implements Closeable {
       ingestionService.start();
       ingestionService.addIngestionNotifier(ingestionListener);
 
+      if (isIsolatedIngestion()
+          && configLoader.getVeniceClusterConfig().getPersistenceType() == PersistenceType.OFF_HEAP) {
+        // The data ingested by the isolated process would not be visible to this process.
+        throw new IllegalArgumentException(
+            "Ingestion isolated and off-heap storage are incompatible configs!!  Aborting start up!");
+      }
+
       if (isIsolatedIngestion() && cacheConfig.isPresent()) {
         // TODO: There are 'some' cases where this mix might be ok, (like a batch only store, or with certain TTL
         // settings),
@@ -12,6 +12,7 @@ import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
 import static com.linkedin.venice.ConfigKeys.KAFKA_ADMIN_CLASS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_ZK_ADDRESS;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_KAFKA_OPENSSL;
 import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static com.linkedin.venice.client.store.ClientFactory.getAndStartAvroClient;
@@ -45,6 +46,7 @@ import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponseV2;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.admin.KafkaAdminClient;
+import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
@@ -53,21 +55,26 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.ComputeUtils;
+import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -421,46 +428,24 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       }
 
       Set<K> missingKeys = new HashSet<>();
-
-      ReusableObjects reusableObjects = threadLocalReusableObjects.get();
-      Schema valueSchema = computeRequestWrapper.getValueSchema();
-      GenericRecord reuseValueRecord =
-          reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
-
-      Map<String, Object> globalContext = new HashMap<>();
       Schema computeResultSchema = getComputeResultSchema(computeRequestWrapper);
-
-      for (K key: keys) {
-        byte[] keyBytes =
-            keySerializer.serialize(key, reusableObjects.binaryEncoder, reusableObjects.byteArrayOutputStream);
-        int partition = versionBackend.getPartition(keyBytes);
-
-        if (isPartitionReadyToServe(versionBackend, partition)) {
-          GenericRecord computeResultValue = versionBackend.compute(
-              partition,
-              keyBytes,
-              getGenericRecordChunkingAdapter(),
-              reusableObjects.binaryDecoder,
-              reusableObjects.rawValue,
-              reuseValueRecord,
-              globalContext,
-              computeRequestWrapper,
-              computeResultSchema);
-
-          if (computeResultValue != null) {
-            callback.onRecordReceived(
-                key,
-                new ComputeGenericRecord(computeResultValue, computeRequestWrapper.getValueSchema()));
-          } else {
-            callback.onRecordReceived(key, null);
-          }
-        } else if (isVeniceQueryAllowed()) {
-          missingKeys.add(key);
-        } else if (!isPartitionSubscribed(versionBackend, partition)) {
-          storeBackend.getStats().recordBadRequest();
-          callback.onCompletion(Optional.of(new NonLocalAccessException(versionBackend.toString(), partition)));
-          return;
-        }
+      Executor computeExecutor = daVinciConfig.getComputeExecutor();
+      boolean completed;
+      if (computeExecutor != null && keys.size() >= daVinciConfig.getParallelComputeMinKeyCount()) {
+        completed = computeInParallel(
+            versionBackend,
+            computeRequestWrapper,
+            computeResultSchema,
+            keys,
+            callback,
+            missingKeys,
+            computeExecutor);
+      } else {
+        completed =
+            computeSerially(versionBackend, computeRequestWrapper, computeResultSchema, keys, callback, missingKeys);
+      }
+      if (!completed) {
+        return;
       }
 
       if (missingKeys.isEmpty()) {
@@ -479,6 +464,170 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  /**
+   * Computes the locally served keys on the caller thread.
+   *
+   * @return false if the request has been failed via the callback already.
+   */
+  private boolean computeSerially(
+      VersionBackend versionBackend,
+      ComputeRequestWrapper computeRequestWrapper,
+      Schema computeResultSchema,
+      Set<K> keys,
+      StreamingCallback<K, ComputeGenericRecord> callback,
+      Set<K> missingKeys) {
+    ReusableObjects reusableObjects = threadLocalReusableObjects.get();
+    Schema valueSchema = computeRequestWrapper.getValueSchema();
+    GenericRecord reuseValueRecord =
+        reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
+
+    Map<String, Object> globalContext = new HashMap<>();
+
+    for (K key: keys) {
+      byte[] keyBytes =
+          keySerializer.serialize(key, reusableObjects.binaryEncoder, reusableObjects.byteArrayOutputStream);
+      int partition = versionBackend.getPartition(keyBytes);
+
+      if (isPartitionReadyToServe(versionBackend, partition)) {
+        GenericRecord computeResultValue = versionBackend.compute(
+            partition,
+            keyBytes,
+            getGenericRecordChunkingAdapter(),
+            reusableObjects.binaryDecoder,
+            reusableObjects.rawValue,
+            reuseValueRecord,
+            globalContext,
+            computeRequestWrapper,
+            computeResultSchema);
+
+        if (computeResultValue != null) {
+          callback.onRecordReceived(
+              key,
+              new ComputeGenericRecord(computeResultValue, computeRequestWrapper.getValueSchema()));
+        } else {
+          callback.onRecordReceived(key, null);
+        }
+      } else if (isVeniceQueryAllowed()) {
+        missingKeys.add(key);
+      } else if (!isPartitionSubscribed(versionBackend, partition)) {
+        storeBackend.getStats().recordBadRequest();
+        callback.onCompletion(Optional.of(new NonLocalAccessException(versionBackend.toString(), partition)));
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Splits the keys by partition, and computes each partition slice on {@link DaVinciConfig#getComputeExecutor()},
+   * except the last one, which is computed on the caller thread. Every worker uses its own {@link ReusableObjects},
+   * and the results are streamed to the callback as soon as they are computed, but never concurrently, so the
+   * callback does not need to be thread-safe. The caller thread waits for all the slices, so the current version
+   * cannot be retired while it is being read.
+   *
+   * @return false if the request has been failed via the callback already.
+   */
+  private boolean computeInParallel(
+      VersionBackend versionBackend,
+      ComputeRequestWrapper computeRequestWrapper,
+      Schema computeResultSchema,
+      Set<K> keys,
+      StreamingCallback<K, ComputeGenericRecord> callback,
+      Set<K> missingKeys,
+      Executor computeExecutor) {
+    ReusableObjects reusableObjects = threadLocalReusableObjects.get();
+    Map<Integer, List<Pair<K, byte[]>>> keysByPartition = new HashMap<>();
+    for (K key: keys) {
+      byte[] keyBytes =
+          keySerializer.serialize(key, reusableObjects.binaryEncoder, reusableObjects.byteArrayOutputStream);
+      keysByPartition.computeIfAbsent(versionBackend.getPartition(keyBytes), p -> new ArrayList<>())
+          .add(new Pair<>(key, keyBytes));
+    }
+
+    List<Runnable> slices = new ArrayList<>(keysByPartition.size());
+    for (Map.Entry<Integer, List<Pair<K, byte[]>>> entry: keysByPartition.entrySet()) {
+      int partition = entry.getKey();
+      List<Pair<K, byte[]>> partitionKeys = entry.getValue();
+      if (isPartitionReadyToServe(versionBackend, partition)) {
+        slices.add(
+            () -> computePartitionSlice(
+                versionBackend,
+                partition,
+                partitionKeys,
+                computeRequestWrapper,
+                computeResultSchema,
+                callback));
+      } else if (isVeniceQueryAllowed()) {
+        partitionKeys.forEach(partitionKey -> missingKeys.add(partitionKey.getFirst()));
+      } else if (!isPartitionSubscribed(versionBackend, partition)) {
+        storeBackend.getStats().recordBadRequest();
+        callback.onCompletion(Optional.of(new NonLocalAccessException(versionBackend.toString(), partition)));
+        return false;
+      }
+    }
+    if (slices.isEmpty()) {
+      return true;
+    }
+
+    List<CompletableFuture<Void>> sliceFutures = new ArrayList<>(slices.size() - 1);
+    for (int i = 0; i < slices.size() - 1; i++) {
+      sliceFutures.add(CompletableFuture.runAsync(slices.get(i), computeExecutor));
+    }
+    Throwable error = null;
+    try {
+      slices.get(slices.size() - 1).run();
+    } catch (Throwable e) {
+      error = e;
+    }
+    for (CompletableFuture<Void> sliceFuture: sliceFutures) {
+      try {
+        sliceFuture.join();
+      } catch (CompletionException e) {
+        if (error == null) {
+          error = e.getCause();
+        }
+      }
+    }
+    if (error instanceof RuntimeException) {
+      throw (RuntimeException) error;
+    } else if (error != null) {
+      throw new VeniceClientException("Failed to execute compute request, storeName=" + getStoreName(), error);
+    }
+    return true;
+  }
+
+  private void computePartitionSlice(
+      VersionBackend versionBackend,
+      int partition,
+      List<Pair<K, byte[]>> partitionKeys,
+      ComputeRequestWrapper computeRequestWrapper,
+      Schema computeResultSchema,
+      StreamingCallback<K, ComputeGenericRecord> callback) {
+    ReusableObjects reusableObjects = threadLocalReusableObjects.get();
+    Schema valueSchema = computeRequestWrapper.getValueSchema();
+    GenericRecord reuseValueRecord =
+        reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
+    Map<String, Object> globalContext = new HashMap<>();
+
+    for (Pair<K, byte[]> partitionKey: partitionKeys) {
+      GenericRecord computeResultValue = versionBackend.compute(
+          partition,
+          partitionKey.getSecond(),
+          getGenericRecordChunkingAdapter(),
+          reusableObjects.binaryDecoder,
+          reusableObjects.rawValue,
+          reuseValueRecord,
+          globalContext,
+          computeRequestWrapper,
+          computeResultSchema);
+      ComputeGenericRecord computeResult =
+          computeResultValue == null ? null : new ComputeGenericRecord(computeResultValue, valueSchema);
+      synchronized (callback) {
+        callback.onRecordReceived(partitionKey.getFirst(), computeResult);
+      }
+    }
+  }
+
   @Override
   public void computeWithKeyPrefixFilter(
       byte[] prefixBytes,
@@ -627,7 +776,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     if (kafkaBootstrapServers == null) {
       kafkaBootstrapServers = backendConfig.getString(KAFKA_BOOTSTRAP_SERVERS);
     }
-    VeniceProperties config = new PropertyBuilder().put(KAFKA_ADMIN_CLASS, KafkaAdminClient.class.getName())
+    PropertyBuilder configBuilder = new PropertyBuilder().put(KAFKA_ADMIN_CLASS, KafkaAdminClient.class.getName())
         .put(SERVER_ENABLE_KAFKA_OPENSSL, false)
         .put(ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER, 4) // RocksDB default config
         .put(ROCKSDB_LEVEL0_SLOWDOWN_WRITES_TRIGGER, 20) // RocksDB default config
@@ -641,8 +790,11 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         .put(KAFKA_ZK_ADDRESS, kafkaZkAddress)
         .put(KAFKA_BOOTSTRAP_SERVERS, kafkaBootstrapServers)
         .put(ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED, daVinciConfig.getStorageClass() == StorageClass.MEMORY_BACKED_BY_DISK)
-        .put(INGESTION_USE_DA_VINCI_CLIENT, true)
-        .build();
+        .put(INGESTION_USE_DA_VINCI_CLIENT, true);
+    if (daVinciConfig.getStorageClass() == StorageClass.MEMORY) {
+      configBuilder.put(PERSISTENCE_TYPE, PersistenceType.OFF_HEAP);
+    }
+    VeniceProperties config = configBuilder.build();
     logger.info("backendConfig=" + config.toString(true));
     return new VeniceConfigLoader(config, config);
   }
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import java.util.concurrent.Executor;
 
 
 public class DaVinciConfig {
@@ -33,6 +34,18 @@ public class DaVinciConfig {
    */
   private ObjectCacheConfig cacheConfig;
 
+  /**
+   * Executor to run the compute requests with, one slice of keys per partition. Compute requests are executed on the
+   * caller thread if it is not set.
+   */
+  private Executor computeExecutor;
+
+  /**
+   * Compute requests with fewer keys than this are always executed on the caller thread, since splitting them is not
+   * worth the hand-off to {@link #computeExecutor}.
+   */
+  private int parallelComputeMinKeyCount = 100;
+
   public DaVinciConfig() {
   }
 
@@ -41,13 +54,16 @@ public class DaVinciConfig {
         .setIsolated(isIsolated())
         .setStorageClass(getStorageClass())
         .setNonLocalAccessPolicy(getNonLocalAccessPolicy())
-        .setCacheConfig(getCacheConfig());
+        .setCacheConfig(getCacheConfig())
+        .setComputeExecutor(getComputeExecutor())
+        .setParallelComputeMinKeyCount(getParallelComputeMinKeyCount());
   }
 
   @Override
   public String toString() {
     return "DaVinciConfig{" + "managed=" + managed + ", isolated=" + isolated + ", storageClass=" + storageClass
-        + ", nonLocalAccessPolicy=" + nonLocalAccessPolicy + ", cacheConfig=" + cacheConfig + "}";
+        + ", nonLocalAccessPolicy=" + nonLocalAccessPolicy + ", cacheConfig=" + cacheConfig + ", computeExecutor="
+        + computeExecutor + ", parallelComputeMinKeyCount=" + parallelComputeMinKeyCount + "}";
   }
 
   public boolean isManaged() {
@@ -98,4 +114,22 @@ public class DaVinciConfig {
     this.cacheConfig = cacheConfig;
     return this;
   }
+
+  public Executor getComputeExecutor() {
+    return computeExecutor;
+  }
+
+  public DaVinciConfig setComputeExecutor(Executor computeExecutor) {
+    this.computeExecutor = computeExecutor;
+    return this;
+  }
+
+  public int getParallelComputeMinKeyCount() {
+    return parallelComputeMinKeyCount;
+  }
+
+  public DaVinciConfig setParallelComputeMinKeyCount(int parallelComputeMinKeyCount) {
+    this.parallelComputeMinKeyCount = parallelComputeMinKeyCount;
+    return this;
+  }
 }
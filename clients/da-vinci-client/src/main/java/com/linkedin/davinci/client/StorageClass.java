@@ -2,4 +2,10 @@ package com.linkedin.davinci.client;
 
 public enum StorageClass {
   DISK, MEMORY_BACKED_BY_DISK,
+
+  /**
+   * The data is only kept in direct memory, outside the Java heap, and it is re-ingested after every restart.
+   * This is meant for small and very hot stores, and it is not compatible with ingestion isolation.
+   */
+  MEMORY,
 }
@@ -19,6 +19,11 @@ import static com.linkedin.venice.ConfigKeys.MAX_FUTURE_VERSION_LEADER_FOLLOWER_
 import static com.linkedin.venice.ConfigKeys.MAX_LEADER_FOLLOWER_STATE_TRANSITION_THREAD_NUMBER;
 import static com.linkedin.venice.ConfigKeys.OFFSET_LAG_DELTA_RELAX_FACTOR_FOR_FAST_ONLINE_TRANSITION_IN_RESTART;
 import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_BATCH_PREFETCH_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_INDEXED_COLLECTION_MERGE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_DRAINER_ASSIGNMENT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_DRAINER_IMBALANCE_THRESHOLD;
+import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_DRAINER_REBALANCE_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_AUTO_COMPACTION_FOR_SAMZA_REPROCESSING_JOB_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_CACHE_WARMING_BEFORE_READY_TO_SERVE_ENABLED;
@@ -43,6 +48,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_SERVICE_EN
 import static com.linkedin.venice.ConfigKeys.SERVER_DISK_HEALTH_CHECK_TIMEOUT_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_KAFKA_OPENSSL;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_LIVE_CONFIG_BASED_KAFKA_THROTTLING;
+import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_BATCHED_STORAGE_LOOKUP;
 import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_PARALLEL_BATCH_GET;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_HEADER_TABLE_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_INBOUND_ENABLED;
@@ -53,6 +59,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_HEADER_LIST_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICATION_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_DIRECTORY;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MAX_POLL_RECORDS;
@@ -68,6 +76,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_IDLE_TIME_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_WORKER_THREADS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NODE_CAPACITY_RCU;
 import static com.linkedin.venice.ConfigKeys.SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP;
+import static com.linkedin.venice.ConfigKeys.SERVER_OFF_HEAP_STORAGE_SLAB_SIZE_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.SERVER_OFF_HEAP_STORAGE_STORE_LIST;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_NO_READ_THRESHOLD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_SERVICE_SCHEDULE_INTERNAL_SECONDS;
@@ -75,6 +85,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_CHUNK_SIZ
 import static com.linkedin.venice.ConfigKeys.SERVER_PARTITION_GRACEFUL_DROP_DELAY_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_PHASE_TRACE_SAMPLE_RATE;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_EPOLL_ENABLED;
@@ -88,6 +99,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_NON_EXISTING
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_KAFKA_PRODUCER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_DISK_UNHEALTHY_TIME_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORAGE_RESTORE_PARALLELISM;
 import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
@@ -291,6 +303,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean batchedStorageLookupEnabled;
+  private final double readPhaseTraceSampleRate;
+  private final int storageRestoreParallelism;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
@@ -315,10 +331,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final Set<String> cacheWarmingStoreSet;
   private final int cacheWarmingThreadPoolSize;
   private final long delayReadyToServeMS;
+  private final Set<String> offHeapStorageStoreSet;
+  private final int offHeapStorageSlabSizeInBytes;
 
   private final IngestionMode ingestionMode;
   private final int ingestionServicePort;
   private final int ingestionApplicationPort;
+  private final boolean ingestionIsolationUnixDomainSocketEnabled;
+  private final String ingestionIsolationUnixDomainSocketDirectory;
   private final boolean databaseChecksumVerificationEnabled;
   private final boolean rocksDbStorageEngineConfigCheckEnabled;
 
@@ -352,6 +372,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final boolean enableKafkaConsumerOffsetCollection;
   private final boolean dedicatedDrainerQueueEnabled;
+  private final boolean adaptiveDrainerAssignmentEnabled;
+  private final long adaptiveDrainerRebalanceIntervalMs;
+  private final double adaptiveDrainerImbalanceThreshold;
 
   private final boolean debugLoggingEnabled;
 
@@ -364,6 +387,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final boolean serverIngestionCheckpointDuringGracefulShutdownEnabled;
 
+  private final boolean activeActiveBatchPrefetchEnabled;
+
+  private final boolean activeActiveIndexedCollectionMergeEnabled;
+
   private final int remoteIngestionRepairSleepInterval;
 
   private final boolean optimizeDatabaseForBackupVersionEnabled;
@@ -455,6 +482,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    batchedStorageLookupEnabled = serverProperties.getBoolean(SERVER_ENABLE_BATCHED_STORAGE_LOOKUP, false);
+    readPhaseTraceSampleRate = serverProperties.getDouble(SERVER_READ_PHASE_TRACE_SAMPLE_RATE, 0);
+    storageRestoreParallelism = serverProperties.getInt(SERVER_STORAGE_RESTORE_PARALLELISM, 1);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -521,8 +551,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     ingestionMode =
         IngestionMode.valueOf(serverProperties.getString(SERVER_INGESTION_MODE, IngestionMode.BUILT_IN.toString()));
+    offHeapStorageStoreSet =
+        new HashSet<>(serverProperties.getList(SERVER_OFF_HEAP_STORAGE_STORE_LIST, Collections.emptyList()));
+    if (!offHeapStorageStoreSet.isEmpty() && ingestionMode == IngestionMode.ISOLATED) {
+      // The data ingested by the isolated process would not be visible to this process.
+      throw new VeniceException(
+          SERVER_OFF_HEAP_STORAGE_STORE_LIST + " is not supported together with " + IngestionMode.ISOLATED
+              + " ingestion mode");
+    }
+    offHeapStorageSlabSizeInBytes =
+        (int) serverProperties.getSizeInBytes(SERVER_OFF_HEAP_STORAGE_SLAB_SIZE_IN_BYTES, 1024 * 1024);
     ingestionServicePort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_SERVICE_PORT, 27015);
     ingestionApplicationPort = serverProperties.getInt(SERVER_INGESTION_ISOLATION_APPLICATION_PORT, 27016);
+    ingestionIsolationUnixDomainSocketEnabled =
+        serverProperties.getBoolean(SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_ENABLED, false);
+    ingestionIsolationUnixDomainSocketDirectory =
+        serverProperties.getString(SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_DIRECTORY, dataBasePath);
     databaseChecksumVerificationEnabled =
         serverProperties.getBoolean(SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED, false);
 
@@ -573,6 +617,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getBoolean(SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED, true);
     dedicatedDrainerQueueEnabled =
         serverProperties.getBoolean(SERVER_DEDICATED_DRAINER_FOR_SORTED_INPUT_ENABLED, false);
+    adaptiveDrainerAssignmentEnabled = serverProperties.getBoolean(SERVER_ADAPTIVE_DRAINER_ASSIGNMENT_ENABLED, false);
+    adaptiveDrainerRebalanceIntervalMs =
+        serverProperties.getLong(SERVER_ADAPTIVE_DRAINER_REBALANCE_INTERVAL_MS, 10 * Time.MS_PER_SECOND);
+    adaptiveDrainerImbalanceThreshold = serverProperties.getDouble(SERVER_ADAPTIVE_DRAINER_IMBALANCE_THRESHOLD, 1.5);
     debugLoggingEnabled = serverProperties.getBoolean(SERVER_DEBUG_LOGGING_ENABLED, false);
     numSchemaFastClassWarmup = serverProperties.getInt(SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP, 10);
     fastClassSchemaWarmupTimeout =
@@ -592,6 +640,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
      */
     serverIngestionCheckpointDuringGracefulShutdownEnabled =
         serverProperties.getBoolean(SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED, true);
+    activeActiveBatchPrefetchEnabled = serverProperties.getBoolean(SERVER_ACTIVE_ACTIVE_BATCH_PREFETCH_ENABLED, false);
+    activeActiveIndexedCollectionMergeEnabled =
+        serverProperties.getBoolean(SERVER_ACTIVE_ACTIVE_INDEXED_COLLECTION_MERGE_ENABLED, false);
     optimizeDatabaseForBackupVersionEnabled =
         serverProperties.getBoolean(SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_ENABLED, false);
     optimizeDatabaseForBackupVersionNoReadThresholdMS = serverProperties
@@ -777,6 +828,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isBatchedStorageLookupEnabled() {
+    return batchedStorageLookupEnabled;
+  }
+
+  public double getReadPhaseTraceSampleRate() {
+    return readPhaseTraceSampleRate;
+  }
+
+  public int getStorageRestoreParallelism() {
+    return storageRestoreParallelism;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -849,6 +912,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return cacheWarmingStoreSet.contains(storeName);
   }
 
+  public boolean isOffHeapStorageEnabledForStore(String storeName) {
+    return offHeapStorageStoreSet.contains(storeName);
+  }
+
+  public int getOffHeapStorageSlabSizeInBytes() {
+    return offHeapStorageSlabSizeInBytes;
+  }
+
   public int getCacheWarmingThreadPoolSize() {
     return cacheWarmingThreadPoolSize;
   }
@@ -869,6 +940,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return ingestionApplicationPort;
   }
 
+  public boolean isIngestionIsolationUnixDomainSocketEnabled() {
+    return ingestionIsolationUnixDomainSocketEnabled;
+  }
+
+  public String getIngestionIsolationUnixDomainSocketDirectory() {
+    return ingestionIsolationUnixDomainSocketDirectory;
+  }
+
   public boolean isDatabaseChecksumVerificationEnabled() {
     return databaseChecksumVerificationEnabled;
   }
@@ -957,6 +1036,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return dedicatedDrainerQueueEnabled;
   }
 
+  public boolean isAdaptiveDrainerAssignmentEnabled() {
+    return adaptiveDrainerAssignmentEnabled;
+  }
+
+  public long getAdaptiveDrainerRebalanceIntervalMs() {
+    return adaptiveDrainerRebalanceIntervalMs;
+  }
+
+  public double getAdaptiveDrainerImbalanceThreshold() {
+    return adaptiveDrainerImbalanceThreshold;
+  }
+
   public int getDrainerPoolSizeSortedInput() {
     return drainerPoolSizeSortedInput;
   }
@@ -989,6 +1080,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return serverIngestionCheckpointDuringGracefulShutdownEnabled;
   }
 
+  public boolean isActiveActiveBatchPrefetchEnabled() {
+    return activeActiveBatchPrefetchEnabled;
+  }
+
+  public boolean isActiveActiveIndexedCollectionMergeEnabled() {
+    return activeActiveIndexedCollectionMergeEnabled;
+  }
+
   public int getRemoteIngestionRepairSleepInterval() {
     return remoteIngestionRepairSleepInterval;
   }
@@ -0,0 +1,89 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A message of the Unix domain socket transport of ingestion isolation, see {@link UnixDomainSocketTransport}. On the
+ * wire, a frame is laid out as:
+ *
+ * [int frame length][int request id][byte type][payload]
+ *
+ * For requests, the type is the ordinal of the {@link IngestionAction}, or {@link #REPORT_BATCH} for a batch of
+ * ingestion reports, and the payload is the Avro-encoded request. For responses, the type is {@link #STATUS_OK}, with
+ * the Avro-encoded response as payload, or {@link #STATUS_ERROR}, with the UTF-8 encoded error message as payload. The
+ * request id of a response is the one of its request, which allows several requests to be in flight on the same
+ * connection.
+ */
+public class IngestionFrame {
+  public static final byte STATUS_OK = 0;
+  public static final byte STATUS_ERROR = 1;
+  /**
+   * Type of a request which carries several Avro-encoded {@link IngestionAction#REPORT} requests, laid out as:
+   * [int report count]([int report length][report])*
+   */
+  public static final byte REPORT_BATCH = Byte.MAX_VALUE;
+
+  private final int requestId;
+  private final byte type;
+  private final byte[] payload;
+
+  public IngestionFrame(int requestId, byte type, byte[] payload) {
+    this.requestId = requestId;
+    this.type = type;
+    this.payload = payload;
+  }
+
+  public int getRequestId() {
+    return requestId;
+  }
+
+  public byte getType() {
+    return type;
+  }
+
+  public byte[] getPayload() {
+    return payload;
+  }
+
+  public static byte encodeAction(IngestionAction action) {
+    return (byte) action.ordinal();
+  }
+
+  /**
+   * @return the {@link IngestionAction} of the given request type, or null if it isn't the type of a single action.
+   */
+  public static IngestionAction decodeAction(byte type) {
+    IngestionAction[] actions = IngestionAction.values();
+    return type >= 0 && type < actions.length ? actions[type] : null;
+  }
+
+  public static byte[] encodeBatch(List<byte[]> items) {
+    int size = Integer.BYTES;
+    for (byte[] item: items) {
+      size += Integer.BYTES + item.length;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.putInt(items.size());
+    for (byte[] item: items) {
+      buffer.putInt(item.length);
+      buffer.put(item);
+    }
+    return buffer.array();
+  }
+
+  public static List<byte[]> decodeBatch(byte[] payload) {
+    ByteBuffer buffer = ByteBuffer.wrap(payload);
+    int count = buffer.getInt();
+    List<byte[]> items = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      byte[] item = new byte[buffer.getInt()];
+      buffer.get(item);
+      items.add(item);
+    }
+    return items;
+  }
+}
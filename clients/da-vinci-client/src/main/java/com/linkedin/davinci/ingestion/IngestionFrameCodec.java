@@ -0,0 +1,42 @@
+package com.linkedin.davinci.ingestion;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.codec.MessageToMessageCodec;
+import java.util.List;
+
+
+/**
+ * Encodes and decodes the {@link IngestionFrame}s of the Unix domain socket transport of ingestion isolation. It is
+ * meant to be installed after the length field handlers, see {@link #addFrameHandlers(ChannelPipeline)}.
+ */
+public class IngestionFrameCodec extends MessageToMessageCodec<ByteBuf, IngestionFrame> {
+  private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+  private static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+  public static void addFrameHandlers(ChannelPipeline pipeline) {
+    pipeline.addLast(new LengthFieldBasedFrameDecoder(MAX_FRAME_SIZE, 0, Integer.BYTES, 0, Integer.BYTES))
+        .addLast(new LengthFieldPrepender(Integer.BYTES))
+        .addLast(new IngestionFrameCodec());
+  }
+
+  @Override
+  protected void encode(ChannelHandlerContext ctx, IngestionFrame frame, List<Object> out) {
+    ByteBuf buf = ctx.alloc().buffer(HEADER_SIZE + frame.getPayload().length);
+    buf.writeInt(frame.getRequestId());
+    buf.writeByte(frame.getType());
+    buf.writeBytes(frame.getPayload());
+    out.add(buf);
+  }
+
+  @Override
+  protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out) {
+    int requestId = buf.readInt();
+    byte type = buf.readByte();
+    out.add(new IngestionFrame(requestId, type, ByteBufUtil.getBytes(buf)));
+  }
+}
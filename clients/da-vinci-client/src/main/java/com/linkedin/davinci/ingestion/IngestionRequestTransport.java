@@ -0,0 +1,104 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.Time;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class sends {@link IngestionAction} requests between the main process and the isolated ingestion process, and
+ * retrieves the responses. Implementations only need to provide the single attempt of a request, while the retry
+ * logic is shared.
+ */
+public abstract class IngestionRequestTransport implements AutoCloseable {
+  private static final Logger LOGGER = LogManager.getLogger(IngestionRequestTransport.class);
+  private static final int DEFAULT_REQUEST_RETRY_WAIT_TIME_MS = 1 * Time.MS_PER_SECOND;
+  protected static final int DEFAULT_REQUEST_RETRY_COUNT = 10;
+
+  private final int requestTimeoutInSeconds;
+
+  protected IngestionRequestTransport(int requestTimeoutInSeconds) {
+    this.requestTimeoutInSeconds = requestTimeoutInSeconds;
+  }
+
+  public abstract <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(
+      IngestionAction action,
+      S param,
+      int requestTimeoutInSeconds);
+
+  /**
+   * Sends the given ingestion reports in order. By default, every report is sent as a separate
+   * {@link IngestionAction#REPORT} request, and the failure of one report doesn't prevent the next ones from being
+   * sent.
+   */
+  public void sendReports(List<IngestionTaskReport> reports) {
+    for (IngestionTaskReport report: reports) {
+      try {
+        sendRequest(IngestionAction.REPORT, report);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Failed to send report with exception for topic: {}, partition: {}",
+            report.topicName,
+            report.partitionId,
+            e);
+      }
+    }
+  }
+
+  @Override
+  public abstract void close();
+
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(IngestionAction action, S param) {
+    return sendRequestWithRetry(action, param, DEFAULT_REQUEST_RETRY_COUNT);
+  }
+
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequestWithRetry(
+      IngestionAction action,
+      S param,
+      int maxAttempt) {
+    return executeWithRetry(() -> sendRequest(action, param, requestTimeoutInSeconds), maxAttempt);
+  }
+
+  protected int getRequestTimeoutInSeconds() {
+    return requestTimeoutInSeconds;
+  }
+
+  protected <T> T executeWithRetry(Supplier<T> request, int maxAttempt) {
+    // Sanity check for maxAttempt argument.
+    if (maxAttempt <= 0) {
+      throw new IllegalArgumentException("maxAttempt must be a positive integer");
+    }
+    T result;
+    int retryCount = 0;
+    final long startTimeIsMs = System.currentTimeMillis();
+    while (true) {
+      try {
+        result = request.get();
+        break;
+      } catch (VeniceException e) {
+        retryCount++;
+        if (retryCount != maxAttempt) {
+          LOGGER.warn("Encounter exception when sending request, will retry for {} / {} time.", retryCount, maxAttempt);
+        } else {
+          long totalTimeInMs = System.currentTimeMillis() - startTimeIsMs;
+          throw new VeniceException(
+              "Failed to send request to remote forked process after " + maxAttempt
+                  + " attempts, total time spent in millis: " + totalTimeInMs,
+              e);
+        }
+      }
+      try {
+        Thread.sleep(DEFAULT_REQUEST_RETRY_WAIT_TIME_MS);
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+    }
+    return result;
+  }
+}
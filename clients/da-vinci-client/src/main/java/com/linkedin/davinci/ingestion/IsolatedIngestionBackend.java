@@ -72,7 +72,8 @@ public class IsolatedIngestionBackend extends DefaultIngestionBackend
     int requestTimeoutInSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 60);
     // Create the ingestion request client.
-    mainIngestionRequestClient = new MainIngestionRequestClient(sslFactory, servicePort, requestTimeoutInSeconds);
+    mainIngestionRequestClient =
+        new MainIngestionRequestClient(configLoader, sslFactory, servicePort, requestTimeoutInSeconds);
     // Create the forked isolated ingestion process.
     isolatedIngestionServiceProcess = mainIngestionRequestClient.startForkedIngestionProcess(configLoader);
     // Create and start the ingestion report listener.
@@ -0,0 +1,218 @@
+package com.linkedin.davinci.ingestion;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.deserializeIngestionActionResponse;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.serializeIngestionActionRequest;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceTimeoutException;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.unix.DomainSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An {@link IngestionRequestTransport} which sends {@link IngestionFrame}s over a single Unix domain socket
+ * connection, using native epoll. Compared to {@link HttpClientTransport}, it skips the HTTP encoding and the loopback
+ * TCP stack, runs on a single event loop thread, and sends the ingestion reports in batches.
+ *
+ * The requests of all the callers are multiplexed on the same connection and matched with their responses by request
+ * id. The connection is lazily re-established if it gets closed, e.g. when the isolated ingestion process restarts.
+ */
+public class UnixDomainSocketTransport extends IngestionRequestTransport {
+  private static final Logger LOGGER = LogManager.getLogger(UnixDomainSocketTransport.class);
+  // Reports are sent in batches of at most this size, to stay far from the max frame size.
+  private static final int MAX_REPORT_BATCH_SIZE_IN_BYTES = 1024 * 1024;
+
+  private final String socketPath;
+  private final DomainSocketAddress socketAddress;
+  private final EventLoopGroup eventLoopGroup;
+  private final Bootstrap bootstrap;
+  private final Map<Integer, PendingRequest> pendingRequests = new VeniceConcurrentHashMap<>();
+  private final AtomicInteger requestIdGenerator = new AtomicInteger();
+  private Channel channel;
+
+  public UnixDomainSocketTransport(String socketPath, int requestTimeoutInSeconds) {
+    super(requestTimeoutInSeconds);
+    this.socketPath = socketPath;
+    this.socketAddress = new DomainSocketAddress(socketPath);
+    this.eventLoopGroup = new EpollEventLoopGroup(1);
+    this.bootstrap = new Bootstrap().group(eventLoopGroup)
+        .channel(EpollDomainSocketChannel.class)
+        .handler(new ChannelInitializer<EpollDomainSocketChannel>() {
+          @Override
+          protected void initChannel(EpollDomainSocketChannel ch) {
+            IngestionFrameCodec.addFrameHandlers(ch.pipeline());
+            ch.pipeline().addLast(new ResponseHandler());
+          }
+        });
+  }
+
+  @Override
+  public <T extends SpecificRecordBase, S extends SpecificRecordBase> T sendRequest(
+      IngestionAction action,
+      S param,
+      int requestTimeoutInSeconds) {
+    byte[] requestPayload;
+    try {
+      requestPayload = serializeIngestionActionRequest(action, param);
+    } catch (Exception e) {
+      throw new VeniceException("Unable to encode the provided byte array data", e);
+    }
+    byte[] responsePayload = sendFrame(IngestionFrame.encodeAction(action), requestPayload, requestTimeoutInSeconds);
+    return deserializeIngestionActionResponse(action, responsePayload);
+  }
+
+  /**
+   * Sends the given reports in as few {@link IngestionFrame#REPORT_BATCH} requests as possible, which are retried as
+   * a whole.
+   */
+  @Override
+  public void sendReports(List<IngestionTaskReport> reports) {
+    List<byte[]> batch = new ArrayList<>(reports.size());
+    int batchSize = 0;
+    for (IngestionTaskReport report: reports) {
+      byte[] serializedReport = serializeIngestionActionRequest(IngestionAction.REPORT, report);
+      if (!batch.isEmpty() && batchSize + serializedReport.length > MAX_REPORT_BATCH_SIZE_IN_BYTES) {
+        sendReportBatch(batch);
+        batch = new ArrayList<>(reports.size());
+        batchSize = 0;
+      }
+      batch.add(serializedReport);
+      batchSize += serializedReport.length;
+    }
+    if (!batch.isEmpty()) {
+      sendReportBatch(batch);
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (channel != null) {
+        channel.close();
+      }
+    }
+    eventLoopGroup.shutdownGracefully();
+  }
+
+  private void sendReportBatch(List<byte[]> batch) {
+    byte[] payload = IngestionFrame.encodeBatch(batch);
+    try {
+      executeWithRetry(
+          () -> sendFrame(IngestionFrame.REPORT_BATCH, payload, getRequestTimeoutInSeconds()),
+          DEFAULT_REQUEST_RETRY_COUNT);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to send a batch of {} reports with exception", batch.size(), e);
+    }
+  }
+
+  private byte[] sendFrame(byte type, byte[] payload, int requestTimeoutInSeconds) {
+    int requestId = requestIdGenerator.incrementAndGet();
+    CompletableFuture<IngestionFrame> responseFuture = new CompletableFuture<>();
+    IngestionFrame response;
+    try {
+      /**
+       * If the channel gets closed before the request is registered, the write fails, so the request never waits for
+       * its timeout.
+       */
+      Channel requestChannel = getChannel();
+      pendingRequests.put(requestId, new PendingRequest(requestChannel, responseFuture));
+      requestChannel.writeAndFlush(new IngestionFrame(requestId, type, payload)).addListener(future -> {
+        if (!future.isSuccess()) {
+          responseFuture.completeExceptionally(future.cause());
+        }
+      });
+      response = responseFuture.get(requestTimeoutInSeconds, TimeUnit.SECONDS);
+    } catch (TimeoutException e) {
+      throw new VeniceTimeoutException(
+          "Unable to finish isolated ingestion request in given " + requestTimeoutInSeconds + " s.",
+          e);
+    } catch (InterruptedException e) {
+      // Keep the interruption flag.
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Isolated ingestion request was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new VeniceException("Encounter exception when submitting isolated ingestion request", e.getCause());
+    } finally {
+      pendingRequests.remove(requestId);
+    }
+
+    if (response.getType() != IngestionFrame.STATUS_OK) {
+      throw new VeniceException(
+          "Isolated ingestion server returned error: " + new String(response.getPayload(), StandardCharsets.UTF_8));
+    }
+    return response.getPayload();
+  }
+
+  private synchronized Channel getChannel() {
+    if (channel == null || !channel.isActive()) {
+      Channel newChannel;
+      try {
+        newChannel = bootstrap.connect(socketAddress).sync().channel();
+      } catch (Exception e) {
+        throw new VeniceException("Unable to connect to isolated ingestion socket: " + socketPath, e);
+      }
+      /**
+       * Fail the requests in flight on this channel right away instead of waiting for their timeout. The requests which
+       * were sent on a newer channel are left alone.
+       */
+      newChannel.closeFuture().addListener(future -> {
+        VeniceException exception = new VeniceException("Isolated ingestion socket was closed: " + socketPath);
+        for (PendingRequest pendingRequest: pendingRequests.values()) {
+          if (pendingRequest.channel == newChannel) {
+            pendingRequest.responseFuture.completeExceptionally(exception);
+          }
+        }
+      });
+      channel = newChannel;
+    }
+    return channel;
+  }
+
+  private class ResponseHandler extends SimpleChannelInboundHandler<IngestionFrame> {
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, IngestionFrame response) {
+      PendingRequest pendingRequest = pendingRequests.get(response.getRequestId());
+      if (pendingRequest != null) {
+        pendingRequest.responseFuture.complete(response);
+      }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      LOGGER.error("Encounter exception on isolated ingestion socket: {}", socketPath, cause);
+      ctx.close();
+    }
+  }
+
+  private static class PendingRequest {
+    private final Channel channel;
+    private final CompletableFuture<IngestionFrame> responseFuture;
+
+    PendingRequest(Channel channel, CompletableFuture<IngestionFrame> responseFuture) {
+      this.channel = channel;
+      this.responseFuture = responseFuture;
+    }
+  }
+}
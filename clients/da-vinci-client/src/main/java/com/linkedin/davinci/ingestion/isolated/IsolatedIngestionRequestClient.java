@@ -1,11 +1,15 @@
 package com.linkedin.davinci.ingestion.isolated;
 
+import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.ingestion.IngestionRequestTransport;
+import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
-import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
 import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
 import com.linkedin.venice.security.SSLFactory;
 import java.io.Closeable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -17,33 +21,49 @@ import org.apache.logging.log4j.Logger;
 public class IsolatedIngestionRequestClient implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(IsolatedIngestionRequestClient.class);
 
-  private final HttpClientTransport httpClientTransport;
+  private final IngestionRequestTransport clientTransport;
 
   public IsolatedIngestionRequestClient(Optional<SSLFactory> sslFactory, int port, int requestTimeoutInSeconds) {
-    httpClientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+    clientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+  }
+
+  public IsolatedIngestionRequestClient(
+      VeniceConfigLoader configLoader,
+      Optional<SSLFactory> sslFactory,
+      int port,
+      int requestTimeoutInSeconds) {
+    clientTransport = IsolatedIngestionUtils
+        .createIngestionRequestTransport(configLoader, sslFactory, port, requestTimeoutInSeconds);
   }
 
   public void reportIngestionStatus(IngestionTaskReport report) {
-    String topicName = report.topicName.toString();
-    int partitionId = report.partitionId;
-    // Avoid sending binary data in OffsetRecord and pollute logs.
-    LOGGER.info(
-        "Sending ingestion report {}, isPositive: {}, message: {} for partition: {} of topic: {} at offset: {}",
-        IngestionReportType.valueOf(report.reportType),
-        report.isPositive,
-        report.message,
-        partitionId,
-        topicName,
-        report.offset);
+    reportIngestionStatus(Collections.singletonList(report));
+  }
+
+  /**
+   * Sends the given reports in order. Depending on the transport, they might be sent in a single request.
+   */
+  public void reportIngestionStatus(List<IngestionTaskReport> reports) {
+    for (IngestionTaskReport report: reports) {
+      // Avoid sending binary data in OffsetRecord and pollute logs.
+      LOGGER.info(
+          "Sending ingestion report {}, isPositive: {}, message: {} for partition: {} of topic: {} at offset: {}",
+          IngestionReportType.valueOf(report.reportType),
+          report.isPositive,
+          report.message,
+          report.partitionId,
+          report.topicName,
+          report.offset);
+    }
     try {
-      httpClientTransport.sendRequest(IngestionAction.REPORT, report);
+      clientTransport.sendReports(reports);
     } catch (Exception e) {
-      LOGGER.warn("Failed to send report with exception for topic: {}, partition: {}", topicName, partitionId, e);
+      LOGGER.warn("Failed to send {} reports with exception", reports.size(), e);
     }
   }
 
   @Override
   public void close() {
-    httpClientTransport.close();
+    clientTransport.close();
   }
 }
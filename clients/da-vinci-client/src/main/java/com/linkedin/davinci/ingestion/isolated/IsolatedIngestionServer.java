@@ -16,6 +16,7 @@ import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModel;
 import com.linkedin.davinci.ingestion.DefaultIngestionBackend;
+import com.linkedin.davinci.ingestion.IngestionFrameCodec;
 import com.linkedin.davinci.ingestion.IsolatedIngestionBackend;
 import com.linkedin.davinci.ingestion.main.MainIngestionMonitorService;
 import com.linkedin.davinci.ingestion.main.MainIngestionRequestClient;
@@ -56,18 +57,29 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.FileNotFoundException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -108,8 +120,11 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
   private final ScheduledExecutorService heartbeatCheckScheduler = Executors.newScheduledThreadPool(1);
   private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
   private final int servicePort;
+  // Path of the Unix domain socket which replaces the service port, if the Unix domain socket transport is used.
+  private final Optional<String> serviceSocketPath;
   private final ExecutorService longRunningTaskExecutor = Executors.newFixedThreadPool(10);
   private final ExecutorService statusReportingExecutor = Executors.newSingleThreadExecutor();
+  private final Queue<PendingReport> pendingReports = new ConcurrentLinkedQueue<>();
   // Leader section id map helps to verify if the leader state transition is valid or not when processing
   // the message in the queue.
   private final Map<String, Map<Integer, AtomicLong>> leaderSessionIdMap = new VeniceConcurrentHashMap<>();
@@ -156,22 +171,38 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
     this.heartbeatTimeoutMs = configLoader.getCombinedProperties()
         .getLong(SERVER_INGESTION_ISOLATION_HEARTBEAT_TIMEOUT_MS, 60 * Time.MS_PER_SECOND);
     // Initialize Netty server.
-    Class<? extends ServerChannel> serverSocketChannelClass = NioServerSocketChannel.class;
-    bossGroup = new NioEventLoopGroup();
-    workerGroup = new NioEventLoopGroup();
     bootstrap = new ServerBootstrap();
     repairService = new RemoteIngestionRepairService(
         configLoader.getCombinedProperties()
             .getInt(
                 SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS,
                 RemoteIngestionRepairService.DEFAULT_REPAIR_THREAD_SLEEP_INTERVAL_SECONDS));
-    bootstrap.group(bossGroup, workerGroup)
-        .channel(serverSocketChannelClass)
-        .childHandler(new IsolatedIngestionServerChannelInitializer(this))
-        .option(ChannelOption.SO_BACKLOG, 1000)
-        .childOption(ChannelOption.SO_KEEPALIVE, true)
-        .option(ChannelOption.SO_REUSEADDR, true)
-        .childOption(ChannelOption.TCP_NODELAY, true);
+    if (IsolatedIngestionUtils.isUnixDomainSocketTransportEnabled(configLoader)) {
+      this.serviceSocketPath = Optional.of(IsolatedIngestionUtils.getUnixDomainSocketPath(configLoader, servicePort));
+      bossGroup = new EpollEventLoopGroup(1);
+      workerGroup = new EpollEventLoopGroup();
+      bootstrap.group(bossGroup, workerGroup)
+          .channel(EpollServerDomainSocketChannel.class)
+          .childHandler(new ChannelInitializer<EpollDomainSocketChannel>() {
+            @Override
+            protected void initChannel(EpollDomainSocketChannel ch) {
+              IngestionFrameCodec.addFrameHandlers(ch.pipeline());
+              ch.pipeline().addLast(new IsolatedIngestionServerFrameHandler(IsolatedIngestionServer.this));
+            }
+          });
+    } else {
+      this.serviceSocketPath = Optional.empty();
+      Class<? extends ServerChannel> serverSocketChannelClass = NioServerSocketChannel.class;
+      bossGroup = new NioEventLoopGroup();
+      workerGroup = new NioEventLoopGroup();
+      bootstrap.group(bossGroup, workerGroup)
+          .channel(serverSocketChannelClass)
+          .childHandler(new IsolatedIngestionServerChannelInitializer(this))
+          .option(ChannelOption.SO_BACKLOG, 1000)
+          .childOption(ChannelOption.SO_KEEPALIVE, true)
+          .option(ChannelOption.SO_REUSEADDR, true)
+          .childOption(ChannelOption.TCP_NODELAY, true);
+    }
   }
 
   @Override
@@ -179,21 +210,27 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
     int maxAttempt = 100;
     long waitTime = 500;
     int retryCount = 0;
+    String bindTarget = serviceSocketPath.map(path -> "socket " + path).orElse("port " + servicePort);
     while (true) {
       try {
-        serverFuture = bootstrap.bind(servicePort).sync();
+        if (serviceSocketPath.isPresent()) {
+          // Remove the socket file left behind by a previous instance, if any.
+          Files.deleteIfExists(Paths.get(serviceSocketPath.get()));
+          serverFuture = bootstrap.bind(new DomainSocketAddress(serviceSocketPath.get())).sync();
+        } else {
+          serverFuture = bootstrap.bind(servicePort).sync();
+        }
         break;
       } catch (Exception e) {
         retryCount += 1;
         if (retryCount > maxAttempt) {
           throw new VeniceException(
-              "Ingestion Service is unable to bind to target port " + servicePort + " after " + maxAttempt
-                  + " retries.");
+              "Ingestion Service is unable to bind to target " + bindTarget + " after " + maxAttempt + " retries.");
         }
         Utils.sleep(waitTime);
       }
     }
-    LOGGER.info("Listener service started on port: {}", servicePort);
+    LOGGER.info("Listener service started on {}", bindTarget);
 
     initializeIsolatedIngestionServer();
     LOGGER.info("All ingestion components are initialized.");
@@ -210,6 +247,9 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
     workerGroup.shutdownGracefully();
     bossGroup.shutdownGracefully();
     shutdown.sync();
+    if (serviceSocketPath.isPresent()) {
+      Files.deleteIfExists(Paths.get(serviceSocketPath.get()));
+    }
 
     // Shutdown the internal clean up executor of redundant exception filter.
     redundantExceptionFilter.shutdown();
@@ -404,19 +444,43 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
       setResourceToBeUnsubscribed(topicName, partitionId);
 
       Future<?> executionFuture = submitStopConsumptionAndCloseStorageTask(report);
-      statusReportingExecutor.execute(() -> {
+      enqueueReport(new PendingReport(report, executionFuture));
+    } else {
+      enqueueReport(new PendingReport(report, null));
+    }
+  }
+
+  private void enqueueReport(PendingReport pendingReport) {
+    pendingReports.add(pendingReport);
+    statusReportingExecutor.execute(this::sendPendingReports);
+  }
+
+  /**
+   * Sends all the pending reports in order, in as few requests as possible. A report which waits for the consumption
+   * of its partition to stop is only sent once it has stopped, and so are the reports queued after it.
+   */
+  private void sendPendingReports() {
+    List<IngestionTaskReport> reports = new ArrayList<>();
+    PendingReport pendingReport;
+    while ((pendingReport = pendingReports.poll()) != null) {
+      if (pendingReport.stopConsumptionFuture != null) {
+        if (!reports.isEmpty()) {
+          reportClient.reportIngestionStatus(reports);
+          reports = new ArrayList<>();
+        }
         try {
-          executionFuture.get();
+          pendingReport.stopConsumptionFuture.get();
         } catch (ExecutionException | InterruptedException e) {
           LOGGER.warn(
               "Encounter exception when trying to stop consumption and close storage for {} of topic: {}",
-              partitionId,
-              topicName);
+              pendingReport.report.partitionId,
+              pendingReport.report.topicName);
         }
-        reportClient.reportIngestionStatus(report);
-      });
-    } else {
-      statusReportingExecutor.execute(() -> reportClient.reportIngestionStatus(report));
+      }
+      reports.add(pendingReport.report);
+    }
+    if (!reports.isEmpty()) {
+      reportClient.reportIngestionStatus(reports);
     }
   }
 
@@ -668,6 +732,7 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
         configLoader.getVeniceServerConfig().getIngestionApplicationPort());
     // Create Netty client to report status back to application.
     reportClient = new IsolatedIngestionRequestClient(
+        configLoader,
         IsolatedIngestionUtils.getSSLFactory(configLoader),
         configLoader.getVeniceServerConfig().getIngestionApplicationPort(),
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 120));
@@ -676,6 +741,17 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
     isInitiated = true;
   }
 
+  private static class PendingReport {
+    private final IngestionTaskReport report;
+    // Future of the task which stops the consumption of the partition before the report can be sent, if any.
+    private final Future<?> stopConsumptionFuture;
+
+    private PendingReport(IngestionTaskReport report, Future<?> stopConsumptionFuture) {
+      this.report = report;
+      this.stopConsumptionFuture = stopConsumptionFuture;
+    }
+  }
+
   public static void main(String[] args) throws Exception {
     LOGGER.info("Capture arguments: {}", Arrays.toString(args));
     if (args.length != 1) {
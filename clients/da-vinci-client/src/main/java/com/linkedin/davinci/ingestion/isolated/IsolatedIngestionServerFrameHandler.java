@@ -0,0 +1,54 @@
+package com.linkedin.davinci.ingestion.isolated;
+
+import com.linkedin.davinci.ingestion.IngestionFrame;
+import com.linkedin.davinci.ingestion.UnixDomainSocketTransport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.ExceptionUtils;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import java.nio.charset.StandardCharsets;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This is the handler class for {@link IsolatedIngestionServer} when the {@link UnixDomainSocketTransport} is used. It
+ * handles the same {@link IngestionAction} requests as {@link IsolatedIngestionServerHandler}, with the same logic.
+ * Since the requests of several callers share the same connection, a failed request is answered with an error frame
+ * instead of closing the connection.
+ */
+public class IsolatedIngestionServerFrameHandler extends SimpleChannelInboundHandler<IngestionFrame> {
+  private static final Logger LOGGER = LogManager.getLogger(IsolatedIngestionServerFrameHandler.class);
+
+  private final IsolatedIngestionServerHandler requestHandler;
+
+  public IsolatedIngestionServerFrameHandler(IsolatedIngestionServer isolatedIngestionServer) {
+    this.requestHandler = new IsolatedIngestionServerHandler(isolatedIngestionServer);
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, IngestionFrame frame) {
+    IngestionFrame response;
+    try {
+      IngestionAction action = IngestionFrame.decodeAction(frame.getType());
+      if (action == null) {
+        throw new UnsupportedOperationException("Unrecognized ingestion frame type: " + frame.getType());
+      }
+      byte[] result = requestHandler.handleIngestionRequest(action, frame.getPayload());
+      response = new IngestionFrame(frame.getRequestId(), IngestionFrame.STATUS_OK, result);
+    } catch (Exception e) {
+      LOGGER.error("Encounter exception when handling ingestion request.", e);
+      response = new IngestionFrame(
+          frame.getRequestId(),
+          IngestionFrame.STATUS_ERROR,
+          ExceptionUtils.compactExceptionDescription(e, "channelRead0").getBytes(StandardCharsets.UTF_8));
+    }
+    ctx.writeAndFlush(response);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    LOGGER.error("Encounter exception on isolated ingestion socket.", cause);
+    ctx.close();
+  }
+}
@@ -5,6 +5,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_REQUEST_
 import static java.lang.Thread.currentThread;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.ingestion.IngestionFrameCodec;
 import com.linkedin.davinci.ingestion.IsolatedIngestionBackend;
 import com.linkedin.davinci.ingestion.IsolatedIngestionProcessStats;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
@@ -18,12 +19,19 @@ import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.tehuti.metrics.MetricsRepository;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +62,8 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
   private final int applicationPort;
   // Service port is the port isolated ingestion process is binding and listening to.
   private final int servicePort;
+  // Path of the Unix domain socket which replaces the application port, if the Unix domain socket transport is used.
+  private final Optional<String> applicationSocketPath;
   private final IsolatedIngestionBackend ingestionBackend;
   private final ScheduledExecutorService metricsRequestScheduler = Executors.newScheduledThreadPool(1);
   private final ScheduledExecutorService heartbeatCheckScheduler = Executors.newScheduledThreadPool(1);
@@ -88,30 +98,60 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     this.sslFactory = sslFactory;
 
     // Initialize Netty server.
-    Class<? extends ServerChannel> serverSocketChannelClass = NioServerSocketChannel.class;
-    bossGroup = new NioEventLoopGroup();
-    workerGroup = new NioEventLoopGroup();
     bootstrap = new ServerBootstrap();
-    bootstrap.group(bossGroup, workerGroup)
-        .channel(serverSocketChannelClass)
-        .childHandler(
-            new MainIngestionReportChannelInitializer(this, IsolatedIngestionUtils.getSSLFactory(configLoader)))
-        .option(ChannelOption.SO_BACKLOG, 1000)
-        .childOption(ChannelOption.SO_KEEPALIVE, true)
-        .option(ChannelOption.SO_REUSEADDR, true)
-        .childOption(ChannelOption.TCP_NODELAY, true);
+    if (IsolatedIngestionUtils.isUnixDomainSocketTransportEnabled(configLoader)) {
+      /**
+       * The reports are sent in batches over a single connection, so a single event loop thread is enough to both
+       * accept the connection and handle the reports.
+       */
+      this.applicationSocketPath =
+          Optional.of(IsolatedIngestionUtils.getUnixDomainSocketPath(configLoader, applicationPort));
+      bossGroup = new EpollEventLoopGroup(1);
+      workerGroup = bossGroup;
+      bootstrap.group(bossGroup)
+          .channel(EpollServerDomainSocketChannel.class)
+          .childHandler(new ChannelInitializer<EpollDomainSocketChannel>() {
+            @Override
+            protected void initChannel(EpollDomainSocketChannel ch) {
+              IngestionFrameCodec.addFrameHandlers(ch.pipeline());
+              ch.pipeline().addLast(new MainIngestionReportFrameHandler(MainIngestionMonitorService.this));
+            }
+          });
+    } else {
+      this.applicationSocketPath = Optional.empty();
+      Class<? extends ServerChannel> serverSocketChannelClass = NioServerSocketChannel.class;
+      bossGroup = new NioEventLoopGroup();
+      workerGroup = new NioEventLoopGroup();
+      bootstrap.group(bossGroup, workerGroup)
+          .channel(serverSocketChannelClass)
+          .childHandler(
+              new MainIngestionReportChannelInitializer(this, IsolatedIngestionUtils.getSSLFactory(configLoader)))
+          .option(ChannelOption.SO_BACKLOG, 1000)
+          .childOption(ChannelOption.SO_KEEPALIVE, true)
+          .option(ChannelOption.SO_REUSEADDR, true)
+          .childOption(ChannelOption.TCP_NODELAY, true);
+    }
 
     this.requestTimeoutInSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 120);
-    heartbeatClient = new MainIngestionRequestClient(this.sslFactory, this.servicePort, requestTimeoutInSeconds);
-    metricsClient = new MainIngestionRequestClient(this.sslFactory, this.servicePort, requestTimeoutInSeconds);
+    heartbeatClient =
+        new MainIngestionRequestClient(configLoader, this.sslFactory, this.servicePort, requestTimeoutInSeconds);
+    metricsClient =
+        new MainIngestionRequestClient(configLoader, this.sslFactory, this.servicePort, requestTimeoutInSeconds);
 
   }
 
   @Override
   public boolean startInner() throws Exception {
-    serverFuture = bootstrap.bind(applicationPort).sync();
-    LOGGER.info("Report listener service started on port: {}", applicationPort);
+    if (applicationSocketPath.isPresent()) {
+      // Remove the socket file left behind by a previous instance, if any.
+      Files.deleteIfExists(Paths.get(applicationSocketPath.get()));
+      serverFuture = bootstrap.bind(new DomainSocketAddress(applicationSocketPath.get())).sync();
+      LOGGER.info("Report listener service started on socket: {}", applicationSocketPath.get());
+    } else {
+      serverFuture = bootstrap.bind(applicationPort).sync();
+      LOGGER.info("Report listener service started on port: {}", applicationPort);
+    }
     heartbeatTimeoutMs = configLoader.getCombinedProperties()
         .getLong(SERVER_INGESTION_ISOLATION_HEARTBEAT_TIMEOUT_MS, 60 * Time.MS_PER_SECOND);
     setupMetricsCollection();
@@ -133,6 +173,9 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
     workerGroup.shutdownGracefully();
     bossGroup.shutdownGracefully();
     shutdown.sync();
+    if (applicationSocketPath.isPresent()) {
+      Files.deleteIfExists(Paths.get(applicationSocketPath.get()));
+    }
   }
 
   public void addIngestionNotifier(VeniceNotifier ingestionListener) {
@@ -254,7 +297,7 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
         latestHeartbeatTimestamp);
     heartbeatStats.recordForkedProcessRestart();
     try (MainIngestionRequestClient client =
-        new MainIngestionRequestClient(sslFactory, servicePort, requestTimeoutInSeconds)) {
+        new MainIngestionRequestClient(configLoader, sslFactory, servicePort, requestTimeoutInSeconds)) {
       /**
        * We need to destroy the previous isolated ingestion process first.
        * The previous isolated ingestion process might have released the port binding, but it might still taking up all
@@ -275,7 +318,7 @@ public class MainIngestionMonitorService extends AbstractVeniceService {
 
   private void resumeOngoingIngestionTasks() {
     try (MainIngestionRequestClient client =
-        new MainIngestionRequestClient(sslFactory, servicePort, requestTimeoutInSeconds)) {
+        new MainIngestionRequestClient(configLoader, sslFactory, servicePort, requestTimeoutInSeconds)) {
       LOGGER.info("Start to recover ongoing ingestion tasks: {}", topicIngestionStatusMap);
       // Re-open metadata partitions in child process for all previously subscribed topics.
       topicIngestionStatusMap.keySet().forEach(client::openStorageEngine);
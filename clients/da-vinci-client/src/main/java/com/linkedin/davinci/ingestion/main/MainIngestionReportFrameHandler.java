@@ -0,0 +1,68 @@
+package com.linkedin.davinci.ingestion.main;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.deserializeIngestionActionRequest;
+
+import com.linkedin.davinci.ingestion.IngestionFrame;
+import com.linkedin.davinci.ingestion.UnixDomainSocketTransport;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.utils.ExceptionUtils;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import java.nio.charset.StandardCharsets;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class is the handler class for {@link MainIngestionMonitorService} when the {@link UnixDomainSocketTransport}
+ * is used. It handles the batches of {@link IngestionTaskReport} sent from child process in order, with the same logic
+ * as {@link MainIngestionReportHandler}, and acknowledges every batch with a single response. Unlike the HTTP handler,
+ * a report which fails to be handled is only logged, since the batch would be retried as a whole.
+ */
+public class MainIngestionReportFrameHandler extends SimpleChannelInboundHandler<IngestionFrame> {
+  private static final Logger LOGGER = LogManager.getLogger(MainIngestionReportFrameHandler.class);
+  private static final byte[] EMPTY_PAYLOAD = new byte[0];
+  private final MainIngestionReportHandler reportHandler;
+
+  public MainIngestionReportFrameHandler(MainIngestionMonitorService mainIngestionMonitorService) {
+    this.reportHandler = new MainIngestionReportHandler(mainIngestionMonitorService);
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, IngestionFrame frame) {
+    IngestionFrame response;
+    try {
+      if (frame.getType() != IngestionFrame.REPORT_BATCH) {
+        throw new UnsupportedOperationException("Unrecognized ingestion frame type: " + frame.getType());
+      }
+      for (byte[] serializedReport: IngestionFrame.decodeBatch(frame.getPayload())) {
+        IngestionTaskReport report = deserializeIngestionActionRequest(IngestionAction.REPORT, serializedReport);
+        // The failure of a report must not fail the whole batch, otherwise the reports before it would be resent.
+        try {
+          reportHandler.handleIngestionReport(report);
+        } catch (Exception e) {
+          LOGGER.error(
+              "Encounter exception when handling ingestion report for topic: {}, partition: {}",
+              report.topicName,
+              report.partitionId,
+              e);
+        }
+      }
+      response = new IngestionFrame(frame.getRequestId(), IngestionFrame.STATUS_OK, EMPTY_PAYLOAD);
+    } catch (Exception e) {
+      LOGGER.error("Encounter exception during ingestion task report handling.", e);
+      response = new IngestionFrame(
+          frame.getRequestId(),
+          IngestionFrame.STATUS_ERROR,
+          ExceptionUtils.compactExceptionDescription(e, "channelRead0").getBytes(StandardCharsets.UTF_8));
+    }
+    ctx.writeAndFlush(response);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    LOGGER.error("Encounter exception on ingestion report socket.", cause);
+    ctx.close();
+  }
+}
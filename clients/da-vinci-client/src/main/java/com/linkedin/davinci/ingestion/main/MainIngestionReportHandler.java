@@ -52,6 +52,11 @@ public class MainIngestionReportHandler extends SimpleChannelInboundHandler<Full
   public void channelRead0(ChannelHandlerContext ctx, FullHttpRequest msg) {
     // Decode ingestion report from incoming http request content.
     IngestionTaskReport report = deserializeIngestionActionRequest(IngestionAction.REPORT, readHttpRequestContent(msg));
+    handleIngestionReport(report);
+    ctx.writeAndFlush(buildHttpResponse(HttpResponseStatus.OK, getDummyContent()));
+  }
+
+  void handleIngestionReport(IngestionTaskReport report) {
     IngestionReportType reportType = IngestionReportType.valueOf(report.reportType);
     String topicName = report.topicName.toString();
     int partitionId = report.partitionId;
@@ -105,7 +110,6 @@ public class MainIngestionReportHandler extends SimpleChannelInboundHandler<Full
       default:
         LOGGER.warn("Received unsupported ingestion report: {} it will be ignored for now.", report);
     }
-    ctx.writeAndFlush(buildHttpResponse(HttpResponseStatus.OK, getDummyContent()));
   }
 
   @Override
@@ -7,6 +7,7 @@ import static com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType.
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.ingestion.IngestionRequestTransport;
 import com.linkedin.davinci.ingestion.IsolatedIngestionProcessStats;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
@@ -41,10 +42,19 @@ public class MainIngestionRequestClient implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(MainIngestionRequestClient.class);
   private static final int REQUEST_MAX_ATTEMPT = 10;
   private static final int HEARTBEAT_REQUEST_TIMEOUT_MS = 10 * Time.MS_PER_SECOND;
-  private HttpClientTransport httpClientTransport;
+  private IngestionRequestTransport clientTransport;
 
   public MainIngestionRequestClient(Optional<SSLFactory> sslFactory, int port, int requestTimeoutInSeconds) {
-    httpClientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+    clientTransport = new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+  }
+
+  public MainIngestionRequestClient(
+      VeniceConfigLoader configLoader,
+      Optional<SSLFactory> sslFactory,
+      int port,
+      int requestTimeoutInSeconds) {
+    clientTransport = IsolatedIngestionUtils
+        .createIngestionRequestTransport(configLoader, sslFactory, port, requestTimeoutInSeconds);
   }
 
   public synchronized Process startForkedIngestionProcess(VeniceConfigLoader configLoader) {
@@ -81,8 +91,11 @@ public class MainIngestionRequestClient implements Closeable {
             .exec(IsolatedIngestionServer.class, Collections.singletonList(configFilePath), jvmArgs, false);
         LOGGER.info("Forked new isolated ingestion process at PID: " + forkedIngestionProcess.pid());
         IsolatedIngestionUtils.saveForkedIngestionProcessMetadata(configLoader, forkedIngestionProcess);
-        // Wait for server in forked child process to bind the listening port.
-        IsolatedIngestionUtils.waitPortBinding(ingestionServicePort, 100);
+        // Wait for server in forked child process to bind the listening port. There is no such port with the Unix
+        // domain socket transport, whose binding is covered by the health check below.
+        if (!IsolatedIngestionUtils.isUnixDomainSocketTransportEnabled(configLoader)) {
+          IsolatedIngestionUtils.waitPortBinding(ingestionServicePort, 100);
+        }
         // Wait for server in forked child process to pass health check.
         waitHealthCheck();
       } catch (Exception e) {
@@ -196,7 +209,7 @@ public class MainIngestionRequestClient implements Closeable {
               + IngestionMetadataUpdateType.valueOf(ingestionStorageMetadata.metadataUpdateType) + " for topic: "
               + ingestionStorageMetadata.topicName + " partition: " + ingestionStorageMetadata.partitionId);
       IngestionTaskReport report =
-          httpClientTransport.sendRequest(IngestionAction.UPDATE_METADATA, ingestionStorageMetadata);
+          clientTransport.sendRequest(IngestionAction.UPDATE_METADATA, ingestionStorageMetadata);
       return report.isPositive;
     } catch (Exception e) {
       /**
@@ -216,7 +229,7 @@ public class MainIngestionRequestClient implements Closeable {
     processShutdownCommand.componentType = ingestionComponentType.getValue();
     LOGGER.info("Sending shutdown component request to forked process for component: " + ingestionComponentType.name());
     try {
-      httpClientTransport.sendRequest(IngestionAction.SHUTDOWN_COMPONENT, processShutdownCommand);
+      clientTransport.sendRequest(IngestionAction.SHUTDOWN_COMPONENT, processShutdownCommand);
     } catch (Exception e) {
       LOGGER.warn("Encounter exception when shutting down component: " + ingestionComponentType.name());
     }
@@ -224,7 +237,7 @@ public class MainIngestionRequestClient implements Closeable {
 
   public boolean collectMetrics(IsolatedIngestionProcessStats isolatedIngestionProcessStats) {
     try {
-      IngestionMetricsReport metricsReport = httpClientTransport.sendRequest(IngestionAction.METRIC, getDummyCommand());
+      IngestionMetricsReport metricsReport = clientTransport.sendRequest(IngestionAction.METRIC, getDummyCommand());
       if (LOGGER.isDebugEnabled()) {
         LOGGER
             .debug("Collected " + metricsReport.aggregatedMetrics.size() + " metrics from isolated ingestion service.");
@@ -240,7 +253,7 @@ public class MainIngestionRequestClient implements Closeable {
 
   public boolean sendHeartbeatRequest() {
     try {
-      httpClientTransport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand(), HEARTBEAT_REQUEST_TIMEOUT_MS);
+      clientTransport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand(), HEARTBEAT_REQUEST_TIMEOUT_MS);
       return true;
     } catch (Exception e) {
       // Don't spam the server logging.
@@ -251,12 +264,12 @@ public class MainIngestionRequestClient implements Closeable {
 
   @Override
   public void close() {
-    httpClientTransport.close();
+    clientTransport.close();
   }
 
   // Visible for testing
-  protected void setHttpClientTransport(HttpClientTransport clientTransport) {
-    this.httpClientTransport = clientTransport;
+  protected void setClientTransport(IngestionRequestTransport clientTransport) {
+    this.clientTransport = clientTransport;
   }
 
   private boolean sendIngestionCommandWithRetry(
@@ -270,7 +283,7 @@ public class MainIngestionRequestClient implements Closeable {
     LOGGER.info("Sending request: " + commandType + " to forked process" + commandInfo);
     IngestionTaskReport report;
     try {
-      report = httpClientTransport.sendRequestWithRetry(IngestionAction.COMMAND, command, requestMaxAttempt);
+      report = clientTransport.sendRequestWithRetry(IngestionAction.COMMAND, command, requestMaxAttempt);
     } catch (Exception e) {
       throw new VeniceException("Caught exception when sending command: " + commandType + commandInfo, e);
     }
@@ -60,6 +60,7 @@ public class MainIngestionStorageMetadataService extends AbstractVeniceService i
     int requestTimeoutInSeconds =
         configLoader.getCombinedProperties().getInt(SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS, 60);
     this.client = new MainIngestionRequestClient(
+        configLoader,
         IsolatedIngestionUtils.getSSLFactory(configLoader),
         targetPort,
         requestTimeoutInSeconds);
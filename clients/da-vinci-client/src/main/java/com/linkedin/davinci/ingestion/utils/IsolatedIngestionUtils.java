@@ -20,6 +20,9 @@ import com.linkedin.common.callback.Callback;
 import com.linkedin.common.util.None;
 import com.linkedin.d2.balancer.D2Client;
 import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.ingestion.HttpClientTransport;
+import com.linkedin.davinci.ingestion.IngestionRequestTransport;
+import com.linkedin.davinci.ingestion.UnixDomainSocketTransport;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
 import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServerAclHandler;
 import com.linkedin.venice.authorization.DefaultIdentityParser;
@@ -52,6 +55,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -593,6 +597,37 @@ public class IsolatedIngestionUtils {
     return configLoader.getCombinedProperties().getBoolean(SSL_ENABLED, false);
   }
 
+  /**
+   * The Unix domain socket transport doesn't support SSL nor ACL, and the access to the sockets is only restricted by
+   * the permissions of the socket directory, so it is only used when both are disabled.
+   */
+  public static boolean isUnixDomainSocketTransportEnabled(VeniceConfigLoader configLoader) {
+    return configLoader.getVeniceServerConfig().isIngestionIsolationUnixDomainSocketEnabled() && Epoll.isAvailable()
+        && !isolatedIngestionServerSslEnabled(configLoader) && !isolatedIngestionServerAclEnabled(configLoader);
+  }
+
+  /**
+   * @return the path of the Unix domain socket which replaces the given ingestion isolation port.
+   */
+  public static String getUnixDomainSocketPath(VeniceConfigLoader configLoader, int port) {
+    return Paths
+        .get(
+            configLoader.getVeniceServerConfig().getIngestionIsolationUnixDomainSocketDirectory(),
+            "isolated_ingestion_" + port + ".sock")
+        .toString();
+  }
+
+  public static IngestionRequestTransport createIngestionRequestTransport(
+      VeniceConfigLoader configLoader,
+      Optional<SSLFactory> sslFactory,
+      int port,
+      int requestTimeoutInSeconds) {
+    if (isUnixDomainSocketTransportEnabled(configLoader)) {
+      return new UnixDomainSocketTransport(getUnixDomainSocketPath(configLoader, port), requestTimeoutInSeconds);
+    }
+    return new HttpClientTransport(sslFactory, port, requestTimeoutInSeconds);
+  }
+
   private static void maybePopulateServerIngestionPrincipal(
       PropertyBuilder propertyBuilder,
       VeniceConfigLoader configLoader,
@@ -35,4 +35,21 @@ public abstract class AbstractStoreBufferService extends AbstractVeniceService {
   public abstract long getMaxMemoryUsagePerDrainer();
 
   public abstract long getMinMemoryUsagePerDrainer();
+
+  /**
+   * @return the number of topic partitions assigned to the drainer as of the last rebalance, which is only tracked in
+   *         the adaptive assignment mode.
+   */
+  public abstract int getDrainerAssignedPartitionCount(int index);
+
+  /**
+   * @return the ratio between the processing time of the busiest drainer and the average processing time of all the
+   *         drainers as of the last rebalance, which is only tracked in the adaptive assignment mode.
+   */
+  public abstract double getDrainerLoadImbalance();
+
+  /**
+   * @return the number of times a topic partition has been moved to another drainer.
+   */
+  public abstract long getPartitionMoveCount();
 }
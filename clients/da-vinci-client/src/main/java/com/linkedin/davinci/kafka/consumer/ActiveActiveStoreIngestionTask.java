@@ -37,6 +37,7 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.schema.rmd.RmdUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.writer.DeleteMetadata;
@@ -57,6 +58,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BooleanSupplier;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -72,6 +74,11 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
   private final Lazy<KeyLevelLocksManager> keyLevelLocksManager;
   private final AggVersionedIngestionStats aggVersionedIngestionStats;
   private final RemoteIngestionRepairService remoteIngestionRepairService;
+  private final boolean batchPrefetchEnabled;
+  /**
+   * The records prefetched for the RT poll batch which is being processed by the current kafka consumer thread.
+   */
+  private final ThreadLocal<PrefetchedRecords> threadLocalPrefetchedRecords = new ThreadLocal<>();
 
   public ActiveActiveStoreIngestionTask(
       StoreIngestionTaskFactory.Builder builder,
@@ -108,8 +115,135 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
         Lazy.of(() -> new KeyLevelLocksManager(getVersionTopic(), initialPoolSize, maxKeyLevelLocksPoolSize));
     this.rmdSerDe = new RmdSerDe(builder.getSchemaRepo(), storeName, rmdProtocolVersionID);
     this.mergeConflictResolver = MergeConflictResolverFactory.getInstance()
-        .createMergeConflictResolver(builder.getSchemaRepo(), rmdSerDe, getStoreName());
+        .createMergeConflictResolver(
+            builder.getSchemaRepo(),
+            rmdSerDe,
+            getStoreName(),
+            serverConfig.isActiveActiveIndexedCollectionMergeEnabled());
     this.remoteIngestionRepairService = builder.getRemoteIngestionRepairService();
+    this.batchPrefetchEnabled = serverConfig.isActiveActiveBatchPrefetchEnabled();
+  }
+
+  /**
+   * When batch prefetch is enabled, the existing values and RMDs of all the keys of an RT poll batch are looked up
+   * with one batched storage read per partition, before the records are resolved one by one. The per-record lookups
+   * in {@link #getValueBytesForKey} and {@link #getReplicationMetadataAndSchemaId} are then served from the prefetched
+   * records, unless a newer write of the key is found in the transient record map.
+   */
+  @Override
+  protected void produceToStoreBufferServiceOrKafka(
+      Iterable<ConsumerRecord<KafkaKey, KafkaMessageEnvelope>> records,
+      boolean whetherToApplyThrottling,
+      TopicPartition topicPartition,
+      String kafkaUrl,
+      int kafkaClusterId) throws InterruptedException {
+    if (!batchPrefetchEnabled || !Version.isRealTimeTopic(topicPartition.topic())) {
+      super.produceToStoreBufferServiceOrKafka(
+          records,
+          whetherToApplyThrottling,
+          topicPartition,
+          kafkaUrl,
+          kafkaClusterId);
+      return;
+    }
+    PrefetchedRecords prefetchedRecords = new PrefetchedRecords();
+    try {
+      prefetchRecords(records, topicPartition, prefetchedRecords);
+      threadLocalPrefetchedRecords.set(prefetchedRecords);
+      super.produceToStoreBufferServiceOrKafka(
+          records,
+          whetherToApplyThrottling,
+          topicPartition,
+          kafkaUrl,
+          kafkaClusterId);
+    } finally {
+      threadLocalPrefetchedRecords.remove();
+      prefetchedRecords.unregister();
+    }
+  }
+
+  /**
+   * With amplification factor > 1, the keys of an RT partition belong to several subpartitions, so the
+   * {@link PrefetchedRecords} are registered to, and the transient records are checked in, the
+   * {@link PartitionConsumptionState} of the subpartition of each key, on top of the one of the leader subpartition.
+   */
+  void prefetchRecords(
+      Iterable<ConsumerRecord<KafkaKey, KafkaMessageEnvelope>> records,
+      TopicPartition topicPartition,
+      PrefetchedRecords prefetchedRecords) {
+    int subPartition =
+        PartitionUtils.getSubPartition(topicPartition.topic(), topicPartition.partition(), getAmplificationFactor());
+    PartitionConsumptionState partitionConsumptionState = getPartitionConsumptionState(subPartition);
+    /**
+     * Same condition as in {@link #processMessageAndMaybeProduceToKafka}, there is nothing to prefetch when the
+     * records are not going through conflict resolution.
+     */
+    if (partitionConsumptionState == null || !partitionConsumptionState.isEndOfPushReceived()
+        || isDataRecovery && partitionConsumptionState.getTopicSwitch() != null) {
+      return;
+    }
+    Map<Integer, List<byte[]>> keysBySubPartition = new HashMap<>();
+    for (ConsumerRecord<KafkaKey, KafkaMessageEnvelope> record: records) {
+      KafkaKey kafkaKey = record.key();
+      if (kafkaKey.isControlMessage()) {
+        continue;
+      }
+      byte[] keyBytes = kafkaKey.getKey();
+      if (prefetchedRecords.reserve(keyBytes)) {
+        keysBySubPartition
+            .computeIfAbsent(getSubPartitionId(keyBytes, record.topic(), record.partition()), k -> new ArrayList<>())
+            .add(keyBytes);
+      }
+    }
+    if (prefetchedRecords.isEmpty()) {
+      return;
+    }
+    /**
+     * The registration must happen before checking the transient record map and reading the storage engine, so that
+     * any concurrent write of a key either shows up in the transient record map or invalidates the key.
+     */
+    prefetchedRecords.registerTo(partitionConsumptionState);
+
+    final long prefetchStartTimeInNS = System.nanoTime();
+    for (Map.Entry<Integer, List<byte[]>> entry: keysBySubPartition.entrySet()) {
+      int keySubPartition = entry.getKey();
+      PartitionConsumptionState keyPartitionConsumptionState = partitionConsumptionState;
+      if (keySubPartition != subPartition) {
+        keyPartitionConsumptionState = getPartitionConsumptionState(keySubPartition);
+        if (keyPartitionConsumptionState == null) {
+          // The keys stay reserved, so they are read from the storage engine one by one.
+          continue;
+        }
+        prefetchedRecords.registerTo(keyPartitionConsumptionState);
+      }
+      List<byte[]> keysToLookUp = new ArrayList<>(entry.getValue().size());
+      List<ByteBuffer> keyBuffers = new ArrayList<>(entry.getValue().size());
+      for (byte[] key: entry.getValue()) {
+        // Keys with a transient record are served from the transient record map anyway.
+        if (partitionConsumptionState.getTransientRecord(key) == null
+            && keyPartitionConsumptionState.getTransientRecord(key) == null) {
+          keysToLookUp.add(key);
+          keyBuffers.add(ByteBuffer.wrap(key));
+        }
+      }
+      if (keyBuffers.isEmpty()) {
+        continue;
+      }
+      List<byte[]> values =
+          ChunkingUtils.multiGetTopLevelValues(getStorageEngine(), keySubPartition, keyBuffers, isChunked(), null);
+      List<byte[]> replicationMetadataList = ChunkingUtils
+          .multiGetTopLevelReplicationMetadata(getStorageEngine(), keySubPartition, keyBuffers, isChunked());
+      for (int i = 0; i < keysToLookUp.size(); i++) {
+        prefetchedRecords.complete(keysToLookUp.get(i), values.get(i), replicationMetadataList.get(i));
+      }
+    }
+    getHostLevelIngestionStats()
+        .recordIngestionBatchPrefetchLatency(LatencyUtils.getLatencyInMS(prefetchStartTimeInNS));
+  }
+
+  private PrefetchedRecords.PrefetchedRecord getPrefetchedRecord(byte[] key) {
+    PrefetchedRecords prefetchedRecords = threadLocalPrefetchedRecords.get();
+    return prefetchedRecords == null ? null : prefetchedRecords.get(key);
   }
 
   @Override
@@ -252,7 +386,8 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
 
   /**
    * Get the existing value schema ID and RMD associated with the given key. If information for this key is found from
-   * the transient map then use that, otherwise get it from storage engine.
+   * the transient map then use that, otherwise get it from the {@link PrefetchedRecords} of the current RT poll batch
+   * or from storage engine.
    *
    * @param partitionConsumptionState The {@link PartitionConsumptionState} of the current partition
    * @param key Bytes of key.
@@ -272,7 +407,18 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
               getRmdProtocolVersionID(),
               cachedRecord.getReplicationMetadataRecord()));
     }
-    byte[] replicationMetadataWithValueSchemaBytes = getRmdWithValueSchemaByteBufferFromStorage(subPartition, key);
+    PrefetchedRecords.PrefetchedRecord prefetchedRecord = getPrefetchedRecord(key);
+    byte[] replicationMetadataWithValueSchemaBytes;
+    if (prefetchedRecord != null) {
+      getHostLevelIngestionStats().recordIngestionBatchPrefetchHitCount();
+      ValueRecord result = SingleGetChunkingAdapter.getReplicationMetadataFromPrefetchedValue(
+          getStorageEngine(),
+          subPartition,
+          prefetchedRecord.getTopLevelReplicationMetadata());
+      replicationMetadataWithValueSchemaBytes = result == null ? null : result.serialize();
+    } else {
+      replicationMetadataWithValueSchemaBytes = getRmdWithValueSchemaByteBufferFromStorage(subPartition, key);
+    }
     if (replicationMetadataWithValueSchemaBytes == null) {
       return Optional.empty(); // No RMD for this key
     }
@@ -476,7 +622,8 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
   }
 
   /**
-   * Get the value bytes for a key from {@link PartitionConsumptionState.TransientRecord} or from disk. The assumption
+   * Get the value bytes for a key from {@link PartitionConsumptionState.TransientRecord}, from the
+   * {@link PrefetchedRecords} of the current RT poll batch, or from disk. The assumption
    * is that the {@link PartitionConsumptionState.TransientRecord} only contains the full value.
    * @param partitionConsumptionState The {@link PartitionConsumptionState} of the current partition
    * @param key The key bytes of the incoming record.
@@ -493,7 +640,22 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     // Find the existing value. If a value for this key is found from the transient map then use that value, otherwise
     // get it from DB.
     PartitionConsumptionState.TransientRecord transientRecord = partitionConsumptionState.getTransientRecord(key);
-    if (transientRecord == null) {
+    PrefetchedRecords.PrefetchedRecord prefetchedRecord = transientRecord == null ? getPrefetchedRecord(key) : null;
+    if (prefetchedRecord != null) {
+      hostLevelIngestionStats.recordIngestionBatchPrefetchHitCount();
+      originalValue = RawBytesChunkingAdapter.INSTANCE.getFromPrefetchedValue(
+          storageEngine,
+          getSubPartitionId(key, topic, partition),
+          prefetchedRecord.getTopLevelValue(),
+          null,
+          null,
+          null,
+          compressionStrategy,
+          serverConfig.isComputeFastAvroEnabled(),
+          schemaRepository,
+          storeName,
+          compressor.get());
+    } else if (transientRecord == null) {
       long lookupStartTimeInNS = System.nanoTime();
       originalValue = RawBytesChunkingAdapter.INSTANCE.get(
           storageEngine,
@@ -380,7 +380,10 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
       this.storeBufferService = new StoreBufferService(
           serverConfig.getStoreWriterNumber(),
           serverConfig.getStoreWriterBufferMemoryCapacity(),
-          serverConfig.getStoreWriterBufferNotifyDelta());
+          serverConfig.getStoreWriterBufferNotifyDelta(),
+          serverConfig.isAdaptiveDrainerAssignmentEnabled(),
+          serverConfig.getAdaptiveDrainerRebalanceIntervalMs(),
+          serverConfig.getAdaptiveDrainerImbalanceThreshold());
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
     /**
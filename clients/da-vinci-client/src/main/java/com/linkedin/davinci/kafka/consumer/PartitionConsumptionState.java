@@ -101,6 +101,13 @@ public class PartitionConsumptionState {
    */
   private final ConcurrentMap<ByteArrayKey, TransientRecord> transientRecordMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * The {@link PrefetchedRecords} of the RT poll batches which are being processed by the kafka consumer threads. Since
+   * the prefetched entries can become stale after any update of {@link #transientRecordMap}, they get invalidated
+   * by {@link #setTransientRecord(int, long, byte[], byte[], int, int, int, GenericRecord)}.
+   */
+  private final Set<PrefetchedRecords> activePrefetchedRecords = VeniceConcurrentHashMap.newKeySet();
+
   /**
    * In-memory hash set which keeps track of all previous status this sub-partition has reported. It is the in-memory
    * cache of the previousStatuses field in {@link com.linkedin.venice.kafka.protocol.state.PartitionState} inside
@@ -449,7 +456,23 @@ public class PartitionConsumptionState {
     if (replicationMetadataRecord != null) {
       transientRecord.setReplicationMetadataRecord(replicationMetadataRecord);
     }
-    transientRecordMap.put(ByteArrayKey.wrap(key), transientRecord);
+    ByteArrayKey byteArrayKey = ByteArrayKey.wrap(key);
+    transientRecordMap.put(byteArrayKey, transientRecord);
+    /**
+     * The invalidation must happen after updating the transient record map, since {@link PrefetchedRecords} are
+     * registered before checking this map for the keys to prefetch.
+     */
+    for (PrefetchedRecords prefetchedRecords: activePrefetchedRecords) {
+      prefetchedRecords.invalidate(byteArrayKey);
+    }
+  }
+
+  void addPrefetchedRecords(PrefetchedRecords prefetchedRecords) {
+    activePrefetchedRecords.add(prefetchedRecords);
+  }
+
+  void removePrefetchedRecords(PrefetchedRecords prefetchedRecords) {
+    activePrefetchedRecords.remove(prefetchedRecords);
   }
 
   public TransientRecord getTransientRecord(byte[] key) {
@@ -0,0 +1,92 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * This class holds the existing top-level values and replication metadata of the keys of an RT poll batch, which
+ * {@link ActiveActiveStoreIngestionTask} fetches with one batched storage lookup per partition before running the
+ * conflict resolution of the records of the batch one by one.
+ *
+ * A prefetched entry is only valid as long as there is no newer write to the same key, which is why
+ * {@link PartitionConsumptionState#setTransientRecord} invalidates the key in all the instances registered to the
+ * subpartition, and why each instance is registered to the subpartitions of all its keys. Each key is reserved before
+ * the registration and the storage lookup, and the result of the lookup only replaces the reservation, so a write
+ * racing with the lookup always wins over the looked-up entry.
+ */
+class PrefetchedRecords {
+  private static final PrefetchedRecord PENDING = new PrefetchedRecord(null, null);
+  private static final PrefetchedRecord INVALIDATED = new PrefetchedRecord(null, null);
+
+  private final Map<ByteArrayKey, PrefetchedRecord> records = new VeniceConcurrentHashMap<>();
+  private final List<PartitionConsumptionState> registeredPartitionConsumptionStates = new ArrayList<>();
+
+  /**
+   * @return false if the key has already been reserved.
+   */
+  boolean reserve(byte[] key) {
+    return records.putIfAbsent(ByteArrayKey.wrap(key), PENDING) == null;
+  }
+
+  /**
+   * Fills in the lookup result of a reserved key, unless the key got invalidated in the meantime.
+   */
+  void complete(byte[] key, byte[] topLevelValue, byte[] topLevelReplicationMetadata) {
+    records.replace(ByteArrayKey.wrap(key), PENDING, new PrefetchedRecord(topLevelValue, topLevelReplicationMetadata));
+  }
+
+  void invalidate(ByteArrayKey key) {
+    records.replace(key, INVALIDATED);
+  }
+
+  /**
+   * @return the prefetched record, or null if the key was not prefetched or got invalidated since, in which case the
+   *         caller should fall back to the storage engine.
+   */
+  PrefetchedRecord get(byte[] key) {
+    PrefetchedRecord record = records.get(ByteArrayKey.wrap(key));
+    return (record == PENDING || record == INVALIDATED) ? null : record;
+  }
+
+  boolean isEmpty() {
+    return records.isEmpty();
+  }
+
+  void registerTo(PartitionConsumptionState partitionConsumptionState) {
+    partitionConsumptionState.addPrefetchedRecords(this);
+    registeredPartitionConsumptionStates.add(partitionConsumptionState);
+  }
+
+  void unregister() {
+    for (PartitionConsumptionState partitionConsumptionState: registeredPartitionConsumptionStates) {
+      partitionConsumptionState.removePrefetchedRecords(this);
+    }
+    registeredPartitionConsumptionStates.clear();
+  }
+
+  /**
+   * Both the value and the replication metadata are kept as returned by the storage engine, i.e. they might be chunked
+   * value manifests, which are only re-assembled when the record is actually used.
+   */
+  static class PrefetchedRecord {
+    private final byte[] topLevelValue;
+    private final byte[] topLevelReplicationMetadata;
+
+    PrefetchedRecord(byte[] topLevelValue, byte[] topLevelReplicationMetadata) {
+      this.topLevelValue = topLevelValue;
+      this.topLevelReplicationMetadata = topLevelReplicationMetadata;
+    }
+
+    byte[] getTopLevelValue() {
+      return topLevelValue;
+    }
+
+    byte[] getTopLevelReplicationMetadata() {
+      return topLevelReplicationMetadata;
+    }
+  }
+}
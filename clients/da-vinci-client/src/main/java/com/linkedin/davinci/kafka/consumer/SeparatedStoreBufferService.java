@@ -30,11 +30,17 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
     this.sortedServiceDelegate = new StoreBufferService(
         sortedPoolSize,
         serverConfig.getStoreWriterBufferMemoryCapacity(),
-        serverConfig.getStoreWriterBufferNotifyDelta());
+        serverConfig.getStoreWriterBufferNotifyDelta(),
+        serverConfig.isAdaptiveDrainerAssignmentEnabled(),
+        serverConfig.getAdaptiveDrainerRebalanceIntervalMs(),
+        serverConfig.getAdaptiveDrainerImbalanceThreshold());
     this.unsortedServiceDelegate = new StoreBufferService(
         unsortedPoolSize,
         serverConfig.getStoreWriterBufferMemoryCapacity(),
-        serverConfig.getStoreWriterBufferNotifyDelta());
+        serverConfig.getStoreWriterBufferNotifyDelta(),
+        serverConfig.isAdaptiveDrainerAssignmentEnabled(),
+        serverConfig.getAdaptiveDrainerRebalanceIntervalMs(),
+        serverConfig.getAdaptiveDrainerImbalanceThreshold());
     LOGGER.info(
         "Created separated store buffer service with {} sorted drainers and {} unsorted drainers queues with capacity of {}",
         sortedPoolSize,
@@ -146,4 +152,25 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
   public long getMinMemoryUsagePerDrainer() {
     return sortedServiceDelegate.getMinMemoryUsagePerDrainer() + unsortedServiceDelegate.getMinMemoryUsagePerDrainer();
   }
+
+  /**
+   * Same index convention as {@link #getDrainerQueueMemoryUsage(int)}.
+   */
+  public int getDrainerAssignedPartitionCount(int index) {
+    if (index < sortedPoolSize) {
+      return sortedServiceDelegate.getDrainerAssignedPartitionCount(index);
+    }
+    return unsortedServiceDelegate.getDrainerAssignedPartitionCount(index - sortedPoolSize);
+  }
+
+  /**
+   * The two pools are balanced independently, so this is the imbalance of the least balanced one.
+   */
+  public double getDrainerLoadImbalance() {
+    return Math.max(sortedServiceDelegate.getDrainerLoadImbalance(), unsortedServiceDelegate.getDrainerLoadImbalance());
+  }
+
+  public long getPartitionMoveCount() {
+    return sortedServiceDelegate.getPartitionMoveCount() + unsortedServiceDelegate.getPartitionMoveCount();
+  }
 }
@@ -10,7 +10,9 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
@@ -19,8 +21,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.logging.log4j.LogManager;
@@ -43,6 +48,13 @@ import org.apache.logging.log4j.Logger;
  * For now, the assumption is that one-consumer-polling-thread should be fast enough to catch up with Kafka MM replication,
  * and data processing is the slowest part. If we find that polling is also slow later on, we may consider to adopt a consumer
  * thread pool to speed up polling from local Kafka brokers.
+ *
+ * In the adaptive assignment mode, the topic partitions start on the drainer their hash maps to, but the time each
+ * drainer spends processing records is compared periodically by {@link #rebalanceDrainers()}, and a topic partition
+ * of the busiest drainer is moved to the least loaded one if their imbalance is too high, so that a few hot partitions
+ * hashed to the same drainer cannot saturate it while the other drainers are idle. To keep the records of a topic
+ * partition in order, the move only happens once all its records buffered in the old drainer have been processed, see
+ * {@link DrainerAssignment#acquire()}.
  */
 public class StoreBufferService extends AbstractStoreBufferService {
   /**
@@ -57,16 +69,22 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestamp;
+    /**
+     * Only set in the adaptive assignment mode.
+     */
+    private final DrainerAssignment drainerAssignment;
 
     public QueueNode(
         ConsumerRecord<KafkaKey, KafkaMessageEnvelope> consumerRecord,
         StoreIngestionTask ingestionTask,
         String kafkaUrl,
-        long beforeProcessingRecordTimestamp) {
+        long beforeProcessingRecordTimestamp,
+        DrainerAssignment drainerAssignment) {
       this.consumerRecord = consumerRecord;
       this.ingestionTask = ingestionTask;
       this.kafkaUrl = kafkaUrl;
       this.beforeProcessingRecordTimestamp = beforeProcessingRecordTimestamp;
+      this.drainerAssignment = drainerAssignment;
     }
 
     public ConsumerRecord<KafkaKey, KafkaMessageEnvelope> getConsumerRecord() {
@@ -93,6 +111,10 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return this.beforeProcessingRecordTimestamp;
     }
 
+    public DrainerAssignment getDrainerAssignment() {
+      return this.drainerAssignment;
+    }
+
     /**
      * This function is being used by {@link BlockingQueue#contains(Object)}.
      * The goal is to find out whether the buffered queue still has any records belonging to the specified topic+partition.
@@ -136,8 +158,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
         StoreIngestionTask ingestionTask,
         String kafkaUrl,
         long beforeProcessingRecordTimestamp,
+        DrainerAssignment drainerAssignment,
         CompletableFuture<Void> queuedRecordPersistedFuture) {
-      super(consumerRecord, ingestionTask, kafkaUrl, beforeProcessingRecordTimestamp);
+      super(consumerRecord, ingestionTask, kafkaUrl, beforeProcessingRecordTimestamp, drainerAssignment);
       this.queuedRecordPersistedFuture = queuedRecordPersistedFuture;
     }
 
@@ -155,8 +178,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
         StoreIngestionTask ingestionTask,
         String kafkaUrl,
         long beforeProcessingRecordTimestamp,
+        DrainerAssignment drainerAssignment,
         LeaderProducedRecordContext leaderProducedRecordContext) {
-      super(consumerRecord, ingestionTask, kafkaUrl, beforeProcessingRecordTimestamp);
+      super(consumerRecord, ingestionTask, kafkaUrl, beforeProcessingRecordTimestamp, drainerAssignment);
       this.leaderProducedRecordContext = leaderProducedRecordContext;
     }
 
@@ -195,9 +219,12 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreIngestionTask ingestionTask = null;
       CompletableFuture<Void> recordPersistedFuture = null;
       long beforeProcessingRecordTimestamp = -1L;
+      long startTimeNs = -1L;
       while (isRunning.get()) {
+        node = null;
         try {
           node = blockingQueue.take();
+          startTimeNs = System.nanoTime();
 
           consumerRecord = node.getConsumerRecord();
           leaderProducedRecordContext = node.getLeaderProducedRecordContext();
@@ -275,32 +302,178 @@ public class StoreBufferService extends AbstractStoreBufferService {
           } else {
             break;
           }
+        } finally {
+          if (node != null && node.getDrainerAssignment() != null) {
+            node.getDrainerAssignment().release(System.nanoTime() - startTimeNs);
+          }
         }
       }
       LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
     }
   }
 
+  /**
+   * The topic partition and the drainer it is currently assigned to in the adaptive assignment mode.
+   */
+  static class DrainerAssignment {
+    private static final int NO_PENDING_MOVE = -1;
+    /**
+     * How long a producer waits for the records of the topic partition buffered in the old drainer to be processed
+     * before giving up on a move, since it cannot buffer more records for the topic partition in the meantime.
+     */
+    private static final long MAX_MOVE_WAIT_MS = TimeUnit.SECONDS.toMillis(1);
+
+    private final TopicPartition topicPartition;
+    private final AtomicInteger inFlightRecordCount = new AtomicInteger();
+    private final AtomicLong processingTimeNs = new AtomicLong();
+    private final AtomicLong moveCount;
+    private volatile int drainerIndex;
+    private volatile int pendingDrainerIndex = NO_PENDING_MOVE;
+    /**
+     * Set once this assignment is about to be dropped, so it shouldn't be used anymore.
+     */
+    private boolean retired = false;
+    /**
+     * The following fields are only accessed by {@link StoreBufferService#rebalanceDrainers()}.
+     */
+    private long lastProcessingTimeNs = 0;
+    private int idleRebalanceCount = 0;
+
+    DrainerAssignment(TopicPartition topicPartition, int drainerIndex, AtomicLong moveCount) {
+      this.topicPartition = topicPartition;
+      this.drainerIndex = drainerIndex;
+      this.moveCount = moveCount;
+    }
+
+    /**
+     * Called by the producers before buffering a record of the topic partition. If a move is pending, waits for the
+     * records buffered in the current drainer to be processed, and then completes the move.
+     *
+     * @return the index of the drainer to buffer the record into, or -1 if this assignment is retired.
+     */
+    synchronized int acquire() throws InterruptedException {
+      if (pendingDrainerIndex != NO_PENDING_MOVE) {
+        long deadline = System.currentTimeMillis() + MAX_MOVE_WAIT_MS;
+        long remainingWaitMs = MAX_MOVE_WAIT_MS;
+        while (inFlightRecordCount.get() > 0 && remainingWaitMs > 0) {
+          wait(remainingWaitMs);
+          remainingWaitMs = deadline - System.currentTimeMillis();
+        }
+        // Another producer might have completed the move while this one was waiting.
+        if (pendingDrainerIndex != NO_PENDING_MOVE) {
+          if (inFlightRecordCount.get() == 0) {
+            LOGGER.info("Moved {} from drainer {} to drainer {}", topicPartition, drainerIndex, pendingDrainerIndex);
+            drainerIndex = pendingDrainerIndex;
+            moveCount.incrementAndGet();
+          } else {
+            LOGGER.info(
+                "Gave up on moving {} from drainer {} since it still has {} records to process after {} ms",
+                topicPartition,
+                drainerIndex,
+                inFlightRecordCount.get(),
+                MAX_MOVE_WAIT_MS);
+          }
+          pendingDrainerIndex = NO_PENDING_MOVE;
+        }
+      }
+      if (retired) {
+        return -1;
+      }
+      inFlightRecordCount.incrementAndGet();
+      return drainerIndex;
+    }
+
+    /**
+     * Called by the drainers once a record of the topic partition has been processed.
+     */
+    void release(long recordProcessingTimeNs) {
+      processingTimeNs.addAndGet(recordProcessingTimeNs);
+      if (inFlightRecordCount.decrementAndGet() == 0 && pendingDrainerIndex != NO_PENDING_MOVE) {
+        synchronized (this) {
+          notifyAll();
+        }
+      }
+    }
+
+    /**
+     * @return true if there was no record to process, in which case this assignment can't be used anymore.
+     */
+    synchronized boolean retireIfIdle() {
+      if (inFlightRecordCount.get() == 0) {
+        retired = true;
+      }
+      return retired;
+    }
+
+    int getDrainerIndex() {
+      return drainerIndex;
+    }
+  }
+
   private static final Logger LOGGER = LogManager.getLogger(StoreBufferService.class);
+  /**
+   * The assignment of a topic partition is dropped after this many rebalances without any record to process, so that
+   * the assignments of the retired versions don't pile up.
+   */
+  private static final int MAX_IDLE_REBALANCE_COUNT = 6;
   private final int drainerNum;
   private final ArrayList<MemoryBoundBlockingQueue<QueueNode>> blockingQueueArr;
   private ExecutorService executorService;
   private final List<StoreBufferDrainer> drainerList = new ArrayList<>();
   private final long bufferCapacityPerDrainer;
 
+  private final boolean adaptiveAssignmentEnabled;
+  private final long rebalanceIntervalMs;
+  private final double imbalanceThreshold;
+  private final Map<TopicPartition, DrainerAssignment> drainerAssignments = new VeniceConcurrentHashMap<>();
+  private final AtomicLong partitionMoveCount = new AtomicLong();
+  private ScheduledExecutorService rebalanceExecutor;
+  private volatile int[] assignedPartitionCounts;
+  private volatile double drainerLoadImbalance = 0;
+
   public StoreBufferService(int drainerNum, long bufferCapacityPerDrainer, long bufferNotifyDelta) {
+    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, false, 0, 0);
+  }
+
+  /**
+   * @param adaptiveAssignmentEnabled whether the topic partitions are moved away from the busiest drainers
+   * @param rebalanceIntervalMs how often the loads of the drainers are compared in the adaptive assignment mode
+   * @param imbalanceThreshold the ratio between the load of the busiest drainer and the average load, above which a
+   *                           topic partition is moved in the adaptive assignment mode
+   */
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean adaptiveAssignmentEnabled,
+      long rebalanceIntervalMs,
+      double imbalanceThreshold) {
     this.drainerNum = drainerNum;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
     for (int cur = 0; cur < drainerNum; ++cur) {
       this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
     }
+    this.adaptiveAssignmentEnabled = adaptiveAssignmentEnabled;
+    this.rebalanceIntervalMs = rebalanceIntervalMs;
+    this.imbalanceThreshold = imbalanceThreshold;
+    this.assignedPartitionCounts = new int[drainerNum];
   }
 
   protected int getDrainerIndexForConsumerRecord(
       ConsumerRecord<KafkaKey, KafkaMessageEnvelope> consumerRecord,
       int subPartition) {
-    String topic = consumerRecord.topic();
+    if (adaptiveAssignmentEnabled) {
+      DrainerAssignment assignment =
+          drainerAssignments.get(new TopicPartition(consumerRecord.topic(), subPartition));
+      if (assignment != null) {
+        return assignment.getDrainerIndex();
+      }
+    }
+    return getHashedDrainerIndex(consumerRecord.topic(), subPartition);
+  }
+
+  private int getHashedDrainerIndex(String topic, int subPartition) {
     /**
      * This will guarantee that 'topicHash' will be a positive integer, whose maximum value is
      * {@link Integer.MAX_VALUE} / 2 + 1, which could make sure 'topicHash + consumerRecord.partition()' should be
@@ -318,7 +491,22 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int subPartition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    int drainerIndex = getDrainerIndexForConsumerRecord(consumerRecord, subPartition);
+    DrainerAssignment drainerAssignment = null;
+    int drainerIndex;
+    if (adaptiveAssignmentEnabled) {
+      TopicPartition topicPartition = new TopicPartition(consumerRecord.topic(), subPartition);
+      do {
+        drainerAssignment = drainerAssignments.computeIfAbsent(
+            topicPartition,
+            tp -> new DrainerAssignment(tp, getHashedDrainerIndex(tp.topic(), tp.partition()), partitionMoveCount));
+        drainerIndex = drainerAssignment.acquire();
+        if (drainerIndex < 0) {
+          drainerAssignments.remove(topicPartition, drainerAssignment);
+        }
+      } while (drainerIndex < 0);
+    } else {
+      drainerIndex = getDrainerIndexForConsumerRecord(consumerRecord, subPartition);
+    }
     MemoryBoundBlockingQueue<QueueNode> queue = blockingQueueArr.get(drainerIndex);
     if (leaderProducedRecordContext == null) {
       /**
@@ -327,12 +515,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      queue.put(
+      putQueueNode(
+          queue,
           new FollowerQueueNode(
               consumerRecord,
               ingestionTask,
               kafkaUrl,
               beforeProcessingRecordTimestamp,
+              drainerAssignment,
               recordFuture));
 
       // Setup the last queued record's future
@@ -342,16 +532,31 @@ public class StoreBufferService extends AbstractStoreBufferService {
         partitionConsumptionState.setLastQueuedRecordPersistedFuture(recordFuture);
       }
     } else {
-      queue.put(
+      putQueueNode(
+          queue,
           new LeaderQueueNode(
               consumerRecord,
               ingestionTask,
               kafkaUrl,
               beforeProcessingRecordTimestamp,
+              drainerAssignment,
               leaderProducedRecordContext));
     }
   }
 
+  private static void putQueueNode(MemoryBoundBlockingQueue<QueueNode> queue, QueueNode node)
+      throws InterruptedException {
+    try {
+      queue.put(node);
+    } catch (InterruptedException e) {
+      // The record will never be processed, so it must not hold back the moves of its topic partition.
+      if (node.getDrainerAssignment() != null) {
+        node.getDrainerAssignment().release(0);
+      }
+      throw e;
+    }
+  }
+
   /**
    * This function is used to drain all the records for the specified topic + partition.
    * The reason is that we don't want overlap Kafka messages between two different subscriptions,
@@ -379,7 +584,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
           "Drainer thread " + workerIndex + " has stopped running, cannot drain the topic " + topic);
     }
 
-    QueueNode fakeNode = new QueueNode(fakeRecord, null, "dummyKafkaUrl", 0);
+    QueueNode fakeNode = new QueueNode(fakeRecord, null, "dummyKafkaUrl", 0, null);
 
     int cur = 0;
     while (cur++ < retryNum) {
@@ -410,12 +615,100 @@ public class StoreBufferService extends AbstractStoreBufferService {
       drainerList.add(drainer);
     }
     this.executorService.shutdown();
+
+    if (adaptiveAssignmentEnabled) {
+      this.rebalanceExecutor =
+          Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("Store-writer-rebalancer"));
+      this.rebalanceExecutor.scheduleWithFixedDelay(() -> {
+        try {
+          rebalanceDrainers();
+        } catch (Exception e) {
+          LOGGER.error("Failed to rebalance the topic partitions between the drainers", e);
+        }
+      }, rebalanceIntervalMs, rebalanceIntervalMs, TimeUnit.MILLISECONDS);
+    }
     return true;
   }
 
+  /**
+   * Compares the time each drainer spent processing records since the last invocation, and if the busiest drainer is
+   * loaded above {@link #imbalanceThreshold} times the average and has more buffered records than the least loaded
+   * drainer, moves one of its topic partitions to the least loaded drainer. The moved topic partition is the one which
+   * reduces the gap between the two drainers the most, so a single hot topic partition is never moved back and forth,
+   * but the other topic partitions sharing its drainer are moved away from it.
+   */
+  void rebalanceDrainers() {
+    long[] drainerLoads = new long[drainerNum];
+    int[] partitionCounts = new int[drainerNum];
+    Iterator<DrainerAssignment> iterator = drainerAssignments.values().iterator();
+    while (iterator.hasNext()) {
+      DrainerAssignment assignment = iterator.next();
+      long processingTimeNs = assignment.processingTimeNs.getAndSet(0);
+      assignment.lastProcessingTimeNs = processingTimeNs;
+      if (processingTimeNs == 0 && assignment.inFlightRecordCount.get() == 0) {
+        if (++assignment.idleRebalanceCount >= MAX_IDLE_REBALANCE_COUNT && assignment.retireIfIdle()) {
+          iterator.remove();
+          continue;
+        }
+      } else {
+        assignment.idleRebalanceCount = 0;
+      }
+      int drainerIndex = assignment.getDrainerIndex();
+      drainerLoads[drainerIndex] += processingTimeNs;
+      partitionCounts[drainerIndex]++;
+    }
+    this.assignedPartitionCounts = partitionCounts;
+
+    int busiestDrainer = 0;
+    int idlestDrainer = 0;
+    long totalLoad = 0;
+    for (int i = 0; i < drainerNum; i++) {
+      totalLoad += drainerLoads[i];
+      if (drainerLoads[i] > drainerLoads[busiestDrainer]) {
+        busiestDrainer = i;
+      }
+      if (drainerLoads[i] < drainerLoads[idlestDrainer]) {
+        idlestDrainer = i;
+      }
+    }
+    if (totalLoad == 0) {
+      this.drainerLoadImbalance = 0;
+      return;
+    }
+    double imbalance = drainerLoads[busiestDrainer] / ((double) totalLoad / drainerNum);
+    this.drainerLoadImbalance = imbalance;
+    long busiestDrainerMemoryUsage = blockingQueueArr.get(busiestDrainer).getMemoryUsage();
+    long idlestDrainerMemoryUsage = blockingQueueArr.get(idlestDrainer).getMemoryUsage();
+    if (imbalance < imbalanceThreshold || busiestDrainerMemoryUsage < idlestDrainerMemoryUsage) {
+      return;
+    }
+
+    long maxMovableLoad = (drainerLoads[busiestDrainer] - drainerLoads[idlestDrainer]) / 2;
+    DrainerAssignment assignmentToMove = null;
+    for (DrainerAssignment assignment: drainerAssignments.values()) {
+      if (assignment.getDrainerIndex() == busiestDrainer && assignment.lastProcessingTimeNs > 0
+          && assignment.lastProcessingTimeNs <= maxMovableLoad
+          && (assignmentToMove == null || assignment.lastProcessingTimeNs > assignmentToMove.lastProcessingTimeNs)) {
+        assignmentToMove = assignment;
+      }
+    }
+    if (assignmentToMove != null) {
+      LOGGER.info(
+          "Drainer {} is {} times busier than the average, will move {} to drainer {}",
+          busiestDrainer,
+          String.format("%.2f", imbalance),
+          assignmentToMove.topicPartition,
+          idlestDrainer);
+      assignmentToMove.pendingDrainerIndex = idlestDrainer;
+    }
+  }
+
   @Override
   public void stopInner() throws Exception {
     // Graceful shutdown
+    if (this.rebalanceExecutor != null) {
+      this.rebalanceExecutor.shutdownNow();
+    }
     drainerList.forEach(drainer -> drainer.stop());
     if (this.executorService != null) {
       this.executorService.shutdownNow();
@@ -508,4 +801,19 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
     return minUsage;
   }
+
+  @Override
+  public int getDrainerAssignedPartitionCount(int index) {
+    return assignedPartitionCounts[index];
+  }
+
+  @Override
+  public double getDrainerLoadImbalance() {
+    return drainerLoadImbalance;
+  }
+
+  @Override
+  public long getPartitionMoveCount() {
+    return partitionMoveCount.get();
+  }
 }
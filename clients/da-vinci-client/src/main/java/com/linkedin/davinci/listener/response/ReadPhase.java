@@ -0,0 +1,55 @@
+package com.linkedin.davinci.listener.response;
+
+/**
+ * The phases of the read path of a storage node, which are timed for each request by {@link ReadPhaseTimings}, in
+ * order to break down the latency of the requests. The phases don't overlap, so their sum is the part of the request
+ * latency which is accounted for.
+ */
+public enum ReadPhase {
+  /**
+   * Wait in the queue of the storage execution handler, before the request gets handled.
+   */
+  QUEUE_WAIT("queue_wait"),
+  /**
+   * Lookup of the values, or of the manifests of the large values, in the storage engine.
+   */
+  STORAGE_LOOKUP("storage_lookup"),
+  /**
+   * Lookup of the chunks of the large values in the storage engine and their re-assembly.
+   */
+  CHUNK_ASSEMBLY("chunk_assembly"),
+  /**
+   * Decompression and deserialization of the values of compute requests.
+   */
+  DESERIALIZATION("deserialization"),
+  /**
+   * Execution of the operations of compute requests.
+   */
+  COMPUTE("compute"),
+  /**
+   * Serialization of the results of compute requests.
+   */
+  SERIALIZATION("serialization"),
+  /**
+   * Encoding of the records into the response body of batch get and compute requests.
+   */
+  RESPONSE_ENCODING("response_encoding"),
+  /**
+   * From the hand-off of the response to Netty until it has been written to the channel, including the wait for the
+   * event loop.
+   */
+  RESPONSE_WRITE("response_write");
+
+  private final String name;
+
+  ReadPhase(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return the name of the phase in the metrics and in the read phase trace header.
+   */
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,63 @@
+package com.linkedin.davinci.listener.response;
+
+/**
+ * Accumulates the time spent by a read request in each {@link ReadPhase}. Recording a phase doesn't allocate, so it can
+ * be done for every key of a batch get.
+ *
+ * Like the other latencies of {@link ReadResponse}, the timings are not synchronized, so the timings of the parallel
+ * batch get, whose keys are looked up by several threads at once, are best effort.
+ */
+public class ReadPhaseTimings {
+  private static final ReadPhase[] PHASES = ReadPhase.values();
+
+  private final long[] latenciesInNS = new long[PHASES.length];
+  private long responseWriteStartTimeInNS;
+  private boolean isResponseWriteStarted = false;
+
+  public void add(ReadPhase phase, long latencyInNS) {
+    latenciesInNS[phase.ordinal()] += latencyInNS;
+  }
+
+  /**
+   * @return the time spent in the given phase so far, or 0 if the request didn't go through it.
+   */
+  public long get(ReadPhase phase) {
+    return latenciesInNS[phase.ordinal()];
+  }
+
+  /**
+   * Starts the {@link ReadPhase#RESPONSE_WRITE} phase, right before the response is handed off to Netty.
+   */
+  public void startResponseWrite() {
+    responseWriteStartTimeInNS = System.nanoTime();
+    isResponseWriteStarted = true;
+  }
+
+  /**
+   * Ends the {@link ReadPhase#RESPONSE_WRITE} phase once the response has been written, if it was started.
+   */
+  public void endResponseWrite() {
+    if (isResponseWriteStarted) {
+      add(ReadPhase.RESPONSE_WRITE, System.nanoTime() - responseWriteStartTimeInNS);
+      isResponseWriteStarted = false;
+    }
+  }
+
+  /**
+   * @return the phases which the request went through so far, with their latency in microseconds, e.g.
+   *         "queue_wait=12,storage_lookup=250,response_encoding=31". This is only meant for sampled requests.
+   */
+  public String toTrace() {
+    StringBuilder trace = new StringBuilder();
+    for (ReadPhase phase: PHASES) {
+      long latencyInNS = latenciesInNS[phase.ordinal()];
+      if (latencyInNS > 0) {
+        if (trace.length() > 0) {
+          trace.append(',');
+        }
+        trace.append(phase.getName()).append('=').append(latencyInNS / 1000);
+      }
+    }
+    return trace.toString();
+  }
+}
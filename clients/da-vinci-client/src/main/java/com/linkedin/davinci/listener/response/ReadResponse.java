@@ -25,6 +25,7 @@ public abstract class ReadResponse {
   private int hadamardProductCount = 0;
   private int countOperatorCount = 0;
   private int rcu = 0;
+  private final ReadPhaseTimings readPhaseTimings = new ReadPhaseTimings();
 
   public void setCompressionStrategy(CompressionStrategy compressionStrategy) {
     this.compressionStrategy = compressionStrategy;
@@ -138,6 +139,14 @@ public abstract class ReadResponse {
     return this.rcu;
   }
 
+  public void addReadPhaseLatency(ReadPhase phase, long latencyInNS) {
+    readPhaseTimings.add(phase, latencyInNS);
+  }
+
+  public ReadPhaseTimings getReadPhaseTimings() {
+    return readPhaseTimings;
+  }
+
   public int getStorageExecutionQueueLen() {
     return storageExecutionQueueLen;
   }
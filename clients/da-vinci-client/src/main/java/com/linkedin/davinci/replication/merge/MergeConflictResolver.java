@@ -15,12 +15,14 @@ import com.linkedin.venice.schema.SchemaUtils;
 import com.linkedin.venice.schema.merge.ValueAndRmd;
 import com.linkedin.venice.schema.rmd.RmdTimestampType;
 import com.linkedin.venice.schema.rmd.RmdUtils;
+import com.linkedin.venice.schema.writecompute.AvroBinaryFieldSplicer;
 import com.linkedin.venice.schema.writecompute.WriteComputeOperation;
 import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
 import com.linkedin.venice.serializer.avro.MapOrderingPreservingSerDeFactory;
 import com.linkedin.venice.utils.lazy.Lazy;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -535,6 +537,23 @@ public class MergeConflictResolver {
     if (ignoreNewUpdate(updateOperationTimestamp, writeComputeRecord, rmdWithValueSchemaIdOptional)) {
       return MergeConflictResult.getIgnoredResult();
     }
+    RmdWithValueSchemaId rmdWithValueSchemaId = rmdWithValueSchemaIdOptional.orElse(null);
+    if (rmdWithValueSchemaId != null && rmdWithValueSchemaId.getValueSchemaId() == supersetValueSchemaEntry.getId()) {
+      ByteBuffer oldValueBytes = oldValueBytesProvider.get();
+      if (oldValueBytes != null) {
+        MergeConflictResult mergeConflictResult = updateNonCollectionFields(
+            oldValueBytes,
+            rmdWithValueSchemaId.getRmdRecord(),
+            supersetValueSchemaEntry,
+            writeComputeRecord,
+            updateOperationTimestamp,
+            newValueSourceOffset,
+            newValueSourceBrokerID);
+        if (mergeConflictResult != null) {
+          return mergeConflictResult;
+        }
+      }
+    }
     ValueAndRmd<GenericRecord> oldValueAndRmd = prepareValueAndRmdForUpdate(
         Optional.ofNullable(oldValueBytesProvider.get()),
         rmdWithValueSchemaIdOptional,
@@ -562,6 +581,63 @@ public class MergeConflictResolver {
     return new MergeConflictResult(updatedValueBytes, oldValueSchemaID, false, updatedValueAndRmd.getRmd());
   }
 
+  /**
+   * Applies an Update request which only replaces non-collection fields directly on the serialized old value, so that
+   * the old value does not need to be deserialized and serialized again. This is much cheaper than the generic path
+   * when a large record gets frequent updates of a few small fields.
+   *
+   * @param oldValueBytes old value bytes, which must be encoded with the given value schema.
+   * @return the merge result, or null if the Update request can't be applied this way, i.e. when it modifies a
+   *         collection field, or when a field timestamp tie needs to be resolved by comparing the old and new values.
+   */
+  private MergeConflictResult updateNonCollectionFields(
+      ByteBuffer oldValueBytes,
+      GenericRecord oldRmdRecord,
+      SchemaEntry valueSchemaEntry,
+      GenericRecord writeComputeRecord,
+      final long updateOperationTimestamp,
+      final long newValueSourceOffset,
+      final int newValueSourceBrokerID) {
+    Object timestampObject = oldRmdRecord.get(TIMESTAMP_FIELD_NAME);
+    if (RmdUtils.getRmdTimestampType(timestampObject) != RmdTimestampType.PER_FIELD_TIMESTAMP) {
+      return null;
+    }
+    GenericRecord timestampRecord = (GenericRecord) timestampObject;
+    Schema valueSchema = valueSchemaEntry.getSchema();
+    Map<Integer, Object> newFieldValues = new HashMap<>();
+    for (Schema.Field writeComputeField: writeComputeRecord.getSchema().getFields()) {
+      Object writeComputeFieldValue = writeComputeRecord.get(writeComputeField.pos());
+      if (writeComputeFieldValue == null) {
+        return null;
+      }
+      WriteComputeOperation operationType = WriteComputeOperation.getFieldOperationType(writeComputeFieldValue);
+      if (operationType == WriteComputeOperation.NO_OP_ON_FIELD) {
+        continue;
+      }
+      Schema.Field valueField = valueSchema.getField(writeComputeField.name());
+      Object fieldTimestamp = timestampRecord.get(writeComputeField.name());
+      // Collection fields have a collection timestamp record instead of a timestamp.
+      if (operationType != WriteComputeOperation.PUT_NEW_FIELD || valueField == null
+          || !(fieldTimestamp instanceof Long)) {
+        return null;
+      }
+      if ((long) fieldTimestamp == updateOperationTimestamp) {
+        return null;
+      }
+      if ((long) fieldTimestamp < updateOperationTimestamp) {
+        newFieldValues.put(valueField.pos(), writeComputeFieldValue);
+      }
+    }
+
+    mergeGenericRecord.updateReplicationCheckpointVector(oldRmdRecord, newValueSourceOffset, newValueSourceBrokerID);
+    for (int fieldPos: newFieldValues.keySet()) {
+      timestampRecord.put(valueSchema.getFields().get(fieldPos).name(), updateOperationTimestamp);
+    }
+    ByteBuffer updatedValueBytes =
+        ByteBuffer.wrap(AvroBinaryFieldSplicer.replaceFields(valueSchema, oldValueBytes, newFieldValues));
+    return new MergeConflictResult(Optional.of(updatedValueBytes), valueSchemaEntry.getId(), false, oldRmdRecord);
+  }
+
   private GenericRecord deserializeWriteComputeBytes(
       int writerValueSchemaId,
       int readerValueSchemaId,
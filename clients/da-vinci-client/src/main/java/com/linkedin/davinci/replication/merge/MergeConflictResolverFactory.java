@@ -1,8 +1,12 @@
 package com.linkedin.davinci.replication.merge;
 
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.venice.schema.merge.CollectionFieldOperationHandler;
 import com.linkedin.venice.schema.merge.CollectionTimestampMergeRecordHelper;
+import com.linkedin.venice.schema.merge.IndexedCollectionFieldOpHandler;
 import com.linkedin.venice.schema.merge.MergeRecordHelper;
+import com.linkedin.venice.schema.merge.SortBasedCollectionFieldOpHandler;
 import com.linkedin.venice.schema.writecompute.WriteComputeProcessor;
 import org.apache.avro.generic.GenericData;
 
@@ -22,14 +26,32 @@ public class MergeConflictResolverFactory {
       ReadOnlySchemaRepository schemaRepository,
       RmdSerDe rmdSerDe,
       String storeName) {
+    return createMergeConflictResolver(schemaRepository, rmdSerDe, storeName, false);
+  }
+
+  /**
+   * @param indexedCollectionMergeEnabled whether the collection merge operations of partial updates are applied with
+   *                                      {@link IndexedCollectionFieldOpHandler} instead of
+   *                                      {@link SortBasedCollectionFieldOpHandler}.
+   */
+  public MergeConflictResolver createMergeConflictResolver(
+      ReadOnlySchemaRepository schemaRepository,
+      RmdSerDe rmdSerDe,
+      String storeName,
+      boolean indexedCollectionMergeEnabled) {
     MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
+    CollectionFieldOperationHandler collectionFieldOperationHandler = indexedCollectionMergeEnabled
+        ? new IndexedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE)
+        : new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
     MapKeyStringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository =
         new MapKeyStringAnnotatedStoreSchemaCache(storeName, schemaRepository);
     return new MergeConflictResolver(
         annotatedReadOnlySchemaRepository,
         storeName,
         valueSchemaID -> new GenericData.Record(rmdSerDe.getRmdSchema(valueSchemaID)),
-        new MergeGenericRecord(new WriteComputeProcessor(mergeRecordHelper), mergeRecordHelper),
+        new MergeGenericRecord(
+            new WriteComputeProcessor(mergeRecordHelper, collectionFieldOperationHandler),
+            mergeRecordHelper),
         new MergeByteBuffer(),
         new MergeResultValueSchemaResolverImpl(annotatedReadOnlySchemaRepository, storeName),
         rmdSerDe);
@@ -144,6 +144,16 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
    */
   private final Sensor leaderIngestionReplicationMetadataLookUpLatencySensor;
 
+  /**
+   * Measure the avg/max latency of the batched value and replication metadata lookup of an RT poll batch
+   */
+  private final Sensor leaderIngestionBatchPrefetchLatencySensor;
+
+  /**
+   * Measure the number of times value bytes or replication metadata were served by the batched prefetch
+   */
+  private final Sensor leaderIngestionBatchPrefetchHitCount;
+
   /**
    * Measure the count of ignored updates due to conflict resolution
    */
@@ -477,6 +487,18 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         totalStats,
         () -> totalStats.leaderIngestionReplicationMetadataLookUpLatencySensor,
         avgAndMax());
+
+    this.leaderIngestionBatchPrefetchLatencySensor = registerPerStoreAndTotal(
+        "leader_ingestion_batch_prefetch_latency",
+        totalStats,
+        () -> totalStats.leaderIngestionBatchPrefetchLatencySensor,
+        avgAndMax());
+
+    this.leaderIngestionBatchPrefetchHitCount = registerPerStoreAndTotal(
+        "leader_ingestion_batch_prefetch_hit_count",
+        totalStats,
+        () -> totalStats.leaderIngestionBatchPrefetchHitCount,
+        new Rate());
   }
 
   /** Record a host-level byte consumption rate across all store versions */
@@ -556,6 +578,14 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     leaderIngestionReplicationMetadataLookUpLatencySensor.record(latency);
   }
 
+  public void recordIngestionBatchPrefetchLatency(double latency) {
+    leaderIngestionBatchPrefetchLatencySensor.record(latency);
+  }
+
+  public void recordIngestionBatchPrefetchHitCount() {
+    leaderIngestionBatchPrefetchHitCount.record();
+  }
+
   public void recordWriteComputeUpdateLatency(double latency) {
     leaderWriteComputeUpdateLatencySensor.record(latency);
   }
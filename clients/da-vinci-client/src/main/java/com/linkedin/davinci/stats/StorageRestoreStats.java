@@ -0,0 +1,21 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import io.tehuti.metrics.MetricsRepository;
+
+
+/**
+ * Reports how long it took to restore the stores persisted on this host at startup, split between the opening of the
+ * storage engines and the opening of their data partitions.
+ */
+public class StorageRestoreStats extends AbstractVeniceStats {
+  public StorageRestoreStats(MetricsRepository metricsRepository, StorageService storageService) {
+    super(metricsRepository, "storage_restore");
+    registerSensor("store_open_phase_time_ms", new Gauge(() -> storageService.getStoreRestoreTimeInMs()));
+    registerSensor("partition_open_phase_time_ms", new Gauge(() -> storageService.getPartitionRestoreTimeInMs()));
+    registerSensor("restored_store_count", new Gauge(() -> storageService.getRestoredStoreCount()));
+    registerSensor("restored_partition_count", new Gauge(() -> storageService.getRestoredPartitionCount()));
+  }
+}
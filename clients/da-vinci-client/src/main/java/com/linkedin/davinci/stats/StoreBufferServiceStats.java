@@ -32,11 +32,17 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
         "min_memory_usage_per_writer",
         new Gauge(() -> this.workerService.getMinMemoryUsagePerDrainer()));
 
+    registerSensor("drainer_load_imbalance", new Gauge(() -> this.workerService.getDrainerLoadImbalance()));
+    registerSensor("partition_move_count", new Gauge(() -> this.workerService.getPartitionMoveCount()));
+
     for (int i = 0; i < this.workerService.getDrainerCount(); i++) {
       int finalIndex = i;
       registerSensor(
           "memory_usage_for_writer_num_" + i,
           new Gauge(() -> this.workerService.getDrainerQueueMemoryUsage(finalIndex)));
+      registerSensor(
+          "assigned_partition_count_for_writer_num_" + i,
+          new Gauge(() -> this.workerService.getDrainerAssignedPartitionCount(finalIndex)));
     }
   }
 }
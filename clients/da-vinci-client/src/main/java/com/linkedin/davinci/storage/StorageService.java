@@ -2,6 +2,7 @@ package com.linkedin.davinci.storage;
 
 import static com.linkedin.venice.meta.PersistenceType.BLACK_HOLE;
 import static com.linkedin.venice.meta.PersistenceType.IN_MEMORY;
+import static com.linkedin.venice.meta.PersistenceType.OFF_HEAP;
 import static com.linkedin.venice.meta.PersistenceType.ROCKS_DB;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
@@ -13,6 +14,8 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngineFactory;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngineFactory;
+import com.linkedin.davinci.store.offheap.OffHeapStorageEngineFactory;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
 import com.linkedin.venice.ConfigKeys;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -24,11 +27,13 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.Utils;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +42,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
@@ -63,6 +73,12 @@ public class StorageService extends AbstractVeniceService {
   private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
   private final ReadOnlyStoreRepository storeRepository;
 
+  // Timings of the restore of the persisted stores at startup, see StorageRestoreStats.
+  private double storeRestoreTimeInMs = 0;
+  private double partitionRestoreTimeInMs = 0;
+  private int restoredStoreCount = 0;
+  private int restoredPartitionCount = 0;
+
   /**
    * Allocates a new {@code StorageService} object.
    * @param configLoader a config loader to load configs related to cluster and server.
@@ -148,12 +164,19 @@ public class StorageService extends AbstractVeniceService {
             storeVersionStateSerializer,
             partitionStateSerializer));
     persistenceTypeToStorageEngineFactoryMap.put(BLACK_HOLE, new BlackHoleStorageEngineFactory());
+    persistenceTypeToStorageEngineFactoryMap.put(OFF_HEAP, new OffHeapStorageEngineFactory());
   }
 
   private void restoreAllStores(
       VeniceConfigLoader configLoader,
       boolean restoreDataPartitions,
       boolean restoreMetadataPartitions) {
+    int parallelism = getStorageRestoreParallelism();
+    if (restoreDataPartitions && parallelism > 1) {
+      restoreAllStoresInParallel(configLoader, restoreMetadataPartitions, parallelism);
+      return;
+    }
+    long startTimeInNS = System.nanoTime();
     LOGGER.info("Start restoring all the stores persisted previously");
     for (Map.Entry<PersistenceType, StorageEngineFactory> entry: persistenceTypeToStorageEngineFactoryMap.entrySet()) {
       PersistenceType pType = entry.getKey();
@@ -169,20 +192,14 @@ public class StorageService extends AbstractVeniceService {
         // Load the metadata & data restore settings from config loader.
         storeConfig.setRestoreDataPartitions(restoreDataPartitions);
         storeConfig.setRestoreMetadataPartition(restoreMetadataPartitions);
-        AbstractStorageEngine storageEngine;
-
-        try {
-          storageEngine = openStore(storeConfig, () -> null);
-        } catch (Exception e) {
-          if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
-            LOGGER.error("Could not load the following store : " + storeName, e);
-            aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
-            continue;
-          }
-          throw new VeniceException("Error caught during opening store " + storeName, e);
+        AbstractStorageEngine storageEngine = restoreStore(storeConfig);
+        if (storageEngine == null) {
+          continue;
         }
 
         Set<Integer> partitionIds = storageEngine.getPartitionIds();
+        restoredStoreCount++;
+        restoredPartitionCount += partitionIds.size();
         LOGGER.info(
             "Loaded the following partitions: {}, for store: {}",
             Arrays.toString(partitionIds.toArray()),
@@ -191,7 +208,135 @@ public class StorageService extends AbstractVeniceService {
       }
       LOGGER.info("Done restoring all the stores with type: {}", pType);
     }
-    LOGGER.info("Done restoring all the stores persisted previously");
+    // The data partitions are opened along with their storage engine.
+    storeRestoreTimeInMs = LatencyUtils.getLatencyInMS(startTimeInNS);
+    LOGGER.info("Done restoring all the stores persisted previously in {} ms", storeRestoreTimeInMs);
+  }
+
+  /**
+   * Restores the stores in two phases. The storage engines are first opened one after the other, with their metadata
+   * partition only, since the storage engine factories create them one at a time anyway. Then the data partitions of
+   * all the storage engines, which take most of the restore time, are opened concurrently by a bounded thread pool, so
+   * that the partitions of a single big store are opened concurrently as well.
+   *
+   * Unlike the sequential restore, a data partition which fails to open doesn't prevent the other partitions of its
+   * store from being restored, and it will be opened again when it gets assigned to this host.
+   */
+  private void restoreAllStoresInParallel(
+      VeniceConfigLoader configLoader,
+      boolean restoreMetadataPartitions,
+      int parallelism) {
+    LOGGER.info("Start restoring all the stores persisted previously with parallelism: {}", parallelism);
+    long startTimeInNS = System.nanoTime();
+    List<AbstractStorageEngine> storageEngines = new ArrayList<>();
+    for (Map.Entry<PersistenceType, StorageEngineFactory> entry: persistenceTypeToStorageEngineFactoryMap.entrySet()) {
+      PersistenceType pType = entry.getKey();
+      for (String storeName: entry.getValue().getPersistedStoreNames()) {
+        VeniceStoreVersionConfig storeConfig = configLoader.getStoreConfig(storeName, pType);
+        // The data partitions are restored in the second phase.
+        storeConfig.setRestoreDataPartitions(false);
+        storeConfig.setRestoreMetadataPartition(restoreMetadataPartitions);
+        AbstractStorageEngine storageEngine = restoreStore(storeConfig);
+        storeConfig.setRestoreDataPartitions(true);
+        if (storageEngine != null) {
+          storageEngines.add(storageEngine);
+        }
+      }
+    }
+    restoredStoreCount = storageEngines.size();
+    storeRestoreTimeInMs = LatencyUtils.getLatencyInMS(startTimeInNS);
+    LOGGER.info("Opened {} storage engines in {} ms", restoredStoreCount, storeRestoreTimeInMs);
+
+    startTimeInNS = System.nanoTime();
+    AtomicInteger partitionCount = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("storage-restore"));
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (AbstractStorageEngine storageEngine: storageEngines) {
+        String storeName = storageEngine.getStoreName();
+        for (int partitionId: storageEngine.getPartitionIdsToRestore()) {
+          futures.add(executor.submit(() -> {
+            try {
+              storageEngine.restoreStoragePartition(partitionId);
+              partitionCount.incrementAndGet();
+            } catch (Exception e) {
+              if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
+                LOGGER.error("Could not load partition: " + partitionId + " of the following store: " + storeName, e);
+                aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
+                return;
+              }
+              throw new VeniceException("Error caught during opening partition " + partitionId + " of " + storeName, e);
+            }
+          }));
+        }
+      }
+      for (Future<?> future: futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      throw new VeniceException("Error caught during restoring the storage partitions", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new VeniceException("Interrupted while restoring the storage partitions", e);
+    } finally {
+      executor.shutdownNow();
+    }
+    restoredPartitionCount = partitionCount.get();
+    partitionRestoreTimeInMs = LatencyUtils.getLatencyInMS(startTimeInNS);
+    LOGGER.info(
+        "Done restoring all the stores persisted previously, opened {} partitions in {} ms",
+        restoredPartitionCount,
+        partitionRestoreTimeInMs);
+  }
+
+  /**
+   * @return the restored storage engine, or null if its database could not be opened.
+   */
+  private AbstractStorageEngine restoreStore(VeniceStoreVersionConfig storeConfig) {
+    String storeName = storeConfig.getStoreVersionName();
+    try {
+      return openStore(storeConfig, () -> null);
+    } catch (Exception e) {
+      if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
+        LOGGER.error("Could not load the following store : " + storeName, e);
+        aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
+        return null;
+      }
+      throw new VeniceException("Error caught during opening store " + storeName, e);
+    }
+  }
+
+  /**
+   * Opening more partitions at once than allowed by the {@link RocksDBServerConfig#ROCKSDB_DB_OPEN_OPERATION_THROTTLE}
+   * would only make the additional threads wait for the throttler.
+   */
+  private int getStorageRestoreParallelism() {
+    int parallelism = serverConfig.getStorageRestoreParallelism();
+    int openOperationThrottle = serverConfig.getRocksDBServerConfig().getDatabaseOpenOperationThrottle();
+    if (parallelism > openOperationThrottle) {
+      LOGGER.info(
+          "Capping the storage restore parallelism: {} to the RocksDB open operation throttle: {}",
+          parallelism,
+          openOperationThrottle);
+      return openOperationThrottle;
+    }
+    return parallelism;
+  }
+
+  public double getStoreRestoreTimeInMs() {
+    return storeRestoreTimeInMs;
+  }
+
+  public double getPartitionRestoreTimeInMs() {
+    return partitionRestoreTimeInMs;
+  }
+
+  public int getRestoredStoreCount() {
+    return restoredStoreCount;
+  }
+
+  public int getRestoredPartitionCount() {
+    return restoredPartitionCount;
   }
 
   public synchronized AbstractStorageEngine openStoreForNewPartition(
@@ -262,10 +407,15 @@ public class StorageService extends AbstractVeniceService {
 
     long startTimeInBuildingNewEngine = System.nanoTime();
     /**
-     * For new store, it will use the storage engine configured in host level if it is not known.
+     * For new store, it will use the storage engine configured in host level if it is not known, unless the store is
+     * configured to use the off-heap storage engine, which doesn't support replication metadata.
      */
     if (!storeConfig.isStorePersistenceTypeKnown()) {
-      storeConfig.setStorePersistenceType(storeConfig.getPersistenceType());
+      if (isOffHeapStorageEnabled(topicName)) {
+        storeConfig.setStorePersistenceType(OFF_HEAP);
+      } else {
+        storeConfig.setStorePersistenceType(storeConfig.getPersistenceType());
+      }
     }
 
     LOGGER.info("Creating/Opening Storage Engine {} with type: {}", topicName, storeConfig.getStorePersistenceType());
@@ -451,6 +601,12 @@ public class StorageService extends AbstractVeniceService {
         .getSubPartitions(partition, PartitionUtils.getAmplificationFactor(storeRepository, topicName));
   }
 
+  private boolean isOffHeapStorageEnabled(String topicName) {
+    return Version.isVersionTopic(topicName)
+        && serverConfig.isOffHeapStorageEnabledForStore(Version.parseStoreFromVersionTopic(topicName))
+        && !isReplicationMetadataEnabled(topicName, ROCKS_DB);
+  }
+
   private boolean isReplicationMetadataEnabled(String topicName, PersistenceType persistenceType) {
     // Replication metadata will only be used in Server as Da Vinci will never become LEADER.
     if (serverConfig.isDaVinciClient() || !Objects.equals(persistenceType, ROCKS_DB)) {
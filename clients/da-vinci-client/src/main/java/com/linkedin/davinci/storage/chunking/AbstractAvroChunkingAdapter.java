@@ -1,5 +1,6 @@
 package com.linkedin.davinci.storage.chunking;
 
+import com.linkedin.davinci.listener.response.ReadPhase;
 import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
@@ -194,6 +195,38 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         false);
   }
 
+  /**
+   * Decodes, and re-assembles if needed, a top-level value which has already been fetched by
+   * {@link ChunkingUtils#multiGetTopLevelValues}.
+   */
+  public T getFromPrefetchedValue(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] prefetchedValue,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      ReadResponse response,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      String storeName,
+      VeniceCompressor compressor) {
+    return ChunkingUtils.getFromPrefetchedValue(
+        this,
+        store,
+        schemaRepo.getSupersetOrLatestValueSchema(storeName).getId(),
+        partition,
+        prefetchedValue,
+        response,
+        reusedValue,
+        reusedDecoder,
+        compressionStrategy,
+        fastAvroEnabled,
+        schemaRepo,
+        storeName,
+        compressor);
+  }
+
   public T get(
       String storeName,
       AbstractStorageEngine store,
@@ -420,7 +453,9 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
       long deserializeStartTimeInNS = System.nanoTime();
       OUTPUT output =
           delegate.decode(reusedDecoder, input, inputBytesLength, reusedValue, deserializer, response, compressor);
-      response.addReadComputeDeserializationLatency(LatencyUtils.getLatencyInMS(deserializeStartTimeInNS));
+      long deserializeLatencyInNS = System.nanoTime() - deserializeStartTimeInNS;
+      response.addReadComputeDeserializationLatency(LatencyUtils.convertLatencyFromNSToMS(deserializeLatencyInNS));
+      response.addReadPhaseLatency(ReadPhase.DESERIALIZATION, deserializeLatencyInNS);
       return output;
     }
   }
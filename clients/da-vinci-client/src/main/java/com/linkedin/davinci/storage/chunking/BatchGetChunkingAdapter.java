@@ -6,6 +6,8 @@ import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -68,4 +70,24 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Batched variant of {@link #get(AbstractStorageEngine, int, ByteBuffer, boolean, ReadResponse)}, which looks up
+   * all the provided keys of the same partition with a single storage engine call.
+   *
+   * @return a list aligned with the provided keys, which contains null for the keys which do not exist.
+   */
+  public static List<MultiGetResponseRecordV1> multiGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      ReadResponse response) {
+    List<byte[]> values = ChunkingUtils.multiGetTopLevelValues(store, partition, keys, isChunked, response);
+    List<MultiGetResponseRecordV1> records = new ArrayList<>(values.size());
+    for (byte[] value: values) {
+      records.add(ChunkingUtils.getFromPrefetchedValue(BATCH_GET_CHUNKING_ADAPTER, store, partition, value, response));
+    }
+    return records;
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.storage.chunking;
 
 import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.listener.response.ReadPhase;
 import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
@@ -19,6 +20,9 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -54,7 +58,7 @@ import org.apache.avro.io.BinaryDecoder;
  *    a) If it is positive, then it's a full value, and is returned immediately.
  *    b) If it is negative, then it's a {@link ChunkedValueManifest}, and we continue to the next steps.
  * 3. The {@link ChunkedValueManifest} is deserialized, and its chunk keys are extracted.
- * 4. Each chunk key is queried.
+ * 4. The chunk keys are queried, with a single batched lookup.
  * 5. The chunks are stitched back together using the various adpater interfaces of this package,
  *    depending on whether it is the single get or batch get/compute path that needs to re-assembe
  *    a chunked value.
@@ -152,6 +156,145 @@ public class ChunkingUtils {
         false);
   }
 
+  /**
+   * Looks up the top-level values of a batch of keys with a single {@link AbstractStorageEngine#multiGet} call. The
+   * returned values are still raw, and chunked values are not re-assembled yet, so each of them should be passed to
+   * one of the adapters' prefetched value functions, e.g.
+   * {@link AbstractAvroChunkingAdapter#getFromPrefetchedValue}.
+   *
+   * @return a list aligned with the provided keys, which contains null for the keys which do not exist.
+   */
+  public static List<byte[]> multiGetTopLevelValues(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      ReadResponse response) {
+    long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    List<ByteBuffer> topLevelKeys = keys;
+    if (isChunked) {
+      topLevelKeys = new ArrayList<>(keys.size());
+      for (ByteBuffer key: keys) {
+        topLevelKeys.add(ByteBuffer.wrap(KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key)));
+      }
+    }
+    List<byte[]> values = store.multiGet(partition, topLevelKeys);
+    if (response != null) {
+      addLookupLatency(response, databaseLookupStartTimeInNS, ReadPhase.STORAGE_LOOKUP, databaseLookupStartTimeInNS);
+    }
+    return values;
+  }
+
+  /**
+   * Replication metadata counterpart of {@link #multiGetTopLevelValues}.
+   */
+  public static List<byte[]> multiGetTopLevelReplicationMetadata(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked) {
+    List<ByteBuffer> topLevelKeys = keys;
+    if (isChunked) {
+      topLevelKeys = new ArrayList<>(keys.size());
+      for (ByteBuffer key: keys) {
+        topLevelKeys.add(ByteBuffer.wrap(KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key)));
+      }
+    }
+    return store.multiGetReplicationMetadata(partition, topLevelKeys);
+  }
+
+  /**
+   * Counterpart of {@link #getFromStorage(ChunkingAdapter, AbstractStorageEngine, int, ByteBuffer, ReadResponse)}
+   * for a top-level value which has already been fetched by {@link #multiGetTopLevelValues}.
+   */
+  static <VALUE, ASSEMBLED_VALUE_CONTAINER> VALUE getFromPrefetchedValue(
+      ChunkingAdapter<ASSEMBLED_VALUE_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] value,
+      ReadResponse response) {
+    return getFromPrefetchedValue(
+        adapter,
+        store,
+        -1,
+        partition,
+        value,
+        response,
+        null,
+        null,
+        null,
+        false,
+        null,
+        null,
+        null);
+  }
+
+  /**
+   * The lookup latency of the top-level value is accounted for by {@link #multiGetTopLevelValues}, so only the
+   * time spent fetching the chunks, if any, is added to the response here.
+   */
+  static <VALUE, CHUNKS_CONTAINER> VALUE getFromPrefetchedValue(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int readerSchemaID,
+      int partition,
+      byte[] value,
+      ReadResponse response,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      String storeName,
+      VeniceCompressor compressor) {
+    long chunkLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    return getFromStorage(
+        value,
+        (value == null ? 0 : value.length),
+        chunkLookupStartTimeInNS,
+        adapter,
+        store,
+        readerSchemaID,
+        partition,
+        response,
+        reusedValue,
+        reusedDecoder,
+        compressionStrategy,
+        fastAvroEnabled,
+        schemaRepo,
+        storeName,
+        compressor,
+        false);
+  }
+
+  /**
+   * Counterpart of {@link #getReplicationMetadataFromStorage} for a top-level replication metadata value which has
+   * already been fetched by {@link #multiGetTopLevelReplicationMetadata}.
+   */
+  static <VALUE, CHUNKS_CONTAINER> VALUE getReplicationMetadataFromPrefetchedValue(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] value) {
+    return getFromStorage(
+        value,
+        (value == null ? 0 : value.length),
+        0,
+        adapter,
+        store,
+        -1,
+        partition,
+        null,
+        null,
+        null,
+        null,
+        false,
+        null,
+        null,
+        null,
+        true);
+  }
+
   static <CHUNKS_CONTAINER, VALUE> void getFromStorageByPartialKey(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       AbstractStorageEngine store,
@@ -312,7 +455,7 @@ public class ChunkingUtils {
       // User-defined schema, thus not a chunked value. Early termination.
 
       if (response != null) {
-        response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+        addLookupLatency(response, databaseLookupStartTimeInNS, ReadPhase.STORAGE_LOOKUP, databaseLookupStartTimeInNS);
       }
       return adapter.constructValue(
           writerSchemaId,
@@ -332,20 +475,20 @@ public class ChunkingUtils {
     }
 
     // End of initial sanity checks. We have a chunked value, so we need to fetch all chunks
-
+    long chunkAssemblyStartTimeInNS = 0;
+    if (response != null) {
+      chunkAssemblyStartTimeInNS = System.nanoTime();
+      response.addReadPhaseLatency(ReadPhase.STORAGE_LOOKUP, chunkAssemblyStartTimeInNS - databaseLookupStartTimeInNS);
+    }
     ChunkedValueManifest chunkedValueManifest = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
     CHUNKS_CONTAINER assembledValueContainer = adapter.constructChunksContainer(chunkedValueManifest);
     int actualSize = 0;
 
-    for (int chunkIndex = 0; chunkIndex < chunkedValueManifest.keysWithChunkIdSuffix.size(); chunkIndex++) {
-      // N.B.: This is done sequentially. Originally, each chunk was fetched concurrently in the same executor
-      // as the main queries, but this might cause deadlocks, so we are now doing it sequentially. If we want to
-      // optimize large value retrieval in the future, it's unclear whether the concurrent retrieval approach
-      // is optimal (as opposed to streaming the response out incrementally, for example). Since this is a
-      // premature optimization, we are not addressing it right now.
-      byte[] chunkKey = chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex).array();
-      byte[] valueChunk =
-          isRmdValue ? store.getReplicationMetadata(partition, chunkKey) : store.get(partition, chunkKey);
+    // N.B.: Originally, each chunk was fetched concurrently in the same executor as the main queries, but this might
+    // cause deadlocks, so the chunks are fetched by the calling thread, with a single batched lookup instead.
+    List<byte[]> valueChunks = getChunks(store, partition, chunkedValueManifest.keysWithChunkIdSuffix, isRmdValue);
+    for (int chunkIndex = 0; chunkIndex < valueChunks.size(); chunkIndex++) {
+      byte[] valueChunk = valueChunks.get(chunkIndex);
 
       if (valueChunk == null) {
         throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
@@ -369,7 +512,7 @@ public class ChunkingUtils {
     }
 
     if (response != null) {
-      response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+      addLookupLatency(response, databaseLookupStartTimeInNS, ReadPhase.CHUNK_ASSEMBLY, chunkAssemblyStartTimeInNS);
       response.incrementMultiChunkLargeValueCount();
     }
 
@@ -386,6 +529,40 @@ public class ChunkingUtils {
         compressor);
   }
 
+  /**
+   * Fetches all the chunks of a large value with a single {@link AbstractStorageEngine#multiGet} call, which saves
+   * a round trip to the storage engine per chunk, except if there is a single chunk.
+   *
+   * @return a list aligned with the provided chunk keys, which contains null for the chunks which do not exist.
+   */
+  private static List<byte[]> getChunks(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> chunkKeys,
+      boolean isRmdValue) {
+    if (chunkKeys.size() == 1) {
+      byte[] chunkKey = chunkKeys.get(0).array();
+      return Collections.singletonList(
+          isRmdValue ? store.getReplicationMetadata(partition, chunkKey) : store.get(partition, chunkKey));
+    }
+    return isRmdValue ? store.multiGetReplicationMetadata(partition, chunkKeys) : store.multiGet(partition, chunkKeys);
+  }
+
+  /**
+   * Adds the time since the start of the lookup to the database lookup latency of the response, which covers the
+   * lookup of the chunks as well, and the time since the start of the given phase to that phase.
+   */
+  private static void addLookupLatency(
+      ReadResponse response,
+      long databaseLookupStartTimeInNS,
+      ReadPhase phase,
+      long phaseStartTimeInNS) {
+    long currentTimeInNS = System.nanoTime();
+    response.addDatabaseLookupLatency(
+        LatencyUtils.convertLatencyFromNSToMS(currentTimeInNS - databaseLookupStartTimeInNS));
+    response.addReadPhaseLatency(phase, currentTimeInNS - phaseStartTimeInNS);
+  }
+
   private static String getExceptionMessageDetails(AbstractStorageEngine store, int partition, Integer chunkIndex) {
     String message = "store: " + store.getStoreName() + ", partition: " + partition;
     if (chunkIndex != null) {
@@ -69,4 +69,19 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
     return ChunkingUtils
         .getReplicationMetadataFromStorage(SINGLE_GET_CHUNKING_ADAPTER, store, partition, keyBuffer, response);
   }
+
+  /**
+   * Re-assembles, if needed, a top-level replication metadata value which has already been fetched by
+   * {@link ChunkingUtils#multiGetTopLevelReplicationMetadata}.
+   */
+  public static ValueRecord getReplicationMetadataFromPrefetchedValue(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] prefetchedReplicationMetadata) {
+    return ChunkingUtils.getReplicationMetadataFromPrefetchedValue(
+        SINGLE_GET_CHUNKING_ADAPTER,
+        store,
+        partition,
+        prefetchedReplicationMetadata);
+  }
 }
@@ -18,6 +18,7 @@ import java.io.Closeable;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -151,6 +152,37 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     restoreStoragePartitions(true, true);
   }
 
+  /**
+   * @return the ids of the persisted data partitions which have not been restored yet, to be restored concurrently by
+   *         {@link #restoreStoragePartition}.
+   */
+  public synchronized Set<Integer> getPartitionIdsToRestore() {
+    Set<Integer> partitionIds = new HashSet<>(getPersistedPartitionIds());
+    partitionIds.remove(METADATA_PARTITION_ID);
+    partitionIds.removeIf(this::containsPartition);
+    return partitionIds;
+  }
+
+  /**
+   * Restores a persisted data partition. Unlike {@link #addStoragePartition}, the partition is opened without holding
+   * the lock of this storage engine, which is only held to register it, so that several partitions of the same store
+   * can be opened concurrently.
+   */
+  public void restoreStoragePartition(int partitionId) {
+    if (partitionId == METADATA_PARTITION_ID) {
+      throw new StorageInitializationException("The metadata partition is not allowed to be set via this function!");
+    }
+    Partition partition = createStoragePartition(new StoragePartitionConfig(storeName, partitionId));
+    synchronized (this) {
+      if (containsPartition(partitionId)) {
+        partition.close();
+        throw new StorageInitializationException(
+            "Partition " + partitionId + " of store " + this.getStoreName() + " already exists.");
+      }
+      this.partitionList.set(partitionId, partition);
+    }
+  }
+
   // For testing purpose only.
   public AbstractStoragePartition getMetadataPartition() {
     return metadataPartition;
@@ -430,6 +462,11 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     return partition.get(keyBuffer);
   }
 
+  public List<byte[]> multiGet(int partitionId, List<ByteBuffer> keys) throws VeniceException {
+    AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+    return partition.multiGet(keys);
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
     partition.getByKeyPrefix(partialKey, bytesStreamingCallback);
@@ -451,6 +488,11 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     return partition.getReplicationMetadata(key);
   }
 
+  public List<byte[]> multiGetReplicationMetadata(int partitionId, List<ByteBuffer> keys) {
+    AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+    return partition.multiGetReplicationMetadata(keys);
+  }
+
   /**
    * Put the offset associated with the partitionId into the metadata partition.
    */
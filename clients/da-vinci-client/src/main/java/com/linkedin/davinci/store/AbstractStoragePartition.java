@@ -3,7 +3,10 @@ package com.linkedin.davinci.store;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -64,6 +67,20 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get the values of a batch of keys from the partition database.
+   * @param keys keys to be retrieved
+   * @return a list aligned with the provided keys, which contains null for the keys which do not exist.
+   */
+  public List<byte[]> multiGet(List<ByteBuffer> keys) {
+    // Naive default impl issues one lookup per key... only storage engines that support batched lookups override it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      values.add(get(ByteUtils.extractByteArray(key)));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -170,6 +187,18 @@ public abstract class AbstractStoragePartition {
     throw new VeniceUnsupportedOperationException("getReplicationMetadata");
   }
 
+  /**
+   * Batched counterpart of {@link #getReplicationMetadata(byte[])}.
+   * @return a list aligned with the provided keys, which contains null for the keys without replication metadata.
+   */
+  public List<byte[]> multiGetReplicationMetadata(List<ByteBuffer> keys) {
+    List<byte[]> replicationMetadataList = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      replicationMetadataList.add(getReplicationMetadata(ByteUtils.extractByteArray(key)));
+    }
+    return replicationMetadataList;
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    * Only {@link ReplicationMetadataRocksDBStoragePartition} will execute this method,
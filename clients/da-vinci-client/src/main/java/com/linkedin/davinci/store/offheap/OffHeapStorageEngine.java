@@ -0,0 +1,54 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import java.util.Collections;
+import java.util.Set;
+
+
+/**
+ * A non-persistent storage engine which keeps the data in direct memory, see {@link OffHeapStoragePartition}.
+ */
+public class OffHeapStorageEngine extends AbstractStorageEngine<OffHeapStoragePartition> {
+  private final int slabSize;
+
+  public OffHeapStorageEngine(VeniceStoreVersionConfig storeDef) {
+    super(
+        storeDef.getStoreVersionName(),
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    this.slabSize = storeDef.getOffHeapStorageSlabSizeInBytes();
+    restoreStoragePartitions();
+  }
+
+  @Override
+  public PersistenceType getType() {
+    return PersistenceType.OFF_HEAP;
+  }
+
+  @Override
+  protected Set<Integer> getPersistedPartitionIds() {
+    // Nothing is persisted
+    return Collections.emptySet();
+  }
+
+  @Override
+  public OffHeapStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
+    return new OffHeapStoragePartition(storagePartitionConfig.getPartitionId(), slabSize);
+  }
+
+  /**
+   * @return the direct memory allocated by the data partitions.
+   */
+  @Override
+  public synchronized long getStoreSizeInBytes() {
+    long size = 0;
+    for (int partitionId: getPartitionIds()) {
+      size += ((OffHeapStoragePartition) getPartitionOrThrow(partitionId)).getAllocatedBytes();
+    }
+    return size;
+  }
+}
@@ -0,0 +1,49 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.venice.exceptions.StorageInitializationException;
+import com.linkedin.venice.meta.PersistenceType;
+import java.util.Collections;
+import java.util.Set;
+
+
+public class OffHeapStorageEngineFactory extends StorageEngineFactory {
+  @Override
+  public AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
+      throws StorageInitializationException {
+    verifyPersistenceType(storeConfig);
+    try {
+      return new OffHeapStorageEngine(storeConfig);
+    } catch (Exception e) {
+      throw new StorageInitializationException(e);
+    }
+  }
+
+  @Override
+  public Set<String> getPersistedStoreNames() {
+    // Nothing to restore here, since the data doesn't survive restarts.
+    return Collections.emptySet();
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do here since we are not tracking specific created environments.
+  }
+
+  @Override
+  public void removeStorageEngine(AbstractStorageEngine engine) {
+    // Nothing to do here since the memory is released when the storage engine is dropped.
+  }
+
+  @Override
+  public void closeStorageEngine(AbstractStorageEngine engine) {
+    // Nothing to do here since the memory is released when the storage engine is closed.
+  }
+
+  @Override
+  public PersistenceType getPersistenceType() {
+    return PersistenceType.OFF_HEAP;
+  }
+}
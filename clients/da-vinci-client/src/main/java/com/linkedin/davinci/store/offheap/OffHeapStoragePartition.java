@@ -0,0 +1,462 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A storage partition which keeps the records in slabs of direct memory, so that the data doesn't add any GC
+ * pressure, and which indexes them with an open-addressing hash table of record addresses.
+ *
+ * Every record is appended to the current slab as [key hash][key length][value length][key][value], and it is never
+ * modified afterwards: an update appends a new record and swaps the address in the index, while a delete replaces
+ * the address by a tombstone. Readers don't take any lock: they read the index and the slabs through the {@link Table}
+ * published in a volatile field, and a record is always fully written before its address is published.
+ *
+ * The writes are expected to come from a single ingestion thread, like with the other storage engines, but they are
+ * still serialized with the monitor of the partition. The space of the overwritten and deleted records is reclaimed
+ * by compacting the live records into new slabs once they account for less than half of the allocated memory. The
+ * old slabs are then released by the GC once the readers which might still use them are done, since there is no
+ * explicit de-allocation.
+ *
+ * The data is not persisted anywhere, so the partition is empty after a restart.
+ */
+public class OffHeapStoragePartition extends AbstractStoragePartition {
+  static final int RECORD_HEADER_SIZE = 3 * Integer.BYTES;
+  static final int MIN_INDEX_CAPACITY = 16;
+  private static final double MAX_INDEX_LOAD_FACTOR = 0.75;
+
+  private static final long EMPTY = 0;
+  private static final long TOMBSTONE = -1;
+  /**
+   * Returned by the lookups which found an address in a slab which was added after the lookup read the table,
+   * and which should be retried with the latest table. It is never stored in the index.
+   */
+  private static final long RETRY = -2;
+
+  private final int slabSize;
+
+  private volatile Table table = newEmptyTable();
+
+  /**
+   * The following fields are only used by the writer.
+   */
+  private ByteBuffer currentSlab;
+  private int usedIndexSlots;
+  private int recordCount;
+  private long allocatedBytes;
+
+  /**
+   * The total size of the live records, which is updated by the writer and read by the stats.
+   */
+  private volatile long liveBytes;
+
+  public OffHeapStoragePartition(Integer partitionId, int slabSize) {
+    super(partitionId);
+    if (slabSize <= RECORD_HEADER_SIZE) {
+      throw new VeniceException("Invalid slab size: " + slabSize + " for off-heap storage partition: " + partitionId);
+    }
+    this.slabSize = slabSize;
+  }
+
+  /**
+   * The index and the slabs, which are published together so that a reader always sees the slabs of the addresses
+   * it reads from the index, except for the slabs added after it read the table, which is detected with
+   * {@link #RETRY}.
+   */
+  private static final class Table {
+    final AtomicLongArray index;
+    final int mask;
+    final ByteBuffer[] slabs;
+
+    Table(AtomicLongArray index, ByteBuffer[] slabs) {
+      this.index = index;
+      this.mask = index.length() - 1;
+      this.slabs = slabs;
+    }
+
+    /**
+     * @return the address of the record with the given key, {@link #EMPTY} if it doesn't exist, or {@link #RETRY}.
+     */
+    long find(byte[] key, int offset, int length, int hash) {
+      for (int i = hash & mask;; i = (i + 1) & mask) {
+        long address = index.get(i);
+        if (address == EMPTY) {
+          return EMPTY;
+        }
+        if (address == TOMBSTONE) {
+          continue;
+        }
+        ByteBuffer slab = getSlab(address);
+        if (slab == null) {
+          return RETRY;
+        }
+        if (keyEquals(slab, getOffset(address), key, offset, length, hash)) {
+          return address;
+        }
+      }
+    }
+
+    ByteBuffer getSlab(long address) {
+      int slabIndex = (int) (address >>> 32) - 1;
+      return slabIndex < slabs.length ? slabs[slabIndex] : null;
+    }
+  }
+
+  private static Table newEmptyTable() {
+    return new Table(new AtomicLongArray(MIN_INDEX_CAPACITY), new ByteBuffer[0]);
+  }
+
+  static int hash(byte[] key, int offset, int length) {
+    int hash = 1;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + key[i];
+    }
+    // Spread the bits of the hash, since the index only uses its lowest bits.
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    hash ^= hash >>> 13;
+    hash *= 0xC2B2AE35;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int getOffset(long address) {
+    return (int) address;
+  }
+
+  private static long toAddress(int slabIndex, int offset) {
+    // The slab index is shifted by one so that no address is equal to EMPTY or TOMBSTONE.
+    return ((long) (slabIndex + 1) << 32) | offset;
+  }
+
+  private static boolean keyEquals(ByteBuffer slab, int recordOffset, byte[] key, int offset, int length, int hash) {
+    if (slab.getInt(recordOffset) != hash || slab.getInt(recordOffset + Integer.BYTES) != length) {
+      return false;
+    }
+    int keyOffset = recordOffset + RECORD_HEADER_SIZE;
+    for (int i = 0; i < length; i++) {
+      if (slab.get(keyOffset + i) != key[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int getRecordSize(ByteBuffer slab, int recordOffset) {
+    int keyLength = slab.getInt(recordOffset + Integer.BYTES);
+    return RECORD_HEADER_SIZE + keyLength + slab.getInt(recordOffset + 2 * Integer.BYTES);
+  }
+
+  /**
+   * @return a view of the key or the value of the record, which doesn't modify the slab itself.
+   */
+  private static ByteBuffer slice(ByteBuffer slab, int recordOffset, boolean value) {
+    int keyLength = slab.getInt(recordOffset + Integer.BYTES);
+    int position = recordOffset + RECORD_HEADER_SIZE + (value ? keyLength : 0);
+    int length = value ? slab.getInt(recordOffset + 2 * Integer.BYTES) : keyLength;
+    ByteBuffer view = slab.duplicate();
+    view.position(position);
+    view.limit(position + length);
+    return view;
+  }
+
+  private static byte[] toByteArray(ByteBuffer view) {
+    byte[] bytes = new byte[view.remaining()];
+    view.get(bytes);
+    return bytes;
+  }
+
+  private ByteBuffer findValue(byte[] key, int offset, int length) {
+    int hash = hash(key, offset, length);
+    while (true) {
+      Table currentTable = table;
+      long address = currentTable.find(key, offset, length, hash);
+      if (address == EMPTY) {
+        return null;
+      }
+      if (address != RETRY) {
+        return slice(currentTable.getSlab(address), getOffset(address), true);
+      }
+    }
+  }
+
+  @Override
+  public byte[] get(byte[] key) {
+    ByteBuffer value = findValue(key, 0, key.length);
+    return value == null ? null : toByteArray(value);
+  }
+
+  /**
+   * Copies the value straight from the slab into the given buffer, which is only re-allocated if it is too small.
+   */
+  @Override
+  public ByteBuffer get(byte[] key, ByteBuffer valueToBePopulated) {
+    ByteBuffer value = findValue(key, 0, key.length);
+    if (value == null) {
+      return null;
+    }
+    if (value.remaining() > valueToBePopulated.capacity()) {
+      valueToBePopulated = ByteBuffer.allocate(value.remaining());
+    }
+    valueToBePopulated.clear();
+    valueToBePopulated.put(value);
+    valueToBePopulated.flip();
+    return valueToBePopulated;
+  }
+
+  @Override
+  public byte[] get(ByteBuffer key) {
+    if (key.hasArray()) {
+      ByteBuffer value = findValue(key.array(), key.arrayOffset() + key.position(), key.remaining());
+      return value == null ? null : toByteArray(value);
+    }
+    return get(ByteUtils.extractByteArray(key));
+  }
+
+  @Override
+  public <K, V> V get(K key) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  /**
+   * The records are returned in the order of the index, and not in the order of the keys.
+   */
+  @Override
+  public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    Table currentTable = table;
+    for (int i = 0; i < currentTable.index.length(); i++) {
+      long address = currentTable.index.get(i);
+      if (address == EMPTY || address == TOMBSTONE) {
+        continue;
+      }
+      ByteBuffer slab = currentTable.getSlab(address);
+      if (slab == null) {
+        // The record was written after the iteration started.
+        continue;
+      }
+      ByteBuffer key = slice(slab, getOffset(address), false);
+      if (keyPrefix == null || startsWith(key, keyPrefix)) {
+        callback.onRecordReceived(toByteArray(key), toByteArray(slice(slab, getOffset(address), true)));
+      }
+    }
+    callback.onCompletion();
+  }
+
+  private static boolean startsWith(ByteBuffer key, byte[] keyPrefix) {
+    if (key.remaining() < keyPrefix.length) {
+      return false;
+    }
+    for (int i = 0; i < keyPrefix.length; i++) {
+      if (key.get(key.position() + i) != keyPrefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    put(key, ByteBuffer.wrap(value));
+  }
+
+  @Override
+  public synchronized void put(byte[] key, ByteBuffer value) {
+    int hash = hash(key, 0, key.length);
+    int recordSize = RECORD_HEADER_SIZE + key.length + value.remaining();
+    long address = append(hash, key, value, recordSize);
+    Table currentTable = table;
+    int slot = findSlotForWrite(currentTable, key, hash);
+    long previousAddress = currentTable.index.get(slot);
+    currentTable.index.set(slot, address);
+    if (previousAddress == EMPTY || previousAddress == TOMBSTONE) {
+      if (previousAddress == EMPTY) {
+        usedIndexSlots++;
+      }
+      recordCount++;
+      liveBytes += recordSize;
+    } else {
+      liveBytes += recordSize - getRecordSize(currentTable.getSlab(previousAddress), getOffset(previousAddress));
+    }
+    maybeRebuild();
+  }
+
+  @Override
+  public <K, V> void put(K key, V value) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public synchronized void delete(byte[] key) {
+    Table currentTable = table;
+    int slot = findSlotForWrite(currentTable, key, hash(key, 0, key.length));
+    long address = currentTable.index.get(slot);
+    if (address == EMPTY || address == TOMBSTONE) {
+      return;
+    }
+    currentTable.index.set(slot, TOMBSTONE);
+    recordCount--;
+    liveBytes -= getRecordSize(currentTable.getSlab(address), getOffset(address));
+    maybeRebuild();
+  }
+
+  /**
+   * @return the slot of the given key if it exists, otherwise the first free slot of its probing sequence.
+   */
+  private int findSlotForWrite(Table currentTable, byte[] key, int hash) {
+    int firstTombstone = -1;
+    for (int i = hash & currentTable.mask;; i = (i + 1) & currentTable.mask) {
+      long address = currentTable.index.get(i);
+      if (address == EMPTY) {
+        return firstTombstone == -1 ? i : firstTombstone;
+      }
+      if (address == TOMBSTONE) {
+        if (firstTombstone == -1) {
+          firstTombstone = i;
+        }
+      } else if (keyEquals(currentTable.getSlab(address), getOffset(address), key, 0, key.length, hash)) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * Appends the record to the current slab, allocating a new slab if needed, which is published before the record
+   * address so that the readers can always find it.
+   */
+  private long append(int hash, byte[] key, ByteBuffer value, int recordSize) {
+    if (currentSlab == null || currentSlab.remaining() < recordSize) {
+      addSlab(recordSize);
+    }
+    int offset = currentSlab.position();
+    currentSlab.putInt(hash).putInt(key.length).putInt(value.remaining()).put(key).put(value.duplicate());
+    return toAddress(table.slabs.length - 1, offset);
+  }
+
+  private void addSlab(int minSize) {
+    ByteBuffer slab = ByteBuffer.allocateDirect(Math.max(slabSize, minSize));
+    allocatedBytes += slab.capacity();
+    Table currentTable = table;
+    ByteBuffer[] slabs = Arrays.copyOf(currentTable.slabs, currentTable.slabs.length + 1);
+    // The readers only use absolute reads on the published slab, while the writer appends through its own view.
+    slabs[slabs.length - 1] = slab;
+    currentSlab = slab.duplicate();
+    table = new Table(currentTable.index, slabs);
+  }
+
+  /**
+   * Grows the index when it is too full, and compacts the slabs when most of their content is garbage. A new
+   * {@link Table} is built on the side and published at once, so that the readers are not blocked.
+   */
+  private void maybeRebuild() {
+    Table currentTable = table;
+    boolean indexFull = usedIndexSlots > currentTable.index.length() * MAX_INDEX_LOAD_FACTOR;
+    // The free space at the end of the current slab is going to be used by the next records.
+    long garbageBytes = allocatedBytes - liveBytes - (currentSlab == null ? 0 : currentSlab.remaining());
+    boolean compact = garbageBytes > slabSize && garbageBytes > liveBytes;
+    if (!indexFull && !compact) {
+      return;
+    }
+    int capacity = MIN_INDEX_CAPACITY;
+    while (capacity * MAX_INDEX_LOAD_FACTOR < recordCount * 2L) {
+      capacity <<= 1;
+    }
+    AtomicLongArray newIndex = new AtomicLongArray(capacity);
+    List<ByteBuffer> newSlabs = compact ? new ArrayList<>() : new ArrayList<>(Arrays.asList(currentTable.slabs));
+    ByteBuffer newCurrentSlab = compact ? null : currentSlab;
+    long newAllocatedBytes = compact ? 0 : allocatedBytes;
+    for (int i = 0; i < currentTable.index.length(); i++) {
+      long address = currentTable.index.get(i);
+      if (address == EMPTY || address == TOMBSTONE) {
+        continue;
+      }
+      ByteBuffer slab = currentTable.getSlab(address);
+      int recordOffset = getOffset(address);
+      int hash = slab.getInt(recordOffset);
+      if (compact) {
+        int recordSize = getRecordSize(slab, recordOffset);
+        if (newCurrentSlab == null || newCurrentSlab.remaining() < recordSize) {
+          ByteBuffer newSlab = ByteBuffer.allocateDirect(Math.max(slabSize, recordSize));
+          newAllocatedBytes += newSlab.capacity();
+          newSlabs.add(newSlab);
+          newCurrentSlab = newSlab.duplicate();
+        }
+        ByteBuffer record = slab.duplicate();
+        record.position(recordOffset);
+        record.limit(recordOffset + recordSize);
+        address = toAddress(newSlabs.size() - 1, newCurrentSlab.position());
+        newCurrentSlab.put(record);
+      }
+      int slot = hash & (capacity - 1);
+      while (newIndex.get(slot) != EMPTY) {
+        slot = (slot + 1) & (capacity - 1);
+      }
+      newIndex.set(slot, address);
+    }
+    if (compact) {
+      logger.info(
+          "Compacted off-heap storage partition: {} from {} to {} bytes",
+          partitionId,
+          allocatedBytes,
+          newAllocatedBytes);
+    }
+    currentSlab = newCurrentSlab;
+    allocatedBytes = newAllocatedBytes;
+    usedIndexSlots = recordCount;
+    table = new Table(newIndex, newSlabs.toArray(new ByteBuffer[0]));
+  }
+
+  /**
+   * @return the size of the direct memory allocated for the records, including the garbage not compacted yet.
+   */
+  public synchronized long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  @Override
+  public Map<String, String> sync() {
+    // no-op
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public synchronized void drop() {
+    currentSlab = null;
+    usedIndexSlots = 0;
+    recordCount = 0;
+    allocatedBytes = 0;
+    liveBytes = 0;
+    table = newEmptyTable();
+  }
+
+  /**
+   * The data can't be re-opened after closing, so the memory is released right away.
+   */
+  @Override
+  public void close() {
+    drop();
+  }
+
+  @Override
+  public boolean verifyConfig(StoragePartitionConfig storagePartitionConfig) {
+    // no need to do any special check
+    return true;
+  }
+
+  /**
+   * @return the size of the live records, i.e. keys, values and record headers.
+   */
+  @Override
+  public long getPartitionSizeInBytes() {
+    return liveBytes;
+  }
+}
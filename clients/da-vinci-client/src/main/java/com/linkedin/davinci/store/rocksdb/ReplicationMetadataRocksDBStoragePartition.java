@@ -6,12 +6,16 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.WriteBatch;
@@ -146,6 +150,29 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
   }
 
+  @Override
+  public List<byte[]> multiGetReplicationMetadata(List<ByteBuffer> keys) {
+    List<byte[]> keyList = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      keyList.add(ByteUtils.extractByteArray(key));
+    }
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      // RocksDB expects one column family handle per key.
+      List<ColumnFamilyHandle> columnFamilyHandles =
+          Collections.nCopies(keyList.size(), columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX));
+      return rocksDB.multiGetAsList(READ_OPTIONS_DEFAULT, columnFamilyHandles, keyList);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to get replication metadata of " + keys.size() + " keys from store: " + storeName
+              + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    */
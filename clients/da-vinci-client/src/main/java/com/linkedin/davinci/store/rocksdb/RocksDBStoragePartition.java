@@ -8,6 +8,7 @@ import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import java.io.File;
 import java.nio.ByteBuffer;
@@ -475,6 +476,30 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Looks up all the keys with a single native MultiGet call, which amortizes the JNI overhead across the batch
+   * and lets RocksDB look up the blocks of the same SST file together instead of key by key.
+   */
+  @Override
+  public List<byte[]> multiGet(List<ByteBuffer> keys) {
+    List<byte[]> keyList = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      keyList.add(ByteUtils.extractByteArray(key));
+    }
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      return rocksDB.multiGetAsList(READ_OPTIONS_DEFAULT, keyList);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to get values of " + keys.size() + " keys from store: " + storeName + ", partition id: "
+              + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   @Override
   public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
     if (keyPrefix != null && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
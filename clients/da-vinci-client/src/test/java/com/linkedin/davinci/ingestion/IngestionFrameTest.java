@@ -0,0 +1,57 @@
+package com.linkedin.davinci.ingestion;
+
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class IngestionFrameTest {
+  @Test
+  public void testActionEncoding() {
+    for (IngestionAction action: IngestionAction.values()) {
+      Assert.assertEquals(IngestionFrame.decodeAction(IngestionFrame.encodeAction(action)), action);
+    }
+    Assert.assertNull(IngestionFrame.decodeAction(IngestionFrame.REPORT_BATCH));
+    Assert.assertNull(IngestionFrame.decodeAction((byte) -1));
+  }
+
+  @Test
+  public void testBatchEncoding() {
+    List<byte[]> items = Arrays.asList("report1".getBytes(), new byte[0], "report2".getBytes());
+    List<byte[]> decodedItems = IngestionFrame.decodeBatch(IngestionFrame.encodeBatch(items));
+    Assert.assertEquals(decodedItems.size(), items.size());
+    for (int i = 0; i < items.size(); i++) {
+      Assert.assertEquals(decodedItems.get(i), items.get(i));
+    }
+  }
+
+  @Test
+  public void testFrameCodec() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    IngestionFrameCodec.addFrameHandlers(channel.pipeline());
+    byte[] payload = "payload".getBytes();
+    Assert.assertTrue(channel.writeOutbound(new IngestionFrame(42, IngestionFrame.REPORT_BATCH, payload)));
+    // The length field might be written as a separate buffer.
+    CompositeByteBuf encoded = Unpooled.compositeBuffer();
+    for (ByteBuf buf = channel.readOutbound(); buf != null; buf = channel.readOutbound()) {
+      encoded.addComponent(true, buf);
+    }
+    // [int frame length][int request id][byte type][payload]
+    Assert.assertEquals(encoded.readableBytes(), Integer.BYTES + Integer.BYTES + 1 + payload.length);
+
+    // Feed the frame in two halves, to make sure that it is only decoded once complete.
+    Assert.assertFalse(channel.writeInbound(encoded.readRetainedSlice(5)));
+    Assert.assertTrue(channel.writeInbound(encoded));
+    IngestionFrame decoded = channel.readInbound();
+    Assert.assertEquals(decoded.getRequestId(), 42);
+    Assert.assertEquals(decoded.getType(), IngestionFrame.REPORT_BATCH);
+    Assert.assertEquals(decoded.getPayload(), payload);
+    Assert.assertFalse(channel.finish());
+  }
+}
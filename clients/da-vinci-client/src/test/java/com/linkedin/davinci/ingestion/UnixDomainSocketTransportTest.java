@@ -0,0 +1,308 @@
+package com.linkedin.davinci.ingestion;
+
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.createIngestionTaskReport;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.deserializeIngestionActionRequest;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.getDummyCommand;
+import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.serializeIngestionActionResponse;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_ACL_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SSL_ENABLED;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServer;
+import com.linkedin.davinci.ingestion.isolated.IsolatedIngestionServerFrameHandler;
+import com.linkedin.davinci.ingestion.main.MainIngestionMonitorService;
+import com.linkedin.davinci.ingestion.main.MainIngestionReportFrameHandler;
+import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
+import com.linkedin.davinci.notifier.VeniceNotifier;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskCommand;
+import com.linkedin.venice.ingestion.protocol.IngestionTaskReport;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionAction;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionCommandType;
+import com.linkedin.venice.ingestion.protocol.enums.IngestionReportType;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.Utils;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests the round trip of the {@link UnixDomainSocketTransport} with the server side frame handlers, over a real epoll
+ * Unix domain socket.
+ */
+public class UnixDomainSocketTransportTest {
+  private static final int TIMEOUT_IN_MILLIS = 60_000;
+  private static final int REQUEST_TIMEOUT_IN_SECONDS = 10;
+  private static final String TOPIC = "test_store_v1";
+
+  private File socketDirectory;
+  private String socketPath;
+  private EventLoopGroup serverEventLoopGroup;
+  private Channel serverChannel;
+  private ChannelGroup acceptedChannels;
+  private AtomicInteger connectionCount;
+  // Frames received by the server, in order.
+  private List<IngestionFrame> receivedFrames;
+
+  @BeforeMethod
+  public void setUp() {
+    if (!Epoll.isAvailable()) {
+      throw new SkipException("Native epoll is not available on this platform.");
+    }
+    socketDirectory = Utils.getTempDataDirectory();
+    socketPath = new File(socketDirectory, "test.sock").getAbsolutePath();
+    serverEventLoopGroup = new EpollEventLoopGroup(1);
+    acceptedChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    connectionCount = new AtomicInteger();
+    receivedFrames = new CopyOnWriteArrayList<>();
+  }
+
+  @AfterMethod(alwaysRun = true)
+  public void cleanUp() throws InterruptedException {
+    if (serverChannel != null) {
+      serverChannel.close().sync();
+      serverChannel = null;
+    }
+    if (serverEventLoopGroup != null) {
+      serverEventLoopGroup.shutdownGracefully().sync();
+      serverEventLoopGroup = null;
+    }
+    if (socketDirectory != null) {
+      FileUtils.deleteQuietly(socketDirectory);
+      socketDirectory = null;
+    }
+  }
+
+  @Test(timeOut = TIMEOUT_IN_MILLIS)
+  public void testResponsesAreMatchedByRequestId() throws Exception {
+    // Answer the requests in the reverse order, once both of them have been received.
+    startServer(() -> new SimpleChannelInboundHandler<IngestionFrame>() {
+      private final List<IngestionFrame> heldFrames = new ArrayList<>();
+
+      @Override
+      protected void channelRead0(ChannelHandlerContext ctx, IngestionFrame frame) {
+        heldFrames.add(frame);
+        if (heldFrames.size() < 2) {
+          return;
+        }
+        Collections.reverse(heldFrames);
+        for (IngestionFrame heldFrame: heldFrames) {
+          IngestionTaskCommand command =
+              deserializeIngestionActionRequest(IngestionAction.COMMAND, heldFrame.getPayload());
+          IngestionTaskReport report = createIngestionTaskReport(command.topicName.toString(), command.partitionId);
+          ctx.writeAndFlush(
+              new IngestionFrame(
+                  heldFrame.getRequestId(),
+                  IngestionFrame.STATUS_OK,
+                  serializeIngestionActionResponse(IngestionAction.COMMAND, report)));
+        }
+        heldFrames.clear();
+      }
+    });
+
+    try (UnixDomainSocketTransport transport = new UnixDomainSocketTransport(socketPath, REQUEST_TIMEOUT_IN_SECONDS)) {
+      List<CompletableFuture<IngestionTaskReport>> responseFutures = new ArrayList<>();
+      for (int partition = 0; partition < 2; partition++) {
+        IngestionTaskCommand command = createCommand(IngestionCommandType.IS_PARTITION_CONSUMING, partition);
+        responseFutures.add(
+            CompletableFuture.supplyAsync(
+                () -> transport.sendRequest(IngestionAction.COMMAND, command, REQUEST_TIMEOUT_IN_SECONDS)));
+      }
+      for (int partition = 0; partition < 2; partition++) {
+        IngestionTaskReport report = responseFutures.get(partition).get();
+        Assert.assertEquals(report.topicName.toString(), TOPIC);
+        Assert.assertEquals(report.partitionId, partition);
+      }
+    }
+    Assert.assertEquals(receivedFrames.size(), 2);
+    Assert.assertNotEquals(receivedFrames.get(0).getRequestId(), receivedFrames.get(1).getRequestId());
+  }
+
+  @Test(timeOut = TIMEOUT_IN_MILLIS)
+  public void testErrorFrame() {
+    IsolatedIngestionServer isolatedIngestionServer = mock(IsolatedIngestionServer.class);
+    startServer(() -> new IsolatedIngestionServerFrameHandler(isolatedIngestionServer));
+
+    try (UnixDomainSocketTransport transport = new UnixDomainSocketTransport(socketPath, REQUEST_TIMEOUT_IN_SECONDS)) {
+      // The server is not initialized yet, so the request fails on the server side.
+      VeniceException exception = Assert.expectThrows(
+          VeniceException.class,
+          () -> transport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand(), REQUEST_TIMEOUT_IN_SECONDS));
+      Assert.assertTrue(exception.getMessage().contains("not initialized"), exception.getMessage());
+
+      // An error frame doesn't close the connection, which serves the next requests.
+      doReturn(true).when(isolatedIngestionServer).isInitiated();
+      transport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand(), REQUEST_TIMEOUT_IN_SECONDS);
+      verify(isolatedIngestionServer).updateHeartbeatTime();
+    }
+    Assert.assertEquals(receivedFrames.size(), 2);
+    Assert.assertEquals(connectionCount.get(), 1);
+  }
+
+  @Test(timeOut = TIMEOUT_IN_MILLIS)
+  public void testReconnectAfterServerClosesConnection() throws InterruptedException {
+    IsolatedIngestionServer isolatedIngestionServer = mock(IsolatedIngestionServer.class);
+    doReturn(true).when(isolatedIngestionServer).isInitiated();
+    startServer(() -> new IsolatedIngestionServerFrameHandler(isolatedIngestionServer));
+
+    try (UnixDomainSocketTransport transport = new UnixDomainSocketTransport(socketPath, REQUEST_TIMEOUT_IN_SECONDS)) {
+      transport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand());
+      Assert.assertEquals(acceptedChannels.size(), 1);
+
+      // Closing the connection on the server side, as a restarted isolated ingestion process would do.
+      acceptedChannels.close().sync();
+      // The request is retried until the transport has reconnected.
+      transport.sendRequest(IngestionAction.HEARTBEAT, getDummyCommand());
+      verify(isolatedIngestionServer, times(2)).updateHeartbeatTime();
+      Assert.assertEquals(acceptedChannels.size(), 1);
+      Assert.assertEquals(connectionCount.get(), 2);
+    }
+  }
+
+  @Test(timeOut = TIMEOUT_IN_MILLIS)
+  public void testReportsAreSentInBatches() {
+    MainIngestionMonitorService mainIngestionMonitorService = mock(MainIngestionMonitorService.class);
+    VeniceNotifier notifier = mock(VeniceNotifier.class);
+    doReturn(Collections.singletonList(notifier)).when(mainIngestionMonitorService).getIngestionNotifier();
+    doReturn(Collections.emptyList()).when(mainIngestionMonitorService).getPushStatusNotifierList();
+    startServer(() -> new MainIngestionReportFrameHandler(mainIngestionMonitorService));
+
+    try (UnixDomainSocketTransport transport = new UnixDomainSocketTransport(socketPath, REQUEST_TIMEOUT_IN_SECONDS)) {
+      // Small reports fit in a single batch.
+      List<IngestionTaskReport> reports = new ArrayList<>();
+      for (int partition = 0; partition < 10; partition++) {
+        reports.add(createIngestionTaskReport(IngestionReportType.STARTED, TOPIC, partition));
+      }
+      transport.sendReports(reports);
+      Assert.assertEquals(receivedFrames.size(), 1);
+      Assert.assertEquals(receivedFrames.get(0).getType(), IngestionFrame.REPORT_BATCH);
+      for (int partition = 0; partition < 10; partition++) {
+        verify(notifier).started(TOPIC, partition);
+      }
+
+      // Reports which don't fit in a single batch are split in several ones, in order.
+      char[] largeMessage = new char[600 * 1024];
+      Arrays.fill(largeMessage, 'a');
+      reports.clear();
+      for (int partition = 10; partition < 13; partition++) {
+        reports.add(
+            createIngestionTaskReport(IngestionReportType.PROGRESS, TOPIC, partition, 1, new String(largeMessage)));
+      }
+      transport.sendReports(reports);
+      Assert.assertEquals(receivedFrames.size(), 4);
+      for (int partition = 10; partition < 13; partition++) {
+        List<byte[]> batch = IngestionFrame.decodeBatch(receivedFrames.get(partition - 9).getPayload());
+        Assert.assertEquals(batch.size(), 1);
+        IngestionTaskReport report = deserializeIngestionActionRequest(IngestionAction.REPORT, batch.get(0));
+        Assert.assertEquals(report.partitionId, partition);
+        verify(notifier).progress(TOPIC, partition, 1);
+      }
+    }
+  }
+
+  @Test
+  public void testFallbackToHttpTransport() {
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(System.getProperty("java.io.tmpdir")).when(serverConfig).getIngestionIsolationUnixDomainSocketDirectory();
+    VeniceConfigLoader configLoader = mock(VeniceConfigLoader.class);
+    doReturn(serverConfig).when(configLoader).getVeniceServerConfig();
+    doReturn(new PropertyBuilder().build()).when(configLoader).getCombinedProperties();
+
+    // Disabled by default.
+    Assert.assertFalse(IsolatedIngestionUtils.isUnixDomainSocketTransportEnabled(configLoader));
+    assertTransportClass(configLoader, HttpClientTransport.class);
+
+    // Enabled, as long as native epoll is available.
+    doReturn(true).when(serverConfig).isIngestionIsolationUnixDomainSocketEnabled();
+    Assert.assertEquals(IsolatedIngestionUtils.isUnixDomainSocketTransportEnabled(configLoader), Epoll.isAvailable());
+    assertTransportClass(
+        configLoader,
+        Epoll.isAvailable() ? UnixDomainSocketTransport.class : HttpClientTransport.class);
+
+    // Sockets support neither SSL nor ACL.
+    doReturn(new PropertyBuilder().put(SERVER_INGESTION_ISOLATION_SSL_ENABLED, true).build()).when(configLoader)
+        .getCombinedProperties();
+    Assert.assertFalse(IsolatedIngestionUtils.isUnixDomainSocketTransportEnabled(configLoader));
+    assertTransportClass(configLoader, HttpClientTransport.class);
+
+    doReturn(new PropertyBuilder().put(SERVER_INGESTION_ISOLATION_ACL_ENABLED, true).build()).when(configLoader)
+        .getCombinedProperties();
+    Assert.assertFalse(IsolatedIngestionUtils.isUnixDomainSocketTransportEnabled(configLoader));
+    assertTransportClass(configLoader, HttpClientTransport.class);
+  }
+
+  private void assertTransportClass(
+      VeniceConfigLoader configLoader,
+      Class<? extends IngestionRequestTransport> expectedClass) {
+    try (IngestionRequestTransport transport = IsolatedIngestionUtils
+        .createIngestionRequestTransport(configLoader, Optional.empty(), 12345, REQUEST_TIMEOUT_IN_SECONDS)) {
+      Assert.assertEquals(transport.getClass(), expectedClass);
+    }
+  }
+
+  private void startServer(Supplier<ChannelHandler> frameHandlerSupplier) {
+    serverChannel = new ServerBootstrap().group(serverEventLoopGroup)
+        .channel(EpollServerDomainSocketChannel.class)
+        .childHandler(new ChannelInitializer<EpollDomainSocketChannel>() {
+          @Override
+          protected void initChannel(EpollDomainSocketChannel ch) {
+            connectionCount.incrementAndGet();
+            acceptedChannels.add(ch);
+            IngestionFrameCodec.addFrameHandlers(ch.pipeline());
+            ch.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+              @Override
+              public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                receivedFrames.add((IngestionFrame) msg);
+                ctx.fireChannelRead(msg);
+              }
+            }).addLast(frameHandlerSupplier.get());
+          }
+        })
+        .bind(new DomainSocketAddress(socketPath))
+        .syncUninterruptibly()
+        .channel();
+  }
+
+  private static IngestionTaskCommand createCommand(IngestionCommandType commandType, int partition) {
+    IngestionTaskCommand command = new IngestionTaskCommand();
+    command.commandType = commandType.getValue();
+    command.topicName = TOPIC;
+    command.partitionId = partition;
+    return command;
+  }
+}
@@ -23,13 +23,13 @@ public class MainIngestionRequestClientTest {
       IngestionTaskReport taskReport = new IngestionTaskReport();
       taskReport.setMessage("TEST MSG");
       when(mockedClientTransport.sendRequestWithRetry(any(), any(), anyInt())).thenReturn(taskReport);
-      client.setHttpClientTransport(mockedClientTransport);
+      client.setClientTransport(mockedClientTransport);
       // leader promotion should return false on execution failure on forked process.
       Assert.assertFalse(client.promoteToLeader("dummyTopic", 1));
       Assert.assertFalse(client.startConsumption("dummyTopic", 1));
 
       HttpClientTransport mockedBadClientTransport = Mockito.mock(HttpClientTransport.class);
-      client.setHttpClientTransport(mockedBadClientTransport);
+      client.setClientTransport(mockedBadClientTransport);
 
       // Ingestion request command should throw exception when failing to send command to forked process.
       when(mockedBadClientTransport.sendRequestWithRetry(any(), any(), anyInt()))
@@ -29,7 +29,7 @@ public class TestMainIngestionRequestClient {
       reportWithExceptionThrow.isPositive = false;
       reportWithExceptionThrow.exceptionThrown = true;
       when(mockTransport.sendRequestWithRetry(any(), any(), anyInt())).thenReturn(reportWithExceptionThrow);
-      ingestionRequestClient.setHttpClientTransport(mockTransport);
+      ingestionRequestClient.setClientTransport(mockTransport);
       Assert.assertThrows(() -> ingestionRequestClient.startConsumption(topicName, partitionId));
       // Client should return false when isolated process rejects command execution.
       IngestionTaskReport reportWithNegativeResponse = new IngestionTaskReport();
@@ -30,6 +30,8 @@ import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
@@ -47,6 +49,9 @@ import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterOptions;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -55,6 +60,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
 import org.testng.Assert;
@@ -331,14 +337,67 @@ public class ActiveActiveStoreIngestionTaskTest {
         AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion(),
         0);
     byte[] topLevelKey3 = keyWithChunkingSuffixSerializer.serializeNonChunkedKey(key3);
-    byte[] chunkedKey1InKey3 = chunkedKeyWithSuffix1.array();
-    byte[] chunkedKey2InKey3 = chunkedKeyWithSuffix2.array();
 
     when(storageEngine.getReplicationMetadata(subPartition, topLevelKey3)).thenReturn(chunkedManifestWithSchemaBytes);
-    when(storageEngine.getReplicationMetadata(subPartition, chunkedKey1InKey3)).thenReturn(chunkedValue1);
-    when(storageEngine.getReplicationMetadata(subPartition, chunkedKey2InKey3)).thenReturn(chunkedValue2);
+    // The chunks are fetched with a single batched lookup.
+    when(storageEngine.multiGetReplicationMetadata(subPartition, chunkedValueManifest.keysWithChunkIdSuffix))
+        .thenReturn(Arrays.asList(chunkedValue1, chunkedValue2));
     byte[] result3 = ingestionTask.getRmdWithValueSchemaByteBufferFromStorage(subPartition, key3);
     Assert.assertNotNull(result3);
     Assert.assertEquals(result3, expectedChunkedValue2);
   }
+
+  @Test
+  public void testPrefetchedRecordsAreInvalidatedBySubPartitionWrites() {
+    String realTimeTopic = Version.composeRealTimeTopic("testStore");
+    int amplificationFactor = 2;
+    byte[] leaderKey = "foo".getBytes();
+    byte[] otherKey = "bar".getBytes();
+    byte[] otherKeyWithTransientRecord = "ljl".getBytes();
+    byte[] value = new byte[] { 1, 2, 3 };
+    byte[] rmd = new byte[] { 4, 5, 6 };
+
+    OffsetRecord offsetRecord = mock(OffsetRecord.class);
+    when(offsetRecord.isEndOfPushReceived()).thenReturn(true);
+    PartitionConsumptionState leaderPcs = new PartitionConsumptionState(0, amplificationFactor, offsetRecord, true);
+    PartitionConsumptionState otherPcs = new PartitionConsumptionState(1, amplificationFactor, offsetRecord, true);
+    otherPcs.setTransientRecord(-1, 1, otherKeyWithTransientRecord, 1, null);
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    when(storageEngine.multiGet(anyInt(), any())).thenReturn(Collections.singletonList(value));
+    when(storageEngine.multiGetReplicationMetadata(anyInt(), any())).thenReturn(Collections.singletonList(rmd));
+    ActiveActiveStoreIngestionTask ingestionTask = mock(ActiveActiveStoreIngestionTask.class);
+    when(ingestionTask.getAmplificationFactor()).thenReturn(amplificationFactor);
+    when(ingestionTask.getPartitionConsumptionState(0)).thenReturn(leaderPcs);
+    when(ingestionTask.getPartitionConsumptionState(1)).thenReturn(otherPcs);
+    when(ingestionTask.getSubPartitionId(eq(leaderKey), anyString(), anyInt())).thenReturn(0);
+    when(ingestionTask.getSubPartitionId(eq(otherKey), anyString(), anyInt())).thenReturn(1);
+    when(ingestionTask.getSubPartitionId(eq(otherKeyWithTransientRecord), anyString(), anyInt())).thenReturn(1);
+    when(ingestionTask.getStorageEngine()).thenReturn(storageEngine);
+    when(ingestionTask.isChunked()).thenReturn(false);
+    when(ingestionTask.getHostLevelIngestionStats()).thenReturn(mock(HostLevelIngestionStats.class));
+    doCallRealMethod().when(ingestionTask).prefetchRecords(any(), any(), any());
+
+    List<ConsumerRecord<KafkaKey, KafkaMessageEnvelope>> records = new ArrayList<>();
+    for (byte[] key: new byte[][] { leaderKey, otherKey, otherKeyWithTransientRecord }) {
+      records.add(new ConsumerRecord<>(realTimeTopic, 0, records.size(), new KafkaKey(MessageType.PUT, key), null));
+    }
+    PrefetchedRecords prefetchedRecords = new PrefetchedRecords();
+    ingestionTask.prefetchRecords(records, new TopicPartition(realTimeTopic, 0), prefetchedRecords);
+
+    Assert.assertEquals(prefetchedRecords.get(leaderKey).getTopLevelValue(), value);
+    Assert.assertEquals(prefetchedRecords.get(otherKey).getTopLevelReplicationMetadata(), rmd);
+    // The transient record of a key is checked in the state of its own subpartition.
+    Assert.assertNull(prefetchedRecords.get(otherKeyWithTransientRecord));
+    verify(storageEngine).multiGet(1, Collections.singletonList(ByteBuffer.wrap(otherKey)));
+
+    // A write of a key invalidates its prefetched record through the state of its own subpartition.
+    otherPcs.setTransientRecord(-1, 2, otherKey, 1, null);
+    Assert.assertNull(prefetchedRecords.get(otherKey));
+    Assert.assertNotNull(prefetchedRecords.get(leaderKey));
+    leaderPcs.setTransientRecord(-1, 3, leaderKey, 1, null);
+    Assert.assertNull(prefetchedRecords.get(leaderKey));
+
+    prefetchedRecords.unregister();
+  }
 }
@@ -0,0 +1,76 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.offsets.OffsetRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class PrefetchedRecordsTest {
+  @Test
+  public void testReserveAndComplete() {
+    PrefetchedRecords prefetchedRecords = new PrefetchedRecords();
+    byte[] key = new byte[] { 65, 66, 67 };
+    byte[] value = new byte[] { 97, 98, 99 };
+    byte[] rmd = new byte[] { 1, 2, 3 };
+
+    Assert.assertTrue(prefetchedRecords.isEmpty());
+    Assert.assertTrue(prefetchedRecords.reserve(key));
+    // The same key can only be reserved once per batch.
+    Assert.assertFalse(prefetchedRecords.reserve(new byte[] { 65, 66, 67 }));
+    Assert.assertFalse(prefetchedRecords.isEmpty());
+    // A reserved key is not served until its lookup completes.
+    Assert.assertNull(prefetchedRecords.get(key));
+
+    prefetchedRecords.complete(key, value, rmd);
+    PrefetchedRecords.PrefetchedRecord prefetchedRecord = prefetchedRecords.get(key);
+    Assert.assertNotNull(prefetchedRecord);
+    Assert.assertEquals(prefetchedRecord.getTopLevelValue(), value);
+    Assert.assertEquals(prefetchedRecord.getTopLevelReplicationMetadata(), rmd);
+
+    // Keys which do not exist in the storage engine are prefetched as well.
+    byte[] missingKey = new byte[] { 65, 66, 68 };
+    Assert.assertTrue(prefetchedRecords.reserve(missingKey));
+    prefetchedRecords.complete(missingKey, null, null);
+    Assert.assertNotNull(prefetchedRecords.get(missingKey));
+    Assert.assertNull(prefetchedRecords.get(missingKey).getTopLevelValue());
+
+    // Keys which were not reserved are never completed.
+    byte[] unknownKey = new byte[] { 65, 66, 69 };
+    prefetchedRecords.complete(unknownKey, value, rmd);
+    Assert.assertNull(prefetchedRecords.get(unknownKey));
+  }
+
+  @Test
+  public void testInvalidationByTransientRecord() {
+    PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
+    PrefetchedRecords prefetchedRecords = new PrefetchedRecords();
+    byte[] key1 = new byte[] { 65, 66, 67 };
+    byte[] key2 = new byte[] { 65, 66, 68 };
+    byte[] value = new byte[] { 97, 98, 99 };
+
+    prefetchedRecords.reserve(key1);
+    prefetchedRecords.reserve(key2);
+    prefetchedRecords.registerTo(pcs);
+
+    // A write which happens after the lookup invalidates the prefetched record.
+    prefetchedRecords.complete(key1, value, null);
+    pcs.setTransientRecord(-1, 1, key1, 1, null);
+    Assert.assertNull(prefetchedRecords.get(key1));
+
+    // A write which races with the lookup wins over the result of the lookup.
+    pcs.setTransientRecord(-1, 2, key2, 1, null);
+    prefetchedRecords.complete(key2, value, null);
+    Assert.assertNull(prefetchedRecords.get(key2));
+
+    // Once unregistered, the writes of the partition do not touch the prefetched records anymore.
+    PrefetchedRecords nextBatch = new PrefetchedRecords();
+    nextBatch.reserve(key1);
+    nextBatch.registerTo(pcs);
+    nextBatch.complete(key1, value, null);
+    nextBatch.unregister();
+    pcs.setTransientRecord(-1, 3, key1, 1, null);
+    Assert.assertNotNull(nextBatch.get(key1));
+  }
+}
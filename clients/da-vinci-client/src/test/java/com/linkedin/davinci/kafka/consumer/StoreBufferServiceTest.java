@@ -1,5 +1,6 @@
 package com.linkedin.davinci.kafka.consumer;
 
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -184,4 +185,54 @@ public class StoreBufferServiceTest {
     bufferService.stop();
   }
 
+  @Test
+  public void testAdaptiveDrainerAssignment() throws Exception {
+    // The rebalances are triggered by the test.
+    StoreBufferService bufferService = new StoreBufferService(2, 10000, 1000, true, Long.MAX_VALUE, 1.5);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    String topic = Utils.getUniqueString("test_topic");
+    // Both partitions are hashed to the same drainer.
+    int hotPartition = 1;
+    int coldPartition = 3;
+    String kafkaUrl = "blah";
+    ConsumerRecord<KafkaKey, KafkaMessageEnvelope> hotRecord1 =
+        new ConsumerRecord<>(topic, hotPartition, 1, null, null);
+    ConsumerRecord<KafkaKey, KafkaMessageEnvelope> hotRecord2 =
+        new ConsumerRecord<>(topic, hotPartition, 2, null, null);
+    ConsumerRecord<KafkaKey, KafkaMessageEnvelope> coldRecord1 =
+        new ConsumerRecord<>(topic, coldPartition, 1, null, null);
+    ConsumerRecord<KafkaKey, KafkaMessageEnvelope> coldRecord2 =
+        new ConsumerRecord<>(topic, coldPartition, 2, null, null);
+    int hashedDrainer = bufferService.getDrainerIndexForConsumerRecord(hotRecord1, hotPartition);
+    Assert.assertEquals(bufferService.getDrainerIndexForConsumerRecord(coldRecord1, coldPartition), hashedDrainer);
+    doAnswer(invocation -> {
+      Utils.sleep(50);
+      return null;
+    }).when(mockTask).processConsumerRecord(hotRecord1, null, kafkaUrl, 0L);
+    doAnswer(invocation -> {
+      Utils.sleep(10);
+      return null;
+    }).when(mockTask).processConsumerRecord(coldRecord1, null, kafkaUrl, 0L);
+
+    bufferService.start();
+    bufferService.putConsumerRecord(hotRecord1, mockTask, null, hotPartition, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(coldRecord1, mockTask, null, coldPartition, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(hotRecord2, mockTask, null, hotPartition, kafkaUrl, 0L);
+    // Once the last record is processed, the drainer is done with the first two.
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(hotRecord2, null, kafkaUrl, 0L);
+
+    bufferService.rebalanceDrainers();
+    Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(hashedDrainer), 2);
+    Assert.assertEquals(bufferService.getDrainerAssignedPartitionCount(1 - hashedDrainer), 0);
+    Assert.assertEquals(bufferService.getDrainerLoadImbalance(), 2.0);
+    // Moving the hot partition wouldn't help, so the cold partition is moved on its next record.
+    Assert.assertEquals(bufferService.getPartitionMoveCount(), 0);
+    bufferService.putConsumerRecord(coldRecord2, mockTask, null, coldPartition, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(coldRecord2, null, kafkaUrl, 0L);
+    Assert.assertEquals(bufferService.getPartitionMoveCount(), 1);
+    Assert.assertEquals(bufferService.getDrainerIndexForConsumerRecord(coldRecord2, coldPartition), 1 - hashedDrainer);
+    Assert.assertEquals(bufferService.getDrainerIndexForConsumerRecord(hotRecord2, hotPartition), hashedDrainer);
+    bufferService.internalDrainBufferedRecordsFromTopicPartition(topic, coldPartition, 3, 50);
+    bufferService.stop();
+  }
 }
@@ -0,0 +1,32 @@
+package com.linkedin.davinci.listener.response;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ReadPhaseTimingsTest {
+  @Test
+  public void testTimings() {
+    ReadPhaseTimings timings = new ReadPhaseTimings();
+    Assert.assertEquals(timings.toTrace(), "");
+
+    timings.add(ReadPhase.QUEUE_WAIT, 12_000);
+    timings.add(ReadPhase.STORAGE_LOOKUP, 100_000);
+    timings.add(ReadPhase.STORAGE_LOOKUP, 150_999);
+    timings.add(ReadPhase.RESPONSE_ENCODING, 31_000);
+    Assert.assertEquals(timings.get(ReadPhase.STORAGE_LOOKUP), 250_999);
+    Assert.assertEquals(timings.get(ReadPhase.COMPUTE), 0);
+    // The phases which the request didn't go through are left out of the trace.
+    Assert.assertEquals(timings.toTrace(), "queue_wait=12,storage_lookup=250,response_encoding=31");
+
+    // The response write is only recorded once, and only if it was started.
+    timings.endResponseWrite();
+    Assert.assertEquals(timings.get(ReadPhase.RESPONSE_WRITE), 0);
+    timings.startResponseWrite();
+    timings.endResponseWrite();
+    long responseWriteLatencyInNS = timings.get(ReadPhase.RESPONSE_WRITE);
+    Assert.assertTrue(responseWriteLatencyInNS >= 0);
+    timings.endResponseWrite();
+    Assert.assertEquals(timings.get(ReadPhase.RESPONSE_WRITE), responseWriteLatencyInNS);
+  }
+}
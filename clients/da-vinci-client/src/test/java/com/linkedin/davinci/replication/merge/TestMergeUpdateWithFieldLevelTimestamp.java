@@ -198,6 +198,92 @@ public class TestMergeUpdateWithFieldLevelTimestamp extends TestMergeConflictRes
     Assert.assertEquals(newValueRecord.get("intArray"), Arrays.asList(10, 20, 30, 40));
   }
 
+  @Test
+  public void testNonCollectionFieldUpdate() {
+    final int valueSchemaId = 3;
+    final int writeComputeSchemaId = 3;
+
+    GenericRecord oldValueRecord = SchemaUtils.createGenericRecord(personSchemaV2);
+    oldValueRecord.put("age", 30);
+    oldValueRecord.put("favoritePet", "Cat");
+    oldValueRecord.put("name", "Kafka");
+    oldValueRecord.put("intArray", Arrays.asList(1, 2, 3));
+    oldValueRecord.put("stringArray", Arrays.asList("a", "b"));
+    ByteBuffer oldValueBytes = ByteBuffer.wrap(getSerializer(personSchemaV2).serialize(oldValueRecord));
+
+    Map<String, Long> fieldNameToTimestampMap = new HashMap<>();
+    fieldNameToTimestampMap.put("age", 10L);
+    fieldNameToTimestampMap.put("favoritePet", 10L);
+    fieldNameToTimestampMap.put("name", 20L);
+    fieldNameToTimestampMap.put("intArray", 10L);
+    fieldNameToTimestampMap.put("stringArray", 10L);
+    GenericRecord rmdRecord = createRmdWithFieldLevelTimestamp(personRmdSchemaV2, fieldNameToTimestampMap);
+
+    Schema writeComputeSchema = WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(personSchemaV2);
+    ReadOnlySchemaRepository readOnlySchemaRepository = mock(ReadOnlySchemaRepository.class);
+    doReturn(new DerivedSchemaEntry(valueSchemaId, writeComputeSchemaId, writeComputeSchema))
+        .when(readOnlySchemaRepository)
+        .getDerivedSchema(storeName, valueSchemaId, writeComputeSchemaId);
+    doReturn(new SchemaEntry(valueSchemaId, personSchemaV2)).when(readOnlySchemaRepository)
+        .getValueSchema(storeName, valueSchemaId);
+    doReturn(Optional.of(new SchemaEntry(valueSchemaId, personSchemaV2))).when(readOnlySchemaRepository)
+        .getSupersetSchema(storeName);
+    MergeConflictResolver mergeConflictResolver = MergeConflictResolverFactory.getInstance()
+        .createMergeConflictResolver(
+            readOnlySchemaRepository,
+            new RmdSerDe(readOnlySchemaRepository, storeName, RMD_VERSION_ID),
+            storeName);
+
+    // The update of "age" wins, and the update of "name" loses because of the field timestamps.
+    GenericRecord partialUpdateRecord = new UpdateBuilderImpl(writeComputeSchema).setNewFieldValue("age", 66)
+        .setNewFieldValue("name", "Venice")
+        .build();
+    MergeConflictResult mergeConflictResult = mergeConflictResolver.update(
+        Lazy.of(() -> oldValueBytes),
+        Optional.of(new RmdWithValueSchemaId(valueSchemaId, RMD_VERSION_ID, rmdRecord)),
+        ByteBuffer.wrap(getSerializer(writeComputeSchema).serialize(partialUpdateRecord)),
+        valueSchemaId,
+        writeComputeSchemaId,
+        15L,
+        1,
+        0,
+        1);
+
+    Assert.assertFalse(mergeConflictResult.isUpdateIgnored());
+    Assert.assertEquals(mergeConflictResult.getValueSchemaId(), valueSchemaId);
+    oldValueRecord.put("age", 66);
+    Assert.assertEquals(
+        mergeConflictResult.getNewValue().get(),
+        ByteBuffer.wrap(getSerializer(personSchemaV2).serialize(oldValueRecord)));
+    GenericRecord updatedRmd = mergeConflictResult.getRmdRecord();
+    Assert.assertEquals((List<?>) updatedRmd.get(RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD), Arrays.asList(1L));
+    GenericRecord rmdTimestamp = (GenericRecord) updatedRmd.get(RmdConstants.TIMESTAMP_FIELD_NAME);
+    Assert.assertEquals(rmdTimestamp.get("age"), 15L);
+    Assert.assertEquals(rmdTimestamp.get("favoritePet"), 10L);
+    Assert.assertEquals(rmdTimestamp.get("name"), 20L);
+
+    // A timestamp tie on "name" is resolved by comparing the old and the new field values.
+    partialUpdateRecord = new UpdateBuilderImpl(writeComputeSchema).setNewFieldValue("name", "Zookeeper").build();
+    ByteBuffer updatedValueBytes = mergeConflictResult.getNewValue().get();
+    mergeConflictResult = mergeConflictResolver.update(
+        Lazy.of(() -> updatedValueBytes),
+        Optional.of(new RmdWithValueSchemaId(valueSchemaId, RMD_VERSION_ID, updatedRmd)),
+        ByteBuffer.wrap(getSerializer(writeComputeSchema).serialize(partialUpdateRecord)),
+        valueSchemaId,
+        writeComputeSchemaId,
+        20L,
+        2,
+        0,
+        1);
+
+    Assert.assertFalse(mergeConflictResult.isUpdateIgnored());
+    GenericRecord newValueRecord =
+        getDeserializer(personSchemaV2, personSchemaV2).deserialize(mergeConflictResult.getNewValue().get());
+    Assert.assertEquals(newValueRecord.get("age"), 66);
+    Assert.assertEquals(newValueRecord.get("name").toString(), "Zookeeper");
+    Assert.assertEquals(newValueRecord.get("intArray"), Arrays.asList(1, 2, 3));
+  }
+
   @Test
   public void testCollectionMerge() {
     final int incomingValueSchemaId = 3;
@@ -0,0 +1,141 @@
+package com.linkedin.davinci.replication.merge.helper;
+
+import com.linkedin.venice.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.venice.schema.merge.IndexedCollectionFieldOpHandler;
+import com.linkedin.venice.schema.merge.SortBasedCollectionFieldOpHandler;
+import com.linkedin.venice.schema.merge.UpdateResultStatus;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Runs all the {@link ListCollectionMergeTest} cases against {@link IndexedCollectionFieldOpHandler}.
+ */
+public class IndexedListCollectionMergeTest extends ListCollectionMergeTest {
+  @Override
+  protected SortBasedCollectionFieldOpHandler createHandlerToTest() {
+    return new IndexedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+  }
+
+  /**
+   * Leaders in different regions could run either handler, so the indexed handler must produce exactly the same
+   * results as the sort-based one for operations with any timestamps, including the ones which are older than the
+   * current state of the list.
+   */
+  @Test
+  public void testSameResultAsSortBasedHandler() {
+    for (int seed = 0; seed < 50; seed++) {
+      verifySameResultAsSortBasedHandler(new Random(seed));
+    }
+  }
+
+  private void verifySameResultAsSortBasedHandler(Random random) {
+    SortBasedCollectionFieldOpHandler sortBasedHandler =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+    SortBasedCollectionFieldOpHandler indexedHandler = createHandlerToTest();
+    GenericRecord expectedValueRecord = createValueRecord();
+    GenericRecord valueRecord = createValueRecord();
+    CollectionRmdTimestamp<Object> expectedCollectionRmd = createCollectionRmd();
+    CollectionRmdTimestamp<Object> collectionRmd = createCollectionRmd();
+
+    List<Object> initialList = randomElements(random, 30);
+    sortBasedHandler.handlePutList(
+        1L,
+        COLO_ID_1,
+        new ArrayList<>(initialList),
+        expectedCollectionRmd,
+        expectedValueRecord,
+        LIST_FIELD_NAME);
+    indexedHandler
+        .handlePutList(1L, COLO_ID_1, new ArrayList<>(initialList), collectionRmd, valueRecord, LIST_FIELD_NAME);
+
+    for (int i = 0; i < 300; i++) {
+      long timestamp = 1L + random.nextInt(120);
+      int coloId = COLO_ID_1 + random.nextInt(3);
+      int operationType = random.nextInt(100);
+      UpdateResultStatus expectedStatus;
+      UpdateResultStatus status;
+      if (operationType < 2) {
+        expectedStatus = sortBasedHandler
+            .handleDeleteList(timestamp, coloId, expectedCollectionRmd, expectedValueRecord, LIST_FIELD_NAME);
+        status = indexedHandler.handleDeleteList(timestamp, coloId, collectionRmd, valueRecord, LIST_FIELD_NAME);
+      } else if (operationType < 5) {
+        List<Object> newList = randomElements(random, random.nextInt(20));
+        expectedStatus = sortBasedHandler.handlePutList(
+            timestamp,
+            coloId,
+            new ArrayList<>(newList),
+            expectedCollectionRmd,
+            expectedValueRecord,
+            LIST_FIELD_NAME);
+        status = indexedHandler
+            .handlePutList(timestamp, coloId, new ArrayList<>(newList), collectionRmd, valueRecord, LIST_FIELD_NAME);
+      } else {
+        List<Object> toAddElements = randomElements(random, random.nextInt(6));
+        List<Object> toRemoveElements = randomElements(random, random.nextInt(4));
+        try {
+          expectedStatus = sortBasedHandler.handleModifyList(
+              timestamp,
+              expectedCollectionRmd,
+              expectedValueRecord,
+              LIST_FIELD_NAME,
+              new ArrayList<>(toAddElements),
+              new ArrayList<>(toRemoveElements));
+        } catch (RuntimeException e) {
+          // The indexed handler leaves the states which break the sort-based handler to it.
+          Assert.assertThrows(
+              e.getClass(),
+              () -> indexedHandler.handleModifyList(
+                  timestamp,
+                  collectionRmd,
+                  valueRecord,
+                  LIST_FIELD_NAME,
+                  new ArrayList<>(toAddElements),
+                  new ArrayList<>(toRemoveElements)));
+          return;
+        }
+        status = indexedHandler.handleModifyList(
+            timestamp,
+            collectionRmd,
+            valueRecord,
+            LIST_FIELD_NAME,
+            new ArrayList<>(toAddElements),
+            new ArrayList<>(toRemoveElements));
+      }
+
+      Assert.assertEquals(status, expectedStatus);
+      Assert.assertEquals(valueRecord.get(LIST_FIELD_NAME), expectedValueRecord.get(LIST_FIELD_NAME));
+      Assert.assertEquals(collectionRmd, expectedCollectionRmd);
+      if (random.nextInt(3) == 0) {
+        // Deserialized lists are linked lists.
+        toDeserializedForm(expectedValueRecord, expectedCollectionRmd);
+        toDeserializedForm(valueRecord, collectionRmd);
+      }
+    }
+  }
+
+  private static void toDeserializedForm(GenericRecord valueRecord, CollectionRmdTimestamp<Object> collectionRmd) {
+    List<Object> list = (List<Object>) valueRecord.get(LIST_FIELD_NAME);
+    if (list != null) {
+      valueRecord.put(LIST_FIELD_NAME, new LinkedList<>(list));
+    }
+    collectionRmd.setActiveElementTimestamps(new LinkedList<>(collectionRmd.getActiveElementTimestamps()));
+    collectionRmd.setDeletedElementsAndTimestamps(
+        new LinkedList<>(collectionRmd.getDeletedElements()),
+        new LinkedList<>(collectionRmd.getDeletedElementTimestamps()));
+  }
+
+  private static List<Object> randomElements(Random random, int count) {
+    List<Object> elements = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      elements.add(random.nextInt(40));
+    }
+    return elements;
+  }
+}
@@ -0,0 +1,157 @@
+package com.linkedin.davinci.replication.merge.helper;
+
+import com.linkedin.venice.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.venice.schema.merge.IndexedCollectionFieldOpHandler;
+import com.linkedin.venice.schema.merge.SortBasedCollectionFieldOpHandler;
+import com.linkedin.venice.schema.merge.UpdateResultStatus;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import com.linkedin.venice.utils.IndexedHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Runs all the {@link MapCollectionMergeTest} cases against {@link IndexedCollectionFieldOpHandler}.
+ */
+public class IndexedMapCollectionMergeTest extends MapCollectionMergeTest {
+  @Override
+  protected SortBasedCollectionFieldOpHandler createHandlerToTest() {
+    return new IndexedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+  }
+
+  /**
+   * Leaders in different regions could run either handler, so the indexed handler must produce exactly the same
+   * results as the sort-based one for operations with any timestamps and values, including the ones which are older
+   * than the current state of the map. Map deletes are left out, since the sort-based handler does not keep the map
+   * consistent with its timestamps when it deletes a map in the collection-merge state.
+   */
+  @Test
+  public void testSameResultAsSortBasedHandler() {
+    for (int seed = 0; seed < 50; seed++) {
+      verifySameResultAsSortBasedHandler(new Random(seed));
+    }
+  }
+
+  private void verifySameResultAsSortBasedHandler(Random random) {
+    SortBasedCollectionFieldOpHandler sortBasedHandler =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+    SortBasedCollectionFieldOpHandler indexedHandler = createHandlerToTest();
+    GenericRecord expectedValueRecord = createValueRecord();
+    GenericRecord valueRecord = createValueRecord();
+    CollectionRmdTimestamp<String> expectedCollectionRmd = createCollectionRmd();
+    CollectionRmdTimestamp<String> collectionRmd = createCollectionRmd();
+
+    IndexedHashMap<String, Object> initialMap = randomMap(random, 30);
+    sortBasedHandler.handlePutMap(
+        1L,
+        COLO_ID_1,
+        new IndexedHashMap<>(initialMap),
+        expectedCollectionRmd,
+        expectedValueRecord,
+        MAP_FIELD_NAME);
+    indexedHandler
+        .handlePutMap(1L, COLO_ID_1, new IndexedHashMap<>(initialMap), collectionRmd, valueRecord, MAP_FIELD_NAME);
+
+    for (int i = 0; i < 300; i++) {
+      long timestamp = 1L + random.nextInt(120);
+      UpdateResultStatus expectedStatus;
+      UpdateResultStatus status;
+      if (random.nextInt(100) < 3) {
+        int coloId = COLO_ID_1 + random.nextInt(3);
+        IndexedHashMap<String, Object> newMap = randomMap(random, random.nextInt(20));
+        expectedStatus = sortBasedHandler.handlePutMap(
+            timestamp,
+            coloId,
+            new IndexedHashMap<>(newMap),
+            expectedCollectionRmd,
+            expectedValueRecord,
+            MAP_FIELD_NAME);
+        status = indexedHandler
+            .handlePutMap(timestamp, coloId, new IndexedHashMap<>(newMap), collectionRmd, valueRecord, MAP_FIELD_NAME);
+      } else {
+        Map<String, Object> newEntries = randomMap(random, random.nextInt(6));
+        List<String> toRemoveKeys = new ArrayList<>();
+        for (int j = random.nextInt(4); j > 0; j--) {
+          toRemoveKeys.add(randomKey(random));
+        }
+        try {
+          expectedStatus = sortBasedHandler.handleModifyMap(
+              timestamp,
+              expectedCollectionRmd,
+              expectedValueRecord,
+              MAP_FIELD_NAME,
+              new HashMap<>(newEntries),
+              new ArrayList<>(toRemoveKeys));
+        } catch (RuntimeException e) {
+          // The indexed handler leaves the states which break the sort-based handler to it.
+          Assert.assertThrows(
+              e.getClass(),
+              () -> indexedHandler.handleModifyMap(
+                  timestamp,
+                  collectionRmd,
+                  valueRecord,
+                  MAP_FIELD_NAME,
+                  new HashMap<>(newEntries),
+                  new ArrayList<>(toRemoveKeys)));
+          return;
+        }
+        status = indexedHandler.handleModifyMap(
+            timestamp,
+            collectionRmd,
+            valueRecord,
+            MAP_FIELD_NAME,
+            new HashMap<>(newEntries),
+            new ArrayList<>(toRemoveKeys));
+      }
+
+      Assert.assertEquals(status, expectedStatus);
+      IndexedHashMap<String, Object> expectedMap =
+          (IndexedHashMap<String, Object>) expectedValueRecord.get(MAP_FIELD_NAME);
+      IndexedHashMap<String, Object> map = (IndexedHashMap<String, Object>) valueRecord.get(MAP_FIELD_NAME);
+      if (expectedMap == null) {
+        Assert.assertNull(map);
+      } else {
+        Assert.assertEquals(map.size(), expectedMap.size());
+        for (int j = 0; j < map.size(); j++) {
+          Assert.assertEquals(map.getByIndex(j), expectedMap.getByIndex(j));
+        }
+      }
+      Assert.assertEquals(collectionRmd, expectedCollectionRmd);
+      if (random.nextInt(3) == 0) {
+        // Deserialized deleted keys are Utf8, while the keys of the map are String.
+        toDeserializedForm(expectedCollectionRmd);
+        toDeserializedForm(collectionRmd);
+      }
+    }
+  }
+
+  private static void toDeserializedForm(CollectionRmdTimestamp<String> collectionRmd) {
+    List deletedKeys = new LinkedList<>();
+    for (Object deletedKey: collectionRmd.getDeletedElements()) {
+      deletedKeys.add(new Utf8(deletedKey.toString()));
+    }
+    collectionRmd.setActiveElementTimestamps(new LinkedList<>(collectionRmd.getActiveElementTimestamps()));
+    collectionRmd
+        .setDeletedElementsAndTimestamps(deletedKeys, new LinkedList<>(collectionRmd.getDeletedElementTimestamps()));
+  }
+
+  private static IndexedHashMap<String, Object> randomMap(Random random, int size) {
+    IndexedHashMap<String, Object> map = new IndexedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      map.put(randomKey(random), random.nextInt(1000));
+    }
+    return map;
+  }
+
+  private static String randomKey(Random random) {
+    return "k" + random.nextInt(40);
+  }
+}
@@ -66,19 +66,9 @@ public class SortBasedCollectionFieldOperationHandlerTestBase {
     List<List<CollectionOperation>> allOpSequences = builder.build();
     LOGGER.info("All operation sequences: {}", allOpSequences);
 
-    GenericRecord currValueRecord = new GenericData.Record(VALUE_SCHEMA);
-    CollectionTimestampBuilder collectionTimestampBuilder =
-        new CollectionTimestampBuilder(Schema.create(Schema.Type.LONG));
-    collectionTimestampBuilder.setTopLevelColoID(1);
-    collectionTimestampBuilder.setPutOnlyPartLength(0);
-    collectionTimestampBuilder.setTopLevelTimestamps(0);
-    collectionTimestampBuilder.setActiveElementsTimestamps(new LinkedList<>());
-    collectionTimestampBuilder.setDeletedElementTimestamps(new LinkedList<>());
-    collectionTimestampBuilder.setDeletedElements(Schema.create(Schema.Type.LONG), new LinkedList<>());
-    collectionTimestampBuilder.setCollectionTimestampSchema(RMD_TIMESTAMP_SCHEMA.getField(LIST_FIELD_NAME).schema());
-    CollectionRmdTimestamp collectionMetadata = new CollectionRmdTimestamp(collectionTimestampBuilder.build());
-    SortBasedCollectionFieldOpHandler handlerToTest =
-        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+    GenericRecord currValueRecord = createValueRecord();
+    CollectionRmdTimestamp collectionMetadata = createCollectionRmd();
+    SortBasedCollectionFieldOpHandler handlerToTest = createHandlerToTest();
 
     GenericRecord prevValueRecord = null;
     CollectionRmdTimestamp prevCollectionRmd = null;
@@ -136,6 +126,27 @@ public class SortBasedCollectionFieldOperationHandlerTestBase {
     }
   }
 
+  protected static GenericRecord createValueRecord() {
+    return new GenericData.Record(VALUE_SCHEMA);
+  }
+
+  protected static CollectionRmdTimestamp createCollectionRmd() {
+    CollectionTimestampBuilder collectionTimestampBuilder =
+        new CollectionTimestampBuilder(Schema.create(Schema.Type.LONG));
+    collectionTimestampBuilder.setTopLevelColoID(1);
+    collectionTimestampBuilder.setPutOnlyPartLength(0);
+    collectionTimestampBuilder.setTopLevelTimestamps(0);
+    collectionTimestampBuilder.setActiveElementsTimestamps(new LinkedList<>());
+    collectionTimestampBuilder.setDeletedElementTimestamps(new LinkedList<>());
+    collectionTimestampBuilder.setDeletedElements(Schema.create(Schema.Type.LONG), new LinkedList<>());
+    collectionTimestampBuilder.setCollectionTimestampSchema(RMD_TIMESTAMP_SCHEMA.getField(LIST_FIELD_NAME).schema());
+    return new CollectionRmdTimestamp(collectionTimestampBuilder.build());
+  }
+
+  protected SortBasedCollectionFieldOpHandler createHandlerToTest() {
+    return new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+  }
+
   private void validateMapsEqual(Map<String, ?> m1, Map<String, ?> m2) {
     if (m1 instanceof IndexedHashMap && m2 instanceof IndexedHashMap) {
       if (!mapsEqual((IndexedHashMap<String, ?>) m1, (IndexedHashMap<String, ?>) m2)) {
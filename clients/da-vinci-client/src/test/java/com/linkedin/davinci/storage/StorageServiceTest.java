@@ -0,0 +1,97 @@
+package com.linkedin.davinci.storage;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_DB_OPEN_OPERATION_THROTTLE;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORAGE_RESTORE_PARALLELISM;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.venice.exceptions.VeniceNoStoreException;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class StorageServiceTest {
+  private static final int STORE_COUNT = 3;
+  private static final int PARTITION_COUNT = 5;
+
+  @DataProvider(name = "Restore-Parallelism")
+  public static Object[][] restoreParallelism() {
+    return new Object[][] { { 1 }, { 4 } };
+  }
+
+  @Test(dataProvider = "Restore-Parallelism")
+  public void testRestoreAllStores(int parallelism) throws Exception {
+    Properties properties = new Properties();
+    properties.put(SERVER_STORAGE_RESTORE_PARALLELISM, Integer.toString(parallelism));
+    properties.put(ROCKSDB_DB_OPEN_OPERATION_THROTTLE, "4");
+    VeniceProperties serverProps = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doThrow(new VeniceNoStoreException("")).when(storeRepository).getStoreOrThrow(anyString());
+
+    Set<String> topics = new HashSet<>();
+    StorageService storageService = createStorageService(serverProps, storeRepository);
+    for (int i = 0; i < STORE_COUNT; i++) {
+      String topic = Version.composeKafkaTopic(Utils.getUniqueString("restore_test_store"), 1);
+      topics.add(topic);
+      VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(topic, serverProps, PersistenceType.ROCKS_DB);
+      for (int partitionId = 0; partitionId < PARTITION_COUNT; partitionId++) {
+        AbstractStorageEngine storageEngine =
+            storageService.openStoreForNewPartition(storeConfig, partitionId, () -> null);
+        storageEngine.put(partitionId, getKey(partitionId), getValue(topic, partitionId));
+      }
+    }
+    storageService.stop();
+
+    storageService = createStorageService(serverProps, storeRepository);
+    try {
+      Assert.assertEquals(storageService.getRestoredStoreCount(), STORE_COUNT);
+      Assert.assertEquals(storageService.getRestoredPartitionCount(), STORE_COUNT * PARTITION_COUNT);
+      for (String topic: topics) {
+        AbstractStorageEngine storageEngine = storageService.getStorageEngine(topic);
+        Assert.assertNotNull(storageEngine);
+        Assert.assertEquals(storageEngine.getPartitionIds().size(), PARTITION_COUNT);
+        Assert.assertTrue(storageEngine.getPartitionIdsToRestore().isEmpty());
+        for (int partitionId = 0; partitionId < PARTITION_COUNT; partitionId++) {
+          Assert.assertEquals(storageEngine.get(partitionId, getKey(partitionId)), getValue(topic, partitionId));
+        }
+      }
+    } finally {
+      storageService.stop();
+    }
+  }
+
+  private static StorageService createStorageService(
+      VeniceProperties serverProps,
+      ReadOnlyStoreRepository storeRepository) {
+    return new StorageService(
+        AbstractStorageEngineTest.getVeniceConfigLoader(serverProps),
+        mock(AggVersionedStorageEngineStats.class),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        storeRepository);
+  }
+
+  private static byte[] getKey(int partitionId) {
+    return ("key_" + partitionId).getBytes();
+  }
+
+  private static byte[] getValue(String topic, int partitionId) {
+    return (topic + "_" + partitionId).getBytes();
+  }
+}
@@ -5,8 +5,10 @@ import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
+import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.memory.InMemoryStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
@@ -16,8 +18,10 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
@@ -152,17 +156,23 @@ public class ChunkingTest {
     return paramsToReturn;
   }
 
-  private void runTest(
-      GenericRecord record,
-      AbstractAvroChunkingAdapter chunkingAdapter,
-      Function<Object, Void> assertions) {
-    int partition = 9;
-    String storeName = "test";
-    byte[] keyBytes = ByteUtils.fromHexString("040647454ff4baf2630a5449544c45440010494d504c49434954");
-    byte[] serializeNonChunkedKey = ByteUtils.fromHexString("040647454ff4baf2630a5449544c45440010494d504c494349540200");
-    Schema schema = record.getSchema();
+  private static final int PARTITION = 9;
+  private static final String STORE_NAME = "test";
+  private static final byte[] KEY_BYTES =
+      ByteUtils.fromHexString("040647454ff4baf2630a5449544c45440010494d504c49434954");
+  private static final byte[] SERIALIZED_NON_CHUNKED_KEY =
+      ByteUtils.fromHexString("040647454ff4baf2630a5449544c45440010494d504c494349540200");
+  private static final byte[] FIRST_CHUNK_KEY = ByteUtils.fromHexString(
+      "040647454FF4BAF2630A5449544C45440010494D504C494349540036EB0A5300374C6A9C5EEBB468C58E4300CE984E0001");
+  private static final byte[] SECOND_CHUNK_KEY = ByteUtils.fromHexString(
+      "040647454FF4BAF2630A5449544C45440010494D504C494349540036EB0A5300374C6A9C5EEBB468C58E4300CE984E0201");
 
-    byte[] serializedRecord = SerializerDeserializerFactory.getAvroGenericSerializer(schema).serialize(record);
+  /**
+   * Splits the serialized record into two chunks, and returns the chunks followed by the serialized manifest.
+   */
+  private static byte[][] serializeChunksAndManifest(GenericRecord record) {
+    byte[] serializedRecord =
+        SerializerDeserializerFactory.getAvroGenericSerializer(record.getSchema()).serialize(record);
     int cutOff = serializedRecord.length / 2;
     byte[] chunk1Bytes = new byte[cutOff + ValueRecord.SCHEMA_HEADER_LENGTH];
     byte[] chunk2Bytes = new byte[serializedRecord.length - cutOff + ValueRecord.SCHEMA_HEADER_LENGTH];
@@ -176,21 +186,10 @@ public class ChunkingTest {
         ValueRecord.SCHEMA_HEADER_LENGTH,
         serializedRecord.length - cutOff);
 
-    SchemaEntry schemaEntry = new SchemaEntry(1, schema);
-    HelixReadOnlySchemaRepository schemaRepository = mock(HelixReadOnlySchemaRepository.class);
-    doReturn(schemaEntry).when(schemaRepository).getValueSchema(storeName, 1);
-    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(storeName);
-
-    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
-    byte[] firstKey = ByteUtils.fromHexString(
-        "040647454FF4BAF2630A5449544C45440010494D504C494349540036EB0A5300374C6A9C5EEBB468C58E4300CE984E0001");
-    byte[] secondKey = ByteUtils.fromHexString(
-        "040647454FF4BAF2630A5449544C45440010494D504C494349540036EB0A5300374C6A9C5EEBB468C58E4300CE984E0201");
-
     ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
     chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(2);
-    chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(firstKey));
-    chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(secondKey));
+    chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(FIRST_CHUNK_KEY));
+    chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(SECOND_CHUNK_KEY));
     chunkedValueManifest.schemaId = 1;
     chunkedValueManifest.size = chunk1Bytes.length + chunk2Bytes.length
         - chunkedValueManifest.keysWithChunkIdSuffix.size() * ValueRecord.SCHEMA_HEADER_LENGTH;
@@ -202,11 +201,32 @@ public class ChunkingTest {
         AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(),
         0);
     System.arraycopy(serializedCVM, 0, serializedCVMwithHeader, ValueRecord.SCHEMA_HEADER_LENGTH, serializedCVM.length);
+    return new byte[][] { chunk1Bytes, chunk2Bytes, serializedCVMwithHeader };
+  }
+
+  private static HelixReadOnlySchemaRepository mockSchemaRepository(Schema schema) {
+    SchemaEntry schemaEntry = new SchemaEntry(1, schema);
+    HelixReadOnlySchemaRepository schemaRepository = mock(HelixReadOnlySchemaRepository.class);
+    doReturn(schemaEntry).when(schemaRepository).getValueSchema(STORE_NAME, 1);
+    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(STORE_NAME);
+    return schemaRepository;
+  }
+
+  private void runTest(
+      GenericRecord record,
+      AbstractAvroChunkingAdapter chunkingAdapter,
+      Function<Object, Void> assertions) {
+    byte[][] chunksAndManifest = serializeChunksAndManifest(record);
+    HelixReadOnlySchemaRepository schemaRepository = mockSchemaRepository(record.getSchema());
 
-    doReturn(serializedCVMwithHeader).when(storageEngine)
-        .get(eq(partition), eq(ByteBuffer.wrap(serializeNonChunkedKey)));
-    doReturn(chunk1Bytes).when(storageEngine).get(eq(partition), eq(firstKey));
-    doReturn(chunk2Bytes).when(storageEngine).get(eq(partition), eq(secondKey));
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doReturn(chunksAndManifest[2]).when(storageEngine)
+        .get(eq(PARTITION), eq(ByteBuffer.wrap(SERIALIZED_NON_CHUNKED_KEY)));
+    // The chunks are fetched with a single batched lookup.
+    doReturn(Arrays.asList(chunksAndManifest[0], chunksAndManifest[1])).when(storageEngine)
+        .multiGet(
+            eq(PARTITION),
+            eq(Arrays.asList(ByteBuffer.wrap(FIRST_CHUNK_KEY), ByteBuffer.wrap(SECOND_CHUNK_KEY))));
 
     try (StorageEngineBackedCompressorFactory compressorFactory =
         new StorageEngineBackedCompressorFactory(mock(StorageMetadataService.class))) {
@@ -215,8 +235,8 @@ public class ChunkingTest {
       assertions.apply(
           chunkingAdapter.get(
               storageEngine,
-              partition,
-              ByteBuffer.wrap(keyBytes),
+              PARTITION,
+              ByteBuffer.wrap(KEY_BYTES),
               true,
               null,
               null,
@@ -224,7 +244,7 @@ public class ChunkingTest {
               CompressionStrategy.NO_OP,
               true,
               schemaRepository,
-              storeName,
+              STORE_NAME,
               compressor));
     }
   }
@@ -248,4 +268,52 @@ public class ChunkingTest {
       return null;
     });
   }
+
+  /**
+   * Reads the chunks through a real {@link InMemoryStorageEngine}, which relies on the default batched lookup of
+   * {@link com.linkedin.davinci.store.AbstractStoragePartition}.
+   */
+  @Test
+  public void testChunkedValueFromInMemoryStorageEngine() {
+    Schema schema = new Schema.Parser().parse(
+        "{\"type\": \"record\", \"name\": \"SomeRecordWithAString\", \"fields\": ["
+            + "{\"name\": \"test\", \"type\": \"string\", \"default\": \"\"}]}");
+    GenericRecord record = new GenericData.Record(schema);
+    record.put("test", new Utf8("a chunked value"));
+    byte[][] chunksAndManifest = serializeChunksAndManifest(record);
+    HelixReadOnlySchemaRepository schemaRepository = mockSchemaRepository(record.getSchema());
+
+    VeniceConfigLoader veniceConfigLoader =
+        VeniceConfigLoader.loadFromConfigDirectory(new File("src/test/resources/config").getAbsolutePath());
+    InMemoryStorageEngine storageEngine =
+        new InMemoryStorageEngine(veniceConfigLoader.getStoreConfig("testng-in-memory"));
+    try {
+      storageEngine.addStoragePartition(PARTITION);
+      storageEngine.put(PARTITION, FIRST_CHUNK_KEY, chunksAndManifest[0]);
+      storageEngine.put(PARTITION, SECOND_CHUNK_KEY, chunksAndManifest[1]);
+      storageEngine.put(PARTITION, SERIALIZED_NON_CHUNKED_KEY, chunksAndManifest[2]);
+
+      try (StorageEngineBackedCompressorFactory compressorFactory =
+          new StorageEngineBackedCompressorFactory(mock(StorageMetadataService.class))) {
+        VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.NO_OP, STORE_NAME);
+        Object value = GenericRecordChunkingAdapter.INSTANCE.get(
+            STORE_NAME,
+            storageEngine,
+            PARTITION,
+            KEY_BYTES,
+            null,
+            null,
+            null,
+            true,
+            CompressionStrategy.NO_OP,
+            true,
+            schemaRepository,
+            null,
+            compressor);
+        Assert.assertEquals(value, record);
+      }
+    } finally {
+      storageEngine.close();
+    }
+  }
 }
@@ -0,0 +1,178 @@
+package com.linkedin.davinci.store.offheap;
+
+import static com.linkedin.venice.ConfigKeys.SERVER_OFF_HEAP_STORAGE_STORE_LIST;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.Optional;
+import java.util.Properties;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class OffHeapStorageEngineTest extends AbstractStorageEngineTest {
+  StorageService service;
+  VeniceStoreVersionConfig storeConfig;
+  final String STORE_NAME = "testng-off-heap";
+  final int PARTITION_ID = 0;
+
+  public OffHeapStorageEngineTest() {
+  }
+
+  @BeforeClass
+  public void setUp() {
+    createStorageEngineForTest();
+  }
+
+  @AfterClass
+  public void cleanUp() {
+    if (service != null && storeConfig != null) {
+      service.dropStorePartition(storeConfig, PARTITION_ID);
+    }
+  }
+
+  @Override
+  public void createStorageEngineForTest() {
+    VeniceProperties serverProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.OFF_HEAP);
+    VeniceConfigLoader configLoader = AbstractStorageEngineTest.getVeniceConfigLoader(serverProperties);
+
+    service = new StorageService(
+        configLoader,
+        mock(AggVersionedStorageEngineStats.class),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        mock(ReadOnlyStoreRepository.class));
+    storeConfig = new VeniceStoreVersionConfig(STORE_NAME, serverProperties);
+
+    testStoreEngine = service.openStoreForNewPartition(storeConfig, PARTITION_ID, () -> null);
+    createStoreForTest();
+  }
+
+  @Test
+  public void testGetAndPut() {
+    super.testGetAndPut();
+  }
+
+  @Test
+  public void testGetByKeyPrefixManyKeys() {
+    super.testGetByKeyPrefixManyKeys();
+  }
+
+  @Test
+  public void testGetByKeyPrefixMaxSignedByte() {
+    super.testGetByKeyPrefixMaxSignedByte();
+  }
+
+  @Test
+  public void testGetByKeyPrefixMaxUnsignedByte() {
+    super.testGetByKeyPrefixMaxUnsignedByte();
+  }
+
+  @Test
+  public void testGetByKeyPrefixByteOverflow() {
+    super.testGetByKeyPrefixByteOverflow();
+  }
+
+  @Test
+  public void testDelete() {
+    super.testDelete();
+  }
+
+  @Test
+  public void testUpdate() {
+    super.testUpdate();
+  }
+
+  @Test
+  public void testGetInvalidKeys() {
+    super.testGetInvalidKeys();
+  }
+
+  @Test
+  public void testPartitioning() throws Exception {
+    super.testPartitioning();
+  }
+
+  @Test
+  public void testAddingAPartitionTwice() throws Exception {
+    super.testAddingAPartitionTwice();
+  }
+
+  @Test
+  public void testRemovingPartitionTwice() throws Exception {
+    super.testRemovingPartitionTwice();
+  }
+
+  @Test
+  public void testOperationsOnNonExistingPartition() throws Exception {
+    super.testOperationsOnNonExistingPartition();
+  }
+
+  @Test
+  public void testOffHeapStorageStoreList() {
+    String offHeapStoreName = Utils.getUniqueString("off-heap-store");
+    String rocksDBStoreName = Utils.getUniqueString("rocksdb-store");
+    Properties properties = new Properties();
+    properties.put(SERVER_OFF_HEAP_STORAGE_STORE_LIST, offHeapStoreName);
+    VeniceProperties serverProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    doReturn(Optional.empty()).when(store).getVersion(anyInt());
+    doReturn(store).when(storeRepository).getStoreOrThrow(anyString());
+    StorageService storageService = new StorageService(
+        AbstractStorageEngineTest.getVeniceConfigLoader(serverProperties),
+        mock(AggVersionedStorageEngineStats.class),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        storeRepository);
+
+    String offHeapTopic = Version.composeKafkaTopic(offHeapStoreName, 1);
+    String rocksDBTopic = Version.composeKafkaTopic(rocksDBStoreName, 1);
+    try {
+      VeniceStoreVersionConfig offHeapStoreConfig = new VeniceStoreVersionConfig(offHeapTopic, serverProperties);
+      Assert.assertEquals(
+          storageService.openStoreForNewPartition(offHeapStoreConfig, PARTITION_ID, () -> null).getType(),
+          PersistenceType.OFF_HEAP);
+      VeniceStoreVersionConfig rocksDBStoreConfig = new VeniceStoreVersionConfig(rocksDBTopic, serverProperties);
+      Assert.assertEquals(
+          storageService.openStoreForNewPartition(rocksDBStoreConfig, PARTITION_ID, () -> null).getType(),
+          PersistenceType.ROCKS_DB);
+    } finally {
+      storageService.removeStorageEngine(offHeapTopic);
+      storageService.removeStorageEngine(rocksDBTopic);
+    }
+  }
+
+  /**
+   * This test defined in {@link AbstractStorageEngineTest} doesn't work for {@link OffHeapStorageEngine}.
+   */
+  @Test
+  public void testAdjustStoragePartitionFromTransactionalToDeferredWrite() {
+  }
+
+  /**
+   * This test defined in {@link AbstractStorageEngineTest} doesn't work for {@link OffHeapStorageEngine}.
+   */
+  @Test
+  public void testAdjustStoragePartitionFromDeferredWriteToTransactional() {
+  }
+}
@@ -0,0 +1,181 @@
+package com.linkedin.davinci.store.offheap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.venice.utils.ByteArray;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class OffHeapStoragePartitionTest {
+  private static final int SLAB_SIZE = 4 * 1024;
+
+  private static byte[] key(int i) {
+    return ("key_" + i).getBytes();
+  }
+
+  private static long recordSize(byte[] key, byte[] value) {
+    return OffHeapStoragePartition.RECORD_HEADER_SIZE + key.length + value.length;
+  }
+
+  @Test
+  public void testSizeAccounting() {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(0, SLAB_SIZE);
+    Assert.assertEquals(partition.getPartitionSizeInBytes(), 0);
+    Assert.assertEquals(partition.getAllocatedBytes(), 0);
+
+    partition.put(key(1), new byte[100]);
+    partition.put(key(2), new byte[200]);
+    Assert.assertEquals(
+        partition.getPartitionSizeInBytes(),
+        recordSize(key(1), new byte[100]) + recordSize(key(2), new byte[200]));
+    Assert.assertEquals(partition.getAllocatedBytes(), SLAB_SIZE);
+
+    // Overwriting a value should only account for the new one.
+    partition.put(key(1), new byte[50]);
+    Assert.assertEquals(
+        partition.getPartitionSizeInBytes(),
+        recordSize(key(1), new byte[50]) + recordSize(key(2), new byte[200]));
+
+    // Deleting a key twice, or a key which doesn't exist, should not change the size twice.
+    partition.delete(key(2));
+    partition.delete(key(2));
+    partition.delete(key(3));
+    Assert.assertEquals(partition.getPartitionSizeInBytes(), recordSize(key(1), new byte[50]));
+
+    partition.drop();
+    Assert.assertEquals(partition.getPartitionSizeInBytes(), 0);
+    Assert.assertEquals(partition.getAllocatedBytes(), 0);
+    Assert.assertNull(partition.get(key(1)));
+  }
+
+  @Test
+  public void testUpdatesAndDeletesAreCompacted() {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(0, SLAB_SIZE);
+    Map<ByteArray, byte[]> expected = new HashMap<>();
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++) {
+      byte[] key = key(random.nextInt(500));
+      if (random.nextInt(10) == 0) {
+        partition.delete(key);
+        expected.remove(new ByteArray(key));
+      } else {
+        // Some values are bigger than a slab.
+        byte[] value = new byte[random.nextInt(100) == 0 ? 2 * SLAB_SIZE : random.nextInt(100)];
+        random.nextBytes(value);
+        partition.put(key, value);
+        expected.put(new ByteArray(key), value);
+      }
+    }
+
+    long liveBytes = 0;
+    for (int i = 0; i < 500; i++) {
+      byte[] value = expected.get(new ByteArray(key(i)));
+      Assert.assertEquals(partition.get(key(i)), value);
+      if (value != null) {
+        liveBytes += recordSize(key(i), value);
+      }
+    }
+    Assert.assertEquals(partition.getPartitionSizeInBytes(), liveBytes);
+    // The overwritten and deleted records should have been reclaimed.
+    Assert.assertTrue(partition.getAllocatedBytes() <= 2 * liveBytes + 2 * SLAB_SIZE);
+  }
+
+  @Test
+  public void testGetWithProvidedBuffer() {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(0, SLAB_SIZE);
+    byte[] value = "value".getBytes();
+    partition.put(key(1), ByteBuffer.wrap(value));
+
+    ByteBuffer buffer = ByteBuffer.allocate(100);
+    ByteBuffer result = partition.get(key(1), buffer);
+    Assert.assertSame(result, buffer);
+    Assert.assertEquals(result.position(), 0);
+    Assert.assertEquals(result.remaining(), value.length);
+    Assert.assertEquals(result, ByteBuffer.wrap(value));
+
+    // A buffer which is too small should be replaced.
+    result = partition.get(key(1), ByteBuffer.allocate(1));
+    Assert.assertEquals(result, ByteBuffer.wrap(value));
+
+    Assert.assertNull(partition.get(key(2), buffer));
+    Assert.assertEquals(partition.get(ByteBuffer.wrap(key(1))), value);
+  }
+
+  @Test
+  public void testGetByKeyPrefix() {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(0, SLAB_SIZE);
+    for (int i = 0; i < 100; i++) {
+      partition.put(key(i), String.valueOf(i).getBytes());
+    }
+    partition.delete(key(1));
+
+    Map<String, String> records = new HashMap<>();
+    AtomicBoolean completed = new AtomicBoolean();
+    partition.getByKeyPrefix("key_1".getBytes(), new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        records.put(new String(key), new String(value));
+      }
+
+      @Override
+      public void onCompletion() {
+        completed.set(true);
+      }
+    });
+    Assert.assertTrue(completed.get());
+    Assert.assertEquals(records.size(), 10);
+    for (int i = 10; i < 20; i++) {
+      Assert.assertEquals(records.get("key_" + i), String.valueOf(i));
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testConcurrentReadsDuringWrites() throws InterruptedException {
+    OffHeapStoragePartition partition = new OffHeapStoragePartition(0, SLAB_SIZE);
+    int keyCount = 1000;
+    AtomicBoolean writesCompleted = new AtomicBoolean();
+    AtomicReference<Throwable> readError = new AtomicReference<>();
+    Thread[] readers = new Thread[4];
+    for (int i = 0; i < readers.length; i++) {
+      readers[i] = new Thread(() -> {
+        Random random = new Random();
+        try {
+          while (!writesCompleted.get()) {
+            int keyId = random.nextInt(keyCount);
+            byte[] value = partition.get(key(keyId));
+            // Every value starts with the id of its key.
+            if (value != null && ByteBuffer.wrap(value).getInt() != keyId) {
+              throw new IllegalStateException("Unexpected value for key: " + keyId);
+            }
+          }
+        } catch (Throwable e) {
+          readError.set(e);
+        }
+      });
+      readers[i].start();
+    }
+
+    Random random = new Random();
+    for (int i = 0; i < 200000; i++) {
+      int keyId = random.nextInt(keyCount);
+      if (random.nextInt(5) == 0) {
+        partition.delete(key(keyId));
+      } else {
+        byte[] value = new byte[Integer.BYTES + random.nextInt(100)];
+        ByteBuffer.wrap(value).putInt(keyId);
+        partition.put(key(keyId), value);
+      }
+    }
+    writesCompleted.set(true);
+    for (Thread reader: readers) {
+      reader.join();
+    }
+    Assert.assertNull(readError.get());
+  }
+}
@@ -30,7 +30,9 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -275,6 +277,49 @@ public class ReplicationMetadataRocksDBStoragePartitionTest extends AbstractStor
     removeDir(storeDir);
   }
 
+  @Test
+  public void testMultiGetReplicationMetadata() {
+    String storeName = "test_store_multi_get_rmd";
+    String storeDir = getTempDatabaseDir(storeName);
+    int valueSchemaId = 1;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, 0);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory =
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(veniceServerProperties));
+    ReplicationMetadataRocksDBStoragePartition storagePartition = new ReplicationMetadataRocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    Map<String, Pair<String, String>> inputRecords = generateInputWithMetadata(10);
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (Map.Entry<String, Pair<String, String>> entry: inputRecords.entrySet()) {
+      storagePartition.putWithReplicationMetadata(
+          entry.getKey().getBytes(),
+          entry.getValue().getFirst().getBytes(),
+          getReplicationMetadataWithValueSchemaId(entry.getValue().getSecond().getBytes(), valueSchemaId));
+      keys.add(ByteBuffer.wrap(entry.getKey().getBytes()));
+    }
+    keys.add(ByteBuffer.wrap("missing_key".getBytes()));
+
+    List<byte[]> replicationMetadataList = storagePartition.multiGetReplicationMetadata(keys);
+    Assert.assertEquals(replicationMetadataList.size(), keys.size());
+    for (int i = 0; i < keys.size() - 1; i++) {
+      Assert.assertEquals(
+          replicationMetadataList.get(i),
+          storagePartition.getReplicationMetadata(ByteUtils.extractByteArray(keys.get(i))));
+    }
+    Assert.assertNull(replicationMetadataList.get(keys.size() - 1));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   private byte[] getReplicationMetadataWithValueSchemaId(byte[] replicationMetadata, int valueSchemaId) {
     ByteBuffer metadataByteBuffer = ByteBuffer.wrap(replicationMetadata);
     ByteBuffer replicationMetadataWitValueSchemaId =
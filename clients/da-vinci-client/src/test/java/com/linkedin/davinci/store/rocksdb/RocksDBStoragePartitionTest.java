@@ -22,7 +22,9 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -244,6 +246,50 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testMultiGet() {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, 0);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    Map<String, String> inputRecords = generateInput(100, false, 0);
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+
+    List<String> keys = new ArrayList<>(inputRecords.keySet());
+    keys.add(KEY_PREFIX + "non_existing");
+    List<ByteBuffer> keyBuffers = new ArrayList<>(keys.size());
+    for (String key: keys) {
+      // Put the key bytes at a non-zero offset to make sure only the remaining bytes are looked up.
+      byte[] keyBytes = key.getBytes();
+      byte[] paddedKeyBytes = new byte[keyBytes.length + 1];
+      System.arraycopy(keyBytes, 0, paddedKeyBytes, 1, keyBytes.length);
+      keyBuffers.add(ByteBuffer.wrap(paddedKeyBytes, 1, keyBytes.length));
+    }
+
+    List<byte[]> values = storagePartition.multiGet(keyBuffers);
+    Assert.assertEquals(values.size(), keys.size());
+    for (int i = 0; i < inputRecords.size(); i++) {
+      Assert.assertEquals(values.get(i), inputRecords.get(keys.get(i)).getBytes());
+    }
+    Assert.assertNull(values.get(keys.size() - 1));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
   public void testIngestionFormatVersionChange(boolean sorted) throws RocksDBException {
     Optional<CheckSum> runningChecksum = CheckSum.getInstance(CheckSumType.MD5);
@@ -10,12 +10,12 @@ import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.StoreInfo;
 import com.linkedin.venice.meta.Version;
-import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.serialization.KafkaKeySerializer;
 import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.PartitionUtils;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -77,7 +77,8 @@ public class TopicMessageFinder {
     }
     LOGGER.info("Got partition count: {}", partitionCount);
 
-    int assignedPartition = new DefaultVenicePartitioner().getPartitionId(serializedKey, partitionCount);
+    int assignedPartition = PartitionUtils.getUserPartitionLevelVenicePartitioner(storeInfo.getPartitionerConfig())
+        .getPartitionId(serializedKey, partitionCount);
     LOGGER.info("Assigned partition: {} for key: {}", assignedPartition, keyString);
 
     TopicPartition topicPartition = new TopicPartition(topic, assignedPartition);
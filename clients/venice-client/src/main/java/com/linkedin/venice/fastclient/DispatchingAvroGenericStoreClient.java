@@ -556,7 +556,11 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
                 getStoreName(),
                 version));
       }
-      return compressor.decompress(data);
+      /**
+       * The decompressed record is deserialized right away in the same thread, and the deserializers copy the bytes
+       * they read, so it is safe to decompress it into a buffer which is reused by the next record.
+       */
+      return compressor.decompressIntoReusableBuffer(data);
     } catch (Exception e) {
       throw new VeniceClientException(
           String.format(
@@ -0,0 +1,271 @@
+package com.linkedin.venice.hadoop;
+
+import static com.linkedin.venice.hadoop.AbstractMapReduceTask.MAPRED_TASK_ID_PROP_NAME;
+import static com.linkedin.venice.hadoop.VeniceReducer.MAP_REDUCE_JOB_ID_PROP;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.writer.VeniceWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobClient;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.JobID;
+import org.apache.hadoop.mapred.Mapper;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Partitioner;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reducer;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapred.TaskID;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link JobClientWrapper} which runs the mapper and the reducer of a job inside the current JVM, instead of
+ * submitting it to a MapReduce cluster, so that small and medium pushes can run from any host without the scheduling
+ * overhead of MapReduce.
+ *
+ * The input splits are mapped by a pool of worker threads, and the map output is sorted per partition with the
+ * external merge sort of {@link InProcessShuffle}. Once all the map tasks are done, each worker takes a set of
+ * partitions and reduces them one after the other, with a new reducer whose task id is the partition id, like in
+ * MapReduce. So each worker has at most one {@link VeniceWriter} open at any time, and the compression of the mappers
+ * as well as the duplicate key detection, chunking and quota checks of the reducers work as usual. All the tasks share
+ * the counters of the returned {@link RunningJob}, which the push job validates once the job is done.
+ *
+ * Only the mapred API with {@link BytesWritable} map output, as set up by {@link VenicePushJob}, is supported. The
+ * combiner is not run, since it only reduces the amount of shuffled data.
+ */
+public class InProcessJobClientWrapper implements JobClientWrapper {
+  private static final Logger LOGGER = LogManager.getLogger(InProcessJobClientWrapper.class);
+  private static final AtomicInteger JOB_ID_GENERATOR = new AtomicInteger();
+  private static final int EXECUTOR_TERMINATION_TIMEOUT_IN_SECONDS = 30;
+
+  private final int parallelism;
+  private final long sortBufferSizeInBytes;
+  private final String workDirectory;
+
+  /**
+   * @param parallelism the number of worker threads, which run the map tasks and then the reduce tasks.
+   * @param sortBufferSizeInBytes the total size of the map output which is buffered in memory, across all the
+   *                              workers, before being spilled to disk.
+   * @param workDirectory the local directory of the sorted runs.
+   */
+  public InProcessJobClientWrapper(int parallelism, long sortBufferSizeInBytes, String workDirectory) {
+    if (parallelism <= 0) {
+      throw new VeniceException("Parallelism must be positive, but got: " + parallelism);
+    }
+    this.parallelism = parallelism;
+    this.sortBufferSizeInBytes = sortBufferSizeInBytes;
+    this.workDirectory = workDirectory;
+  }
+
+  @Override
+  public RunningJob runJobWithConfig(JobConf jobConf) throws IOException {
+    // The reducers derive the producer GUID from the digits of the job tracker identifier.
+    JobID jobId = new JobID(Long.toString(System.currentTimeMillis()), JOB_ID_GENERATOR.incrementAndGet());
+    JobConf conf = new JobConf(jobConf);
+    conf.set(MAP_REDUCE_JOB_ID_PROP, jobId.toString());
+    int partitionCount = conf.getNumReduceTasks();
+    InProcessRunningJob runningJob = new InProcessRunningJob(jobId, conf, new Counters());
+
+    Files.createDirectories(Paths.get(workDirectory));
+    File jobDirectory = Files.createTempDirectory(Paths.get(workDirectory), jobId.toString()).toFile();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("in-process-push-job-worker"));
+    try {
+      InProcessShuffle shuffle = new InProcessShuffle(jobDirectory, partitionCount);
+      long startTimeInMs = System.currentTimeMillis();
+      runMapPhase(conf, runningJob, shuffle, executor);
+      LOGGER.info("Map phase of job: {} completed in {} ms", jobId, System.currentTimeMillis() - startTimeInMs);
+
+      startTimeInMs = System.currentTimeMillis();
+      runReducePhase(conf, runningJob, shuffle, executor);
+      LOGGER.info("Reduce phase of job: {} completed in {} ms", jobId, System.currentTimeMillis() - startTimeInMs);
+      runningJob.setSucceeded();
+      return runningJob;
+    } catch (Exception e) {
+      runningJob.setFailed(e.getMessage());
+      throw new IOException("Job: " + jobId + " failed", e);
+    } finally {
+      shutdownAndCleanUp(executor, jobDirectory);
+    }
+  }
+
+  /**
+   * Stops the workers, and deletes the job directory once they are all done, so that no task of a failed job is still
+   * writing or reading its run files. The directory is left behind if some worker doesn't stop in time.
+   */
+  private static void shutdownAndCleanUp(ExecutorService executor, File jobDirectory) {
+    executor.shutdownNow();
+    try {
+      if (!executor.awaitTermination(EXECUTOR_TERMINATION_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Unable to stop the workers of the job. Job directory: {} is not deleted.", jobDirectory);
+        return;
+      }
+    } catch (InterruptedException e) {
+      LOGGER.warn("Interrupted while stopping the workers of the job. Job directory: {} is not deleted.", jobDirectory);
+      Thread.currentThread().interrupt();
+      return;
+    }
+    FileUtils.deleteQuietly(jobDirectory);
+  }
+
+  private void runMapPhase(
+      JobConf conf,
+      InProcessRunningJob runningJob,
+      InProcessShuffle shuffle,
+      ExecutorService executor) throws Exception {
+    InputSplit[] splits = conf.getInputFormat().getSplits(conf, parallelism);
+    LOGGER.info("Running {} map tasks with {} workers for job: {}", splits.length, parallelism, runningJob.getID());
+    long bufferSizePerTask = Math.max(1, sortBufferSizeInBytes / parallelism);
+    AtomicInteger completedTaskCount = new AtomicInteger();
+    List<Future<?>> futures = new ArrayList<>(splits.length);
+    for (int i = 0; i < splits.length; i++) {
+      int taskId = i;
+      futures.add(executor.submit(() -> {
+        runMapTask(conf, runningJob, splits[taskId], taskId, shuffle.newMapOutputBuffer(bufferSizePerTask));
+        runningJob.setMapProgress((float) completedTaskCount.incrementAndGet() / splits.length);
+        return null;
+      }));
+    }
+    waitForTasks(futures);
+    runningJob.setMapProgress(1);
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private void runMapTask(
+      JobConf conf,
+      InProcessRunningJob runningJob,
+      InputSplit split,
+      int taskId,
+      InProcessShuffle.MapOutputBuffer buffer) throws IOException {
+    JobConf taskConf = newTaskConf(conf, runningJob.getID(), TaskType.MAP, taskId);
+    InProcessReporter reporter = new InProcessReporter(runningJob.getCounters(), split);
+    int partitionCount = taskConf.getNumReduceTasks();
+    Partitioner partitioner = ReflectionUtils.newInstance(taskConf.getPartitionerClass(), taskConf);
+    OutputCollector<BytesWritable, BytesWritable> collector =
+        (key, value) -> buffer.add(partitioner.getPartition(key, value, partitionCount), key, value);
+
+    RecordReader reader = taskConf.getInputFormat().getRecordReader(split, taskConf, reporter);
+    try {
+      Mapper mapper = ReflectionUtils.newInstance(taskConf.getMapperClass(), taskConf);
+      try {
+        Object key = reader.createKey();
+        Object value = reader.createValue();
+        while (reader.next(key, value)) {
+          mapper.map(key, value, collector, reporter);
+        }
+      } finally {
+        mapper.close();
+      }
+    } finally {
+      reader.close();
+    }
+    buffer.spill();
+  }
+
+  private void runReducePhase(
+      JobConf conf,
+      InProcessRunningJob runningJob,
+      InProcessShuffle shuffle,
+      ExecutorService executor) throws Exception {
+    int partitionCount = conf.getNumReduceTasks();
+    AtomicInteger nextPartition = new AtomicInteger();
+    AtomicInteger completedTaskCount = new AtomicInteger();
+    List<Future<?>> futures = new ArrayList<>(parallelism);
+    for (int i = 0; i < Math.min(parallelism, partitionCount); i++) {
+      futures.add(executor.submit(() -> {
+        int partition;
+        while ((partition = nextPartition.getAndIncrement()) < partitionCount) {
+          runReduceTask(conf, runningJob, shuffle, partition);
+          runningJob.setReduceProgress((float) completedTaskCount.incrementAndGet() / partitionCount);
+        }
+        return null;
+      }));
+    }
+    waitForTasks(futures);
+    runningJob.setReduceProgress(1);
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private void runReduceTask(JobConf conf, InProcessRunningJob runningJob, InProcessShuffle shuffle, int partition)
+      throws IOException {
+    JobConf taskConf = newTaskConf(conf, runningJob.getID(), TaskType.REDUCE, partition);
+    InProcessReporter reporter = new InProcessReporter(runningJob.getCounters(), null);
+    Reducer reducer = ReflectionUtils.newInstance(taskConf.getReducerClass(), null);
+    if (reducer instanceof VeniceReducer) {
+      // Let the quota check read the counters of this job instead of asking the cluster.
+      ((VeniceReducer) reducer).setHadoopJobClientProvider(jobConf -> newJobClient(runningJob));
+    }
+    reducer.configure(taskConf);
+    // The output format of the push job is NullOutputFormat.
+    OutputCollector collector = (key, value) -> {
+    };
+    try (InProcessShuffle.SortedRunMerger merger = shuffle.merge(partition)) {
+      while (merger.nextKey()) {
+        reducer.reduce(merger.getCurrentKey(), merger.getValues(), collector, reporter);
+      }
+      // The reducer only ends its segments if the task has completed.
+      reporter.setProgress(1);
+    } finally {
+      reducer.close();
+    }
+  }
+
+  private static JobConf newTaskConf(JobConf conf, JobID jobId, TaskType taskType, int taskId) {
+    JobConf taskConf = new JobConf(conf);
+    taskConf.set(MAPRED_TASK_ID_PROP_NAME, new TaskAttemptID(new TaskID(jobId, taskType, taskId), 0).toString());
+    return taskConf;
+  }
+
+  private static JobClient newJobClient(RunningJob runningJob) {
+    return new JobClient() {
+      @Override
+      public RunningJob getJob(JobID jobId) {
+        return runningJob;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+
+  /**
+   * Waits for all the given tasks, and cancels the remaining ones as soon as one of them is found to have failed.
+   */
+  private static void waitForTasks(List<Future<?>> futures) throws Exception {
+    try {
+      for (Future<?> future: futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      Throwable cause = e.getCause();
+      throw cause instanceof Exception ? (Exception) cause : new VeniceException(cause);
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.linkedin.venice.hadoop;
+
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.Reporter;
+
+
+/**
+ * A {@link Reporter} for the tasks of {@link InProcessJobClientWrapper}. All the tasks of a job share the same
+ * {@link Counters}, which are updated under their lock since the tasks run concurrently.
+ */
+class InProcessReporter implements Reporter {
+  private final Counters counters;
+  private final InputSplit inputSplit;
+  private volatile float progress = 0;
+
+  InProcessReporter(Counters counters, InputSplit inputSplit) {
+    this.counters = counters;
+    this.inputSplit = inputSplit;
+  }
+
+  @Override
+  public void setStatus(String status) {
+  }
+
+  @Override
+  public void progress() {
+  }
+
+  @Override
+  public Counters.Counter getCounter(Enum<?> name) {
+    synchronized (counters) {
+      return counters.findCounter(name);
+    }
+  }
+
+  @Override
+  public Counters.Counter getCounter(String group, String name) {
+    synchronized (counters) {
+      return counters.findCounter(group, name);
+    }
+  }
+
+  @Override
+  public void incrCounter(Enum<?> key, long amount) {
+    synchronized (counters) {
+      counters.incrCounter(key, amount);
+    }
+  }
+
+  @Override
+  public void incrCounter(String group, String counter, long amount) {
+    synchronized (counters) {
+      counters.incrCounter(group, counter, amount);
+    }
+  }
+
+  @Override
+  public InputSplit getInputSplit() {
+    if (inputSplit == null) {
+      throw new UnsupportedOperationException("No input split for a reduce task");
+    }
+    return inputSplit;
+  }
+
+  @Override
+  public float getProgress() {
+    return progress;
+  }
+
+  void setProgress(float progress) {
+    this.progress = progress;
+  }
+}
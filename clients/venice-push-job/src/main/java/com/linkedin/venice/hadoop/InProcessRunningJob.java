@@ -0,0 +1,173 @@
+package com.linkedin.venice.hadoop;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.JobID;
+import org.apache.hadoop.mapred.JobStatus;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapred.TaskCompletionEvent;
+
+
+/**
+ * The {@link RunningJob} of {@link InProcessJobClientWrapper}, which exposes the aggregated counters of the job. It is
+ * also returned to the reducers while the job runs, so that they can check the storage quota against the counters of
+ * the map phase.
+ */
+class InProcessRunningJob implements RunningJob {
+  private final JobID jobId;
+  private final JobConf jobConf;
+  private final Counters counters;
+  private volatile float mapProgress = 0;
+  private volatile float reduceProgress = 0;
+  private volatile int jobState = JobStatus.RUNNING;
+  private volatile String failureInfo = "";
+
+  InProcessRunningJob(JobID jobId, JobConf jobConf, Counters counters) {
+    this.jobId = jobId;
+    this.jobConf = jobConf;
+    this.counters = counters;
+  }
+
+  void setMapProgress(float mapProgress) {
+    this.mapProgress = mapProgress;
+  }
+
+  void setReduceProgress(float reduceProgress) {
+    this.reduceProgress = reduceProgress;
+  }
+
+  void setSucceeded() {
+    this.jobState = JobStatus.SUCCEEDED;
+  }
+
+  void setFailed(String failureInfo) {
+    this.failureInfo = failureInfo;
+    this.jobState = JobStatus.FAILED;
+  }
+
+  @Override
+  public Configuration getConfiguration() {
+    return jobConf;
+  }
+
+  @Override
+  public JobID getID() {
+    return jobId;
+  }
+
+  @Override
+  @Deprecated
+  public String getJobID() {
+    return jobId.toString();
+  }
+
+  @Override
+  public String getJobName() {
+    return jobConf.getJobName();
+  }
+
+  @Override
+  public String getJobFile() {
+    return "";
+  }
+
+  @Override
+  public String getTrackingURL() {
+    return "";
+  }
+
+  @Override
+  public float mapProgress() {
+    return mapProgress;
+  }
+
+  @Override
+  public float reduceProgress() {
+    return reduceProgress;
+  }
+
+  @Override
+  public float cleanupProgress() {
+    return isComplete() ? 1 : 0;
+  }
+
+  @Override
+  public float setupProgress() {
+    return 1;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return jobState != JobStatus.RUNNING;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return jobState == JobStatus.SUCCEEDED;
+  }
+
+  @Override
+  public void waitForCompletion() {
+    // The job is only returned to the push job once it has completed.
+  }
+
+  @Override
+  public int getJobState() {
+    return jobState;
+  }
+
+  @Override
+  public JobStatus getJobStatus() {
+    return new JobStatus(jobId, mapProgress, reduceProgress, cleanupProgress(), jobState);
+  }
+
+  @Override
+  public void killJob() {
+    // The job is only returned to the push job once it has completed, so there is nothing to kill.
+  }
+
+  @Override
+  public void setJobPriority(String priority) {
+  }
+
+  @Override
+  public TaskCompletionEvent[] getTaskCompletionEvents(int startFrom) {
+    return new TaskCompletionEvent[0];
+  }
+
+  @Override
+  public void killTask(TaskAttemptID taskId, boolean shouldFail) {
+  }
+
+  @Override
+  @Deprecated
+  public void killTask(String taskId, boolean shouldFail) {
+  }
+
+  @Override
+  public Counters getCounters() {
+    return counters;
+  }
+
+  @Override
+  public String[] getTaskDiagnostics(TaskAttemptID taskId) {
+    return new String[0];
+  }
+
+  @Override
+  public String getFailureInfo() {
+    return failureInfo;
+  }
+
+  @Override
+  public String getHistoryUrl() {
+    return "";
+  }
+
+  @Override
+  public boolean isRetired() {
+    return false;
+  }
+}
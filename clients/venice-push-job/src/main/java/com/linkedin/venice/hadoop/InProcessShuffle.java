@@ -0,0 +1,318 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.WritableComparator;
+
+
+/**
+ * The shuffle of {@link InProcessJobClientWrapper}, which sorts the map output of each partition with an external merge
+ * sort on local disk.
+ *
+ * Each map task buffers its output in a {@link MapOutputBuffer}, which spills it as one sorted run file per partition
+ * whenever the buffer is full. Once all the map tasks are done, the runs of each partition are merged with a
+ * {@link SortedRunMerger}, which returns the keys in the same order as {@link BytesWritable.Comparator}, i.e. the
+ * order which the Venice servers expect for a sorted push. Since every open run holds a read buffer, at most the max
+ * merge factor runs, {@link #DEFAULT_MAX_MERGE_FACTOR} by default, are opened at once, and a partition with more runs
+ * is first merged into fewer, larger runs over several passes.
+ */
+class InProcessShuffle {
+  // Rough per record memory overhead of the buffered record objects and byte arrays.
+  private static final int RECORD_OVERHEAD_IN_BYTES = 64;
+  // Marks the end of a run file.
+  private static final int END_OF_RUN = -1;
+  private static final int RUN_IO_BUFFER_SIZE = 64 * 1024;
+  static final int DEFAULT_MAX_MERGE_FACTOR = 64;
+  private static final Comparator<Record> RECORD_COMPARATOR = (r1, r2) -> compareKeys(r1.key, r2.key);
+
+  private final File directory;
+  private final List<Queue<File>> runsByPartition;
+  private final int maxMergeFactor;
+  private final AtomicInteger runIdGenerator = new AtomicInteger();
+
+  InProcessShuffle(File directory, int partitionCount) {
+    this(directory, partitionCount, DEFAULT_MAX_MERGE_FACTOR);
+  }
+
+  InProcessShuffle(File directory, int partitionCount, int maxMergeFactor) {
+    if (maxMergeFactor < 2) {
+      throw new VeniceException("Max merge factor must be at least 2, but got: " + maxMergeFactor);
+    }
+    this.directory = directory;
+    this.maxMergeFactor = maxMergeFactor;
+    this.runsByPartition = new ArrayList<>(partitionCount);
+    for (int i = 0; i < partitionCount; i++) {
+      runsByPartition.add(new ConcurrentLinkedQueue<>());
+    }
+  }
+
+  MapOutputBuffer newMapOutputBuffer(long maxSizeInBytes) {
+    return new MapOutputBuffer(maxSizeInBytes);
+  }
+
+  /**
+   * Opens the runs of the given partition to merge them. If the partition has more than the max merge factor runs,
+   * they are first merged into intermediate runs, in as many passes as needed. The run files are deleted once merged,
+   * or when the returned merger is closed.
+   */
+  SortedRunMerger merge(int partition) throws IOException {
+    List<File> runFiles = new ArrayList<>(runsByPartition.get(partition));
+    while (runFiles.size() > maxMergeFactor) {
+      List<File> mergedRunFiles = new ArrayList<>((runFiles.size() + maxMergeFactor - 1) / maxMergeFactor);
+      for (int start = 0; start < runFiles.size(); start += maxMergeFactor) {
+        List<File> group = runFiles.subList(start, Math.min(start + maxMergeFactor, runFiles.size()));
+        mergedRunFiles.add(group.size() == 1 ? group.get(0) : mergeRuns(partition, group));
+      }
+      runFiles = mergedRunFiles;
+    }
+    return new SortedRunMerger(runFiles);
+  }
+
+  int getRunCount(int partition) {
+    return runsByPartition.get(partition).size();
+  }
+
+  /**
+   * Merges the given runs into a new run, which keeps all the values of each key.
+   */
+  private File mergeRuns(int partition, List<File> runFiles) throws IOException {
+    File mergedRunFile = newRunFile(partition);
+    try (SortedRunMerger merger = new SortedRunMerger(new ArrayList<>(runFiles));
+        DataOutputStream out = openRunOutputStream(mergedRunFile)) {
+      while (merger.nextKey()) {
+        Iterator<BytesWritable> values = merger.getValues();
+        while (values.hasNext()) {
+          BytesWritable value = values.next();
+          writeRecord(out, merger.currentKey, value.getBytes(), value.getLength());
+        }
+      }
+      out.writeInt(END_OF_RUN);
+    }
+    return mergedRunFile;
+  }
+
+  private File newRunFile(int partition) {
+    return new File(directory, "partition-" + partition + "-run-" + runIdGenerator.incrementAndGet());
+  }
+
+  private static DataOutputStream openRunOutputStream(File runFile) throws IOException {
+    return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(runFile), RUN_IO_BUFFER_SIZE));
+  }
+
+  private static void writeRecord(DataOutputStream out, byte[] key, byte[] value, int valueLength) throws IOException {
+    out.writeInt(key.length);
+    out.write(key);
+    out.writeInt(valueLength);
+    out.write(value, 0, valueLength);
+  }
+
+  private static int compareKeys(byte[] key1, byte[] key2) {
+    return WritableComparator.compareBytes(key1, 0, key1.length, key2, 0, key2.length);
+  }
+
+  private static class Record {
+    private final byte[] key;
+    private final byte[] value;
+
+    private Record(byte[] key, byte[] value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Buffers the output of a single map task. This class is not thread-safe.
+   */
+  class MapOutputBuffer {
+    private final long maxSizeInBytes;
+    private final List<List<Record>> recordsByPartition;
+    private long bufferedBytes = 0;
+
+    private MapOutputBuffer(long maxSizeInBytes) {
+      this.maxSizeInBytes = maxSizeInBytes;
+      this.recordsByPartition = new ArrayList<>(runsByPartition.size());
+      for (int i = 0; i < runsByPartition.size(); i++) {
+        recordsByPartition.add(new ArrayList<>());
+      }
+    }
+
+    /**
+     * Copies the given key and value, since the mappers reuse them across records.
+     */
+    void add(int partition, BytesWritable key, BytesWritable value) throws IOException {
+      if (partition < 0 || partition >= recordsByPartition.size()) {
+        throw new VeniceException(
+            "Invalid partition: " + partition + " for partition count: " + recordsByPartition.size());
+      }
+      Record record = new Record(
+          Arrays.copyOf(key.getBytes(), key.getLength()),
+          Arrays.copyOf(value.getBytes(), value.getLength()));
+      recordsByPartition.get(partition).add(record);
+      bufferedBytes += record.key.length + record.value.length + RECORD_OVERHEAD_IN_BYTES;
+      if (bufferedBytes >= maxSizeInBytes) {
+        spill();
+      }
+    }
+
+    /**
+     * Sorts the buffered records of each partition and writes them to a new run file.
+     */
+    void spill() throws IOException {
+      for (int partition = 0; partition < recordsByPartition.size(); partition++) {
+        List<Record> records = recordsByPartition.get(partition);
+        if (records.isEmpty()) {
+          continue;
+        }
+        records.sort(RECORD_COMPARATOR);
+        File runFile = newRunFile(partition);
+        try (DataOutputStream out = openRunOutputStream(runFile)) {
+          for (Record record: records) {
+            writeRecord(out, record.key, record.value, record.value.length);
+          }
+          out.writeInt(END_OF_RUN);
+        }
+        runsByPartition.get(partition).add(runFile);
+        recordsByPartition.set(partition, new ArrayList<>());
+      }
+      bufferedBytes = 0;
+    }
+  }
+
+  /**
+   * Merges the sorted runs of a partition and iterates over its distinct keys, with the values of each key grouped
+   * together, like the input of {@link org.apache.hadoop.mapred.Reducer#reduce}.
+   */
+  static class SortedRunMerger implements Closeable {
+    private final List<File> runFiles;
+    private final List<RunReader> readers;
+    private final PriorityQueue<RunReader> queue;
+    private final Iterator<BytesWritable> values = new ValueIterator();
+    private byte[] currentKey;
+
+    private SortedRunMerger(List<File> runFiles) throws IOException {
+      this.runFiles = runFiles;
+      this.readers = new ArrayList<>(runFiles.size());
+      this.queue = new PriorityQueue<>(Math.max(1, runFiles.size()), (r1, r2) -> compareKeys(r1.key, r2.key));
+      try {
+        for (File runFile: runFiles) {
+          RunReader reader = new RunReader(runFile);
+          readers.add(reader);
+          if (reader.advance()) {
+            queue.add(reader);
+          }
+        }
+      } catch (IOException e) {
+        close();
+        throw e;
+      }
+    }
+
+    /**
+     * Moves to the next distinct key, skipping the values of the current key which were not consumed.
+     */
+    boolean nextKey() {
+      while (values.hasNext()) {
+        values.next();
+      }
+      if (queue.isEmpty()) {
+        currentKey = null;
+        return false;
+      }
+      currentKey = queue.peek().key;
+      return true;
+    }
+
+    BytesWritable getCurrentKey() {
+      return new BytesWritable(currentKey);
+    }
+
+    /**
+     * Returns the values of the current key. The returned iterator is shared by all the keys.
+     */
+    Iterator<BytesWritable> getValues() {
+      return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+      for (RunReader reader: readers) {
+        reader.in.close();
+      }
+      for (File runFile: runFiles) {
+        if (!runFile.delete() && runFile.exists()) {
+          throw new IOException("Failed to delete run file: " + runFile);
+        }
+      }
+    }
+
+    private class ValueIterator implements Iterator<BytesWritable> {
+      @Override
+      public boolean hasNext() {
+        return currentKey != null && !queue.isEmpty() && compareKeys(queue.peek().key, currentKey) == 0;
+      }
+
+      @Override
+      public BytesWritable next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        RunReader reader = queue.poll();
+        BytesWritable value = new BytesWritable(reader.value);
+        try {
+          if (reader.advance()) {
+            queue.add(reader);
+          }
+        } catch (IOException e) {
+          throw new VeniceException("Failed to read run file: " + reader.runFile, e);
+        }
+        return value;
+      }
+    }
+  }
+
+  private static class RunReader {
+    private final File runFile;
+    private final DataInputStream in;
+    private byte[] key;
+    private byte[] value;
+
+    private RunReader(File runFile) throws IOException {
+      this.runFile = runFile;
+      this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(runFile), RUN_IO_BUFFER_SIZE));
+    }
+
+    /**
+     * Reads the next record, and returns false at the end of the run.
+     */
+    private boolean advance() throws IOException {
+      int keyLength = in.readInt();
+      if (keyLength == END_OF_RUN) {
+        return false;
+      }
+      key = new byte[keyLength];
+      in.readFully(key);
+      value = new byte[in.readInt()];
+      in.readFully(value);
+      return true;
+    }
+  }
+}
@@ -53,6 +53,7 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.partitioner.XxHash64VenicePartitioner;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
 import com.linkedin.venice.schema.AvroSchemaParseUtils;
 import com.linkedin.venice.security.SSLFactory;
@@ -308,6 +309,28 @@ public class VenicePushJob implements AutoCloseable {
    */
   public static final String TELEMETRY_MESSAGE_INTERVAL = "telemetry.message.interval";
 
+  /**
+   * Config to run the data push job inside the VPJ process with {@link InProcessJobClientWrapper}, instead of
+   * submitting it to the MapReduce cluster. Meant for small and medium stores.
+   */
+  public static final String IN_PROCESS_PUSH_ENGINE_ENABLED = "in.process.push.engine.enabled";
+
+  /**
+   * The number of worker threads of the in-process push engine. Default to the number of available processors.
+   */
+  public static final String IN_PROCESS_PUSH_ENGINE_PARALLELISM = "in.process.push.engine.parallelism";
+
+  /**
+   * The total size of the map output which the in-process push engine buffers in memory before spilling it to disk.
+   */
+  public static final String IN_PROCESS_PUSH_ENGINE_SORT_BUFFER_SIZE = "in.process.push.engine.sort.buffer.size";
+  public static final long DEFAULT_IN_PROCESS_PUSH_ENGINE_SORT_BUFFER_SIZE = 512 * 1024 * 1024;
+
+  /**
+   * The local directory where the in-process push engine spills the sorted map output.
+   */
+  public static final String IN_PROCESS_PUSH_ENGINE_WORK_DIR = "in.process.push.engine.work.dir";
+
   /**
    * Config to control the Compression Level for ZSTD Dictionary Compression.
    */
@@ -436,6 +459,10 @@ public class VenicePushJob implements AutoCloseable {
     long repushTTLInSeconds;
     // HDFS directory to cache RMD schemas
     String rmdSchemaDir;
+    boolean inProcessPushEngineEnabled;
+    int inProcessPushEngineParallelism;
+    long inProcessPushEngineSortBufferSize;
+    String inProcessPushEngineWorkDir;
   }
 
   protected PushJobSetting pushJobSetting;
@@ -654,6 +681,13 @@ public class VenicePushJob implements AutoCloseable {
     pushJobSettingToReturn.enablePushJobStatusUpload = props.getBoolean(PUSH_JOB_STATUS_UPLOAD_ENABLE, false);
     pushJobSettingToReturn.enableReducerSpeculativeExecution =
         props.getBoolean(REDUCER_SPECULATIVE_EXECUTION_ENABLE, false);
+    pushJobSettingToReturn.inProcessPushEngineEnabled = props.getBoolean(IN_PROCESS_PUSH_ENGINE_ENABLED, false);
+    pushJobSettingToReturn.inProcessPushEngineParallelism =
+        props.getInt(IN_PROCESS_PUSH_ENGINE_PARALLELISM, Runtime.getRuntime().availableProcessors());
+    pushJobSettingToReturn.inProcessPushEngineSortBufferSize =
+        props.getLong(IN_PROCESS_PUSH_ENGINE_SORT_BUFFER_SIZE, DEFAULT_IN_PROCESS_PUSH_ENGINE_SORT_BUFFER_SIZE);
+    pushJobSettingToReturn.inProcessPushEngineWorkDir =
+        props.getString(IN_PROCESS_PUSH_ENGINE_WORK_DIR, System.getProperty("java.io.tmpdir"));
     pushJobSettingToReturn.controllerRetries = props.getInt(CONTROLLER_REQUEST_RETRY_ATTEMPTS, 1);
     pushJobSettingToReturn.controllerStatusPollRetries = props.getInt(POLL_STATUS_RETRY_ATTEMPTS, 15);
     pushJobSettingToReturn.pollJobStatusIntervalMs =
@@ -1232,7 +1266,20 @@ public class VenicePushJob implements AutoCloseable {
 
   private void runJobAndUpdateStatus() throws IOException {
     updatePushJobDetailsWithCheckpoint(PushJobCheckpoints.START_MAP_REDUCE_JOB);
-    runningJob = runJobWithConfig(jobConf);
+    if (pushJobSetting.inProcessPushEngineEnabled) {
+      /**
+       * Only the data push job runs in process, since the other jobs of VPJ are either small (validating the schema
+       * and building the dictionary) or read from the Venice cluster (PBNJ).
+       */
+      runningJob = runJobWithConfig(
+          jobConf,
+          new InProcessJobClientWrapper(
+              pushJobSetting.inProcessPushEngineParallelism,
+              pushJobSetting.inProcessPushEngineSortBufferSize,
+              pushJobSetting.inProcessPushEngineWorkDir));
+    } else {
+      runningJob = runJobWithConfig(jobConf);
+    }
     validateCountersAfterPush();
     Optional<ErrorMessage> errorMessage = updatePushJobDetailsWithMRDetails();
     if (errorMessage.isPresent()) {
@@ -1538,6 +1585,10 @@ public class VenicePushJob implements AutoCloseable {
     if (jobClientWrapper == null) {
       jobClientWrapper = new DefaultJobClientWrapper();
     }
+    return runJobWithConfig(jobConf, jobClientWrapper);
+  }
+
+  private RunningJob runJobWithConfig(JobConf jobConf, JobClientWrapper jobClientWrapper) throws IOException {
     try {
       return jobClientWrapper.runJobWithConfig(jobConf);
     } catch (Exception e) {
@@ -2128,7 +2179,9 @@ public class VenicePushJob implements AutoCloseable {
       Optional<ByteBuffer> optionalCompressionDictionary) {
     Version.PushType pushType = getPushType(setting);
     boolean askControllerToSendControlMessage = !pushJobSetting.sendControlMessagesDirectly;
-    final String partitioners = props.getString(VENICE_PARTITIONERS, DefaultVenicePartitioner.class.getName());
+    final String partitioners = props.getString(
+        VENICE_PARTITIONERS,
+        DefaultVenicePartitioner.class.getName() + "," + XxHash64VenicePartitioner.class.getName());
 
     Optional<String> dictionary;
     if (askControllerToSendControlMessage) {
@@ -2286,6 +2339,13 @@ public class VenicePushJob implements AutoCloseable {
     if (props.containsKey(VeniceWriter.CLOSE_TIMEOUT_MS)) { /* Writer uses default if not specified */
       veniceWriterProperties.put(VeniceWriter.CLOSE_TIMEOUT_MS, props.getInt(VeniceWriter.CLOSE_TIMEOUT_MS));
     }
+    if (props.containsKey(VeniceWriter.CHECK_SUM_TYPE)) {
+      /**
+       * The reducers get it as well, since all the {@link VeniceWriter.VENICE_WRITER_CONFIG_PREFIX} properties are
+       * passed through to the job config.
+       */
+      veniceWriterProperties.put(VeniceWriter.CHECK_SUM_TYPE, props.getString(VeniceWriter.CHECK_SUM_TYPE));
+    }
     if (sslToKafka) {
       veniceWriterProperties.putAll(this.sslProperties.get());
     }
@@ -0,0 +1,294 @@
+package com.linkedin.venice.hadoop;
+
+import static com.linkedin.venice.hadoop.VenicePushJob.STORAGE_QUOTA_PROP;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.writer.AbstractVeniceWriter;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.mapred.AvroWrapper;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.InputFormat;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+/**
+ * Runs the real {@link VeniceAvroMapper} and {@link VeniceReducer} through {@link InProcessJobClientWrapper}, with a
+ * mock {@link AbstractVeniceWriter} per reduce task.
+ */
+public class TestInProcessJobClientWrapper extends AbstractTestVeniceMR {
+  private static final int PARTITION_COUNT = 3;
+  private static final String INPUT_PROP = "in.process.test.input";
+  private static final String FAILING_VALUE = "fail";
+  private static final String BROKEN_SPLIT = "broken";
+
+  /**
+   * Reduce task id -> the writer of the task.
+   */
+  private static final Map<Integer, AbstractVeniceWriter> WRITERS = new VeniceConcurrentHashMap<>();
+  /**
+   * Key -> value, for all the records written by the reducers.
+   */
+  private static final Map<String, String> WRITTEN_RECORDS = new VeniceConcurrentHashMap<>();
+  private static final Set<Integer> FAILED_TASKS = VeniceConcurrentHashMap.newKeySet();
+
+  @BeforeMethod
+  public void setUp() {
+    WRITERS.clear();
+    WRITTEN_RECORDS.clear();
+    FAILED_TASKS.clear();
+  }
+
+  @Test
+  public void testPush() throws IOException {
+    // The quota is checked against the counters of the map phase, through the job client of the wrapper.
+    JobConf jobConf = setupInProcessJobConf("key1:value1,key2:value2,key3:value3", "key4:value4,key5:value5");
+    jobConf.setLong(STORAGE_QUOTA_PROP, 1024 * 1024);
+    RunningJob runningJob = runJob(jobConf, 4 * 1024);
+
+    Assert.assertTrue(runningJob.isSuccessful());
+    Map<String, String> expectedRecords = new HashMap<>();
+    for (int i = 1; i <= 5; i++) {
+      expectedRecords.put("key" + i, "value" + i);
+    }
+    Assert.assertEquals(WRITTEN_RECORDS, expectedRecords);
+    Counters counters = runningJob.getCounters();
+    Assert.assertEquals(MRJobCounterHelper.getOutputRecordsCount(counters), 5);
+    Assert.assertTrue(MRJobCounterHelper.getTotalKeySize(counters) > 0);
+    Assert.assertEquals(MRJobCounterHelper.getDuplicateKeyWithDistinctCount(counters), 0);
+    Assert.assertEquals(MRJobCounterHelper.getMapperSprayAllPartitionsTriggeredCount(counters), 1);
+    // All the reducers completed, so they end their segments.
+    Assert.assertEquals(MRJobCounterHelper.getReducerClosedCount(counters), PARTITION_COUNT);
+    Assert.assertEquals(WRITERS.size(), PARTITION_COUNT);
+    for (AbstractVeniceWriter writer: WRITERS.values()) {
+      Assert.assertTrue(isClosed(writer, true));
+    }
+  }
+
+  @Test
+  public void testExceededQuota() throws IOException {
+    JobConf jobConf = setupInProcessJobConf("key1:value1,key2:value2", "key3:value3");
+    jobConf.setLong(STORAGE_QUOTA_PROP, 10);
+    RunningJob runningJob = runJob(jobConf, 4 * 1024);
+
+    Assert.assertTrue(runningJob.isSuccessful());
+    Assert.assertTrue(WRITTEN_RECORDS.isEmpty());
+    Assert.assertEquals(MRJobCounterHelper.getOutputRecordsCount(runningJob.getCounters()), 0);
+    Assert.assertEquals(WRITERS.size(), PARTITION_COUNT);
+    for (AbstractVeniceWriter writer: WRITERS.values()) {
+      verify(writer, never()).put(any(), any(), anyInt(), any(), any());
+    }
+  }
+
+  @Test
+  public void testDuplicateKeysAcrossSpilledRuns() throws IOException {
+    // Every record is spilled to its own run, so the values of each key are merged from several runs.
+    JobConf jobConf = setupInProcessJobConf("key1:value1,dup:a,key2:value2", "dup:b,key3:value3");
+    RunningJob runningJob = runJob(jobConf, 1);
+
+    Assert.assertTrue(runningJob.isSuccessful());
+    Assert.assertEquals(MRJobCounterHelper.getDuplicateKeyWithDistinctCount(runningJob.getCounters()), 1);
+    Assert.assertTrue(WRITTEN_RECORDS.containsKey("dup"));
+  }
+
+  @Test
+  public void testReduceTaskFailure() {
+    JobConf jobConf = setupInProcessJobConf("key1:value1,key2:" + FAILING_VALUE, "key3:value3");
+    IOException e = Assert.expectThrows(IOException.class, () -> runJob(jobConf, 4 * 1024));
+    Assert.assertTrue(e.getCause() instanceof VeniceException, String.valueOf(e.getCause()));
+    Assert.assertEquals(e.getCause().getMessage(), "Failed to write key: key2");
+    // The failed reducer doesn't end its segments.
+    Assert.assertEquals(FAILED_TASKS.size(), 1);
+    Assert.assertTrue(isClosed(WRITERS.get(FAILED_TASKS.iterator().next()), false));
+  }
+
+  @Test
+  public void testMapTaskFailure() {
+    JobConf jobConf = setupInProcessJobConf("key1:value1", BROKEN_SPLIT);
+    IOException e = Assert.expectThrows(IOException.class, () -> runJob(jobConf, 4 * 1024));
+    Assert.assertTrue(e.getCause() instanceof IOException, String.valueOf(e.getCause()));
+    Assert.assertEquals(e.getCause().getMessage(), "Broken split");
+    // No reducer runs once the map phase failed.
+    Assert.assertTrue(WRITERS.isEmpty());
+  }
+
+  private static boolean isClosed(AbstractVeniceWriter writer, boolean gracefulClose) {
+    return mockingDetails(writer).getInvocations()
+        .stream()
+        .anyMatch(
+            invocation -> invocation.getMethod().getName().equals("close") && invocation.getArguments().length == 1
+                && invocation.getArguments()[0].equals(gracefulClose));
+  }
+
+  private RunningJob runJob(JobConf jobConf, long sortBufferSizeInBytes) throws IOException {
+    String workDirectory = Utils.getTempDataDirectory().getAbsolutePath();
+    return new InProcessJobClientWrapper(2, sortBufferSizeInBytes, workDirectory).runJobWithConfig(jobConf);
+  }
+
+  /**
+   * @param splits the records of each split, as comma-separated "key:value" pairs.
+   */
+  private JobConf setupInProcessJobConf(String... splits) {
+    JobConf jobConf = setupJobConf();
+    jobConf.set(INPUT_PROP, String.join(";", splits));
+    jobConf.setInputFormat(TestInputFormat.class);
+    jobConf.setMapperClass(VeniceAvroMapper.class);
+    jobConf.setPartitionerClass(VeniceMRPartitioner.class);
+    jobConf.setReducerClass(MockWriterReducer.class);
+    jobConf.setNumReduceTasks(PARTITION_COUNT);
+    jobConf.setMapOutputKeyClass(BytesWritable.class);
+    jobConf.setMapOutputValueClass(BytesWritable.class);
+    return jobConf;
+  }
+
+  /**
+   * A {@link VeniceReducer} which writes to a mock writer, which acknowledges each record to the partition of the
+   * reduce task, and fails the records whose value is {@link #FAILING_VALUE}.
+   */
+  public static class MockWriterReducer extends VeniceReducer {
+    @Override
+    protected void configureTask(VeniceProperties props, JobConf job) {
+      super.configureTask(props, job);
+      int taskId = getTaskId();
+      VeniceAvroKafkaSerializer serializer = new VeniceAvroKafkaSerializer("\"string\"");
+      AbstractVeniceWriter writer = mock(AbstractVeniceWriter.class);
+      doAnswer(invocation -> {
+        String key = serializer.deserialize(TOPIC_NAME, invocation.getArgument(0)).toString();
+        String value = serializer.deserialize(TOPIC_NAME, invocation.getArgument(1)).toString();
+        if (value.equals(FAILING_VALUE)) {
+          FAILED_TASKS.add(taskId);
+          throw new VeniceException("Failed to write key: " + key);
+        }
+        WRITTEN_RECORDS.put(key, value);
+        Callback callback = invocation.getArgument(3);
+        callback.onCompletion(new RecordMetadata(new TopicPartition(TOPIC_NAME, taskId), 0, 0, 0, 0L, 0, 0), null);
+        return null;
+      }).when(writer).put(any(), any(), anyInt(), any(), any());
+      WRITERS.put(taskId, writer);
+      setVeniceWriter(writer);
+    }
+  }
+
+  /**
+   * Reads the records of each split from the {@link #INPUT_PROP} of the job.
+   */
+  public static class TestInputFormat implements InputFormat<AvroWrapper<IndexedRecord>, NullWritable> {
+    @Override
+    public InputSplit[] getSplits(JobConf job, int numSplits) {
+      return Arrays.stream(job.get(INPUT_PROP).split(";")).map(TestInputSplit::new).toArray(InputSplit[]::new);
+    }
+
+    @Override
+    public RecordReader<AvroWrapper<IndexedRecord>, NullWritable> getRecordReader(
+        InputSplit split,
+        JobConf job,
+        Reporter reporter) throws IOException {
+      String records = ((TestInputSplit) split).records;
+      if (records.equals(BROKEN_SPLIT)) {
+        throw new IOException("Broken split");
+      }
+      Schema schema = new Schema.Parser().parse(SCHEMA_STR);
+      Iterator<String> iterator = Arrays.asList(records.split(",")).iterator();
+      return new RecordReader<AvroWrapper<IndexedRecord>, NullWritable>() {
+        @Override
+        public boolean next(AvroWrapper<IndexedRecord> key, NullWritable value) {
+          if (!iterator.hasNext()) {
+            return false;
+          }
+          String[] keyAndValue = iterator.next().split(":");
+          GenericRecord record = new GenericData.Record(schema);
+          record.put(KEY_FIELD, keyAndValue[0]);
+          record.put(VALUE_FIELD, keyAndValue[1]);
+          key.datum(record);
+          return true;
+        }
+
+        @Override
+        public AvroWrapper<IndexedRecord> createKey() {
+          return new AvroWrapper<>();
+        }
+
+        @Override
+        public NullWritable createValue() {
+          return NullWritable.get();
+        }
+
+        @Override
+        public long getPos() {
+          return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public float getProgress() {
+          return iterator.hasNext() ? 0 : 1;
+        }
+      };
+    }
+  }
+
+  private static class TestInputSplit implements InputSplit {
+    private String records;
+
+    TestInputSplit(String records) {
+      this.records = records;
+    }
+
+    @Override
+    public long getLength() {
+      return records.length();
+    }
+
+    @Override
+    public String[] getLocations() {
+      return new String[0];
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+      Text.writeString(out, records);
+    }
+
+    @Override
+    public void readFields(DataInput in) throws IOException {
+      records = Text.readString(in);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.apache.hadoop.io.BytesWritable;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestInProcessShuffle {
+  private static final int PARTITION_COUNT = 3;
+
+  @DataProvider(name = "maxMergeFactors")
+  public static Object[][] maxMergeFactors() {
+    // A max merge factor of 2 leads to the most passes, while the default one merges all the runs at once.
+    return new Object[][] { { 2 }, { 5 }, { InProcessShuffle.DEFAULT_MAX_MERGE_FACTOR } };
+  }
+
+  @Test(dataProvider = "maxMergeFactors")
+  public void testMergeOfSpilledRuns(int maxMergeFactor) throws Exception {
+    File directory = Utils.getTempDataDirectory();
+    InProcessShuffle shuffle = new InProcessShuffle(directory, PARTITION_COUNT, maxMergeFactor);
+    // Keep the expected values of each key sorted, since the shuffle doesn't guarantee the order of the values.
+    List<Map<BytesWritable, List<BytesWritable>>> expected = new ArrayList<>();
+    for (int i = 0; i < PARTITION_COUNT; i++) {
+      expected.add(new TreeMap<>());
+    }
+
+    Random random = new Random(42);
+    // Two map tasks, whose small buffers lead to many runs per partition.
+    for (int task = 0; task < 2; task++) {
+      InProcessShuffle.MapOutputBuffer buffer = shuffle.newMapOutputBuffer(4 * 1024);
+      BytesWritable key = new BytesWritable();
+      BytesWritable value = new BytesWritable();
+      for (int i = 0; i < 1000; i++) {
+        // Reuse the same writables, like the mappers, and include some duplicate and empty keys.
+        byte[] keyBytes = new byte[random.nextInt(4)];
+        random.nextBytes(keyBytes);
+        byte[] valueBytes = Integer.toString(i).getBytes();
+        key.set(keyBytes, 0, keyBytes.length);
+        value.set(valueBytes, 0, valueBytes.length);
+        int partition = random.nextInt(PARTITION_COUNT);
+        buffer.add(partition, key, value);
+        expected.get(partition)
+            .computeIfAbsent(new BytesWritable(keyBytes), k -> new ArrayList<>())
+            .add(new BytesWritable(valueBytes));
+      }
+      buffer.spill();
+    }
+
+    for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+      Assert.assertTrue(shuffle.getRunCount(partition) > 5);
+      Iterator<Map.Entry<BytesWritable, List<BytesWritable>>> expectedIterator =
+          expected.get(partition).entrySet().iterator();
+      try (InProcessShuffle.SortedRunMerger merger = shuffle.merge(partition)) {
+        while (merger.nextKey()) {
+          Map.Entry<BytesWritable, List<BytesWritable>> expectedEntry = expectedIterator.next();
+          Assert.assertEquals(merger.getCurrentKey(), expectedEntry.getKey());
+          List<BytesWritable> values = new ArrayList<>();
+          merger.getValues().forEachRemaining(values::add);
+          Collections.sort(values);
+          Collections.sort(expectedEntry.getValue());
+          Assert.assertEquals(values, expectedEntry.getValue());
+        }
+      }
+      Assert.assertFalse(expectedIterator.hasNext());
+    }
+    // The run files, including the intermediate ones, are deleted once merged.
+    Assert.assertEquals(directory.list().length, 0);
+  }
+
+  @Test
+  public void testUnconsumedValuesAreSkipped() throws Exception {
+    InProcessShuffle shuffle = new InProcessShuffle(Utils.getTempDataDirectory(), 1);
+    InProcessShuffle.MapOutputBuffer buffer = shuffle.newMapOutputBuffer(1024 * 1024);
+    for (String key: new String[] { "b", "a", "b", "c", "b" }) {
+      buffer.add(0, new BytesWritable(key.getBytes()), new BytesWritable(key.getBytes()));
+    }
+    buffer.spill();
+
+    List<String> keys = new ArrayList<>();
+    try (InProcessShuffle.SortedRunMerger merger = shuffle.merge(0)) {
+      while (merger.nextKey()) {
+        keys.add(new String(merger.getCurrentKey().copyBytes()));
+      }
+    }
+    Assert.assertEquals(keys, Arrays.asList("a", "b", "c"));
+  }
+}
@@ -80,6 +80,22 @@ public class VeniceSystemFactory implements SystemFactory, Serializable {
    */
   public static final String VENICE_AGGREGATE = "aggregate";
 
+  /**
+   * The linger window, in milliseconds, within which the writes of a real-time producer to the same key are coalesced,
+   * so that the writes which are superseded within the window never get produced.
+   * By default, it is '0', which disables write coalescing.
+   *
+   * @see VeniceWriteCoalescer
+   */
+  public static final String VENICE_WRITE_COALESCING_LINGER_MS = "write.coalescing.linger.ms";
+
+  /**
+   * The maximum size of the writes buffered by a coalescing producer, beyond which they are produced before the end
+   * of the linger window.
+   */
+  public static final String VENICE_WRITE_COALESCING_MAX_BUFFERED_BYTES = "write.coalescing.max.buffered.bytes";
+  public static final long DEFAULT_WRITE_COALESCING_MAX_BUFFERED_BYTES = 16 * 1024 * 1024;
+
   /**
    * D2 ZK hosts for Venice Child Cluster.
    */
@@ -292,6 +308,16 @@ public class VeniceSystemFactory implements SystemFactory, Serializable {
       boolean veniceAggregate,
       String pushTypeString,
       Config config) {
+    return getProducer(systemName, storeName, veniceAggregate, pushTypeString, config, null);
+  }
+
+  private SystemProducer getProducer(
+      String systemName,
+      String storeName,
+      boolean veniceAggregate,
+      String pushTypeString,
+      Config config,
+      MetricsRegistry registry) {
     if (isEmpty(storeName)) {
       throw new SamzaException(VENICE_STORE + " should not be null for system " + systemName);
     }
@@ -400,6 +426,22 @@ public class VeniceSystemFactory implements SystemFactory, Serializable {
                 // need this
         sslFactory,
         partitioners);
+
+    long writeCoalescingLingerMs = config.getLong(prefix + VENICE_WRITE_COALESCING_LINGER_MS, 0);
+    if (writeCoalescingLingerMs > 0) {
+      if (systemProducer instanceof VeniceSystemProducer) {
+        long writeCoalescingMaxBufferedBytes = config
+            .getLong(prefix + VENICE_WRITE_COALESCING_MAX_BUFFERED_BYTES, DEFAULT_WRITE_COALESCING_MAX_BUFFERED_BYTES);
+        LOGGER.info("{}{}: {}", prefix, VENICE_WRITE_COALESCING_LINGER_MS, writeCoalescingLingerMs);
+        LOGGER.info("{}{}: {}", prefix, VENICE_WRITE_COALESCING_MAX_BUFFERED_BYTES, writeCoalescingMaxBufferedBytes);
+        ((VeniceSystemProducer) systemProducer)
+            .enableWriteCoalescing(writeCoalescingLingerMs, writeCoalescingMaxBufferedBytes, registry);
+      } else {
+        LOGGER.warn(
+            "Write coalescing is not supported by producer: {}, ignoring it",
+            systemProducer.getClass().getName());
+      }
+    }
     this.systemProducerStatues.computeIfAbsent(systemProducer, k -> Pair.create(true, false));
     return systemProducer;
   }
@@ -414,7 +456,7 @@ public class VeniceSystemFactory implements SystemFactory, Serializable {
     final String storeName = config.get(prefix + VENICE_STORE);
     final boolean veniceAggregate = config.getBoolean(prefix + VENICE_AGGREGATE, false);
     final String pushTypeString = config.get(prefix + VENICE_PUSH_TYPE);
-    return getProducer(systemName, storeName, veniceAggregate, pushTypeString, config);
+    return getProducer(systemName, storeName, veniceAggregate, pushTypeString, config, registry);
   }
 
   /**
@@ -64,6 +64,7 @@ import org.apache.kafka.clients.producer.Callback;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.samza.SamzaException;
+import org.apache.samza.metrics.MetricsRegistry;
 import org.apache.samza.system.OutgoingMessageEnvelope;
 import org.apache.samza.system.SystemProducer;
 
@@ -142,6 +143,10 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
   private boolean isStarted = false;
 
   private VeniceWriter<byte[], byte[], byte[]> veniceWriter = null;
+  private long writeCoalescingLingerMs = 0;
+  private long writeCoalescingMaxBufferedBytes;
+  private MetricsRegistry metricsRegistry = null;
+  private VeniceWriteCoalescer writeCoalescer = null;
   private Optional<RouterBasedPushMonitor> pushMonitor = Optional.empty();
   private Optional<RouterBasedHybridStoreQuotaMonitor> hybridStoreQuotaMonitor = Optional.empty();
 
@@ -340,6 +345,21 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
         .createBasicVeniceWriter(store.getKafkaTopic(), time, isChunkingEnabled, venicePartitioner, partitionCount);
   }
 
+  /**
+   * Makes the writes to the real-time topic go through a {@link VeniceWriteCoalescer}, which coalesces the writes to
+   * the same key within the given linger window. This should be called before {@link #start()}.
+   *
+   * @param metricsRegistry to report the coalescing metrics to, or null.
+   */
+  public void enableWriteCoalescing(long lingerMs, long maxBufferedBytes, MetricsRegistry metricsRegistry) {
+    if (lingerMs <= 0) {
+      throw new IllegalArgumentException("The write coalescing linger window should be positive, but got: " + lingerMs);
+    }
+    this.writeCoalescingLingerMs = lingerMs;
+    this.writeCoalescingMaxBufferedBytes = maxBufferedBytes;
+    this.metricsRegistry = metricsRegistry;
+  }
+
   @Override
   public synchronized void start() {
     if (this.isStarted) {
@@ -456,6 +476,24 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
 
     this.veniceWriter = getVeniceWriter(versionCreationResponse);
 
+    if (writeCoalescingLingerMs > 0) {
+      if (pushType.equals(Version.PushType.STREAM)) {
+        LOGGER.info(
+            "Coalescing the writes to store: {} with a linger window of {} ms and up to {} buffered bytes",
+            storeName,
+            writeCoalescingLingerMs,
+            writeCoalescingMaxBufferedBytes);
+        this.writeCoalescer = new VeniceWriteCoalescer(
+            veniceWriter,
+            writeCoalescingLingerMs,
+            writeCoalescingMaxBufferedBytes,
+            metricsRegistry,
+            VeniceSystemProducer.class.getSimpleName() + "-" + storeName);
+      } else {
+        LOGGER.warn("Write coalescing is only supported for real-time writes, ignoring it for push type: {}", pushType);
+      }
+    }
+
     if (pushMonitor.isPresent()) {
       /**
        * If the stream reprocessing job has finished, push monitor will exit the Samza process directly.
@@ -487,7 +525,8 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
   @Override
   public synchronized void stop() {
     this.isStarted = false;
-    Utils.closeQuietlyWithErrorLogged(veniceWriter);
+    // The buffered writes are produced before the writer gets closed.
+    Utils.closeQuietlyWithErrorLogged(writeCoalescer, veniceWriter);
     if (Version.PushType.STREAM_REPROCESSING.equals(pushType) && pushMonitor.isPresent()) {
       String versionTopic = Version.composeVersionTopicFromStreamReprocessingTopic(topicName);
       switch (pushMonitor.get().getCurrentStatus()) {
@@ -583,8 +622,6 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
     }
 
     byte[] key = serializeObject(topicName, keyObject);
-    final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-    final Callback callback = new CompletableFutureCallback(completableFuture);
 
     long logicalTimestamp = -1;
     if (valueObject instanceof VeniceObjectWithTimestamp) {
@@ -599,50 +636,91 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
     }
 
     if (valueObject == null) {
+      if (writeCoalescer != null) {
+        return writeCoalescer.delete(key, logicalTimestamp);
+      }
+      return write(key, null, -1, -1, logicalTimestamp);
+    }
+
+    Schema valueObjectSchema = getSchemaFromObject(valueObject);
+
+    Pair<Integer, Integer> valueSchemaIdPair = valueSchemaIds.computeIfAbsent(valueObjectSchema, valueSchema -> {
+      SchemaResponse valueSchemaResponse = (SchemaResponse) controllerRequestWithRetry(
+          () -> controllerClient.getValueOrDerivedSchemaId(storeName, valueSchema.toString()),
+          2);
+      LOGGER.info("Got [store: {}] SchemaResponse for schema: {}", storeName, valueSchema);
+      return new Pair<>(valueSchemaResponse.getId(), valueSchemaResponse.getDerivedSchemaId());
+    });
+
+    byte[] value = serializeObject(topicName, valueObject);
+    int valueSchemaId = valueSchemaIdPair.getFirst();
+    int derivedSchemaId = valueSchemaIdPair.getSecond();
+
+    if (derivedSchemaId == -1) {
+      if (writeCoalescer != null) {
+        return writeCoalescer.put(key, value, valueSchemaId, logicalTimestamp);
+      }
+    } else {
+      if (!isWriteComputeEnabled) {
+        throw new SamzaException(
+            "Cannot write partial update record to Venice store " + storeName + " "
+                + "because write-compute is not enabled for it. Please contact Venice team to configure it.");
+      }
+      if (writeCoalescer != null) {
+        VeniceAvroKafkaSerializer updateSerializer =
+            valueObject instanceof IndexedRecord ? getSerializer(((IndexedRecord) valueObject).getSchema()) : null;
+        return writeCoalescer.update(key, value, valueSchemaId, derivedSchemaId, logicalTimestamp, updateSerializer);
+      }
+    }
+    return write(key, value, valueSchemaId, derivedSchemaId, logicalTimestamp);
+  }
+
+  private CompletableFuture<Void> write(
+      byte[] key,
+      byte[] value,
+      int valueSchemaId,
+      int derivedSchemaId,
+      long logicalTimestamp) {
+    final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+    final Callback callback = new CompletableFutureCallback(completableFuture);
+    write(veniceWriter, key, value, valueSchemaId, derivedSchemaId, logicalTimestamp, callback);
+    return completableFuture;
+  }
+
+  /**
+   * Writes a serialized record with the given {@link VeniceWriter}.
+   *
+   * @param value the serialized value or partial update, or null for a delete.
+   * @param derivedSchemaId the derived schema id of a partial update, or -1 for a put or a delete.
+   * @param logicalTimestamp the logical timestamp of the record, or -1 if it doesn't have any.
+   */
+  static void write(
+      VeniceWriter<byte[], byte[], byte[]> veniceWriter,
+      byte[] key,
+      byte[] value,
+      int valueSchemaId,
+      int derivedSchemaId,
+      long logicalTimestamp,
+      Callback callback) {
+    if (value == null) {
       if (logicalTimestamp > 0) {
         veniceWriter.delete(key, logicalTimestamp, callback);
       } else {
         veniceWriter.delete(key, callback);
       }
+    } else if (derivedSchemaId == -1) {
+      if (logicalTimestamp > 0) {
+        veniceWriter.put(key, value, valueSchemaId, logicalTimestamp, callback);
+      } else {
+        veniceWriter.put(key, value, valueSchemaId, callback);
+      }
     } else {
-      Schema valueObjectSchema = getSchemaFromObject(valueObject);
-
-      Pair<Integer, Integer> valueSchemaIdPair = valueSchemaIds.computeIfAbsent(valueObjectSchema, valueSchema -> {
-        SchemaResponse valueSchemaResponse = (SchemaResponse) controllerRequestWithRetry(
-            () -> controllerClient.getValueOrDerivedSchemaId(storeName, valueSchema.toString()),
-            2);
-        LOGGER.info("Got [store: {}] SchemaResponse for schema: {}", storeName, valueSchema);
-        return new Pair<>(valueSchemaResponse.getId(), valueSchemaResponse.getDerivedSchemaId());
-      });
-
-      byte[] value = serializeObject(topicName, valueObject);
-
-      if (valueSchemaIdPair.getSecond() == -1) {
-        if (logicalTimestamp > 0) {
-          veniceWriter.put(key, value, valueSchemaIdPair.getFirst(), logicalTimestamp, callback);
-        } else {
-          veniceWriter.put(key, value, valueSchemaIdPair.getFirst(), callback);
-        }
+      if (logicalTimestamp > 0) {
+        veniceWriter.update(key, value, valueSchemaId, derivedSchemaId, callback, logicalTimestamp);
       } else {
-        if (!isWriteComputeEnabled) {
-          throw new SamzaException(
-              "Cannot write partial update record to Venice store " + storeName + " "
-                  + "because write-compute is not enabled for it. Please contact Venice team to configure it.");
-        }
-        if (logicalTimestamp > 0) {
-          veniceWriter.update(
-              key,
-              value,
-              valueSchemaIdPair.getFirst(),
-              valueSchemaIdPair.getSecond(),
-              callback,
-              logicalTimestamp);
-        } else {
-          veniceWriter.update(key, value, valueSchemaIdPair.getFirst(), valueSchemaIdPair.getSecond(), callback);
-        }
+        veniceWriter.update(key, value, valueSchemaId, derivedSchemaId, callback);
       }
     }
-    return completableFuture;
   }
 
   public CompletableFuture<Void> put(Object keyObject, Object valueObject) {
@@ -660,6 +738,9 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
    */
   @Override
   public void flush(String s) {
+    if (writeCoalescer != null) {
+      writeCoalescer.flush();
+    }
     veniceWriter.flush();
   }
 
@@ -690,9 +771,7 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
 
   private byte[] serializeObject(String topic, Object input) {
     if (input instanceof IndexedRecord) {
-      VeniceAvroKafkaSerializer serializer =
-          serializers.computeIfAbsent(((IndexedRecord) input).getSchema().toString(), VeniceAvroKafkaSerializer::new);
-      return serializer.serialize(topic, input);
+      return getSerializer(((IndexedRecord) input).getSchema()).serialize(topic, input);
     } else if (input instanceof CharSequence) {
       return serializePrimitive(new Utf8(input.toString()), STRING_DATUM_WRITER);
     } else if (input instanceof Integer) {
@@ -715,6 +794,10 @@ public class VeniceSystemProducer implements SystemProducer, Closeable {
     }
   }
 
+  private VeniceAvroKafkaSerializer getSerializer(Schema schema) {
+    return serializers.computeIfAbsent(schema.toString(), VeniceAvroKafkaSerializer::new);
+  }
+
   /**
    * @param input primitive object to be serialized (Utf8, int, ...)
    * @param writer DatumWriter to use for the serialization
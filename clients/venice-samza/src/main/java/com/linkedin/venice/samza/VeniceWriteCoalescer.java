@@ -0,0 +1,313 @@
+package com.linkedin.venice.samza;
+
+import static com.linkedin.venice.schema.writecompute.WriteComputeOperation.NO_OP_ON_FIELD;
+import static com.linkedin.venice.schema.writecompute.WriteComputeOperation.PUT_NEW_FIELD;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.schema.writecompute.WriteComputeOperation;
+import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.writer.CompletableFutureCallback;
+import com.linkedin.venice.writer.VeniceWriter;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.samza.metrics.Counter;
+import org.apache.samza.metrics.Gauge;
+import org.apache.samza.metrics.MetricsRegistry;
+
+
+/**
+ * Buffers the writes of a {@link VeniceSystemProducer} for a linger window, so that the writes to hot keys which are
+ * superseded within the window are never produced to the real-time topic, nor ingested by the leaders. At most one
+ * write per key is buffered:
+ *
+ * 1. A put or a delete replaces the write which is buffered for the same key.
+ * 2. A partial update is merged into the partial update which is buffered for the same key, as long as each field is
+ *    either left untouched by one of them, or fully replaced by the latter.
+ *
+ * The writes which can't be coalesced, e.g. a partial update following a put, or a write with an older logical
+ * timestamp than the buffered one, cause the buffered write of the same key to be produced right away, so that the
+ * writes of each key are produced in order, with their logical timestamp. Writes without a logical timestamp are
+ * only coalesced together, and they are stamped with the time they are produced at, like any other write.
+ *
+ * The buffered writes are produced at the end of each linger window, when the buffered writes exceed the memory
+ * bound, or when the producer is flushed.
+ */
+public class VeniceWriteCoalescer implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(VeniceWriteCoalescer.class);
+
+  private final VeniceWriter<byte[], byte[], byte[]> veniceWriter;
+  private final long maxBufferedBytes;
+  private final ScheduledExecutorService flushExecutor;
+  // Keyed by the serialized key, in the order the keys were first buffered in.
+  private final Map<ByteBuffer, PendingWrite> pendingWrites = new LinkedHashMap<>();
+  private long bufferedBytes = 0;
+  private boolean isClosed = false;
+
+  private long inputRecordCount = 0;
+  private long outputRecordCount = 0;
+  private final Counter inputRecordCounter;
+  private final Counter outputRecordCounter;
+  private final Gauge<Double> coalescingRatioGauge;
+
+  /**
+   * @param metricsRegistry to report the coalescing metrics to, under the given group, or null.
+   */
+  public VeniceWriteCoalescer(
+      VeniceWriter<byte[], byte[], byte[]> veniceWriter,
+      long lingerMs,
+      long maxBufferedBytes,
+      MetricsRegistry metricsRegistry,
+      String metricsGroup) {
+    if (lingerMs <= 0) {
+      throw new IllegalArgumentException("The linger window should be positive, but got: " + lingerMs);
+    }
+    this.veniceWriter = veniceWriter;
+    this.maxBufferedBytes = maxBufferedBytes;
+    if (metricsRegistry != null) {
+      this.inputRecordCounter = metricsRegistry.newCounter(metricsGroup, "write_coalescing_input_record_count");
+      this.outputRecordCounter = metricsRegistry.newCounter(metricsGroup, "write_coalescing_output_record_count");
+      this.coalescingRatioGauge = metricsRegistry.newGauge(metricsGroup, "write_coalescing_ratio", 1.0);
+    } else {
+      this.inputRecordCounter = null;
+      this.outputRecordCounter = null;
+      this.coalescingRatioGauge = null;
+    }
+    this.flushExecutor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("venice-write-coalescer"));
+    this.flushExecutor.scheduleAtFixedRate(this::flushQuietly, lingerMs, lingerMs, TimeUnit.MILLISECONDS);
+  }
+
+  public CompletableFuture<Void> put(byte[] key, byte[] value, int valueSchemaId, long logicalTimestamp) {
+    return buffer(new PendingWrite(key, value, valueSchemaId, -1, logicalTimestamp, null));
+  }
+
+  public CompletableFuture<Void> delete(byte[] key, long logicalTimestamp) {
+    return buffer(new PendingWrite(key, null, -1, -1, logicalTimestamp, null));
+  }
+
+  /**
+   * @param updateSerializer the serializer of the partial update, which is used to merge partial updates to the same
+   *                         key, or null if the partial update should not be merged.
+   */
+  public CompletableFuture<Void> update(
+      byte[] key,
+      byte[] update,
+      int valueSchemaId,
+      int derivedSchemaId,
+      long logicalTimestamp,
+      VeniceAvroKafkaSerializer updateSerializer) {
+    return buffer(new PendingWrite(key, update, valueSchemaId, derivedSchemaId, logicalTimestamp, updateSerializer));
+  }
+
+  /**
+   * Produces all the buffered writes.
+   */
+  public synchronized void flush() {
+    Iterator<PendingWrite> iterator = pendingWrites.values().iterator();
+    while (iterator.hasNext()) {
+      PendingWrite write = iterator.next();
+      iterator.remove();
+      bufferedBytes -= write.getSize();
+      produce(write);
+    }
+  }
+
+  /**
+   * @return the average number of writes which were coalesced into each produced write, so far.
+   */
+  public synchronized double getCoalescingRatio() {
+    return outputRecordCount == 0 ? 1.0 : (double) inputRecordCount / outputRecordCount;
+  }
+
+  @Override
+  public void close() {
+    flushExecutor.shutdown();
+    synchronized (this) {
+      flush();
+      isClosed = true;
+    }
+    LOGGER.info(
+        "Closed the write coalescer after coalescing {} writes into {} records",
+        inputRecordCount,
+        outputRecordCount);
+  }
+
+  private synchronized CompletableFuture<Void> buffer(PendingWrite write) {
+    if (isClosed) {
+      throw new VeniceException("The write coalescer is already closed");
+    }
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    write.futures.add(future);
+    inputRecordCount++;
+    if (inputRecordCounter != null) {
+      inputRecordCounter.inc();
+    }
+
+    ByteBuffer key = ByteBuffer.wrap(write.key);
+    PendingWrite bufferedWrite = pendingWrites.remove(key);
+    if (bufferedWrite != null) {
+      bufferedBytes -= bufferedWrite.getSize();
+      if (!coalesce(bufferedWrite, write)) {
+        // Produce the buffered write first, to preserve the order of the writes of this key.
+        produce(bufferedWrite);
+      }
+    }
+    pendingWrites.put(key, write);
+    bufferedBytes += write.getSize();
+    if (bufferedBytes >= maxBufferedBytes) {
+      flush();
+    }
+    return future;
+  }
+
+  /**
+   * Coalesces the buffered write into the new write of the same key, if possible.
+   *
+   * @return whether the buffered write was coalesced, in which case it should not be produced.
+   */
+  private static boolean coalesce(PendingWrite bufferedWrite, PendingWrite write) {
+    if (write.isUpdate()) {
+      if (!bufferedWrite.isUpdate() || bufferedWrite.valueSchemaId != write.valueSchemaId
+          || bufferedWrite.derivedSchemaId != write.derivedSchemaId
+          || bufferedWrite.logicalTimestamp != write.logicalTimestamp) {
+        return false;
+      }
+      byte[] mergedUpdate = mergeUpdates(bufferedWrite.value, write.value, write.updateSerializer);
+      if (mergedUpdate == null) {
+        return false;
+      }
+      write.value = mergedUpdate;
+    } else {
+      // A put or a delete supersedes any previous write, unless it would lose against it because of its timestamp.
+      boolean hasLogicalTimestamp = write.logicalTimestamp > 0;
+      if (hasLogicalTimestamp != (bufferedWrite.logicalTimestamp > 0)
+          || write.logicalTimestamp < bufferedWrite.logicalTimestamp) {
+        return false;
+      }
+    }
+    write.futures.addAll(0, bufferedWrite.futures);
+    return true;
+  }
+
+  /**
+   * @return the serialized partial update which has the same effect as applying both partial updates in order, or null
+   *         if they can't be merged.
+   */
+  private static byte[] mergeUpdates(byte[] update, byte[] nextUpdate, VeniceAvroKafkaSerializer updateSerializer) {
+    if (updateSerializer == null) {
+      return null;
+    }
+    GenericRecord mergedUpdateRecord = (GenericRecord) updateSerializer.deserialize(update);
+    GenericRecord nextUpdateRecord = (GenericRecord) updateSerializer.deserialize(nextUpdate);
+    if (!WriteComputeOperation.isPartialUpdateOp(nextUpdateRecord)) {
+      return null;
+    }
+    for (Schema.Field field: nextUpdateRecord.getSchema().getFields()) {
+      Object nextFieldUpdate = nextUpdateRecord.get(field.pos());
+      WriteComputeOperation nextOperation = getFieldOperationType(nextFieldUpdate);
+      if (nextOperation == NO_OP_ON_FIELD) {
+        continue;
+      }
+      // Collection merge operations can't be combined with a previous operation on the same field.
+      if (nextOperation != PUT_NEW_FIELD
+          && getFieldOperationType(mergedUpdateRecord.get(field.pos())) != NO_OP_ON_FIELD) {
+        return null;
+      }
+      mergedUpdateRecord.put(field.pos(), nextFieldUpdate);
+    }
+    return updateSerializer.serialize(null, mergedUpdateRecord);
+  }
+
+  private static WriteComputeOperation getFieldOperationType(Object fieldUpdate) {
+    // Setting a nullable field to null
+    return fieldUpdate == null ? PUT_NEW_FIELD : WriteComputeOperation.getFieldOperationType(fieldUpdate);
+  }
+
+  private void produce(PendingWrite write) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    future.whenComplete((ignored, exception) -> {
+      for (CompletableFuture<Void> coalescedFuture: write.futures) {
+        if (exception == null) {
+          coalescedFuture.complete(null);
+        } else {
+          coalescedFuture.completeExceptionally(exception);
+        }
+      }
+    });
+    outputRecordCount++;
+    if (outputRecordCounter != null) {
+      outputRecordCounter.inc();
+      coalescingRatioGauge.set((double) inputRecordCount / outputRecordCount);
+    }
+    try {
+      VeniceSystemProducer.write(
+          veniceWriter,
+          write.key,
+          write.value,
+          write.valueSchemaId,
+          write.derivedSchemaId,
+          write.logicalTimestamp,
+          new CompletableFutureCallback(future));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      LOGGER.error("Failed to produce the buffered writes", e);
+    }
+  }
+
+  private static class PendingWrite {
+    final byte[] key;
+    // Null for deletes
+    byte[] value;
+    final int valueSchemaId;
+    // -1 for puts and deletes
+    final int derivedSchemaId;
+    final long logicalTimestamp;
+    final VeniceAvroKafkaSerializer updateSerializer;
+    // The futures of all the writes which were coalesced into this one.
+    final List<CompletableFuture<Void>> futures = new ArrayList<>(1);
+
+    PendingWrite(
+        byte[] key,
+        byte[] value,
+        int valueSchemaId,
+        int derivedSchemaId,
+        long logicalTimestamp,
+        VeniceAvroKafkaSerializer updateSerializer) {
+      this.key = key;
+      this.value = value;
+      this.valueSchemaId = valueSchemaId;
+      this.derivedSchemaId = derivedSchemaId;
+      this.logicalTimestamp = logicalTimestamp;
+      this.updateSerializer = updateSerializer;
+    }
+
+    boolean isUpdate() {
+      return derivedSchemaId != -1;
+    }
+
+    long getSize() {
+      return key.length + (value == null ? 0 : value.length);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.linkedin.venice.samza;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.producer.Callback;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class VeniceWriteCoalescerTest {
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"Counter\",\"namespace\":\"test\",\"fields\":["
+          + "{\"name\":\"count\",\"type\":\"long\",\"default\":0},"
+          + "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"items\":\"string\"},\"default\":[]}]}");
+  private static final Schema UPDATE_SCHEMA =
+      WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(VALUE_SCHEMA);
+  private static final VeniceAvroKafkaSerializer UPDATE_SERIALIZER = new VeniceAvroKafkaSerializer(UPDATE_SCHEMA);
+  private static final long LINGER_MS = 3600 * 1000;
+
+  private static final byte[] KEY_1 = "key1".getBytes();
+  private static final byte[] KEY_2 = "key2".getBytes();
+  private static final byte[] VALUE_1 = "value1".getBytes();
+  private static final byte[] VALUE_2 = "value2".getBytes();
+  private static final byte[] VALUE_3 = "value3".getBytes();
+
+  @Test
+  public void testPutsAreCoalesced() {
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter = mock(VeniceWriter.class);
+    try (VeniceWriteCoalescer coalescer = new VeniceWriteCoalescer(veniceWriter, LINGER_MS, 1024, null, null)) {
+      CompletableFuture<Void> future1 = coalescer.put(KEY_1, VALUE_1, 1, -1);
+      CompletableFuture<Void> future2 = coalescer.put(KEY_1, VALUE_2, 1, -1);
+      CompletableFuture<Void> future3 = coalescer.put(KEY_2, VALUE_3, 1, -1);
+      verify(veniceWriter, never()).put(any(), any(), anyInt(), any(Callback.class));
+
+      coalescer.flush();
+      verify(veniceWriter, never()).put(aryEq(KEY_1), aryEq(VALUE_1), anyInt(), any(Callback.class));
+      ArgumentCaptor<Callback> callbackCaptor = ArgumentCaptor.forClass(Callback.class);
+      verify(veniceWriter).put(aryEq(KEY_1), aryEq(VALUE_2), eq(1), callbackCaptor.capture());
+      verify(veniceWriter).put(aryEq(KEY_2), aryEq(VALUE_3), eq(1), any(Callback.class));
+      Assert.assertEquals(coalescer.getCoalescingRatio(), 1.5);
+
+      // The superseded write completes along with the one which superseded it.
+      Assert.assertFalse(future1.isDone());
+      callbackCaptor.getValue().onCompletion(null, null);
+      Assert.assertTrue(future1.isDone());
+      Assert.assertTrue(future2.isDone());
+      Assert.assertFalse(future3.isDone());
+    }
+  }
+
+  @Test
+  public void testWritesWithOlderTimestampAreNotCoalesced() {
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter = mock(VeniceWriter.class);
+    try (VeniceWriteCoalescer coalescer = new VeniceWriteCoalescer(veniceWriter, LINGER_MS, 1024, null, null)) {
+      coalescer.put(KEY_1, VALUE_1, 1, 10);
+      coalescer.delete(KEY_1, 20);
+      verify(veniceWriter, never()).put(any(), any(), anyInt(), anyLong(), any(Callback.class));
+
+      // The buffered delete is produced first, since it would win against the put.
+      coalescer.put(KEY_1, VALUE_2, 1, 15);
+      verify(veniceWriter).delete(aryEq(KEY_1), eq(20L), any(Callback.class));
+      coalescer.flush();
+      verify(veniceWriter).put(aryEq(KEY_1), aryEq(VALUE_2), eq(1), eq(15L), any(Callback.class));
+      verify(veniceWriter, never()).put(aryEq(KEY_1), aryEq(VALUE_1), anyInt(), anyLong(), any(Callback.class));
+    }
+  }
+
+  @Test
+  public void testPartialUpdatesAreMerged() {
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter = mock(VeniceWriter.class);
+    try (VeniceWriteCoalescer coalescer = new VeniceWriteCoalescer(veniceWriter, LINGER_MS, 1024, null, null)) {
+      GenericRecord setCount = new UpdateBuilderImpl(UPDATE_SCHEMA).setNewFieldValue("count", 1L).build();
+      GenericRecord addTag =
+          new UpdateBuilderImpl(UPDATE_SCHEMA).setElementsToAddToListField("tags", Collections.singletonList("a"))
+              .build();
+      GenericRecord setCountAgain = new UpdateBuilderImpl(UPDATE_SCHEMA).setNewFieldValue("count", 2L).build();
+      coalescer.update(KEY_1, serialize(setCount), 1, 1, -1, UPDATE_SERIALIZER);
+      coalescer.update(KEY_1, serialize(addTag), 1, 1, -1, UPDATE_SERIALIZER);
+      coalescer.update(KEY_1, serialize(setCountAgain), 1, 1, -1, UPDATE_SERIALIZER);
+      verify(veniceWriter, never()).update(any(), any(), anyInt(), anyInt(), any(Callback.class));
+
+      // Two collection merge operations on the same field can't be merged.
+      coalescer.update(KEY_1, serialize(addTag), 1, 1, -1, UPDATE_SERIALIZER);
+      ArgumentCaptor<byte[]> updateCaptor = ArgumentCaptor.forClass(byte[].class);
+      verify(veniceWriter).update(aryEq(KEY_1), updateCaptor.capture(), eq(1), eq(1), any(Callback.class));
+      GenericRecord mergedUpdate = (GenericRecord) UPDATE_SERIALIZER.deserialize(updateCaptor.getValue());
+      Assert.assertEquals(mergedUpdate.get("count"), 2L);
+      Assert.assertEquals(
+          ((GenericRecord) mergedUpdate.get("tags")).get("setUnion").toString(),
+          Arrays.asList("a").toString());
+
+      coalescer.flush();
+      verify(veniceWriter, times(2)).update(aryEq(KEY_1), any(), eq(1), eq(1), any(Callback.class));
+      Assert.assertEquals(coalescer.getCoalescingRatio(), 2.0);
+    }
+  }
+
+  @Test
+  public void testBufferedWritesAreBounded() {
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter = mock(VeniceWriter.class);
+    try (VeniceWriteCoalescer coalescer = new VeniceWriteCoalescer(veniceWriter, LINGER_MS, 20, null, null)) {
+      coalescer.put(KEY_1, VALUE_1, 1, -1);
+      verify(veniceWriter, never()).put(any(), any(), anyInt(), any(Callback.class));
+      coalescer.put(KEY_2, VALUE_2, 1, -1);
+      verify(veniceWriter).put(aryEq(KEY_1), aryEq(VALUE_1), eq(1), any(Callback.class));
+      verify(veniceWriter).put(aryEq(KEY_2), aryEq(VALUE_2), eq(1), any(Callback.class));
+    }
+  }
+
+  private static byte[] serialize(GenericRecord update) {
+    return UPDATE_SERIALIZER.serialize(null, update);
+  }
+}
@@ -31,6 +31,11 @@ public class HttpConstants {
 
   public static final String VENICE_KEY_COUNT = "X-VENICE-KEY-COUNT";
 
+  /**
+   * The latency breakdown of a sampled read request on the storage node, in microseconds per read phase.
+   */
+  public static final String VENICE_READ_PHASE_TRACE = "X-VENICE-READ-PHASE-TRACE";
+
   public static final String VENICE_COMPUTE_VALUE_SCHEMA_ID = "X-VENICE-COMPUTE-VALUE-SCHEMA-ID";
 
   public static final String VENICE_ALLOW_REDIRECT = "X-VENICE-ALLOW-REDIRECT";
@@ -21,6 +21,15 @@ public abstract class VeniceCompressor implements Closeable {
 
   public abstract ByteBuffer decompress(byte[] data, int offset, int length) throws IOException;
 
+  /**
+   * Same as {@link #decompress(ByteBuffer)}, except that the implementation is allowed to return a buffer which is
+   * reused by the next invocation of any compressor in the same thread, so the caller must be done with the returned
+   * buffer (e.g. by deserializing or copying it) before decompressing the next payload.
+   */
+  public ByteBuffer decompressIntoReusableBuffer(ByteBuffer data) throws IOException {
+    return decompress(data);
+  }
+
   public CompressionStrategy getCompressionStrategy() {
     return compressionStrategy;
   }
@@ -25,6 +25,17 @@ import org.apache.commons.io.IOUtils;
 
 
 public class ZstdWithDictCompressor extends VeniceCompressor {
+  /**
+   * Payloads which decompress into more than this are not decompressed into the reusable buffers, so that a few large
+   * values cannot pin a lot of memory in every thread.
+   */
+  private static final int MAX_REUSABLE_BUFFER_SIZE = BYTES_PER_MB;
+  /**
+   * The reusable buffers are shared by all the compressors, so the memory they retain is bounded by the number of
+   * threads, rather than by the number of threads times the number of store versions with a dictionary.
+   */
+  private static final ThreadLocal<ReusableBuffers> REUSABLE_BUFFERS = ThreadLocal.withInitial(ReusableBuffers::new);
+
   private final CloseableThreadLocal<ZstdCompressCtx> compressor;
   private final CloseableThreadLocal<ZstdDecompressCtx> decompressor;
   private final ZstdDictCompress dictCompress;
@@ -82,7 +93,7 @@ public class ZstdWithDictCompressor extends VeniceCompressor {
   public ByteBuffer decompress(ByteBuffer data) throws IOException {
     if (data.hasRemaining()) {
       if (data.hasArray()) {
-        return decompress(data.array(), data.position(), data.remaining());
+        return decompress(data.array(), data.arrayOffset() + data.position(), data.remaining());
       } else if (data.isDirect()) {
         int expectedSize = validateExpectedDecompressedSize(Zstd.decompressedSize(data));
         ByteBuffer output = ByteBuffer.allocateDirect(expectedSize);
@@ -115,6 +126,75 @@ public class ZstdWithDictCompressor extends VeniceCompressor {
     return returnedData;
   }
 
+  /**
+   * Decompresses the remaining bytes of {@param src} into {@param dst}, starting at its position, without allocating
+   * any intermediate buffer. Both buffers must be either direct or backed by an array. The position of {@param src}
+   * is left untouched, and the position of {@param dst} is advanced past the decompressed bytes.
+   *
+   * @return the size of the decompressed payload.
+   */
+  public int decompress(ByteBuffer src, ByteBuffer dst) throws IOException {
+    int expectedSize = getDecompressedSize(src);
+    if (dst.remaining() < expectedSize) {
+      throw new IllegalArgumentException(
+          "The output buffer has " + dst.remaining() + " bytes remaining, but " + expectedSize + " bytes are needed.");
+    }
+    int actualSize;
+    if (src.hasArray() && dst.hasArray()) {
+      actualSize = decompressor.get()
+          .decompressByteArray(
+              dst.array(),
+              dst.arrayOffset() + dst.position(),
+              dst.remaining(),
+              src.array(),
+              src.arrayOffset() + src.position(),
+              src.remaining());
+    } else if (src.isDirect() && dst.isDirect()) {
+      actualSize = decompressor.get()
+          .decompressDirectByteBuffer(dst, dst.position(), dst.remaining(), src, src.position(), src.remaining());
+    } else {
+      throw new IllegalArgumentException(
+          "The passed in ByteBuffers must be either both direct or both backed by an array!");
+    }
+    validateActualDecompressedSize(actualSize, expectedSize);
+    dst.position(dst.position() + actualSize);
+    return actualSize;
+  }
+
+  /**
+   * @return the size of the payload once the remaining bytes of {@param src} are decompressed.
+   */
+  public int getDecompressedSize(ByteBuffer src) {
+    if (src.hasArray()) {
+      return validateExpectedDecompressedSize(
+          Zstd.decompressedSize(src.array(), src.arrayOffset() + src.position(), src.remaining()));
+    } else if (src.isDirect()) {
+      return validateExpectedDecompressedSize(Zstd.decompressedSize(src));
+    } else {
+      throw new IllegalArgumentException("The passed in ByteBuffer must be either direct or be backed by an array!");
+    }
+  }
+
+  /**
+   * Decompresses into a per-thread buffer of the same kind as {@param data}, so no garbage is produced for the
+   * payloads up to {@link #MAX_REUSABLE_BUFFER_SIZE}. The buffer is shared with the other compressors used by the
+   * same thread.
+   */
+  @Override
+  public ByteBuffer decompressIntoReusableBuffer(ByteBuffer data) throws IOException {
+    if (!data.hasRemaining()) {
+      return data;
+    }
+    int expectedSize = getDecompressedSize(data);
+    if (expectedSize > MAX_REUSABLE_BUFFER_SIZE) {
+      return decompress(data);
+    }
+    ByteBuffer output = REUSABLE_BUFFERS.get().get(expectedSize, data.isDirect());
+    decompress(data, output);
+    output.flip();
+    return output;
+  }
+
   @Override
   public InputStream decompress(InputStream inputStream) throws IOException {
     return new ZstdInputStream(inputStream).setDict(this.dictDecompress);
@@ -144,6 +224,31 @@ public class ZstdWithDictCompressor extends VeniceCompressor {
     }
   }
 
+  private static class ReusableBuffers {
+    private ByteBuffer heapBuffer = ByteBuffer.allocate(0);
+    private ByteBuffer directBuffer = ByteBuffer.allocateDirect(0);
+
+    /**
+     * @return a cleared buffer with a limit of {@param size}, which is only valid until the next call in this thread.
+     */
+    ByteBuffer get(int size, boolean direct) {
+      ByteBuffer buffer = direct ? directBuffer : heapBuffer;
+      if (buffer.capacity() < size) {
+        // Grow by at least 2x to amortize the allocations of slowly growing payloads.
+        int capacity = Math.min(Math.max(size, buffer.capacity() * 2), MAX_REUSABLE_BUFFER_SIZE);
+        buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        if (direct) {
+          directBuffer = buffer;
+        } else {
+          heapBuffer = buffer;
+        }
+      }
+      buffer.clear();
+      buffer.limit(size);
+      return buffer;
+    }
+  }
+
   /**
    * Build a dictionary based on synthetic data.  Used for empty push where there is no
    * available dictionary to retrieve from a push job.
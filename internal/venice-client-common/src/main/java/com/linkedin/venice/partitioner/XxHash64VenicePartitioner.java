@@ -0,0 +1,144 @@
+package com.linkedin.venice.partitioner;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+
+
+/**
+ * A {@link VenicePartitioner} based on the 64-bit xxHash of the key, which is much cheaper to compute than the MD5
+ * digest of {@link DefaultVenicePartitioner}, without any thread-local state, while still spreading the keys
+ * uniformly. The 32 most significant bits of the hash are mapped to the partition range with a multiplication
+ * instead of a modulo.
+ *
+ * The two partitioners don't assign the keys to the same partitions, so this one can only be used by new stores, or
+ * by stores which are going to be fully re-pushed, by setting it as the partitioner class of the store.
+ */
+public class XxHash64VenicePartitioner extends VenicePartitioner {
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+  private static final long SEED = 0;
+
+  public XxHash64VenicePartitioner() {
+    super();
+  }
+
+  public XxHash64VenicePartitioner(VeniceProperties props) {
+    this(props, null);
+  }
+
+  public XxHash64VenicePartitioner(VeniceProperties props, Schema schema) {
+    super(props, schema);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int numPartitions) {
+    return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
+    return toPartitionId(hash(keyBytes, offset, length), numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
+    if (keyByteBuffer.hasArray()) {
+      return getPartitionId(
+          keyByteBuffer.array(),
+          keyByteBuffer.arrayOffset() + keyByteBuffer.position(),
+          keyByteBuffer.remaining(),
+          numPartitions);
+    }
+    byte[] keyBytes = new byte[keyByteBuffer.remaining()];
+    keyByteBuffer.duplicate().get(keyBytes);
+    return getPartitionId(keyBytes, numPartitions);
+  }
+
+  static int toPartitionId(long hash, int numPartitions) {
+    return (int) (((hash >>> 32) * numPartitions) >>> 32);
+  }
+
+  /**
+   * @return the xxHash64 of the given bytes, with a seed of 0.
+   */
+  static long hash(byte[] bytes, int offset, int length) {
+    int end = offset + length;
+    int position = offset;
+    long hash;
+    if (length >= 32) {
+      long v1 = SEED + PRIME64_1 + PRIME64_2;
+      long v2 = SEED + PRIME64_2;
+      long v3 = SEED;
+      long v4 = SEED - PRIME64_1;
+      int limit = end - 32;
+      do {
+        v1 = round(v1, getLong(bytes, position));
+        v2 = round(v2, getLong(bytes, position + 8));
+        v3 = round(v3, getLong(bytes, position + 16));
+        v4 = round(v4, getLong(bytes, position + 24));
+        position += 32;
+      } while (position <= limit);
+      hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      hash = mergeRound(hash, v1);
+      hash = mergeRound(hash, v2);
+      hash = mergeRound(hash, v3);
+      hash = mergeRound(hash, v4);
+    } else {
+      hash = SEED + PRIME64_5;
+    }
+    hash += length;
+
+    while (position + 8 <= end) {
+      hash ^= round(0, getLong(bytes, position));
+      hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+      position += 8;
+    }
+    if (position + 4 <= end) {
+      hash ^= (getInt(bytes, position) & 0xFFFFFFFFL) * PRIME64_1;
+      hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+      position += 4;
+    }
+    while (position < end) {
+      hash ^= (bytes[position] & 0xFF) * PRIME64_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+      position++;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= PRIME64_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME64_3;
+    hash ^= hash >>> 32;
+    return hash;
+  }
+
+  private static long round(long accumulator, long input) {
+    accumulator += input * PRIME64_2;
+    accumulator = Long.rotateLeft(accumulator, 31);
+    return accumulator * PRIME64_1;
+  }
+
+  private static long mergeRound(long accumulator, long value) {
+    accumulator ^= round(0, value);
+    return accumulator * PRIME64_1 + PRIME64_4;
+  }
+
+  /**
+   * xxHash reads the input in little-endian order.
+   */
+  private static long getLong(byte[] bytes, int position) {
+    return (bytes[position] & 0xFFL) | (bytes[position + 1] & 0xFFL) << 8 | (bytes[position + 2] & 0xFFL) << 16
+        | (bytes[position + 3] & 0xFFL) << 24 | (bytes[position + 4] & 0xFFL) << 32
+        | (bytes[position + 5] & 0xFFL) << 40 | (bytes[position + 6] & 0xFFL) << 48
+        | (bytes[position + 7] & 0xFFL) << 56;
+  }
+
+  private static int getInt(byte[] bytes, int position) {
+    return (bytes[position] & 0xFF) | (bytes[position + 1] & 0xFF) << 8 | (bytes[position + 2] & 0xFF) << 16
+        | (bytes[position + 3] & 0xFF) << 24;
+  }
+}
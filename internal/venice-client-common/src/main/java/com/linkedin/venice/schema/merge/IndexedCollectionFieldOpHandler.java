@@ -0,0 +1,603 @@
+package com.linkedin.venice.schema.merge;
+
+import com.linkedin.avro.fastserde.primitive.PrimitiveLongArrayList;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import com.linkedin.venice.schema.rmd.v1.ElementTimestampAndIdx;
+import com.linkedin.venice.utils.IndexedHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * This class handles collection merge operations (i.e. adding and removing map entries or list elements) on a
+ * collection field which is in the collection-merge state, without re-sorting the whole collection and rebuilding its
+ * timestamp arrays like {@link SortBasedCollectionFieldOpHandler} does. Leaders in different regions could run either
+ * of the two handlers, so the collection, its replication metadata and the returned status are always exactly the same
+ * as what {@link SortBasedCollectionFieldOpHandler} produces:
+ *
+ * 1. The collection-merge part of the collection and its active timestamps are sorted by (timestamp, element), and the
+ *    deleted elements and their timestamps are sorted the same way. Equal elements in this order stay in the order in
+ *    which the sort-based handler puts them before its stable sort, i.e. existing elements first, in their current
+ *    order, followed by the appended ones. So the elements which an operation adds or deletes, which all have the
+ *    timestamp of the operation, only need to be merged into the tail which is not older than the operation.
+ *    Operations usually come in timestamp order, so this tail is usually short.
+ * 2. The elements which are touched by an operation are looked up by index, instead of building a map of all the
+ *    elements and their timestamps. Map entries and deleted elements are looked up in constant time. Lists can't be
+ *    looked up by element, so they are still scanned once, which does not allocate anything per element.
+ *
+ * The collection and its timestamp arrays are updated in place, so the cost of an operation is roughly the number of
+ * elements it touches plus the length of the rewritten tail, instead of O(n log n) for a collection of n elements.
+ * Collections in the few states where the sort-based handler does not keep these orders (e.g. duplicate deleted
+ * elements) are handled by {@link SortBasedCollectionFieldOpHandler} itself.
+ */
+@ThreadSafe
+public class IndexedCollectionFieldOpHandler extends SortBasedCollectionFieldOpHandler {
+  public IndexedCollectionFieldOpHandler(AvroCollectionElementComparator elementComparator) {
+    super(elementComparator);
+  }
+
+  @Override
+  protected UpdateResultStatus handleModifyCollectionMergeList(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<Object> collectionFieldRmd,
+      GenericRecord currValueRecord,
+      String fieldName,
+      Set<Object> toAddElementSet,
+      Set<Object> toRemoveElementSet) {
+    if (collectionFieldRmd.isInPutOnlyState()) {
+      throw new IllegalStateException("Expect list to be in the collection-merge state.");
+    }
+    if (toAddElementSet.isEmpty() && toRemoveElementSet.isEmpty()) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+    toRandomAccessRmd(collectionFieldRmd);
+    final Comparator<Object> listElementComparator = getListElementComparator(currValueRecord, fieldName);
+    if (!hasNewerCollectionMergePart(collectionFieldRmd)
+        || !hasSortedUniqueDeletedElements(collectionFieldRmd, listElementComparator)) {
+      return super.handleModifyCollectionMergeList(
+          modifyTimestamp,
+          collectionFieldRmd,
+          currValueRecord,
+          fieldName,
+          toAddElementSet,
+          toRemoveElementSet);
+    }
+    final List<Object> currElements = toRandomAccessList((List<Object>) currValueRecord.get(fieldName));
+    final Map<Object, Integer> activeElementToIndex = new HashMap<>();
+    int index = 0;
+    for (Object element: currElements) {
+      if (toAddElementSet.contains(element) || toRemoveElementSet.contains(element)) {
+        if (getDeletedElementIndex(collectionFieldRmd, element) >= 0) {
+          // An element which is both active and deleted is handled by the sort-based handler.
+          return super.handleModifyCollectionMergeList(
+              modifyTimestamp,
+              collectionFieldRmd,
+              currValueRecord,
+              fieldName,
+              toAddElementSet,
+              toRemoveElementSet);
+        }
+        activeElementToIndex.put(element, index);
+      }
+      index++;
+    }
+
+    // Step 1: Find out the effect of the operation on each touched element.
+    final CollectionMergeDelta<Object, Object> delta =
+        new CollectionMergeDelta<>(modifyTimestamp, collectionFieldRmd, true);
+    for (Object toAddElement: toAddElementSet) {
+      delta.addElement(
+          toAddElement,
+          activeElementToIndex.getOrDefault(toAddElement, -1),
+          getDeletedElementIndex(collectionFieldRmd, toAddElement));
+    }
+    for (Object toRemoveElement: toRemoveElementSet) {
+      delta.removeElement(
+          toRemoveElement,
+          activeElementToIndex.getOrDefault(toRemoveElement, -1),
+          getDeletedElementIndex(collectionFieldRmd, toRemoveElement));
+    }
+    if (!delta.isUpdated()) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+
+    // Step 2: Take out the tail of the collection-merge part which needs to be rewritten, and the removed elements of
+    // the put-only part.
+    final int putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+    final List<Long> activeTimestamps = collectionFieldRmd.getActiveElementTimestamps();
+    final int activeTailStart = delta.getActiveTailStart();
+    final List<RankedElement<Object>> tailElements = new ArrayList<>(activeTimestamps.size() - activeTailStart);
+    for (int i = activeTailStart; i < activeTimestamps.size(); i++) {
+      if (!delta.removedMergePartIndices.contains(i)) {
+        tailElements.add(new RankedElement<>(currElements.get(putOnlyPartLength + i), activeTimestamps.get(i), i));
+      }
+    }
+    removeTail(currElements, putOnlyPartLength + activeTailStart);
+    for (int removedIndex: delta.getRemovedPutOnlyPartIndices()) {
+      currElements.remove(removedIndex);
+    }
+
+    // Step 3: Merge the added elements into the tail.
+    final List<Long> newActiveTimestamps = truncateTimestamps(activeTimestamps, activeTailStart);
+    mergeSortedElements(tailElements, delta.addedElements, listElementComparator, rankedElement -> {
+      currElements.add(rankedElement.element);
+      newActiveTimestamps.add(rankedElement.timestamp);
+    });
+    currValueRecord.put(fieldName, currElements);
+    collectionFieldRmd.setActiveElementTimestamps(newActiveTimestamps);
+    collectionFieldRmd.setPutOnlyPartLength(putOnlyPartLength - delta.removedPutOnlyPartIndices.size());
+
+    // Step 4: Merge the newly deleted elements into the deleted elements.
+    updateDeletedElements(delta, collectionFieldRmd, listElementComparator);
+    return UpdateResultStatus.PARTIALLY_UPDATED;
+  }
+
+  @Override
+  protected UpdateResultStatus handleModifyCollectionMergeMap(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<String> collectionFieldRmd,
+      GenericRecord currValueRecord,
+      String fieldName,
+      Map<String, Object> newEntries,
+      List<String> toRemoveKeys) {
+    if (collectionFieldRmd.isInPutOnlyState()) {
+      throw new IllegalStateException("Expect map to be in the collection-merge state. Field name: " + fieldName);
+    }
+    if (newEntries.isEmpty() && toRemoveKeys.isEmpty()) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+    toRandomAccessRmd(collectionFieldRmd);
+    if (!hasNewerCollectionMergePart(collectionFieldRmd)
+        || !hasSortedUniqueDeletedElements(collectionFieldRmd, Comparator.comparing(Object::toString))
+        || hasMixedDeletedKeyTypes(collectionFieldRmd)
+        || hasActiveDeletedKey(collectionFieldRmd, currValueRecord, fieldName, newEntries.keySet(), toRemoveKeys)) {
+      return super.handleModifyCollectionMergeMap(
+          modifyTimestamp,
+          collectionFieldRmd,
+          currValueRecord,
+          fieldName,
+          newEntries,
+          toRemoveKeys);
+    }
+    final IndexedHashMap<String, Object> currMap = (IndexedHashMap<String, Object>) currValueRecord.get(fieldName);
+    final int putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+
+    // Step 1: Find out the effect of the operation on each touched key. Like the sort-based handler, deleted keys are
+    // looked up with equals(), which does not find the deleted keys that are Utf8 instead of String.
+    final CollectionMergeDelta<KeyValPair, String> delta =
+        new CollectionMergeDelta<>(modifyTimestamp, collectionFieldRmd, false);
+    for (Map.Entry<String, Object> newEntry: newEntries.entrySet()) {
+      final String newKey = newEntry.getKey();
+      final int activeIndex = currMap.indexOf(newKey);
+      // An entry of the collection-merge part which is put again keeps its current value in the sort-based handler.
+      final Object newValue =
+          activeIndex >= putOnlyPartLength ? currMap.getByIndex(activeIndex).getValue() : newEntry.getValue();
+      delta.addElement(
+          new KeyValPair(newKey, newValue),
+          activeIndex,
+          getDeletedElementIndex(collectionFieldRmd, newKey));
+    }
+    // A key which is removed more than once is only removed by its first occurrence.
+    for (String toRemoveKey: new LinkedHashSet<>(toRemoveKeys)) {
+      delta.removeElement(
+          toRemoveKey,
+          currMap.indexOf(toRemoveKey),
+          getDeletedElementIndex(collectionFieldRmd, toRemoveKey));
+    }
+    if (!delta.isUpdated()) {
+      return UpdateResultStatus.NOT_UPDATED_AT_ALL;
+    }
+
+    // Step 2: Take out the tail of the collection-merge part which needs to be rewritten, and the removed entries of
+    // the put-only part.
+    final List<Long> activeTimestamps = collectionFieldRmd.getActiveElementTimestamps();
+    final int activeTailStart = delta.getActiveTailStart();
+    final List<RankedElement<KeyValPair>> tailEntries = new ArrayList<>(activeTimestamps.size() - activeTailStart);
+    for (int i = activeTailStart; i < activeTimestamps.size(); i++) {
+      if (!delta.removedMergePartIndices.contains(i)) {
+        Map.Entry<String, Object> entry = currMap.getByIndex(putOnlyPartLength + i);
+        tailEntries.add(new RankedElement<>(new KeyValPair(entry.getKey(), entry.getValue()), activeTimestamps.get(i), i));
+      }
+    }
+    for (int i = currMap.size() - 1; i >= putOnlyPartLength + activeTailStart; i--) {
+      currMap.removeByIndex(i);
+    }
+    for (int removedIndex: delta.getRemovedPutOnlyPartIndices()) {
+      currMap.removeByIndex(removedIndex);
+    }
+
+    // Step 3: Merge the added entries into the tail. Entries are compared the same way as in the sort-based handler.
+    final List<Long> newActiveTimestamps = truncateTimestamps(activeTimestamps, activeTailStart);
+    mergeSortedElements(tailEntries, delta.addedElements, getMapValueComparator(currValueRecord, fieldName), entry -> {
+      currMap.put(entry.element.getKey(), entry.element.getVal());
+      newActiveTimestamps.add(entry.timestamp);
+    });
+    collectionFieldRmd.setActiveElementTimestamps(newActiveTimestamps);
+    collectionFieldRmd.setPutOnlyPartLength(putOnlyPartLength - delta.removedPutOnlyPartIndices.size());
+
+    // Step 4: Merge the newly deleted keys into the deleted keys, which the sort-based handler converts to String.
+    final List<?> deletedKeys = collectionFieldRmd.getDeletedElements();
+    for (int i = 0; i < deletedKeys.size(); i++) {
+      if (!(deletedKeys.get(i) instanceof String)) {
+        List<String> stringDeletedKeys = new ArrayList<>(deletedKeys.size());
+        deletedKeys.forEach(deletedKey -> stringDeletedKeys.add(deletedKey.toString()));
+        collectionFieldRmd
+            .setDeletedElementsAndTimestamps(stringDeletedKeys, collectionFieldRmd.getDeletedElementTimestamps());
+        break;
+      }
+    }
+    updateDeletedElements(delta, collectionFieldRmd, Comparator.naturalOrder());
+    return UpdateResultStatus.PARTIALLY_UPDATED;
+  }
+
+  /**
+   * The sort-based handler tells the put-only part from the collection-merge part by comparing the active timestamps
+   * with the top-level timestamp, so collections whose collection-merge part is not newer than the top-level timestamp
+   * are left to it.
+   */
+  private static boolean hasNewerCollectionMergePart(CollectionRmdTimestamp<?> collectionFieldRmd) {
+    final List<Long> activeTimestamps = collectionFieldRmd.getActiveElementTimestamps();
+    return activeTimestamps.isEmpty() || activeTimestamps.get(0) > collectionFieldRmd.getTopLevelFieldTimestamp();
+  }
+
+  /**
+   * The sort-based handler merges duplicate deleted elements into one and re-sorts all the deleted elements, so
+   * operations on deleted elements which are duplicated, or which are not sorted any more because duplicate ones were
+   * merged by a put, are left to it.
+   */
+  private static <T> boolean hasSortedUniqueDeletedElements(
+      CollectionRmdTimestamp<T> collectionFieldRmd,
+      Comparator<Object> deletedElementComparator) {
+    if (collectionFieldRmd.hasDuplicateDeletedElements()) {
+      return false;
+    }
+    final List<T> deletedElements = collectionFieldRmd.getDeletedElements();
+    final List<Long> deletedTimestamps = collectionFieldRmd.getDeletedElementTimestamps();
+    for (int i = 1; i < deletedTimestamps.size(); i++) {
+      final int timestampCompareResult = Long.compare(deletedTimestamps.get(i - 1), deletedTimestamps.get(i));
+      if (timestampCompareResult > 0 || (timestampCompareResult == 0
+          && deletedElementComparator.compare(deletedElements.get(i - 1), deletedElements.get(i)) > 0)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Deleted keys which are String and deleted keys which are Utf8 can be equal to each other once the sort-based handler
+   * converts all of them to String, so they are left to it.
+   */
+  private static boolean hasMixedDeletedKeyTypes(CollectionRmdTimestamp<String> collectionFieldRmd) {
+    final List<?> deletedKeys = collectionFieldRmd.getDeletedElements();
+    for (int i = 1; i < deletedKeys.size(); i++) {
+      if ((deletedKeys.get(i - 1) instanceof String) != (deletedKeys.get(i) instanceof String)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * A key can be both active and deleted when it was added while its deleted key was a Utf8, which the sort-based
+   * handler does not find. Operations on such keys are left to it.
+   */
+  private static boolean hasActiveDeletedKey(
+      CollectionRmdTimestamp<String> collectionFieldRmd,
+      GenericRecord currValueRecord,
+      String fieldName,
+      Set<String> toAddKeys,
+      List<String> toRemoveKeys) {
+    final IndexedHashMap<String, Object> currMap = (IndexedHashMap<String, Object>) currValueRecord.get(fieldName);
+    for (String toAddKey: toAddKeys) {
+      if (currMap.containsKey(toAddKey) && getDeletedElementIndex(collectionFieldRmd, toAddKey) >= 0) {
+        return true;
+      }
+    }
+    for (String toRemoveKey: toRemoveKeys) {
+      if (currMap.containsKey(toRemoveKey) && getDeletedElementIndex(collectionFieldRmd, toRemoveKey) >= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static <T> int getDeletedElementIndex(CollectionRmdTimestamp<T> collectionFieldRmd, T element) {
+    ElementTimestampAndIdx deletedElementInfo = collectionFieldRmd.getDeletedElementTimestampAndIdx(element);
+    return deletedElementInfo == null ? -1 : deletedElementInfo.getIdx();
+  }
+
+  private static <T> void updateDeletedElements(
+      CollectionMergeDelta<?, T> delta,
+      CollectionRmdTimestamp<T> collectionFieldRmd,
+      Comparator<? super T> deletedElementComparator) {
+    if (delta.newDeletedElements.isEmpty() && delta.removedDeletedElementIndices.isEmpty()) {
+      return;
+    }
+    final List<T> deletedElements = collectionFieldRmd.getDeletedElements();
+    final List<Long> deletedTimestamps = collectionFieldRmd.getDeletedElementTimestamps();
+    final int deletedTailStart = delta.getDeletedTailStart();
+    final List<RankedElement<T>> tailElements = new ArrayList<>(deletedTimestamps.size() - deletedTailStart);
+    for (int i = deletedTailStart; i < deletedTimestamps.size(); i++) {
+      if (!delta.removedDeletedElementIndices.contains(i)) {
+        tailElements.add(new RankedElement<>(deletedElements.get(i), deletedTimestamps.get(i), i));
+      }
+    }
+    final List<T> newDeletedElements;
+    if (deletedTailStart == 0) {
+      newDeletedElements = new ArrayList<>(tailElements.size() + delta.newDeletedElements.size());
+    } else {
+      newDeletedElements = deletedElements;
+      removeTail(newDeletedElements, deletedTailStart);
+    }
+    final List<Long> newDeletedTimestamps = truncateTimestamps(deletedTimestamps, deletedTailStart);
+    mergeSortedElements(tailElements, delta.newDeletedElements, deletedElementComparator, rankedElement -> {
+      newDeletedElements.add(rankedElement.element);
+      newDeletedTimestamps.add(rankedElement.timestamp);
+    });
+    // Also refreshes the deleted element index of the replication metadata.
+    collectionFieldRmd.setDeletedElementsAndTimestamps(newDeletedElements, newDeletedTimestamps);
+  }
+
+  /**
+   * Merges the tail elements, which are sorted, with the new elements, which all have the same timestamp, and passes
+   * them to the consumer in (timestamp, element, rank) order.
+   */
+  private static <T> void mergeSortedElements(
+      List<RankedElement<T>> tailElements,
+      List<RankedElement<T>> newElements,
+      Comparator<? super T> elementComparator,
+      Consumer<RankedElement<T>> consumer) {
+    final Comparator<RankedElement<T>> rankedElementComparator =
+        Comparator.<RankedElement<T>>comparingLong(rankedElement -> rankedElement.timestamp)
+            .thenComparing(rankedElement -> rankedElement.element, elementComparator)
+            .thenComparingInt(rankedElement -> rankedElement.rank);
+    newElements.sort(rankedElementComparator);
+    int tailIndex = 0;
+    int newIndex = 0;
+    while (tailIndex < tailElements.size() || newIndex < newElements.size()) {
+      if (newIndex == newElements.size() || (tailIndex < tailElements.size()
+          && rankedElementComparator.compare(tailElements.get(tailIndex), newElements.get(newIndex)) < 0)) {
+        consumer.accept(tailElements.get(tailIndex++));
+      } else {
+        consumer.accept(newElements.get(newIndex++));
+      }
+    }
+  }
+
+  /**
+   * Deserialized arrays are linked lists, which are copied into array lists, so that they can be accessed by index.
+   */
+  private static List<Object> toRandomAccessList(List<Object> list) {
+    if (list == null) {
+      return new ArrayList<>();
+    }
+    return list instanceof RandomAccess ? list : new ArrayList<>(list);
+  }
+
+  private static <T> void toRandomAccessRmd(CollectionRmdTimestamp<T> collectionFieldRmd) {
+    final List<Long> activeTimestamps = collectionFieldRmd.getActiveElementTimestamps();
+    if (!(activeTimestamps instanceof RandomAccess)) {
+      collectionFieldRmd.setActiveElementTimestamps(toRandomAccessTimestamps(activeTimestamps));
+    }
+    final List<T> deletedElements = collectionFieldRmd.getDeletedElements();
+    final List<Long> deletedTimestamps = collectionFieldRmd.getDeletedElementTimestamps();
+    if (!(deletedElements instanceof RandomAccess) || !(deletedTimestamps instanceof RandomAccess)) {
+      collectionFieldRmd
+          .setDeletedElementsAndTimestamps(new ArrayList<>(deletedElements), toRandomAccessTimestamps(deletedTimestamps));
+    }
+  }
+
+  private static List<Long> toRandomAccessTimestamps(List<Long> timestamps) {
+    List<Long> randomAccessTimestamps = new PrimitiveLongArrayList(timestamps.size());
+    randomAccessTimestamps.addAll(timestamps);
+    return randomAccessTimestamps;
+  }
+
+  /**
+   * @return the given timestamps truncated to the given length, or a new list if nothing is left of them, since the
+   *         given list could be immutable when it is empty.
+   */
+  private static List<Long> truncateTimestamps(List<Long> timestamps, int length) {
+    if (length == 0) {
+      return new PrimitiveLongArrayList(timestamps.size());
+    }
+    removeTail(timestamps, length);
+    return timestamps;
+  }
+
+  /**
+   * Removes the elements from the end of the list, which does not shift the remaining elements of an array list.
+   */
+  private static void removeTail(List<?> list, int fromIndex) {
+    for (int i = list.size() - 1; i >= fromIndex; i--) {
+      list.remove(i);
+    }
+  }
+
+  /**
+   * @return the index of the first timestamp which is not smaller than the given one, in sorted timestamps.
+   */
+  private static int lowerBound(List<Long> sortedTimestamps, final long timestamp) {
+    int low = 0;
+    int high = sortedTimestamps.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (sortedTimestamps.get(mid) < timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * An element with its timestamp and its position in the sequence which the sort-based handler sorts, which orders
+   * elements that are equal otherwise. Existing elements are ranked by their current index, and appended elements come
+   * after all of them, in the order in which they are appended.
+   */
+  private static class RankedElement<T> {
+    private final T element;
+    private final long timestamp;
+    private final int rank;
+
+    RankedElement(T element, long timestamp, int rank) {
+      this.element = element;
+      this.timestamp = timestamp;
+      this.rank = rank;
+    }
+  }
+
+  /**
+   * The effect of a collection merge operation on the elements it touches, which follows the same rules as
+   * {@link SortBasedCollectionFieldOpHandler}: the element with the highest timestamp wins, and a removal wins against
+   * an existing element with the same timestamp. An existing element of the collection-merge part which is added again
+   * or deleted again stays where it is in the sort-based handler, with the timestamp of the operation, and is ranked
+   * accordingly.
+   *
+   * @param <A> type of the active elements, i.e. the list elements or the key-value pairs of a map.
+   * @param <D> type of the deleted elements, i.e. the list elements or the keys of a map.
+   */
+  private static class CollectionMergeDelta<A, D> {
+    private final long modifyTimestamp;
+    private final long topLevelTimestamp;
+    private final int putOnlyPartLength;
+    private final List<Long> activeTimestamps;
+    private final List<Long> deletedTimestamps;
+    // The sort-based handler moves an existing list element to the timestamp of an operation which adds it again,
+    // even if it is older, while an existing map entry only moves to a newer timestamp.
+    private final boolean addAgainWithOlderTimestamp;
+
+    private final List<Integer> removedPutOnlyPartIndices = new ArrayList<>();
+    // Indices in the collection-merge part, i.e. in the active timestamps.
+    private final Set<Integer> removedMergePartIndices = new HashSet<>();
+    private int firstRemovedMergePartIndex;
+    private final List<RankedElement<A>> addedElements = new ArrayList<>();
+    private int nextAddedElementRank;
+    private final Set<Integer> removedDeletedElementIndices = new HashSet<>();
+    private int firstRemovedDeletedElementIndex;
+    private final List<RankedElement<D>> newDeletedElements = new ArrayList<>();
+    private int nextDeletedElementRank;
+
+    CollectionMergeDelta(
+        long modifyTimestamp,
+        CollectionRmdTimestamp<?> collectionFieldRmd,
+        boolean addAgainWithOlderTimestamp) {
+      this.modifyTimestamp = modifyTimestamp;
+      this.topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+      this.putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+      this.activeTimestamps = collectionFieldRmd.getActiveElementTimestamps();
+      this.deletedTimestamps = collectionFieldRmd.getDeletedElementTimestamps();
+      this.addAgainWithOlderTimestamp = addAgainWithOlderTimestamp;
+      this.firstRemovedMergePartIndex = activeTimestamps.size();
+      this.nextAddedElementRank = activeTimestamps.size();
+      this.firstRemovedDeletedElementIndex = deletedTimestamps.size();
+      this.nextDeletedElementRank = deletedTimestamps.size();
+    }
+
+    /**
+     * @param activeIndex index of the element in the collection, or -1 if it is not there.
+     * @param deletedIndex index of the element in the deleted elements, or -1 if it is not there.
+     */
+    void addElement(A element, int activeIndex, int deletedIndex) {
+      if (deletedIndex >= 0) {
+        if (deletedTimestamps.get(deletedIndex) < modifyTimestamp) {
+          // The element is added back.
+          removeDeletedElement(deletedIndex);
+          addedElements.add(new RankedElement<>(element, modifyTimestamp, nextAddedElementRank++));
+        } // Else: the element remains deleted.
+        return;
+      }
+      if (activeIndex < 0) {
+        addedElements.add(new RankedElement<>(element, modifyTimestamp, nextAddedElementRank++));
+        return;
+      }
+      final long activeTimestamp = getActiveTimestamp(activeIndex);
+      if (activeTimestamp < modifyTimestamp || (addAgainWithOlderTimestamp && activeTimestamp != modifyTimestamp)) {
+        final int rank = activeIndex < putOnlyPartLength ? nextAddedElementRank++ : activeIndex - putOnlyPartLength;
+        removeActiveElement(activeIndex);
+        addedElements.add(new RankedElement<>(element, modifyTimestamp, rank));
+      }
+    }
+
+    void removeElement(D element, int activeIndex, int deletedIndex) {
+      if (deletedIndex >= 0) {
+        if (deletedTimestamps.get(deletedIndex) < modifyTimestamp) {
+          // Update the deleted timestamp of the element.
+          removeDeletedElement(deletedIndex);
+          newDeletedElements.add(new RankedElement<>(element, modifyTimestamp, deletedIndex));
+        }
+        return;
+      }
+      if (activeIndex >= 0) {
+        if (getActiveTimestamp(activeIndex) > modifyTimestamp) {
+          // The existing element does not get deleted.
+          return;
+        }
+        removeActiveElement(activeIndex);
+      }
+      newDeletedElements.add(new RankedElement<>(element, modifyTimestamp, nextDeletedElementRank++));
+    }
+
+    boolean isUpdated() {
+      return !addedElements.isEmpty() || !newDeletedElements.isEmpty();
+    }
+
+    /**
+     * @return the index in the active timestamps from which the collection-merge part needs to be rewritten.
+     */
+    int getActiveTailStart() {
+      final int tailStart =
+          addedElements.isEmpty() ? activeTimestamps.size() : lowerBound(activeTimestamps, modifyTimestamp);
+      return Math.min(tailStart, firstRemovedMergePartIndex);
+    }
+
+    /**
+     * @return the index in the deleted elements from which they need to be rewritten.
+     */
+    int getDeletedTailStart() {
+      final int tailStart =
+          newDeletedElements.isEmpty() ? deletedTimestamps.size() : lowerBound(deletedTimestamps, modifyTimestamp);
+      return Math.min(tailStart, firstRemovedDeletedElementIndex);
+    }
+
+    /**
+     * @return the indices of the removed elements of the put-only part, from the highest to the lowest, so that they
+     *         can be removed one by one.
+     */
+    List<Integer> getRemovedPutOnlyPartIndices() {
+      removedPutOnlyPartIndices.sort(Comparator.reverseOrder());
+      return removedPutOnlyPartIndices;
+    }
+
+    private long getActiveTimestamp(int activeIndex) {
+      return activeIndex < putOnlyPartLength
+          ? topLevelTimestamp
+          : activeTimestamps.get(activeIndex - putOnlyPartLength);
+    }
+
+    private void removeActiveElement(int activeIndex) {
+      if (activeIndex < putOnlyPartLength) {
+        removedPutOnlyPartIndices.add(activeIndex);
+      } else {
+        removedMergePartIndices.add(activeIndex - putOnlyPartLength);
+        firstRemovedMergePartIndex = Math.min(firstRemovedMergePartIndex, activeIndex - putOnlyPartLength);
+      }
+    }
+
+    private void removeDeletedElement(int deletedIndex) {
+      removedDeletedElementIndices.add(deletedIndex);
+      firstRemovedDeletedElementIndex = Math.min(firstRemovedDeletedElementIndex, deletedIndex);
+    }
+  }
+}
@@ -501,7 +501,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     return UpdateResultStatus.PARTIALLY_UPDATED;
   }
 
-  private Comparator<Object> getListElementComparator(GenericRecord currValueRecord, String fieldName) {
+  protected Comparator<Object> getListElementComparator(GenericRecord currValueRecord, String fieldName) {
     Supplier<Schema> elementSchemaSupplier =
         () -> currValueRecord.getSchema().getField(fieldName).schema().getElementType();
     // TODO: handle the situation where two elements have different schemas (e.g. element schema evolution). Assume
@@ -511,7 +511,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
 
   // Current list must be in the collection-merge state where the current list has 2 parts with the first part being
   // the put-only part and the second part being the collection-merge part.
-  private UpdateResultStatus handleModifyCollectionMergeList(
+  protected UpdateResultStatus handleModifyCollectionMergeList(
       final long modifyTimestamp,
       CollectionRmdTimestamp<Object> collectionFieldRmd,
       GenericRecord currValueRecord,
@@ -811,7 +811,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     collectionFieldRmd.setDeletedElementsAndTimestamps(deletedKeys, newDeletedTimestamps);
   }
 
-  private UpdateResultStatus handleModifyCollectionMergeMap(
+  protected UpdateResultStatus handleModifyCollectionMergeMap(
       final long modifyTimestamp,
       CollectionRmdTimestamp<String> collectionFieldRmd,
       GenericRecord currValueRecord,
@@ -943,7 +943,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     return UpdateResultStatus.PARTIALLY_UPDATED;
   }
 
-  private Comparator<Object> getMapValueComparator(GenericRecord currValueRecord, String mapFieldName) {
+  protected Comparator<Object> getMapValueComparator(GenericRecord currValueRecord, String mapFieldName) {
     // TODO: handle the situation where two values have different schemas (e.g. element schema evolution). Assume
     // map value schemas are always the same for now.
     return (o1, o2) -> this.avroElementComparator
@@ -189,6 +189,21 @@ public class CollectionRmdTimestamp<DELETED_ELEMENT_TYPE> {
     return (List<DELETED_ELEMENT_TYPE>) collectionRmdRecord.get(DELETED_ELEM_FIELD_NAME);
   }
 
+  /**
+   * @return the deleted timestamp and the index of the given deleted element, or null if the element is not deleted.
+   */
+  public ElementTimestampAndIdx getDeletedElementTimestampAndIdx(DELETED_ELEMENT_TYPE deletedElement) {
+    return deletedElementInfo.get(deletedElement);
+  }
+
+  /**
+   * @return true if some deleted elements are equal to each other, in which case only the last one of them can be
+   *         looked up by {@link #getDeletedElementTimestampAndIdx}.
+   */
+  public boolean hasDuplicateDeletedElements() {
+    return deletedElementInfo.size() != getDeletedElements().size();
+  }
+
   // Setters
   public void setTopLevelFieldTimestamp(long topLevelFieldTimestamp) {
     collectionRmdRecord.put(TOP_LEVEL_TS_FIELD_NAME, topLevelFieldTimestamp);
@@ -0,0 +1,169 @@
+package com.linkedin.venice.schema.writecompute;
+
+import com.linkedin.venice.serializer.VeniceSerializationException;
+import com.linkedin.venice.serializer.avro.MapOrderingPreservingSerDeFactory;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+
+
+/**
+ * This class replaces top-level fields of an Avro binary encoded record, without deserializing the record. The bytes
+ * of the other fields are located by skipping over them, and are copied as they are, so the cost of replacing a small
+ * field does not grow with the size of the rest of the record.
+ *
+ * The record bytes need to be encoded with the given record schema, i.e. there is no schema resolution here.
+ */
+public class AvroBinaryFieldSplicer {
+  private AvroBinaryFieldSplicer() {
+  }
+
+  /**
+   * @param recordSchema schema which the record bytes are encoded with.
+   * @param recordBytes record bytes, starting at the position of the buffer. The buffer itself is left untouched.
+   * @param newFieldValues new values of the fields to replace, keyed by field position.
+   * @return the bytes of the record with the given fields replaced.
+   */
+  public static byte[] replaceFields(Schema recordSchema, ByteBuffer recordBytes, Map<Integer, Object> newFieldValues) {
+    List<Schema.Field> fields = recordSchema.getFields();
+    int[] fieldOffsets = getFieldOffsets(recordSchema, recordBytes);
+    byte[][] newFieldBytes = new byte[fields.size()][];
+    int size = fieldOffsets[fields.size()];
+    for (Map.Entry<Integer, Object> entry: newFieldValues.entrySet()) {
+      int pos = entry.getKey();
+      newFieldBytes[pos] = MapOrderingPreservingSerDeFactory.getSerializer(fields.get(pos).schema())
+          .serialize(entry.getValue());
+      size += newFieldBytes[pos].length - (fieldOffsets[pos + 1] - fieldOffsets[pos]);
+    }
+
+    ByteBuffer result = ByteBuffer.allocate(size);
+    ByteBuffer source = recordBytes.duplicate();
+    int start = recordBytes.position();
+    int pos = 0;
+    while (pos < fields.size()) {
+      if (newFieldBytes[pos] != null) {
+        result.put(newFieldBytes[pos]);
+        pos++;
+        continue;
+      }
+      // Copy the bytes of consecutive untouched fields at once.
+      int end = pos;
+      while (end < fields.size() && newFieldBytes[end] == null) {
+        end++;
+      }
+      source.limit(start + fieldOffsets[end]);
+      source.position(start + fieldOffsets[pos]);
+      result.put(source);
+      pos = end;
+    }
+    return result.array();
+  }
+
+  /**
+   * @return the offset of each field in the record bytes, relative to the position of the buffer, followed by the
+   *         length of the record.
+   */
+  public static int[] getFieldOffsets(Schema recordSchema, ByteBuffer recordBytes) {
+    List<Schema.Field> fields = recordSchema.getFields();
+    int[] fieldOffsets = new int[fields.size() + 1];
+    ByteBuffer buffer = recordBytes.duplicate();
+    int start = buffer.position();
+    try {
+      for (int i = 0; i < fields.size(); i++) {
+        fieldOffsets[i] = buffer.position() - start;
+        skip(fields.get(i).schema(), buffer);
+      }
+    } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | ArithmeticException e) {
+      throw new VeniceSerializationException(
+          "Record bytes are not encoded with schema: " + recordSchema.getFullName(),
+          e);
+    }
+    fieldOffsets[fields.size()] = buffer.position() - start;
+    return fieldOffsets;
+  }
+
+  private static void skip(Schema schema, ByteBuffer buffer) {
+    switch (schema.getType()) {
+      case NULL:
+        return;
+      case BOOLEAN:
+        skipBytes(buffer, 1);
+        return;
+      case INT:
+      case LONG:
+      case ENUM:
+        readLong(buffer);
+        return;
+      case FLOAT:
+        skipBytes(buffer, 4);
+        return;
+      case DOUBLE:
+        skipBytes(buffer, 8);
+        return;
+      case STRING:
+      case BYTES:
+        skipBytes(buffer, readLong(buffer));
+        return;
+      case FIXED:
+        skipBytes(buffer, schema.getFixedSize());
+        return;
+      case RECORD:
+        for (Schema.Field field: schema.getFields()) {
+          skip(field.schema(), buffer);
+        }
+        return;
+      case UNION:
+        skip(schema.getTypes().get((int) readLong(buffer)), buffer);
+        return;
+      case ARRAY:
+        skipBlocks(schema.getElementType(), false, buffer);
+        return;
+      case MAP:
+        skipBlocks(schema.getValueType(), true, buffer);
+        return;
+      default:
+        throw new IllegalArgumentException("Unsupported schema type: " + schema.getType());
+    }
+  }
+
+  /**
+   * Arrays and maps are encoded as a series of blocks, ended by an empty block. A negative item count means that the
+   * size of the block in bytes follows, so that the whole block can be skipped.
+   */
+  private static void skipBlocks(Schema itemSchema, boolean isMap, ByteBuffer buffer) {
+    long itemCount;
+    while ((itemCount = readLong(buffer)) != 0) {
+      if (itemCount < 0) {
+        skipBytes(buffer, readLong(buffer));
+        continue;
+      }
+      for (long i = 0; i < itemCount; i++) {
+        if (isMap) {
+          skipBytes(buffer, readLong(buffer));
+        }
+        skip(itemSchema, buffer);
+      }
+    }
+  }
+
+  private static void skipBytes(ByteBuffer buffer, long length) {
+    buffer.position(buffer.position() + Math.toIntExact(length));
+  }
+
+  /**
+   * Reads a zig-zag encoded variable-length long, which is how Avro encodes ints and longs.
+   */
+  private static long readLong(ByteBuffer buffer) {
+    long value = 0;
+    int shift = 0;
+    int b;
+    do {
+      b = buffer.get() & 0xff;
+      value |= (long) (b & 0x7f) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.venice.schema.writecompute;
 
+import com.linkedin.venice.schema.merge.CollectionFieldOperationHandler;
 import com.linkedin.venice.schema.merge.MergeRecordHelper;
 import com.linkedin.venice.schema.merge.ValueAndRmd;
 import io.tehuti.utils.Utils;
@@ -45,6 +46,16 @@ public class WriteComputeProcessor {
     this.writeComputeHandlerV2 = new WriteComputeHandlerV2(mergeRecordHelper);
   }
 
+  /**
+   * @param collectionFieldOperationHandler handles the collection merge operations of the updates of records with
+   *                                        replication metadata.
+   */
+  public WriteComputeProcessor(
+      MergeRecordHelper mergeRecordHelper,
+      CollectionFieldOperationHandler collectionFieldOperationHandler) {
+    this.writeComputeHandlerV2 = new WriteComputeHandlerV2(mergeRecordHelper, collectionFieldOperationHandler);
+  }
+
   /**
    * Apply write-compute operations on the given record.
    *
@@ -2,6 +2,7 @@ package com.linkedin.venice.compression;
 
 import com.github.luben.zstd.Zstd;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Time;
 import java.io.IOException;
@@ -132,6 +133,89 @@ public class TestVeniceCompressor {
     }
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testZstdDecompressIntoProvidedBuffer(boolean direct) throws IOException {
+    try (ZstdWithDictCompressor compressor =
+        (ZstdWithDictCompressor) getCompressor(CompressionStrategy.ZSTD_WITH_DICT)) {
+      byte[] data = new byte[100];
+      new Random().nextBytes(data);
+      ByteBuffer compressed = toBuffer(compressor.compress(data), direct);
+      int compressedPosition = compressed.position();
+      Assert.assertEquals(compressor.getDecompressedSize(compressed), data.length);
+
+      int padding = 10;
+      int outputSize = padding + data.length;
+      ByteBuffer output = direct ? ByteBuffer.allocateDirect(outputSize) : ByteBuffer.allocate(outputSize);
+      output.position(padding);
+      Assert.assertEquals(compressor.decompress(compressed, output), data.length);
+      Assert.assertEquals(output.position(), padding + data.length);
+      Assert.assertEquals(compressed.position(), compressedPosition);
+      output.position(padding);
+      Assert.assertEquals(output, ByteBuffer.wrap(data));
+
+      // Not enough space left in the output buffer
+      output.position(padding + 1);
+      Assert.assertThrows(IllegalArgumentException.class, () -> compressor.decompress(compressed, output));
+      // Mixing direct and heap buffers
+      ByteBuffer mismatchedOutput = direct ? ByteBuffer.allocate(data.length) : ByteBuffer.allocateDirect(data.length);
+      Assert.assertThrows(IllegalArgumentException.class, () -> compressor.decompress(compressed, mismatchedOutput));
+    }
+  }
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testZstdDecompressIntoReusableBuffer(boolean direct) throws IOException {
+    try (VeniceCompressor compressor = getCompressor(CompressionStrategy.ZSTD_WITH_DICT)) {
+      Random random = new Random();
+      ByteBuffer previousOutput = null;
+      for (int size: new int[] { 200, 100, 300 }) {
+        byte[] data = new byte[size];
+        random.nextBytes(data);
+        ByteBuffer output = compressor.decompressIntoReusableBuffer(toBuffer(compressor.compress(data), direct));
+        Assert.assertEquals(output.isDirect(), direct);
+        Assert.assertEquals(output, ByteBuffer.wrap(data));
+        if (previousOutput != null && previousOutput.capacity() >= size) {
+          Assert.assertSame(output, previousOutput);
+        }
+        previousOutput = output;
+      }
+
+      // Large payloads are not decompressed into the reusable buffers.
+      byte[] largeData = new byte[2 * ByteUtils.BYTES_PER_MB];
+      ByteBuffer largeOutput =
+          compressor.decompressIntoReusableBuffer(toBuffer(compressor.compress(largeData), direct));
+      Assert.assertEquals(largeOutput, ByteBuffer.wrap(largeData));
+      Assert.assertNotSame(largeOutput, previousOutput);
+
+      // Heap buffers which don't start at the beginning of their backing array
+      byte[] data = new byte[50];
+      random.nextBytes(data);
+      byte[] compressed = compressor.compress(data);
+      byte[] paddedCompressed = new byte[compressed.length + 4];
+      System.arraycopy(compressed, 0, paddedCompressed, 4, compressed.length);
+      ByteBuffer slice = ((ByteBuffer) ByteBuffer.wrap(paddedCompressed).position(4)).slice();
+      Assert.assertEquals(compressor.decompressIntoReusableBuffer(slice), ByteBuffer.wrap(data));
+      Assert.assertEquals(compressor.decompress(slice), ByteBuffer.wrap(data));
+
+      // The reusable buffers are shared with the compressors of the other versions.
+      try (VeniceCompressor otherCompressor = getCompressor(CompressionStrategy.ZSTD_WITH_DICT)) {
+        ByteBuffer otherOutput =
+            otherCompressor.decompressIntoReusableBuffer(toBuffer(otherCompressor.compress(data), direct));
+        Assert.assertEquals(otherOutput, ByteBuffer.wrap(data));
+        Assert.assertSame(otherOutput, previousOutput);
+      }
+    }
+  }
+
+  private static ByteBuffer toBuffer(byte[] data, boolean direct) {
+    if (!direct) {
+      return ByteBuffer.wrap(data);
+    }
+    ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+    buffer.put(data);
+    buffer.flip();
+    return buffer;
+  }
+
   private enum SourceDataType {
     DIRECT_BYTE_BUFFER, NON_DIRECT_BYTE_BUFFER, BYTE_ARRAY
   }
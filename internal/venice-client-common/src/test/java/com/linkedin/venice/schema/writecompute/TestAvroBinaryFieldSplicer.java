@@ -0,0 +1,107 @@
+package com.linkedin.venice.schema.writecompute;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.serializer.VeniceSerializationException;
+import com.linkedin.venice.serializer.avro.MapOrderingPreservingSerDeFactory;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestAvroBinaryFieldSplicer {
+  private static final Schema RECORD_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"TestRecord\",\"namespace\":\"com.linkedin.avro\",\"fields\":["
+          + "{\"name\":\"intField\",\"type\":\"int\"},"
+          + "{\"name\":\"stringField\",\"type\":\"string\"},"
+          + "{\"name\":\"nullableLongField\",\"type\":[\"null\",\"long\"],\"default\":null},"
+          + "{\"name\":\"arrayField\",\"type\":{\"type\":\"array\",\"items\":\"string\"}},"
+          + "{\"name\":\"mapField\",\"type\":{\"type\":\"map\",\"values\":\"double\"}},"
+          + "{\"name\":\"nestedField\",\"type\":{\"type\":\"record\",\"name\":\"Nested\",\"fields\":["
+          + "{\"name\":\"booleanField\",\"type\":\"boolean\"},{\"name\":\"floatField\",\"type\":\"float\"}]}},"
+          + "{\"name\":\"enumField\",\"type\":{\"type\":\"enum\",\"name\":\"Color\",\"symbols\":[\"RED\",\"BLUE\"]}},"
+          + "{\"name\":\"fixedField\",\"type\":{\"type\":\"fixed\",\"name\":\"Hash\",\"size\":4}},"
+          + "{\"name\":\"bytesField\",\"type\":\"bytes\"}]}");
+
+  @Test
+  public void testReplaceFields() {
+    GenericRecord record = createRecord();
+    byte[] recordBytes = serialize(record);
+
+    // Replace fields at the start, in the middle and at the end of the record, with values of a different size.
+    Map<Integer, Object> newFieldValues = new HashMap<>();
+    newFieldValues.put(0, 123456789);
+    newFieldValues.put(2, null);
+    newFieldValues.put(4, new LinkedHashMap<>());
+    newFieldValues.put(8, ByteBuffer.wrap(new byte[100]));
+    byte[] updatedBytes =
+        AvroBinaryFieldSplicer.replaceFields(RECORD_SCHEMA, ByteBuffer.wrap(recordBytes), newFieldValues);
+
+    newFieldValues.forEach((fieldPos, fieldValue) -> record.put(fieldPos, fieldValue));
+    Assert.assertEquals(updatedBytes, serialize(record));
+  }
+
+  @Test
+  public void testReplaceFieldsFromBufferPosition() {
+    GenericRecord record = createRecord();
+    byte[] recordBytes = serialize(record);
+    byte[] paddedBytes = new byte[recordBytes.length + 10];
+    System.arraycopy(recordBytes, 0, paddedBytes, 5, recordBytes.length);
+    ByteBuffer recordBuffer = ByteBuffer.wrap(paddedBytes, 5, recordBytes.length);
+
+    int[] fieldOffsets = AvroBinaryFieldSplicer.getFieldOffsets(RECORD_SCHEMA, recordBuffer);
+    Assert.assertEquals(fieldOffsets.length, RECORD_SCHEMA.getFields().size() + 1);
+    Assert.assertEquals(fieldOffsets[0], 0);
+    Assert.assertEquals(fieldOffsets[RECORD_SCHEMA.getFields().size()], recordBytes.length);
+
+    Map<Integer, Object> newFieldValues = Collections.singletonMap(1, "a much longer string");
+    byte[] updatedBytes = AvroBinaryFieldSplicer.replaceFields(RECORD_SCHEMA, recordBuffer, newFieldValues);
+    Assert.assertEquals(recordBuffer.position(), 5);
+    record.put(1, "a much longer string");
+    Assert.assertEquals(updatedBytes, serialize(record));
+
+    // No field to replace
+    updatedBytes = AvroBinaryFieldSplicer.replaceFields(RECORD_SCHEMA, recordBuffer, new HashMap<>());
+    Assert.assertEquals(updatedBytes, recordBytes);
+  }
+
+  @Test(expectedExceptions = VeniceSerializationException.class)
+  public void testTruncatedRecordBytes() {
+    byte[] recordBytes = serialize(createRecord());
+    AvroBinaryFieldSplicer.getFieldOffsets(RECORD_SCHEMA, ByteBuffer.wrap(recordBytes, 0, recordBytes.length - 1));
+  }
+
+  private static GenericRecord createRecord() {
+    GenericRecord nestedRecord = new GenericData.Record(RECORD_SCHEMA.getField("nestedField").schema());
+    nestedRecord.put("booleanField", true);
+    nestedRecord.put("floatField", 1.5f);
+    Map<String, Double> map = new LinkedHashMap<>();
+    map.put("key1", 1.0);
+    map.put("key2", -2.0);
+
+    GenericRecord record = new GenericData.Record(RECORD_SCHEMA);
+    record.put("intField", -1);
+    record.put("stringField", "string");
+    record.put("nullableLongField", Long.MAX_VALUE);
+    record.put("arrayField", Arrays.asList("a", "bb", "ccc"));
+    record.put("mapField", map);
+    record.put("nestedField", nestedRecord);
+    Schema enumSchema = RECORD_SCHEMA.getField("enumField").schema();
+    record.put("enumField", AvroCompatibilityHelper.newEnumSymbol(enumSchema, "BLUE"));
+    Schema fixedSchema = RECORD_SCHEMA.getField("fixedField").schema();
+    record.put("fixedField", new GenericData.Fixed(fixedSchema, new byte[] { 1, 2, 3, 4 }));
+    record.put("bytesField", ByteBuffer.wrap(new byte[] { 5, 6 }));
+    return record;
+  }
+
+  private static byte[] serialize(GenericRecord record) {
+    return MapOrderingPreservingSerDeFactory.getSerializer(RECORD_SCHEMA).serialize(record);
+  }
+}
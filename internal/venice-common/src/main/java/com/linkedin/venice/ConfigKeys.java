@@ -515,6 +515,25 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to look up the keys of batch-get and compute requests with one batched storage engine call per
+   * partition, instead of one call per key.
+   */
+  public static final String SERVER_ENABLE_BATCHED_STORAGE_LOOKUP = "server.enable.batched.storage.lookup";
+
+  /**
+   * The fraction of read requests, between 0 and 1, whose latency breakdown per read phase is returned to the caller in
+   * the {@link com.linkedin.venice.HttpConstants#VENICE_READ_PHASE_TRACE} response header, for debugging.
+   */
+  public static final String SERVER_READ_PHASE_TRACE_SAMPLE_RATE = "server.read.phase.trace.sample.rate";
+
+  /**
+   * The number of threads which open the persisted storage partitions at startup. When greater than 1, the data
+   * partitions of all the stores are opened concurrently, up to the RocksDB open operation throttle, instead of one
+   * after the other.
+   */
+  public static final String SERVER_STORAGE_RESTORE_PARALLELISM = "server.storage.restore.parallelism";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -586,6 +605,19 @@ public class ConfigKeys {
    */
   public static final String SERVER_CACHE_WARMING_THREAD_POOL_SIZE = "server.cache.warming.thread.pool.size";
 
+  /**
+   * Store list to keep in the off-heap storage engine instead of the one configured by {@link #PERSISTENCE_TYPE}, and
+   * it is comma separated list. This is meant for small and very hot stores, whose data is not persisted across
+   * restarts, so these stores will be re-ingested from Kafka after a restart.
+   */
+  public static final String SERVER_OFF_HEAP_STORAGE_STORE_LIST = "server.off.heap.storage.store.list";
+
+  /**
+   * Size of the direct memory slabs allocated by the off-heap storage engine, and each storage partition allocates at
+   * least one slab.
+   */
+  public static final String SERVER_OFF_HEAP_STORAGE_SLAB_SIZE_IN_BYTES = "server.off.heap.storage.slab.size.in.bytes";
+
   /**
    * The delay serving of the newly started storage node.
    * The reason to have this config is that we noticed a high GC pause for some time because of connection warming or initializing the
@@ -611,6 +643,27 @@ public class ConfigKeys {
   public static final String SERVER_DEDICATED_DRAINER_FOR_SORTED_INPUT_ENABLED =
       "server.dedicated.drainer.queue.for.sorted.input.enabled";
 
+  /**
+   * Whether the topic partitions are re-assigned to the least loaded drainers at runtime, instead of always being
+   * processed by the drainer their hash maps to.
+   */
+  public static final String SERVER_ADAPTIVE_DRAINER_ASSIGNMENT_ENABLED =
+      "server.adaptive.drainer.assignment.enabled";
+
+  /**
+   * How often the drainer loads are compared to decide whether a topic partition should be re-assigned, when
+   * {@link #SERVER_ADAPTIVE_DRAINER_ASSIGNMENT_ENABLED} is true.
+   */
+  public static final String SERVER_ADAPTIVE_DRAINER_REBALANCE_INTERVAL_MS =
+      "server.adaptive.drainer.rebalance.interval.ms";
+
+  /**
+   * The ratio between the processing time of the busiest drainer and the average processing time of all the drainers
+   * above which a topic partition is re-assigned, when {@link #SERVER_ADAPTIVE_DRAINER_ASSIGNMENT_ENABLED} is true.
+   */
+  public static final String SERVER_ADAPTIVE_DRAINER_IMBALANCE_THRESHOLD =
+      "server.adaptive.drainer.imbalance.threshold";
+
   /**
    * A boolean config to specify if we are using Da Vinci client for ingestion. This config will be parsed by
    * isDaVinciConfig variable in VeniceServerConfig. By default it is false (use Venice Server)
@@ -663,6 +716,21 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_ISOLATION_REQUEST_TIMEOUT_SECONDS =
       "server.ingestion.isolation.request.timout.seconds";
 
+  /**
+   * Whether the main process and the isolated ingestion process should talk to each other over epoll Unix domain
+   * sockets, with a compact binary framing and batched ingestion reports, instead of loopback HTTP. This is only
+   * used when native epoll is available and neither SSL nor ACL is enabled for ingestion isolation, otherwise the
+   * HTTP transport is used.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_ENABLED =
+      "server.ingestion.isolation.unix.domain.socket.enabled";
+
+  /**
+   * Directory of the Unix domain socket files used by ingestion isolation. By default, the data base path is used.
+   */
+  public static final String SERVER_INGESTION_ISOLATION_UNIX_DOMAIN_SOCKET_DIRECTORY =
+      "server.ingestion.isolation.unix.domain.socket.directory";
+
   /**
    * whether to enable checksum verification in the ingestion path from kafka to database persistency. If enabled it will
    * keep a running checksum for all and only PUT kafka data message received in the ingestion task and periodically
@@ -830,6 +898,13 @@ public class ConfigKeys {
   public static final String ROUTER_LONG_TAIL_RETRY_MAX_ROUTE_FOR_MULTI_KEYS_REQ =
       "router.long.tail.retry.max.route.for.multi.keys.req";
 
+  /**
+   * Whether the router should assemble the multi-get requests to the storage nodes from slices of the client request,
+   * instead of re-serializing the keys of each sub-request.
+   */
+  public static final String ROUTER_MULTI_GET_ZERO_COPY_REQUEST_SPLIT_ENABLED =
+      "router.multi.get.zero.copy.request.split.enabled";
+
   /**
    * The max key count allowed in one multi-get request.
    * For now, it is configured in host level, and we could consider to configure it in store level.
@@ -894,6 +969,20 @@ public class ConfigKeys {
    */
   public static final String ROUTER_CACHE_TTL_MILLIS = "router.cache.ttl.millis";
 
+  /**
+   * Stores whose single-get responses will be cached by Router, and it is comma separated list.
+   * The TTL of the cached entries of hybrid stores is bounded by {@link #ROUTER_CACHE_TTL_MILLIS}, and the responses
+   * of hybrid stores are not cached at all if it is not set.
+   */
+  public static final String ROUTER_SINGLE_GET_CACHE_STORE_LIST = "router.single.get.cache.store.list";
+
+  /**
+   * Max off-heap memory used by the single-get cache of each store version, and the oldest entries will be evicted
+   * once it is exceeded.
+   */
+  public static final String ROUTER_SINGLE_GET_CACHE_MAX_MEMORY_PER_VERSION_BYTES =
+      "router.single.get.cache.max.memory.per.version.bytes";
+
   /**
    * Whether to enable customized dns cache in router or not.
    * This is mostly to address slow DNS lookup issue.
@@ -1577,6 +1666,20 @@ public class ConfigKeys {
   public static final String ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED =
       "router.http.client5.skip.cipher.check.enabled";
 
+  /**
+   * Maximum number of HTTP/2 connections from the router to each storage node when using
+   * {@literal StorageNodeClientType.NETTY_HTTP2_CLIENT}. Each connection multiplexes many concurrent requests.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST =
+      "router.netty.http2.client.max.connections.per.host";
+
+  /**
+   * Maximum number of requests waiting for a connection or a stream to each storage node when using
+   * {@literal StorageNodeClientType.NETTY_HTTP2_CLIENT}.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_MAX_PENDING_ACQUIRES_PER_HOST =
+      "router.netty.http2.client.max.pending.acquires.per.host";
+
   /**
    * Number of IO threads used for AHAC client.
    */
@@ -1789,6 +1892,23 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED =
       "server.ingestion.checkpoint.during.graceful.shutdown.enabled";
 
+  /**
+   * Whether active/active leaders should fetch the existing values and replication metadata of all the keys of an RT
+   * poll batch with one batched storage engine call per partition, before running conflict resolution on the records
+   * of the batch, instead of looking up each record separately.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_BATCH_PREFETCH_ENABLED =
+      "server.active.active.batch.prefetch.enabled";
+
+  /**
+   * Whether active/active leaders should apply the collection merge operations of partial updates with
+   * {@link com.linkedin.venice.schema.merge.IndexedCollectionFieldOpHandler}, which updates large map and list fields
+   * in place, instead of {@link com.linkedin.venice.schema.merge.SortBasedCollectionFieldOpHandler}, which re-sorts
+   * the whole collection on every operation. Both produce the same results.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_INDEXED_COLLECTION_MERGE_ENABLED =
+      "server.active.active.indexed.collection.merge.enabled";
+
   /**
    * A config to control which status store to use for fetching incremental push job status from the controller. This config
    * should be removed once the migration of push status to push status system store is complete.
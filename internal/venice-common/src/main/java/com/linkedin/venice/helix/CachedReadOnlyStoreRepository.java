@@ -3,10 +3,10 @@ package com.linkedin.venice.helix;
 import static com.linkedin.venice.common.VeniceSystemStoreUtils.getZkStoreName;
 
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
-import com.linkedin.venice.meta.ReadOnlyStore;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.meta.StoreMetadataSnapshot;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.PathResourceRegistry;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -41,6 +41,11 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
 
   protected final ClusterLockManager clusterLockManager;
   protected final Map<String, Store> storeMap = new VeniceConcurrentHashMap<>();
+  /**
+   * The snapshots of the stores in {@link #storeMap}, which are replaced along with the stores, so that the read path
+   * doesn't need to wrap the store or to look up its current version for every request.
+   */
+  private final Map<String, StoreMetadataSnapshot> snapshotMap = new VeniceConcurrentHashMap<>();
   private final AtomicLong totalStoreReadQuota = new AtomicLong();
   private final Set<StoreDataChangedListener> listeners = new CopyOnWriteArraySet<>();
 
@@ -63,19 +68,34 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
 
   @Override
   public Store getStore(String storeName) {
-    Store store = storeMap.get(getZkStoreName(storeName));
-    if (store != null) {
-      return new ReadOnlyStore(store);
+    StoreMetadataSnapshot snapshot = snapshotMap.get(getZkStoreName(storeName));
+    if (snapshot != null) {
+      return snapshot.getStore();
     }
     return refreshOneStore(storeName);
   }
 
   public Store getStoreOrThrow(String storeName) throws VeniceNoStoreException {
-    Store store = storeMap.get(getZkStoreName(storeName));
-    if (store != null) {
-      return new ReadOnlyStore(store);
+    return getStoreSnapshotOrThrow(storeName).getStore();
+  }
+
+  @Override
+  public StoreMetadataSnapshot getStoreSnapshot(String storeName) {
+    StoreMetadataSnapshot snapshot = snapshotMap.get(getZkStoreName(storeName));
+    if (snapshot != null) {
+      return snapshot;
+    }
+    refreshOneStore(storeName);
+    return snapshotMap.get(getZkStoreName(storeName));
+  }
+
+  @Override
+  public StoreMetadataSnapshot getStoreSnapshotOrThrow(String storeName) throws VeniceNoStoreException {
+    StoreMetadataSnapshot snapshot = snapshotMap.get(getZkStoreName(storeName));
+    if (snapshot == null) {
+      throw new VeniceNoStoreException(storeName, clusterName);
     }
-    throw new VeniceNoStoreException(storeName, clusterName);
+    return snapshot;
   }
 
   @Override
@@ -85,7 +105,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
 
   @Override
   public List<Store> getAllStores() {
-    return storeMap.values().stream().map(s -> new ReadOnlyStore(s)).collect(Collectors.toList());
+    return snapshotMap.values().stream().map(StoreMetadataSnapshot::getStore).collect(Collectors.toList());
   }
 
   @Override
@@ -95,12 +115,12 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
 
   @Override
   public int getBatchGetLimit(String storeName) {
-    return getStoreOrThrow(storeName).getBatchGetLimit();
+    return getStoreSnapshotOrThrow(storeName).getBatchGetLimit();
   }
 
   @Override
   public boolean isReadComputationEnabled(String storeName) {
-    return getStoreOrThrow(storeName).isReadComputationEnabled();
+    return getStoreSnapshotOrThrow(storeName).isReadComputationEnabled();
   }
 
   @Override
@@ -143,6 +163,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   public void clear() {
     try (AutoCloseableLock ignore = clusterLockManager.createClusterWriteLock()) {
       storeMap.clear();
+      snapshotMap.clear();
       totalStoreReadQuota.set(0);
       clusterLockManager.clear();
     }
@@ -163,7 +184,9 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
       // Workaround to make old metadata compatible with new fields
       newStore.fixMissingFields();
 
-      Store oldStore = storeMap.put(getZkStoreName(newStore.getName()), newStore);
+      String zkStoreName = getZkStoreName(newStore.getName());
+      Store oldStore = storeMap.put(zkStoreName, newStore);
+      snapshotMap.put(zkStoreName, new StoreMetadataSnapshot(newStore));
       if (oldStore == null) {
         totalStoreReadQuota.addAndGet(newStore.getReadQuotaInCU());
         notifyStoreCreated(newStore);
@@ -178,6 +201,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   protected Store removeStore(String storeName) {
     try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(storeName)) {
       Store oldStore = storeMap.remove(getZkStoreName(storeName));
+      snapshotMap.remove(getZkStoreName(storeName));
       if (oldStore != null) {
         totalStoreReadQuota.addAndGet(-oldStore.getReadQuotaInCU());
         notifyStoreDeleted(oldStore);
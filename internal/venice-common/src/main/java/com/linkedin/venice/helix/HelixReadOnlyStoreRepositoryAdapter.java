@@ -5,6 +5,7 @@ import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.meta.StoreMetadataSnapshot;
 import com.linkedin.venice.meta.SystemStore;
 import java.util.ArrayList;
 import java.util.List;
@@ -84,6 +85,17 @@ public class HelixReadOnlyStoreRepositoryAdapter implements ReadOnlyStoreReposit
     return store;
   }
 
+  @Override
+  public StoreMetadataSnapshot getStoreSnapshot(String storeName) {
+    VeniceSystemStoreType systemStoreType = VeniceSystemStoreType.getSystemStoreType(storeName);
+    if (forwardToRegularRepository(systemStoreType)) {
+      return regularStoreRepository.getStoreSnapshot(storeName);
+    }
+    // The system stores are built from both the regular store and the zk shared store, so they are not cached.
+    Store store = getStore(storeName);
+    return store == null ? null : new StoreMetadataSnapshot(store);
+  }
+
   @Override
   public boolean hasStore(String storeName) {
     VeniceSystemStoreType systemStoreType = VeniceSystemStoreType.getSystemStoreType(storeName);
@@ -4,6 +4,7 @@ import com.linkedin.venice.common.VeniceSystemStoreType;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreMetadataSnapshot;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -59,6 +60,29 @@ public class HelixReadOnlyZKSharedSystemStoreRepository extends HelixReadOnlySto
     throw new VeniceNoStoreException(storeName, clusterName);
   }
 
+  /**
+   * Only the snapshot of the zk shared system store can be returned, otherwise this function will return null.
+   */
+  @Override
+  public StoreMetadataSnapshot getStoreSnapshot(String storeName) {
+    if (zkSharedSystemStoreSet.contains(storeName)) {
+      return super.getStoreSnapshot(storeName);
+    }
+    return null;
+  }
+
+  /**
+   * Only the snapshot of the zk shared system store can be returned, otherwise this function will throw
+   * {@link VeniceNoStoreException}.
+   */
+  @Override
+  public StoreMetadataSnapshot getStoreSnapshotOrThrow(String storeName) throws VeniceNoStoreException {
+    if (zkSharedSystemStoreSet.contains(storeName)) {
+      return super.getStoreSnapshotOrThrow(storeName);
+    }
+    throw new VeniceNoStoreException(storeName, clusterName);
+  }
+
   /**
    * Only return true for the existing zk shared system store.
    */
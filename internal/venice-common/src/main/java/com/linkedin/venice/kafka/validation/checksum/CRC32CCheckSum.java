@@ -0,0 +1,196 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.zip.Checksum;
+
+
+/**
+ * Running checksum implementation based on CRC32C (Castagnoli), which is much cheaper than MD5 to compute.
+ *
+ * On Java 9+, it is backed by {@code java.util.zip.CRC32C}, which the JIT compiles to the CRC32 instructions of the
+ * CPU. Since Venice still targets Java 8, that class is looked up at runtime, with a table-based fallback which
+ * produces the same checksums on older JVMs.
+ *
+ * CRC32C doesn't expose its internal state, so the encoded state is the CRC32C of the bytes seen so far. A checksum
+ * resumed from an encoded state computes the CRC32C of the following bytes separately, and combines both values when
+ * the checksum or the state is requested, in O(log(n)) of the number of following bytes.
+ */
+public class CRC32CCheckSum extends CheckSum {
+  private static final int CASTAGNOLI_POLYNOMIAL = 0x82F63B78; // Reversed representation
+  private static final MethodHandle JDK_CRC32C_CONSTRUCTOR = getJdkCrc32cConstructor();
+
+  private final Checksum checkSumGenerator;
+  // The CRC32C of the bytes which were checksummed before the encoded state was persisted.
+  private int previousCrc;
+  private long lengthSincePreviousCrc;
+
+  public CRC32CCheckSum() {
+    this.checkSumGenerator = newCrc32c();
+  }
+
+  public CRC32CCheckSum(byte[] encodedState) {
+    this();
+    if (encodedState == null || encodedState.length != ByteUtils.SIZE_OF_INT) {
+      throw new VeniceException("Invalid " + getType() + " encoded state");
+    }
+    this.previousCrc = ByteUtils.readInt(encodedState, 0);
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    return getEncodedCrc();
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    checkSumGenerator.update(input, startIndex, length);
+    lengthSincePreviousCrc += length;
+  }
+
+  @Override
+  public void resetInternal() {
+    checkSumGenerator.reset();
+    previousCrc = 0;
+    lengthSincePreviousCrc = 0;
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.CRC32C;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    return getEncodedCrc();
+  }
+
+  private byte[] getEncodedCrc() {
+    byte[] encodedCrc = new byte[ByteUtils.SIZE_OF_INT];
+    ByteUtils.writeInt(encodedCrc, combine(previousCrc, (int) checkSumGenerator.getValue(), lengthSincePreviousCrc), 0);
+    return encodedCrc;
+  }
+
+  /**
+   * Returns the CRC32C of the concatenation of two byte sequences, given their respective CRC32C and the length of the
+   * second one, by appending as many zero bits to the first CRC, like zlib's crc32_combine. Since the CRC of an empty
+   * sequence is 0, combining with a first CRC of 0 returns the second one.
+   */
+  static int combine(int crc1, int crc2, long length2) {
+    if (crc1 == 0 || length2 <= 0) {
+      return crc1 ^ crc2;
+    }
+    // The operator which appends a single zero bit.
+    int[] odd = new int[Integer.SIZE];
+    odd[0] = CASTAGNOLI_POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < Integer.SIZE; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    int[] even = new int[Integer.SIZE];
+    // Operators for two, and then four zero bits.
+    squareMatrix(even, odd);
+    squareMatrix(odd, even);
+    // Apply the operators for one zero byte, two zero bytes, four zero bytes and so on, matching the bits of length2.
+    do {
+      squareMatrix(even, odd);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyMatrix(even, crc1);
+      }
+      length2 >>>= 1;
+      if (length2 == 0) {
+        break;
+      }
+      squareMatrix(odd, even);
+      if ((length2 & 1) != 0) {
+        crc1 = multiplyMatrix(odd, crc1);
+      }
+      length2 >>>= 1;
+    } while (length2 != 0);
+    return crc1 ^ crc2;
+  }
+
+  private static int multiplyMatrix(int[] matrix, int vector) {
+    int sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void squareMatrix(int[] square, int[] matrix) {
+    for (int n = 0; n < Integer.SIZE; n++) {
+      square[n] = multiplyMatrix(matrix, matrix[n]);
+    }
+  }
+
+  static Checksum newCrc32c() {
+    if (JDK_CRC32C_CONSTRUCTOR != null) {
+      try {
+        return (Checksum) JDK_CRC32C_CONSTRUCTOR.invoke();
+      } catch (Throwable e) {
+        throw new VeniceException("Failed to create java.util.zip.CRC32C", e);
+      }
+    }
+    return new PureJavaCrc32C();
+  }
+
+  private static MethodHandle getJdkCrc32cConstructor() {
+    try {
+      return MethodHandles.publicLookup()
+          .findConstructor(Class.forName("java.util.zip.CRC32C"), MethodType.methodType(void.class));
+    } catch (ReflectiveOperationException e) {
+      // Java 8
+      return null;
+    }
+  }
+
+  /**
+   * Table-based CRC32C, only used on Java 8.
+   */
+  static class PureJavaCrc32C implements Checksum {
+    private static final int[] TABLE = new int[256];
+
+    static {
+      for (int i = 0; i < TABLE.length; i++) {
+        int crc = i;
+        for (int bit = 0; bit < Byte.SIZE; bit++) {
+          crc = (crc & 1) != 0 ? (crc >>> 1) ^ CASTAGNOLI_POLYNOMIAL : crc >>> 1;
+        }
+        TABLE[i] = crc;
+      }
+    }
+
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+      crc = (crc >>> 8) ^ TABLE[(crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+      int localCrc = crc;
+      for (int i = off; i < off + len; i++) {
+        localCrc = (localCrc >>> 8) ^ TABLE[(localCrc ^ b[i]) & 0xFF];
+      }
+      crc = localCrc;
+    }
+
+    @Override
+    public long getValue() {
+      return (~crc) & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+      crc = 0xFFFFFFFF;
+    }
+  }
+}
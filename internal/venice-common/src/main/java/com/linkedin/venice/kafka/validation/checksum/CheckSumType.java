@@ -11,7 +11,13 @@ import java.util.Map;
 public enum CheckSumType {
   NONE(0, true), MD5(1, true), @Deprecated
   ADLER32(2, false), @Deprecated
-  CRC32(3, false);
+  CRC32(3, false),
+
+  /**
+   * Much cheaper than {@link #MD5} on both the producer and the consumer side, see {@link CRC32CCheckSum}. Consumers
+   * must be upgraded before any producer uses it, since they cannot decode a checksum type they don't know.
+   */
+  CRC32C(4, true);
 
   /** The value is the byte used on the wire format */
   private final int value;
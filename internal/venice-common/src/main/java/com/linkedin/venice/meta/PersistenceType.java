@@ -33,7 +33,13 @@ public enum PersistenceType {
   /**
    * Similar to IN_MEMORY but with different retention rules of data (that is, data is evicted under certain circumstances)
    */
-  CACHE(4);
+  CACHE(4),
+
+  /**
+   * Volatile storage engine which keeps the data in slabs of direct memory, outside the Java heap, with a lock-free
+   * hash index, for small and very hot stores.
+   */
+  OFF_HEAP(5);
 
   public final int value;
 
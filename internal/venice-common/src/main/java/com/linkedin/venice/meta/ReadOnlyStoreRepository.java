@@ -25,6 +25,27 @@ public interface ReadOnlyStoreRepository extends VeniceResource {
 
   Store getStoreOrThrow(String storeName) throws VeniceNoStoreException;
 
+  /**
+   * Get the metadata of one store which is needed to serve read requests. Implementations should cache the snapshots,
+   * so that this function can be invoked for every request.
+   *
+   * @param storeName name of wanted store.
+   *
+   * @return the snapshot of the store, or null if the store doesn't exist.
+   */
+  default StoreMetadataSnapshot getStoreSnapshot(String storeName) {
+    Store store = getStore(storeName);
+    return store == null ? null : new StoreMetadataSnapshot(store);
+  }
+
+  default StoreMetadataSnapshot getStoreSnapshotOrThrow(String storeName) throws VeniceNoStoreException {
+    StoreMetadataSnapshot snapshot = getStoreSnapshot(storeName);
+    if (snapshot == null) {
+      throw new VeniceNoStoreException(storeName);
+    }
+    return snapshot;
+  }
+
   /**
    * Wait for a specified store/version to appear in the Store Repository and retrieve them.
    *
@@ -0,0 +1,96 @@
+package com.linkedin.venice.meta;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import java.util.Optional;
+
+
+/**
+ * An immutable view of the store metadata which is needed to serve every read request, i.e. the current version and
+ * the store-level flags and limits, which is computed once per store update instead of once per request.
+ *
+ * The version-level properties are the ones of the current version, falling back to the store-level ones if the
+ * current version doesn't exist. The full store is still available through {@link #getStore()} for the less
+ * frequent code paths, as a read-only wrapper which is shared by all the callers.
+ */
+public final class StoreMetadataSnapshot {
+  private final Store store;
+  private final int currentVersion;
+  private final int partitionCount;
+  private final PartitionerConfig partitionerConfig;
+  private final CompressionStrategy compressionStrategy;
+  private final int batchGetLimit;
+  private final boolean readComputationEnabled;
+  private final boolean clientDecompressionEnabled;
+  private final boolean enableReads;
+  private final boolean migrating;
+  private final long readQuotaInCU;
+
+  public StoreMetadataSnapshot(Store store) {
+    this.store = store instanceof ReadOnlyStore ? store : new ReadOnlyStore(store);
+    this.currentVersion = this.store.getCurrentVersion();
+    Optional<Version> version = this.store.getVersion(currentVersion);
+    if (version.isPresent()) {
+      this.partitionCount = version.get().getPartitionCount();
+      this.partitionerConfig = version.get().getPartitionerConfig();
+      this.compressionStrategy = version.get().getCompressionStrategy();
+    } else {
+      this.partitionCount = this.store.getPartitionCount();
+      this.partitionerConfig = this.store.getPartitionerConfig();
+      this.compressionStrategy = this.store.getCompressionStrategy();
+    }
+    this.batchGetLimit = this.store.getBatchGetLimit();
+    this.readComputationEnabled = this.store.isReadComputationEnabled();
+    this.clientDecompressionEnabled = this.store.getClientDecompressionEnabled();
+    this.enableReads = this.store.isEnableReads();
+    this.migrating = this.store.isMigrating();
+    this.readQuotaInCU = this.store.getReadQuotaInCU();
+  }
+
+  public String getStoreName() {
+    return store.getName();
+  }
+
+  public Store getStore() {
+    return store;
+  }
+
+  public int getCurrentVersion() {
+    return currentVersion;
+  }
+
+  public int getPartitionCount() {
+    return partitionCount;
+  }
+
+  public PartitionerConfig getPartitionerConfig() {
+    return partitionerConfig;
+  }
+
+  public CompressionStrategy getCompressionStrategy() {
+    return compressionStrategy;
+  }
+
+  public int getBatchGetLimit() {
+    return batchGetLimit;
+  }
+
+  public boolean isReadComputationEnabled() {
+    return readComputationEnabled;
+  }
+
+  public boolean isClientDecompressionEnabled() {
+    return clientDecompressionEnabled;
+  }
+
+  public boolean isEnableReads() {
+    return enableReads;
+  }
+
+  public boolean isMigrating() {
+    return migrating;
+  }
+
+  public long getReadQuotaInCU() {
+    return readQuotaInCU;
+  }
+}
@@ -0,0 +1,87 @@
+package com.linkedin.venice.throttle;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A {@link TokenBucket} which is meant to be shared by many threads, e.g. all the Netty I/O threads of a server.
+ *
+ * Instead of updating the shared token counter for every request, each thread leases {@link #leaseSize} tokens at a
+ * time and consumes them locally, so the shared counter is only touched once every {@link #leaseSize} tokens. The
+ * leases are reconciled with the shared bucket on every refill: the unused tokens of a lease taken before the last
+ * refill are given back to the bucket (up to its capacity) the next time the thread consumes from it.
+ *
+ * The trade-off is that up to {@link #leaseSize} tokens per thread can sit unused in the leases of idle threads, and
+ * are not reported by {@link #getStaleTokenCount()}, so the lease size should be small compared to the refill amount.
+ * A thread which cannot get a whole lease still consumes the exact amount it needs from the shared bucket, so a single
+ * thread can always consume all the tokens of the bucket.
+ */
+public class LeasingTokenBucket extends TokenBucket {
+  private final long leaseSize;
+  private final ThreadLocal<Lease> leases = ThreadLocal.withInitial(Lease::new);
+
+  /**
+   * This constructor should only be used by tests.  Application should not specify it's own instance of Clock
+   */
+  public LeasingTokenBucket(
+      long capacity,
+      long refillAmount,
+      long refillInterval,
+      TimeUnit refillUnit,
+      long leaseSize,
+      Clock clock) {
+    super(capacity, refillAmount, refillInterval, refillUnit, clock);
+    if (leaseSize <= 0 || leaseSize > refillAmount) {
+      throw new IllegalArgumentException(
+          "LeasingTokenBucket leaseSize " + leaseSize + " is not valid.  Must be in the range of [1, refillAmount]");
+    }
+    this.leaseSize = leaseSize;
+  }
+
+  /**
+   * @param leaseSize The number of tokens each thread takes from the shared bucket at once.
+   * @see TokenBucket#TokenBucket(long, long, long, TimeUnit) for the other parameters
+   */
+  public LeasingTokenBucket(
+      long capacity,
+      long refillAmount,
+      long refillInterval,
+      TimeUnit refillUnit,
+      long leaseSize) {
+    this(capacity, refillAmount, refillInterval, refillUnit, leaseSize, Clock.systemUTC());
+  }
+
+  @Override
+  public boolean tryConsume(long tokensToConsume) {
+    Lease lease = leases.get();
+    if (lease.tokens > 0 && lease.nextUpdateTime != getNextUpdateTime()) {
+      // The bucket got refilled since this lease was taken.
+      addTokens(lease.tokens);
+      lease.tokens = 0;
+    }
+    if (tokensToConsume <= lease.tokens) {
+      lease.tokens -= tokensToConsume;
+      return true;
+    }
+    long missingTokens = tokensToConsume - lease.tokens;
+    if (super.tryConsume(missingTokens + leaseSize)) {
+      lease.tokens = leaseSize;
+    } else if (super.tryConsume(missingTokens)) {
+      lease.tokens = 0;
+    } else {
+      return false;
+    }
+    lease.nextUpdateTime = getNextUpdateTime();
+    return true;
+  }
+
+  public long getLeaseSize() {
+    return leaseSize;
+  }
+
+  private static class Lease {
+    private long tokens;
+    private long nextUpdateTime;
+  }
+}
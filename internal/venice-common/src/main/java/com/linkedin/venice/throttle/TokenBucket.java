@@ -9,6 +9,10 @@ import java.util.concurrent.atomic.AtomicLong;
  * @see <a href="http://en.wikipedia.org/wiki/Token_bucket">Token Bucket on Wikipedia</a>
  * This implementation aims to be very high performance with the goal of supporting a very large number of
  * TokenBuckets in an application; thus avoiding an auxilliary thread to refill the bucket.
+ *
+ * It is also lock-free: the refill is claimed by whichever thread manages to advance {@link #nextUpdateTime} with a
+ * CAS, and only that thread adds the refilled tokens, so the threads consuming from a hot bucket never block each
+ * other. See {@link LeasingTokenBucket} to also avoid the contention on the token counter itself.
  */
 public class TokenBucket {
   private final long capacity;
@@ -17,7 +21,7 @@ public class TokenBucket {
   private final float refillPerSecond;// only used for logging
   private final Clock clock;
   private final AtomicLong tokens;
-  private volatile long nextUpdateTime;
+  private final AtomicLong nextUpdateTime;
 
   /**
    * This constructor should only be used by tests.  Application should not specify it's own instance of Clock
@@ -48,7 +52,7 @@ public class TokenBucket {
     this.clock = clock;
 
     tokens = new AtomicLong(capacity);
-    nextUpdateTime = clock.millis() + refillIntervalMs;
+    nextUpdateTime = new AtomicLong(clock.millis() + refillIntervalMs);
 
     float refillIntervalSeconds = refillIntervalMs / (float) 1000;
     refillPerSecond = refillAmount / refillIntervalSeconds;
@@ -71,26 +75,42 @@ public class TokenBucket {
    * @return true if tokens may have been added, false if short circuited and no tokens were added
    */
   private boolean update() {
-    if (clock.millis() > nextUpdateTime) {
-      synchronized (this) {
-        if (clock.millis() > nextUpdateTime) {
-          long refillCount = (clock.millis() - nextUpdateTime) / refillIntervalMs + 1;
-          long totalRefillAmount = refillCount * refillAmount;
-          tokens.getAndAccumulate(totalRefillAmount, (existing, toAdd) -> {
-            long newTokens = existing + toAdd;
-            if (newTokens > capacity) {
-              return capacity;
-            } else {
-              return newTokens;
-            }
-          });
-          nextUpdateTime += refillCount * refillIntervalMs;
-        }
-      }
-      return true;
-    } else {
+    long now = clock.millis();
+    long updateTime = nextUpdateTime.get();
+    if (now <= updateTime) {
       return false;
     }
+    long refillCount = (now - updateTime) / refillIntervalMs + 1;
+    /**
+     * Only the thread which advances the update time adds the tokens. The other threads racing with it may retry
+     * before the tokens are added, in which case they are throttled just like they would have been an instant
+     * earlier.
+     */
+    if (nextUpdateTime.compareAndSet(updateTime, updateTime + refillCount * refillIntervalMs)) {
+      addTokens(refillCount * refillAmount);
+    }
+    return true;
+  }
+
+  /**
+   * Adds tokens to the bucket, up to its capacity.
+   */
+  protected void addTokens(long tokensToAdd) {
+    tokens.getAndAccumulate(tokensToAdd, (existing, toAdd) -> {
+      long newTokens = existing + toAdd;
+      if (newTokens > capacity) {
+        return capacity;
+      } else {
+        return newTokens;
+      }
+    });
+  }
+
+  /**
+   * @return the time of the next refill, which changes every time the bucket is refilled.
+   */
+  protected long getNextUpdateTime() {
+    return nextUpdateTime.get();
   }
 
   /**
@@ -122,7 +122,7 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   public static final int DEFAULT_CLOSE_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
 
   /**
-   * Default checksum type. N.B.: Only MD5 (and having no checksums) supports checkpointing mid-checksum.
+   * Default checksum type. N.B.: Only MD5, CRC32C (and having no checksums) support checkpointing mid-checksum.
    */
   public static final String DEFAULT_CHECK_SUM_TYPE = CheckSumType.MD5.name();
 
@@ -254,7 +254,9 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
     this.time = params.getTime();
     this.partitioner = params.getPartitioner();
     this.closeTimeOut = props.getInt(CLOSE_TIMEOUT_MS, DEFAULT_CLOSE_TIMEOUT_MS);
-    this.checkSumType = CheckSumType.valueOf(props.getString(CHECK_SUM_TYPE, DEFAULT_CHECK_SUM_TYPE));
+    this.checkSumType = params.getCheckSumType() != null
+        ? params.getCheckSumType()
+        : CheckSumType.valueOf(props.getString(CHECK_SUM_TYPE, DEFAULT_CHECK_SUM_TYPE));
     this.isChunkingEnabled = props.getBoolean(ENABLE_CHUNKING, false);
     this.isChunkingSet = props.containsKey(ENABLE_CHUNKING);
     this.isRmdChunkingEnabled = props.getBoolean(ENABLE_RMD_CHUNKING, false);
@@ -1031,7 +1033,7 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   }
 
   /**
-   * This is (and should remain!) the only function in the class which writes to Kafka. The synchronized locking
+   * This is (and should remain!) the only function in the class which writes to Kafka. The per-partition locking
    * is important, in that it ensures that DIV-related operations are performed atomically with the write to Kafka,
    * which prevents ordering issues such as this one:
    *
@@ -1048,8 +1050,10 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
    *         have also updated the DIV.
    *         @see {@link #sendControlMessage(ControlMessage, int, Map, Callback, LeaderMetadataWrapper)}
    *
-   * P.S. 2: If there is too much contention on this lock, then we can consider a finer locking strategy, where the
-   *         locking is per-partition, which would also be correct as far as DIV is concerned.
+   * P.S. 2: The lock is per-partition rather than writer-wide, since segments, sequence numbers and checksums are
+   *         all tracked per partition. This is enough as far as DIV is concerned, and lets the threads producing to
+   *         different partitions of the same writer proceed concurrently.
+   *         @see {@link #partitionLocks}
    *
    * @param updateDIV if true, the partition's segment's checksum will be updated and its sequence number incremented
    *                  if false, the checksum and seq# update are omitted, which is the right thing to do during retries
@@ -1,5 +1,6 @@
 package com.linkedin.venice.writer;
 
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.partitioner.VenicePartitioner;
 import com.linkedin.venice.serialization.DefaultSerializer;
@@ -26,6 +27,7 @@ public class VeniceWriterOptions {
   private final boolean chunkingEnabled;
   private final boolean rmdChunkingEnabled;
   private final String kafkaBootstrapServers;
+  private final CheckSumType checkSumType;
 
   public String getKafkaBootstrapServers() {
     return kafkaBootstrapServers;
@@ -67,6 +69,14 @@ public class VeniceWriterOptions {
     return rmdChunkingEnabled;
   }
 
+  /**
+   * @return the checksum type of the segments, or null if it should be taken from the
+   *         {@link VeniceWriter#CHECK_SUM_TYPE} property of the writer.
+   */
+  public CheckSumType getCheckSumType() {
+    return checkSumType;
+  }
+
   private VeniceWriterOptions(Builder builder) {
     topicName = builder.topicName;
     keySerializer = builder.keySerializer;
@@ -78,6 +88,7 @@ public class VeniceWriterOptions {
     chunkingEnabled = builder.chunkingEnabled;
     rmdChunkingEnabled = builder.rmdChunkingEnabled;
     kafkaBootstrapServers = builder.kafkaBootstrapServers;
+    checkSumType = builder.checkSumType;
   }
 
   @Override
@@ -93,6 +104,9 @@ public class VeniceWriterOptions {
         .append(", ")
         .append("partitionCount:")
         .append(partitionCount.isPresent() ? partitionCount : "-")
+        .append(", ")
+        .append("checkSumType:")
+        .append(checkSumType != null ? checkSumType : "-")
         .append("}")
         .toString();
   }
@@ -109,6 +123,7 @@ public class VeniceWriterOptions {
     private boolean rmdChunkingEnabled;
     private boolean useKafkaKeySerializer = false;
     private String kafkaBootstrapServers = null;
+    private CheckSumType checkSumType = null;
 
     private void addDefaults() {
       if (keySerializer == null) {
@@ -172,6 +187,15 @@ public class VeniceWriterOptions {
       return this;
     }
 
+    public CheckSumType getCheckSumType() {
+      return checkSumType;
+    }
+
+    public Builder setCheckSumType(CheckSumType checkSumType) {
+      this.checkSumType = checkSumType;
+      return this;
+    }
+
     public Builder(String topic) {
       this.topicName = topic;
     }
@@ -1,7 +1,10 @@
 package com.linkedin.venice.kafka.validation.checksum;
 
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
 import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Checksum;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -27,4 +30,48 @@ public class TestCheckSum {
     checkSum.update(3);
     Assert.assertFalse(Arrays.equals(curCheckSumVal, checkSum.getCheckSum()));
   }
+
+  @Test
+  public void testCRC32CCheckSum() {
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C).get();
+    checkSum.update("123456789".getBytes());
+    // Check value of CRC-32C from RFC 3720.
+    Assert.assertEquals(ByteUtils.readInt(checkSum.getCheckSum(), 0), 0xE3069283);
+
+    // The table-based implementation should match the JDK one.
+    byte[] input = new byte[10000];
+    new Random(42).nextBytes(input);
+    CRC32CCheckSum.PureJavaCrc32C pureJavaCrc32C = new CRC32CCheckSum.PureJavaCrc32C();
+    pureJavaCrc32C.update(input, 0, input.length);
+    Checksum crc32c = CRC32CCheckSum.newCrc32c();
+    crc32c.update(input, 0, input.length);
+    Assert.assertEquals(pureJavaCrc32C.getValue(), crc32c.getValue());
+  }
+
+  @Test
+  public void testCRC32CCheckSumResumedFromEncodedState() {
+    byte[] input = new byte[10000];
+    new Random(42).nextBytes(input);
+    CheckSum expectedCheckSum = CheckSum.getInstance(CheckSumType.CRC32C).get();
+    expectedCheckSum.update(input);
+    byte[] expected = expectedCheckSum.getCheckSum();
+
+    for (int checkpoint: new int[] { 0, 1, 4096, input.length }) {
+      CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C).get();
+      checkSum.update(input, 0, checkpoint);
+      // A checksum can be checkpointed more than once.
+      CheckSum resumedCheckSum = CheckSum.getInstance(CheckSumType.CRC32C, checkSum.getEncodedState()).get();
+      resumedCheckSum.update(input, checkpoint, (input.length - checkpoint) / 2);
+      resumedCheckSum = CheckSum.getInstance(CheckSumType.CRC32C, resumedCheckSum.getEncodedState()).get();
+      int resumedLength = checkpoint + (input.length - checkpoint) / 2;
+      resumedCheckSum.update(input, resumedLength, input.length - resumedLength);
+      Assert.assertEquals(resumedCheckSum.getCheckSum(), expected, "Checkpoint at: " + checkpoint);
+    }
+
+    // Resetting a resumed checksum should discard its previous state.
+    CheckSum resumedCheckSum = CheckSum.getInstance(CheckSumType.CRC32C, expectedCheckSum.getCheckSum()).get();
+    resumedCheckSum.reset();
+    resumedCheckSum.update(input);
+    Assert.assertEquals(resumedCheckSum.getCheckSum(), expected);
+  }
 }
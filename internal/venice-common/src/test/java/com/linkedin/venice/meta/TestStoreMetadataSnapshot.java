@@ -0,0 +1,59 @@
+package com.linkedin.venice.meta;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.partitioner.XxHash64VenicePartitioner;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.HashMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestStoreMetadataSnapshot {
+  @Test
+  public void testSnapshotUsesCurrentVersion() {
+    Store store = TestUtils.createTestStore("s1", "owner", System.currentTimeMillis());
+    store.setPartitionCount(3);
+    store.setBatchGetLimit(100);
+    store.setReadComputationEnabled(true);
+    store.setClientDecompressionEnabled(false);
+    Version version = new VersionImpl(store.getName(), 1, "pushJobId", 5);
+    version.setCompressionStrategy(CompressionStrategy.ZSTD_WITH_DICT);
+    String partitionerClass = XxHash64VenicePartitioner.class.getName();
+    version.setPartitionerConfig(new PartitionerConfigImpl(partitionerClass, new HashMap<>(), 1));
+    store.addVersion(version);
+    store.setCurrentVersion(1);
+
+    StoreMetadataSnapshot snapshot = new StoreMetadataSnapshot(store);
+    Assert.assertEquals(snapshot.getStoreName(), "s1");
+    Assert.assertEquals(snapshot.getCurrentVersion(), 1);
+    Assert.assertEquals(snapshot.getPartitionCount(), 5);
+    Assert.assertEquals(snapshot.getCompressionStrategy(), CompressionStrategy.ZSTD_WITH_DICT);
+    Assert.assertEquals(snapshot.getPartitionerConfig().getPartitionerClass(), partitionerClass);
+    Assert.assertEquals(snapshot.getBatchGetLimit(), 100);
+    Assert.assertTrue(snapshot.isReadComputationEnabled());
+    Assert.assertFalse(snapshot.isClientDecompressionEnabled());
+    Assert.assertTrue(snapshot.getStore() instanceof ReadOnlyStore);
+
+    // The snapshot is not affected by the later changes of the store.
+    store.setBatchGetLimit(200);
+    store.setEnableReads(false);
+    Assert.assertEquals(snapshot.getBatchGetLimit(), 100);
+    Assert.assertTrue(snapshot.isEnableReads());
+    Assert.assertEquals(new StoreMetadataSnapshot(store).getBatchGetLimit(), 200);
+  }
+
+  @Test
+  public void testSnapshotWithoutCurrentVersion() {
+    Store store = TestUtils.createTestStore("s1", "owner", System.currentTimeMillis());
+    store.setPartitionCount(3);
+    store.setCompressionStrategy(CompressionStrategy.GZIP);
+
+    StoreMetadataSnapshot snapshot = new StoreMetadataSnapshot(store);
+    Assert.assertEquals(snapshot.getCurrentVersion(), Store.NON_EXISTING_VERSION);
+    Assert.assertEquals(snapshot.getPartitionCount(), 3);
+    Assert.assertEquals(snapshot.getCompressionStrategy(), CompressionStrategy.GZIP);
+    Assert.assertEquals(
+        snapshot.getPartitionerConfig().getPartitionerClass(),
+        store.getPartitionerConfig().getPartitionerClass());
+  }
+}
@@ -0,0 +1,93 @@
+package com.linkedin.venice.partitioner;
+
+import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestXxHash64VenicePartitioner {
+  @Test
+  public void testHashMatchesReferenceImplementation() {
+    // Test vectors of the reference xxHash64 implementation with a seed of 0.
+    Assert.assertEquals(hash(""), 0xEF46DB3751D8E999L);
+    Assert.assertEquals(hash("a"), 0xD24EC4F1A98C6E5BL);
+    Assert.assertEquals(hash("abc"), 0x44BC2CF5AD770999L);
+    Assert.assertEquals(hash("Nobody inspects the spammish repetition"), 0xFBCEA83C8A378BF1L);
+  }
+
+  private static long hash(String input) {
+    byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+    return XxHash64VenicePartitioner.hash(bytes, 0, bytes.length);
+  }
+
+  @Test
+  public void testConsistentPartitioning() {
+    VenicePartitioner partitioner = PartitionUtils.getVenicePartitioner(
+        XxHash64VenicePartitioner.class.getName(),
+        1,
+        new VeniceProperties(new Properties()));
+    Assert.assertTrue(partitioner instanceof XxHash64VenicePartitioner);
+    Random random = new Random(1234);
+    int numPartitions = 37;
+    for (int keySize = 0; keySize < 100; ++keySize) {
+      byte[] keyBytes = new byte[keySize];
+      random.nextBytes(keyBytes);
+      int partition = partitioner.getPartitionId(keyBytes, numPartitions);
+      Assert.assertTrue(partition >= 0 && partition < numPartitions);
+      Assert.assertEquals(partitioner.getPartitionId(keyBytes.clone(), numPartitions), partition);
+
+      byte[] paddedKeyBytes = new byte[keySize + 10];
+      System.arraycopy(keyBytes, 0, paddedKeyBytes, 3, keySize);
+      Assert.assertEquals(partitioner.getPartitionId(paddedKeyBytes, 3, keySize, numPartitions), partition);
+      Assert.assertEquals(
+          partitioner.getPartitionId(ByteBuffer.wrap(paddedKeyBytes, 3, keySize), numPartitions),
+          partition);
+      Assert.assertEquals(
+          partitioner.getPartitionId(ByteBuffer.wrap(paddedKeyBytes, 3, keySize).slice(), numPartitions),
+          partition);
+      ByteBuffer directKey = ByteBuffer.allocateDirect(keySize);
+      directKey.put(keyBytes).flip();
+      Assert.assertEquals(partitioner.getPartitionId(directKey, numPartitions), partition);
+      Assert.assertEquals(directKey.remaining(), keySize);
+    }
+  }
+
+  @DataProvider(name = "partitionCounts")
+  public static Object[][] partitionCounts() {
+    return new Object[][] { { 1 }, { 2 }, { 16 }, { 37 }, { 1000 } };
+  }
+
+  /**
+   * Sequential keys with a common prefix, which is the most common case, should be spread uniformly: the chi-squared
+   * statistic of the partition sizes should stay below the 99.9th percentile of its distribution.
+   */
+  @Test(dataProvider = "partitionCounts")
+  public void testUniformDistribution(int numPartitions) {
+    VenicePartitioner partitioner = new XxHash64VenicePartitioner();
+    int keysPerPartition = 1000;
+    int keyCount = numPartitions * keysPerPartition;
+    long[] partitionSizes = new long[numPartitions];
+    for (int i = 0; i < keyCount; ++i) {
+      byte[] keyBytes = ("member_" + i).getBytes(StandardCharsets.UTF_8);
+      partitionSizes[partitioner.getPartitionId(keyBytes, numPartitions)]++;
+    }
+    double chiSquared = 0;
+    for (long partitionSize: partitionSizes) {
+      chiSquared += Math.pow(partitionSize - keysPerPartition, 2) / keysPerPartition;
+    }
+    int degreesOfFreedom = numPartitions - 1;
+    // Wilson-Hilferty approximation of the 99.9th percentile of the chi-squared distribution.
+    double z = 3.09;
+    double term = 2.0 / (9 * Math.max(degreesOfFreedom, 1));
+    double threshold = degreesOfFreedom * Math.pow(1 - term + z * Math.sqrt(term), 3);
+    Assert.assertTrue(
+        chiSquared <= Math.max(threshold, 10.83),
+        "Chi-squared statistic " + chiSquared + " is too high for " + numPartitions + " partitions");
+  }
+}
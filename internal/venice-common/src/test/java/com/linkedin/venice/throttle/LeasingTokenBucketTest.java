@@ -0,0 +1,109 @@
+package com.linkedin.venice.throttle;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.Test;
+
+
+public class LeasingTokenBucketTest {
+  @Test
+  public void testConsume() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    LeasingTokenBucket tokenBucket = new LeasingTokenBucket(100, 10, 1, TimeUnit.SECONDS, 5, mockClock);
+    assertTrue(tokenBucket.tryConsume(10));
+    // The thread leased 5 more tokens than it consumed.
+    assertEquals(tokenBucket.getStaleTokenCount(), 85);
+    assertTrue(tokenBucket.tryConsume(5));
+    assertEquals(tokenBucket.getStaleTokenCount(), 85, "Consuming the leased tokens must not touch the bucket");
+
+    // A single thread can consume all the tokens, even when there is no room for another lease.
+    assertTrue(tokenBucket.tryConsume(83));
+    assertTrue(tokenBucket.tryConsume(2));
+    assertEquals(tokenBucket.getStaleTokenCount(), 0);
+    assertFalse(tokenBucket.tryConsume(1), "TokenBucket must not allow consuming more tokens than available");
+
+    doReturn(start + 3500).when(mockClock).millis(); // 3 refills of 10 each puts bucket at 30.
+    assertTrue(tokenBucket.tryConsume(26));
+    assertEquals(tokenBucket.getStaleTokenCount(), 4);
+    assertFalse(tokenBucket.tryConsume(5));
+    assertTrue(tokenBucket.tryConsume(4));
+
+    assertThrows(IllegalArgumentException.class, () -> new LeasingTokenBucket(100, 10, 1, TimeUnit.SECONDS, 0));
+    assertThrows(IllegalArgumentException.class, () -> new LeasingTokenBucket(100, 10, 1, TimeUnit.SECONDS, 11));
+  }
+
+  @Test
+  public void testLeasesAreGivenBackAfterRefill() throws InterruptedException {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    LeasingTokenBucket tokenBucket = new LeasingTokenBucket(100, 50, 1, TimeUnit.SECONDS, 10, mockClock);
+    assertTrue(tokenBucket.tryConsume(60));
+    // Another thread takes all the tokens left in the bucket.
+    runInAnotherThread(() -> assertTrue(tokenBucket.tryConsume(30)));
+    assertEquals(tokenBucket.getStaleTokenCount(), 0);
+
+    doReturn(start + 1500).when(mockClock).millis();
+    // Another thread triggers 1 refill of 50, and leases 10 tokens more than it consumes.
+    runInAnotherThread(() -> assertTrue(tokenBucket.tryConsume(1)));
+    assertEquals(tokenBucket.getStaleTokenCount(), 39);
+    // The lease of 10 tokens of this thread was taken before the refill, so it goes back to the bucket.
+    assertTrue(tokenBucket.tryConsume(1));
+    assertEquals(tokenBucket.getStaleTokenCount(), 39 + 10 - 11);
+  }
+
+  private static void runInAnotherThread(Runnable runnable) throws InterruptedException {
+    Throwable[] error = new Throwable[1];
+    Thread thread = new Thread(() -> {
+      try {
+        runnable.run();
+      } catch (Throwable t) {
+        error[0] = t;
+      }
+    });
+    thread.start();
+    thread.join();
+    if (error[0] != null) {
+      throw new AssertionError(error[0]);
+    }
+  }
+
+  @Test
+  public void testConcurrentConsumption() throws InterruptedException {
+    long capacity = 100_000;
+    // No refill during the test.
+    LeasingTokenBucket tokenBucket = new LeasingTokenBucket(capacity, capacity, 1, TimeUnit.HOURS, 100);
+    int threadCount = 8;
+    AtomicLong consumed = new AtomicLong();
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (int t = 0; t < threadCount; ++t) {
+        executor.submit(() -> {
+          while (tokenBucket.tryConsume(3)) {
+            consumed.addAndGet(3);
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+    assertTrue(consumed.get() <= capacity, "Consumed " + consumed.get() + " tokens out of " + capacity);
+    // Only the tokens stuck in the leases of the other threads and the remainder can be left behind.
+    assertTrue(consumed.get() > capacity - threadCount * (100 + 3), "Consumed " + consumed.get() + " tokens");
+  }
+}
@@ -7,7 +7,10 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.testng.annotations.Test;
 
 
@@ -40,4 +43,34 @@ public class TokenBucketTest {
     assertEquals(tokenBucket.getStaleTokenCount(), 10, "After refill and consumption, bucket must have correct tokens");
 
   }
+
+  @Test
+  public static void testConcurrentRefill() throws InterruptedException {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    long capacity = 100;
+    long refillAmount = 10;
+    TokenBucket tokenBucket = new TokenBucket(capacity, refillAmount, 1, TimeUnit.SECONDS, mockClock);
+    assertTrue(tokenBucket.tryConsume(capacity));
+
+    doReturn(start + 1500).when(mockClock).millis(); // 1 refill of 10
+    int threadCount = 8;
+    AtomicLong consumed = new AtomicLong();
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (int t = 0; t < threadCount; ++t) {
+        executor.submit(() -> {
+          while (tokenBucket.tryConsume()) {
+            consumed.incrementAndGet();
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+    assertEquals(consumed.get(), refillAmount, "The bucket must only be refilled once by the racing threads");
+  }
 }
@@ -0,0 +1,34 @@
+package com.linkedin.venice.client.consumer;
+
+import com.linkedin.venice.utils.lazy.Lazy;
+
+
+/**
+ * The value of the messages returned by {@link VeniceChangelogConsumer#poll(long)}, which describes the change of a
+ * record. Both values are only decompressed and deserialized when they are accessed for the first time.
+ *
+ * @param <V> The Type for value
+ */
+public class ChangeEvent<V> {
+  private final Lazy<V> previousValue;
+  private final Lazy<V> currentValue;
+
+  public ChangeEvent(Lazy<V> previousValue, Lazy<V> currentValue) {
+    this.previousValue = previousValue;
+    this.currentValue = currentValue;
+  }
+
+  /**
+   * @return the value before this change, or null if the record did not exist or if the before image is not enabled.
+   */
+  public V getPreviousValue() {
+    return previousValue.get();
+  }
+
+  /**
+   * @return the value after this change, or null if the record got deleted.
+   */
+  public V getCurrentValue() {
+    return currentValue.get();
+  }
+}
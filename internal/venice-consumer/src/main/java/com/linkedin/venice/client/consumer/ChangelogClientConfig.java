@@ -0,0 +1,60 @@
+package com.linkedin.venice.client.consumer;
+
+import com.linkedin.venice.controllerapi.ControllerClient;
+import com.linkedin.venice.schema.SchemaReader;
+import java.util.Properties;
+
+
+public class ChangelogClientConfig {
+  private String storeName;
+  private Properties consumerProperties;
+  private SchemaReader schemaReader;
+  private ControllerClient controllerClient;
+
+  public ChangelogClientConfig setStoreName(String storeName) {
+    this.storeName = storeName;
+    return this;
+  }
+
+  public String getStoreName() {
+    return storeName;
+  }
+
+  /**
+   * The properties of the underlying Kafka consumer, which should at least contain the bootstrap servers. The key and
+   * value deserializers are always overridden.
+   */
+  public ChangelogClientConfig setConsumerProperties(Properties consumerProperties) {
+    this.consumerProperties = consumerProperties;
+    return this;
+  }
+
+  public Properties getConsumerProperties() {
+    return consumerProperties;
+  }
+
+  /**
+   * Used to look up the key schema and the value schemas of the store.
+   */
+  public ChangelogClientConfig setSchemaReader(SchemaReader schemaReader) {
+    this.schemaReader = schemaReader;
+    return this;
+  }
+
+  public SchemaReader getSchemaReader() {
+    return schemaReader;
+  }
+
+  /**
+   * Used to look up the current version of the store, as well as its partition count, chunking and compression
+   * settings.
+   */
+  public ChangelogClientConfig setControllerClient(ControllerClient controllerClient) {
+    this.controllerClient = controllerClient;
+    return this;
+  }
+
+  public ControllerClient getControllerClient() {
+    return controllerClient;
+  }
+}
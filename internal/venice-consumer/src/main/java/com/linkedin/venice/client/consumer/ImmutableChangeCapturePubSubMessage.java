@@ -0,0 +1,51 @@
+package com.linkedin.venice.client.consumer;
+
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+
+
+public class ImmutableChangeCapturePubSubMessage<K, V> implements PubSubMessage<K, V, PubSubTopicPartition, Long> {
+  private final K key;
+  private final V value;
+  private final PubSubTopicPartition topicPartition;
+  private final long offset;
+  private final long timestamp;
+
+  public ImmutableChangeCapturePubSubMessage(
+      K key,
+      V value,
+      PubSubTopicPartition topicPartition,
+      long offset,
+      long timestamp) {
+    this.key = key;
+    this.value = value;
+    this.topicPartition = topicPartition;
+    this.offset = offset;
+    this.timestamp = timestamp;
+  }
+
+  @Override
+  public K getKey() {
+    return key;
+  }
+
+  @Override
+  public V getValue() {
+    return value;
+  }
+
+  @Override
+  public PubSubTopicPartition getTopicPartition() {
+    return topicPartition;
+  }
+
+  @Override
+  public Long getOffset() {
+    return offset;
+  }
+
+  @Override
+  public long getPubSubMessageTime() {
+    return timestamp;
+  }
+}
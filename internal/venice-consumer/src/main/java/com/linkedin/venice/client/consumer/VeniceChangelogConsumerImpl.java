@@ -0,0 +1,505 @@
+package com.linkedin.venice.client.consumer;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
+import com.linkedin.venice.client.change.capture.protocol.ValueBytes;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.StoreInfo;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.PubSubTopicType;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.serialization.KafkaKeySerializer;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
+import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.DictionaryUtils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.utils.lazy.Lazy;
+import com.linkedin.venice.views.ChangeCaptureView;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This {@link VeniceChangelogConsumer} tails the {@link ChangeCaptureView} topic of the current version of a store.
+ *
+ * The poll path is meant to keep up with the full change rate of a store on a single thread, so it avoids copying
+ * the consumed bytes as much as possible:
+ * 1. The Kafka values are decoded with {@link OptimizedKafkaValueSerializer}, so the payload of each message is a
+ *    view of the consumed record bytes, and the {@link RecordChangeEvent} nested in it is decoded the same way.
+ * 2. Chunks are kept as such views until their manifest shows up, and only copied once, into the re-assembled value.
+ * 3. The keys are decoded with a decoder which is reused across all the messages of all the polls.
+ * 4. The values are only decompressed and deserialized when they are accessed, see {@link ChangeEvent}.
+ *
+ * This class is not thread-safe, as the underlying Kafka consumer is not, but the values of the returned messages can
+ * be accessed from any thread.
+ *
+ * @param <K> The Type for key
+ * @param <V> The Type for value
+ */
+public class VeniceChangelogConsumerImpl<K, V> implements VeniceChangelogConsumer<K, V> {
+  private static final Logger LOGGER = LogManager.getLogger(VeniceChangelogConsumerImpl.class);
+  private static final OptimizedBinaryDecoderFactory DECODER_FACTORY = OptimizedBinaryDecoderFactory.defaultFactory();
+  private static final ChunkedValueManifestSerializer CHUNKED_VALUE_MANIFEST_SERIALIZER =
+      new ChunkedValueManifestSerializer(true);
+  private static final RecordDeserializer<RecordChangeEvent> RECORD_CHANGE_EVENT_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(RecordChangeEvent.SCHEMA$, RecordChangeEvent.class);
+  private static final int NON_CHUNKED_KEY_SUFFIX_LENGTH =
+      new KeyWithChunkingSuffixSerializer().serializeNonChunkedKey(new byte[0]).length;
+  private static final Lazy<Object> NULL_VALUE = Lazy.of(() -> null);
+
+  private final String storeName;
+  private final String changeCaptureTopic;
+  private final int partitionCount;
+  private final boolean isChunked;
+  private final VeniceCompressor compressor;
+  private final CompressorFactory compressorFactory;
+  private final SchemaReader schemaReader;
+  private final Consumer<KafkaKey, KafkaMessageEnvelope> kafkaConsumer;
+  private final RecordDeserializer<K> keyDeserializer;
+  private final Map<Integer, RecordDeserializer<V>> valueDeserializers = new VeniceConcurrentHashMap<>();
+  private final Map<Integer, PubSubTopicPartition> subscribedPartitions = new HashMap<>();
+  /**
+   * The chunks of the large values of each partition whose manifest has not been consumed yet, grouped by their key
+   * without chunk suffix, and keyed by their key with chunk suffix. The chunks of a key are dropped by the next
+   * manifest, put or delete of the key, so the chunks of a write whose manifest never shows up are not retained.
+   */
+  private final Map<Integer, Map<ByteBuffer, Map<ByteBuffer, ByteBuffer>>> pendingChunks = new HashMap<>();
+  private final PubSubTopic pubSubTopic;
+
+  private BinaryDecoder reusedKeyDecoder;
+
+  public VeniceChangelogConsumerImpl(ChangelogClientConfig changelogClientConfig) {
+    this(changelogClientConfig, new CompressorFactory());
+  }
+
+  private VeniceChangelogConsumerImpl(
+      ChangelogClientConfig changelogClientConfig,
+      CompressorFactory compressorFactory) {
+    this(
+        changelogClientConfig.getStoreName(),
+        getCurrentVersion(changelogClientConfig),
+        changelogClientConfig.getSchemaReader(),
+        createKafkaConsumer(changelogClientConfig.getConsumerProperties()),
+        compressorFactory,
+        changelogClientConfig.getConsumerProperties());
+  }
+
+  private VeniceChangelogConsumerImpl(
+      String storeName,
+      Version version,
+      SchemaReader schemaReader,
+      Consumer<KafkaKey, KafkaMessageEnvelope> kafkaConsumer,
+      CompressorFactory compressorFactory,
+      Properties consumerProperties) {
+    this(
+        storeName,
+        version.getNumber(),
+        version.getPartitionCount(),
+        version.isChunkingEnabled(),
+        getCompressor(storeName, version, compressorFactory, consumerProperties),
+        compressorFactory,
+        schemaReader,
+        kafkaConsumer);
+  }
+
+  VeniceChangelogConsumerImpl(
+      String storeName,
+      int versionNumber,
+      int partitionCount,
+      boolean isChunked,
+      VeniceCompressor compressor,
+      CompressorFactory compressorFactory,
+      SchemaReader schemaReader,
+      Consumer<KafkaKey, KafkaMessageEnvelope> kafkaConsumer) {
+    this.storeName = storeName;
+    this.changeCaptureTopic =
+        Version.composeKafkaTopic(storeName, versionNumber) + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX;
+    this.partitionCount = partitionCount;
+    this.isChunked = isChunked;
+    this.compressor = compressor;
+    this.compressorFactory = compressorFactory;
+    this.schemaReader = schemaReader;
+    this.kafkaConsumer = kafkaConsumer;
+    Schema keySchema = schemaReader.getKeySchema();
+    this.keyDeserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(keySchema, keySchema);
+    this.pubSubTopic = new ChangeCaptureTopic(changeCaptureTopic, storeName);
+  }
+
+  @Override
+  public CompletableFuture<Void> subscribe(Set<Integer> partitions) {
+    for (int partition: partitions) {
+      if (partition < 0 || partition >= partitionCount) {
+        throw new VeniceException(
+            "Cannot subscribe to partition " + partition + " of store: " + storeName + ", which has " + partitionCount
+                + " partitions");
+      }
+    }
+    for (int partition: partitions) {
+      subscribedPartitions.computeIfAbsent(partition, p -> new ChangeCaptureTopicPartition(pubSubTopic, p));
+    }
+    assignSubscribedPartitions();
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public CompletableFuture<Void> subscribeAll() {
+    Set<Integer> allPartitions = new HashSet<>();
+    for (int partition = 0; partition < partitionCount; partition++) {
+      allPartitions.add(partition);
+    }
+    return subscribe(allPartitions);
+  }
+
+  @Override
+  public void unsubscribe(Set<Integer> partitions) {
+    for (int partition: partitions) {
+      subscribedPartitions.remove(partition);
+      pendingChunks.remove(partition);
+    }
+    assignSubscribedPartitions();
+  }
+
+  @Override
+  public void unsubscribeAll() {
+    unsubscribe(new HashSet<>(subscribedPartitions.keySet()));
+  }
+
+  @Override
+  public Collection<PubSubMessage> poll(long timeoutInMs) {
+    ConsumerRecords<KafkaKey, KafkaMessageEnvelope> records;
+    try {
+      records = kafkaConsumer.poll(Duration.ofMillis(timeoutInMs));
+    } catch (Exception e) {
+      throw new VeniceException("Failed to poll the change capture topic: " + changeCaptureTopic, e);
+    }
+    List<PubSubMessage> messages = new ArrayList<>(records.count());
+    for (ConsumerRecord<KafkaKey, KafkaMessageEnvelope> record: records) {
+      PubSubMessage message = convertToChangeCaptureMessage(record);
+      if (message != null) {
+        messages.add(message);
+      }
+    }
+    return messages;
+  }
+
+  @Override
+  public void close() {
+    kafkaConsumer.close();
+    compressorFactory.close();
+  }
+
+  /**
+   * @return the message of a consumer record, or null if it is a control message or a chunk, or if the record belongs
+   *         to a partition which got unsubscribed in the meantime.
+   */
+  private PubSubMessage convertToChangeCaptureMessage(ConsumerRecord<KafkaKey, KafkaMessageEnvelope> record) {
+    KafkaKey kafkaKey = record.key();
+    PubSubTopicPartition topicPartition = subscribedPartitions.get(record.partition());
+    if (kafkaKey.isControlMessage() || topicPartition == null) {
+      return null;
+    }
+    KafkaMessageEnvelope kafkaValue = record.value();
+    Lazy<V> previousValue = nullValue();
+    Lazy<V> currentValue = nullValue();
+    switch (MessageType.valueOf(kafkaValue)) {
+      case PUT:
+        Put put = (Put) kafkaValue.payloadUnion;
+        if (put.schemaId == AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+          pendingChunks.computeIfAbsent(record.partition(), p -> new HashMap<>())
+              .computeIfAbsent(getKeyWithoutChunkSuffix(kafkaKey.getKey()), k -> new HashMap<>())
+              .put(ByteBuffer.wrap(kafkaKey.getKey()), put.putValue);
+          return null;
+        }
+        Map<ByteBuffer, ByteBuffer> chunksOfKey = removePendingChunks(record.partition(), kafkaKey.getKey());
+        ByteBuffer changeEventBytes = put.putValue;
+        if (put.schemaId == AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+          changeEventBytes = assembleChunks(record.partition(), chunksOfKey, put.putValue);
+          if (changeEventBytes == null) {
+            return null;
+          }
+        }
+        /**
+         * The {@link RecordChangeEvent} is not reused, since the bytes fields of a reused record could be overwritten,
+         * while the values of the previous messages still refer to them.
+         */
+        RecordChangeEvent recordChangeEvent = RECORD_CHANGE_EVENT_DESERIALIZER.deserialize(
+            DECODER_FACTORY.createOptimizedBinaryDecoder(
+                changeEventBytes.array(),
+                changeEventBytes.arrayOffset() + changeEventBytes.position(),
+                changeEventBytes.remaining()));
+        previousValue = lazyValue(recordChangeEvent.previousValue);
+        currentValue = lazyValue(recordChangeEvent.currentValue);
+        break;
+      case DELETE:
+        removePendingChunks(record.partition(), kafkaKey.getKey());
+        break;
+      default:
+        throw new VeniceException(
+            "Unexpected message type: " + MessageType.valueOf(kafkaValue) + " in change capture topic: "
+                + changeCaptureTopic);
+    }
+    return new ImmutableChangeCapturePubSubMessage<>(
+        deserializeKey(kafkaKey.getKey()),
+        new ChangeEvent<>(previousValue, currentValue),
+        topicPartition,
+        record.offset(),
+        record.timestamp());
+  }
+
+  private K deserializeKey(byte[] keyBytes) {
+    int keyLength = isChunked ? keyBytes.length - NON_CHUNKED_KEY_SUFFIX_LENGTH : keyBytes.length;
+    reusedKeyDecoder = AvroCompatibilityHelper.newBinaryDecoder(keyBytes, 0, keyLength, reusedKeyDecoder);
+    return keyDeserializer.deserialize(reusedKeyDecoder);
+  }
+
+  /**
+   * @return the key of a chunk without its chunk suffix. The length of the suffix depends on the chunk id, so the key
+   *         is decoded to find where it ends.
+   */
+  private ByteBuffer getKeyWithoutChunkSuffix(byte[] chunkKeyBytes) {
+    BinaryDecoder decoder = DECODER_FACTORY.createOptimizedBinaryDecoder(chunkKeyBytes, 0, chunkKeyBytes.length);
+    keyDeserializer.deserialize(decoder);
+    int chunkSuffixLength;
+    try {
+      chunkSuffixLength = decoder.inputStream().available();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to decode the key of a chunk in " + changeCaptureTopic, e);
+    }
+    return ByteBuffer.wrap(chunkKeyBytes, 0, chunkKeyBytes.length - chunkSuffixLength);
+  }
+
+  /**
+   * @return the pending chunks of a key with non-chunked key suffix, or null if there are none.
+   */
+  private Map<ByteBuffer, ByteBuffer> removePendingChunks(int partition, byte[] keyBytes) {
+    Map<ByteBuffer, Map<ByteBuffer, ByteBuffer>> chunksOfPartition = pendingChunks.get(partition);
+    if (chunksOfPartition == null || chunksOfPartition.isEmpty()) {
+      return null;
+    }
+    return chunksOfPartition.remove(ByteBuffer.wrap(keyBytes, 0, keyBytes.length - NON_CHUNKED_KEY_SUFFIX_LENGTH));
+  }
+
+  /**
+   * The chunks of the key which are not part of the manifest belong to older writes, and are dropped along with it.
+   *
+   * @return the re-assembled value, or null if some chunks are missing, which happens when the consumption started in
+   *         the middle of a large value.
+   */
+  private ByteBuffer assembleChunks(int partition, Map<ByteBuffer, ByteBuffer> chunksOfKey, ByteBuffer manifestBytes) {
+    ChunkedValueManifest manifest = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(
+        ByteUtils.extractByteArray(manifestBytes),
+        AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion());
+    byte[] assembledValue = new byte[manifest.size];
+    int position = 0;
+    boolean missingChunk = false;
+    for (ByteBuffer chunkKey: manifest.keysWithChunkIdSuffix) {
+      ByteBuffer chunk = chunksOfKey == null ? null : chunksOfKey.get(chunkKey);
+      if (chunk == null) {
+        missingChunk = true;
+      } else if (!missingChunk) {
+        int chunkLength = chunk.remaining();
+        if (position + chunkLength > assembledValue.length) {
+          throw new VeniceException(
+              "The chunks of a large value in partition " + partition + " of " + changeCaptureTopic
+                  + " exceed the expected size: " + manifest.size);
+        }
+        chunk.duplicate().get(assembledValue, position, chunkLength);
+        position += chunkLength;
+      }
+    }
+    if (missingChunk) {
+      LOGGER.warn(
+          "Skipping a large value in partition {} of {} since some of its chunks were not consumed",
+          partition,
+          changeCaptureTopic);
+      return null;
+    }
+    if (position != manifest.size) {
+      throw new VeniceException(
+          "The fully assembled large value in partition " + partition + " of " + changeCaptureTopic
+              + " does not have the expected size! actualSize: " + position + ", manifest size: " + manifest.size);
+    }
+    return ByteBuffer.wrap(assembledValue);
+  }
+
+  private Lazy<V> lazyValue(ValueBytes valueBytes) {
+    if (valueBytes == null) {
+      return nullValue();
+    }
+    return Lazy.of(() -> deserializeValue(valueBytes.value, valueBytes.schemaId));
+  }
+
+  private V deserializeValue(ByteBuffer value, int schemaId) {
+    ByteBuffer decompressedValue;
+    try {
+      decompressedValue = compressor.decompress(value.duplicate());
+    } catch (IOException e) {
+      throw new VeniceException(
+          "Failed to decompress a value of store: " + storeName + " with " + compressor.getCompressionStrategy(),
+          e);
+    }
+    RecordDeserializer<V> valueDeserializer = valueDeserializers.computeIfAbsent(schemaId, id -> {
+      Schema writerSchema = schemaReader.getValueSchema(id);
+      if (writerSchema == null) {
+        throw new VeniceException("Unknown value schema id: " + id + " for store: " + storeName);
+      }
+      return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(writerSchema, writerSchema);
+    });
+    return valueDeserializer.deserialize(decompressedValue);
+  }
+
+  private void assignSubscribedPartitions() {
+    List<TopicPartition> topicPartitions = new ArrayList<>(subscribedPartitions.size());
+    for (int partition: subscribedPartitions.keySet()) {
+      topicPartitions.add(new TopicPartition(changeCaptureTopic, partition));
+    }
+    kafkaConsumer.assign(topicPartitions);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> Lazy<V> nullValue() {
+    return (Lazy<V>) NULL_VALUE;
+  }
+
+  private static Version getCurrentVersion(ChangelogClientConfig changelogClientConfig) {
+    String storeName = changelogClientConfig.getStoreName();
+    StoreResponse storeResponse = changelogClientConfig.getControllerClient().getStore(storeName);
+    if (storeResponse.isError()) {
+      throw new VeniceException(
+          "Failed to get the current version of store: " + storeName + " with error: " + storeResponse.getError());
+    }
+    StoreInfo storeInfo = storeResponse.getStore();
+    return storeInfo.getVersion(storeInfo.getCurrentVersion())
+        .orElseThrow(() -> new VeniceException("Store: " + storeName + " has no current version"));
+  }
+
+  private static VeniceCompressor getCompressor(
+      String storeName,
+      Version version,
+      CompressorFactory compressorFactory,
+      Properties consumerProperties) {
+    CompressionStrategy compressionStrategy = version.getCompressionStrategy();
+    if (compressionStrategy != CompressionStrategy.ZSTD_WITH_DICT) {
+      return compressorFactory.getCompressor(compressionStrategy);
+    }
+    // The change events carry the values as they are written to the version topic, whose SOP has the dictionary.
+    String versionTopic = Version.composeKafkaTopic(storeName, version.getNumber());
+    ByteBuffer dictionary =
+        DictionaryUtils.readDictionaryFromKafka(versionTopic, new VeniceProperties(consumerProperties));
+    if (dictionary == null) {
+      throw new VeniceException("Failed to read the compression dictionary of version topic: " + versionTopic);
+    }
+    return compressorFactory.createVersionSpecificCompressorIfNotExist(
+        compressionStrategy,
+        versionTopic,
+        ByteUtils.extractByteArray(dictionary));
+  }
+
+  private static Consumer<KafkaKey, KafkaMessageEnvelope> createKafkaConsumer(Properties consumerProperties) {
+    Properties properties = new Properties();
+    properties.putAll(consumerProperties);
+    properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, KafkaKeySerializer.class);
+    properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, OptimizedKafkaValueSerializer.class);
+    return new KafkaConsumer<>(properties);
+  }
+
+  int getPendingChunkCount(int partition) {
+    Map<ByteBuffer, Map<ByteBuffer, ByteBuffer>> chunksOfPartition = pendingChunks.get(partition);
+    if (chunksOfPartition == null) {
+      return 0;
+    }
+    int count = 0;
+    for (Map<ByteBuffer, ByteBuffer> chunksOfKey: chunksOfPartition.values()) {
+      count += chunksOfKey.size();
+    }
+    return count;
+  }
+
+  /**
+   * The change capture topic is a view of a version topic, hence its type.
+   */
+  private static class ChangeCaptureTopic implements PubSubTopic {
+    private final String name;
+    private final String storeName;
+
+    ChangeCaptureTopic(String name, String storeName) {
+      this.name = name;
+      this.storeName = storeName;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public PubSubTopicType getPubSubTopicType() {
+      return PubSubTopicType.VERSION_TOPIC;
+    }
+
+    @Override
+    public String getStoreName() {
+      return storeName;
+    }
+  }
+
+  private static class ChangeCaptureTopicPartition implements PubSubTopicPartition {
+    private final PubSubTopic topic;
+    private final int partition;
+
+    ChangeCaptureTopicPartition(PubSubTopic topic, int partition) {
+      this.topic = topic;
+      this.partition = partition;
+    }
+
+    @Override
+    public PubSubTopic getPubSubTopic() {
+      return topic;
+    }
+
+    @Override
+    public int getPartitionNumber() {
+      return partition;
+    }
+  }
+}
@@ -0,0 +1,286 @@
+package com.linkedin.venice.client.consumer;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
+import com.linkedin.venice.client.change.capture.protocol.ValueBytes;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.Delete;
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.storage.protocol.ChunkId;
+import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.views.ChangeCaptureView;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class VeniceChangelogConsumerImplTest {
+  private static final String STORE_NAME = "test_store";
+  private static final int VERSION_NUMBER = 1;
+  private static final int PARTITION_COUNT = 2;
+  private static final int VALUE_SCHEMA_ID = 1;
+  private static final Schema STRING_SCHEMA = Schema.create(Schema.Type.STRING);
+  private static final String CHANGE_CAPTURE_TOPIC =
+      Version.composeKafkaTopic(STORE_NAME, VERSION_NUMBER) + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX;
+
+  private final RecordSerializer<String> stringSerializer =
+      SerializerDeserializerFactory.getAvroGenericSerializer(STRING_SCHEMA);
+  private final RecordSerializer<RecordChangeEvent> recordChangeEventSerializer =
+      SerializerDeserializerFactory.getAvroGenericSerializer(RecordChangeEvent.SCHEMA$);
+  private final KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer = new KeyWithChunkingSuffixSerializer();
+
+  private MockConsumer<KafkaKey, KafkaMessageEnvelope> mockConsumer;
+  private CompressorFactory compressorFactory;
+
+  @BeforeMethod
+  public void setUp() {
+    mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+    for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+      beginningOffsets.put(new TopicPartition(CHANGE_CAPTURE_TOPIC, partition), 0L);
+    }
+    mockConsumer.updateBeginningOffsets(beginningOffsets);
+    compressorFactory = new CompressorFactory();
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    compressorFactory.close();
+  }
+
+  @Test
+  public void testPollPutAndDelete() {
+    VeniceChangelogConsumerImpl<Object, Object> changelogConsumer = createChangelogConsumer(false);
+    changelogConsumer.subscribeAll();
+
+    byte[] keyBytes = stringSerializer.serialize("key");
+    addRecord(0, 0, keyBytes, createPut(serializeChangeEvent("oldValue", "newValue"), VALUE_SCHEMA_ID));
+    addRecord(0, 1, keyBytes, createDelete());
+
+    List<PubSubMessage> messages = new ArrayList<>(changelogConsumer.poll(100));
+    Assert.assertEquals(messages.size(), 2);
+
+    PubSubMessage putMessage = messages.get(0);
+    Assert.assertEquals(putMessage.getKey().toString(), "key");
+    Assert.assertEquals(putMessage.getOffset(), 0L);
+    Assert.assertEquals(putMessage.getTopicPartition().getPartitionNumber(), 0);
+    Assert.assertEquals(putMessage.getTopicPartition().getPubSubTopic().getName(), CHANGE_CAPTURE_TOPIC);
+    ChangeEvent<Object> putEvent = (ChangeEvent<Object>) putMessage.getValue();
+    Assert.assertEquals(putEvent.getPreviousValue().toString(), "oldValue");
+    Assert.assertEquals(putEvent.getCurrentValue().toString(), "newValue");
+
+    PubSubMessage deleteMessage = messages.get(1);
+    Assert.assertEquals(deleteMessage.getKey().toString(), "key");
+    ChangeEvent<Object> deleteEvent = (ChangeEvent<Object>) deleteMessage.getValue();
+    Assert.assertNull(deleteEvent.getPreviousValue());
+    Assert.assertNull(deleteEvent.getCurrentValue());
+  }
+
+  @Test
+  public void testPollChunkedValue() {
+    VeniceChangelogConsumerImpl<Object, Object> changelogConsumer = createChangelogConsumer(true);
+    changelogConsumer.subscribe(Collections.singleton(1));
+
+    byte[] keyBytes = stringSerializer.serialize("key");
+    byte[] changeEventBytes = serializeChangeEvent(null, "largeValue");
+    int firstChunkSize = changeEventBytes.length / 2;
+    byte[] firstChunk = new byte[firstChunkSize];
+    byte[] secondChunk = new byte[changeEventBytes.length - firstChunkSize];
+    System.arraycopy(changeEventBytes, 0, firstChunk, 0, firstChunk.length);
+    System.arraycopy(changeEventBytes, firstChunkSize, secondChunk, 0, secondChunk.length);
+
+    byte[] firstChunkKey = createChunkKey(keyBytes, 0);
+    byte[] secondChunkKey = createChunkKey(keyBytes, 1);
+    int chunkSchemaId = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+    addRecord(1, 0, firstChunkKey, createPut(firstChunk, chunkSchemaId));
+    addRecord(1, 1, secondChunkKey, createPut(secondChunk, chunkSchemaId));
+    byte[] topLevelKey = keyWithChunkingSuffixSerializer.serializeNonChunkedKey(keyBytes);
+    addRecord(1, 2, topLevelKey, createManifestPut(changeEventBytes.length, firstChunkKey, secondChunkKey));
+
+    List<PubSubMessage> messages = new ArrayList<>(changelogConsumer.poll(100));
+    Assert.assertEquals(messages.size(), 1);
+    PubSubMessage message = messages.get(0);
+    // The key is returned without its chunking suffix.
+    Assert.assertEquals(message.getKey().toString(), "key");
+    Assert.assertEquals(message.getOffset(), 2L);
+    ChangeEvent<Object> changeEvent = (ChangeEvent<Object>) message.getValue();
+    Assert.assertNull(changeEvent.getPreviousValue());
+    Assert.assertEquals(changeEvent.getCurrentValue().toString(), "largeValue");
+    Assert.assertEquals(changelogConsumer.getPendingChunkCount(1), 0);
+
+    // A manifest whose chunks were not consumed is skipped.
+    addRecord(1, 3, topLevelKey, createManifestPut(changeEventBytes.length, firstChunkKey, secondChunkKey));
+    Assert.assertTrue(changelogConsumer.poll(100).isEmpty());
+  }
+
+  @Test
+  public void testOrphanedChunksAreDropped() {
+    VeniceChangelogConsumerImpl<Object, Object> changelogConsumer = createChangelogConsumer(true);
+    changelogConsumer.subscribe(Collections.singleton(0));
+
+    byte[] keyBytes = stringSerializer.serialize("key");
+    byte[] otherKeyBytes = stringSerializer.serialize("otherKey");
+    byte[] topLevelKey = keyWithChunkingSuffixSerializer.serializeNonChunkedKey(keyBytes);
+    int chunkSchemaId = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+    byte[] changeEventBytes = serializeChangeEvent(null, "largeValue");
+
+    // The manifest of the first write never shows up, and the next manifest of the key drops its chunk.
+    byte[] orphanedChunkKey = createChunkKey(keyBytes, 0, 0);
+    byte[] chunkKey = createChunkKey(keyBytes, 1, 0);
+    byte[] otherChunkKey = createChunkKey(otherKeyBytes, 2, 0);
+    addRecord(0, 0, orphanedChunkKey, createPut(new byte[] { 1, 2, 3 }, chunkSchemaId));
+    addRecord(0, 1, otherChunkKey, createPut(changeEventBytes, chunkSchemaId));
+    addRecord(0, 2, chunkKey, createPut(changeEventBytes, chunkSchemaId));
+    Assert.assertTrue(changelogConsumer.poll(100).isEmpty());
+    Assert.assertEquals(changelogConsumer.getPendingChunkCount(0), 3);
+
+    addRecord(0, 3, topLevelKey, createManifestPut(changeEventBytes.length, chunkKey));
+    List<PubSubMessage> messages = new ArrayList<>(changelogConsumer.poll(100));
+    Assert.assertEquals(messages.size(), 1);
+    Assert.assertEquals(((ChangeEvent<Object>) messages.get(0).getValue()).getCurrentValue().toString(), "largeValue");
+    // The chunk of the other key is still pending.
+    Assert.assertEquals(changelogConsumer.getPendingChunkCount(0), 1);
+
+    // A non-chunked put or a delete drops the chunks of the key as well.
+    addRecord(0, 4, createChunkKey(keyBytes, 3, 0), createPut(new byte[] { 1, 2, 3 }, chunkSchemaId));
+    addRecord(0, 5, topLevelKey, createPut(serializeChangeEvent(null, "value"), VALUE_SCHEMA_ID));
+    Assert.assertEquals(changelogConsumer.poll(100).size(), 1);
+    Assert.assertEquals(changelogConsumer.getPendingChunkCount(0), 1);
+    byte[] otherTopLevelKey = keyWithChunkingSuffixSerializer.serializeNonChunkedKey(otherKeyBytes);
+    addRecord(0, 6, otherTopLevelKey, createDelete());
+    Assert.assertEquals(changelogConsumer.poll(100).size(), 1);
+    Assert.assertEquals(changelogConsumer.getPendingChunkCount(0), 0);
+  }
+
+  @Test
+  public void testSubscription() {
+    VeniceChangelogConsumerImpl<Object, Object> changelogConsumer = createChangelogConsumer(false);
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> changelogConsumer.subscribe(Collections.singleton(PARTITION_COUNT)));
+
+    changelogConsumer.subscribe(Collections.singleton(0));
+    Assert.assertEquals(mockConsumer.assignment(), Collections.singleton(new TopicPartition(CHANGE_CAPTURE_TOPIC, 0)));
+    changelogConsumer.subscribeAll();
+    Assert.assertEquals(mockConsumer.assignment().size(), PARTITION_COUNT);
+    changelogConsumer.unsubscribe(Collections.singleton(0));
+    Assert.assertEquals(mockConsumer.assignment(), Collections.singleton(new TopicPartition(CHANGE_CAPTURE_TOPIC, 1)));
+    changelogConsumer.unsubscribeAll();
+    Assert.assertTrue(mockConsumer.assignment().isEmpty());
+  }
+
+  private VeniceChangelogConsumerImpl<Object, Object> createChangelogConsumer(boolean isChunked) {
+    SchemaReader schemaReader = mock(SchemaReader.class);
+    doReturn(STRING_SCHEMA).when(schemaReader).getKeySchema();
+    doReturn(STRING_SCHEMA).when(schemaReader).getValueSchema(VALUE_SCHEMA_ID);
+    return new VeniceChangelogConsumerImpl<>(
+        STORE_NAME,
+        VERSION_NUMBER,
+        PARTITION_COUNT,
+        isChunked,
+        compressorFactory.getCompressor(CompressionStrategy.NO_OP),
+        compressorFactory,
+        schemaReader,
+        mockConsumer);
+  }
+
+  private void addRecord(int partition, long offset, byte[] keyBytes, KafkaMessageEnvelope value) {
+    mockConsumer.addRecord(
+        new ConsumerRecord<>(CHANGE_CAPTURE_TOPIC, partition, offset, new KafkaKey(MessageType.PUT, keyBytes), value));
+  }
+
+  private byte[] serializeChangeEvent(String previousValue, String currentValue) {
+    RecordChangeEvent recordChangeEvent = new RecordChangeEvent();
+    recordChangeEvent.previousValue = createValueBytes(previousValue);
+    recordChangeEvent.currentValue = createValueBytes(currentValue);
+    recordChangeEvent.key = ByteBuffer.wrap(stringSerializer.serialize("key"));
+    recordChangeEvent.replicationCheckpointVector = Collections.emptyList();
+    return recordChangeEventSerializer.serialize(recordChangeEvent);
+  }
+
+  private ValueBytes createValueBytes(String value) {
+    if (value == null) {
+      return null;
+    }
+    ValueBytes valueBytes = new ValueBytes();
+    valueBytes.value = ByteBuffer.wrap(stringSerializer.serialize(value));
+    valueBytes.schemaId = VALUE_SCHEMA_ID;
+    return valueBytes;
+  }
+
+  private byte[] createChunkKey(byte[] keyBytes, int chunkIndex) {
+    return createChunkKey(keyBytes, 0, chunkIndex);
+  }
+
+  private byte[] createChunkKey(byte[] keyBytes, int sequenceNumber, int chunkIndex) {
+    ChunkedKeySuffix chunkedKeySuffix = new ChunkedKeySuffix();
+    chunkedKeySuffix.isChunk = true;
+    chunkedKeySuffix.chunkId = new ChunkId();
+    chunkedKeySuffix.chunkId.producerGUID = new GUID();
+    chunkedKeySuffix.chunkId.segmentNumber = 0;
+    chunkedKeySuffix.chunkId.messageSequenceNumber = sequenceNumber;
+    chunkedKeySuffix.chunkId.chunkIndex = chunkIndex;
+    return keyWithChunkingSuffixSerializer.serializeChunkedKey(keyBytes, chunkedKeySuffix);
+  }
+
+  private KafkaMessageEnvelope createManifestPut(int size, byte[]... chunkKeys) {
+    ChunkedValueManifest manifest = new ChunkedValueManifest();
+    manifest.schemaId = VALUE_SCHEMA_ID;
+    manifest.size = size;
+    manifest.keysWithChunkIdSuffix = new ArrayList<>(chunkKeys.length);
+    for (byte[] chunkKey: chunkKeys) {
+      manifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(chunkKey));
+    }
+    byte[] manifestBytes = new ChunkedValueManifestSerializer(true).serialize(CHANGE_CAPTURE_TOPIC, manifest);
+    return createPut(manifestBytes, AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion());
+  }
+
+  private static KafkaMessageEnvelope createPut(byte[] value, int schemaId) {
+    Put put = new Put();
+    put.putValue = ByteBuffer.wrap(value);
+    put.schemaId = schemaId;
+    put.replicationMetadataPayload = ByteBuffer.allocate(0);
+    KafkaMessageEnvelope kafkaMessageEnvelope = new KafkaMessageEnvelope();
+    kafkaMessageEnvelope.messageType = MessageType.PUT.getValue();
+    kafkaMessageEnvelope.payloadUnion = put;
+    return kafkaMessageEnvelope;
+  }
+
+  private static KafkaMessageEnvelope createDelete() {
+    Delete delete = new Delete();
+    delete.replicationMetadataPayload = ByteBuffer.allocate(0);
+    KafkaMessageEnvelope kafkaMessageEnvelope = new KafkaMessageEnvelope();
+    kafkaMessageEnvelope.messageType = MessageType.DELETE.getValue();
+    kafkaMessageEnvelope.payloadUnion = delete;
+    return kafkaMessageEnvelope;
+  }
+}
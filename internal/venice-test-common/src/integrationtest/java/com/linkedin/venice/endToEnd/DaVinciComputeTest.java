@@ -34,6 +34,7 @@ import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
 import com.linkedin.venice.integration.utils.VeniceRouterWrapper;
 import com.linkedin.venice.serialization.VeniceKafkaSerializer;
 import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
@@ -57,6 +58,7 @@ import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -505,8 +507,8 @@ public class DaVinciComputeTest {
     }
   }
 
-  @Test(timeOut = TEST_TIMEOUT * 2)
-  public void testComputeStreamingExecute() throws ExecutionException, InterruptedException {
+  @Test(timeOut = TEST_TIMEOUT * 2, dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testComputeStreamingExecute(boolean parallelCompute) throws ExecutionException, InterruptedException {
     // Setup Store
     final String storeName = Utils.getUniqueString("store");
     cluster.useControllerClient(client -> {
@@ -541,6 +543,9 @@ public class DaVinciComputeTest {
 
     DaVinciConfig config = new DaVinciConfig();
     config.setNonLocalAccessPolicy(NonLocalAccessPolicy.QUERY_VENICE);
+    if (parallelCompute) {
+      config.setComputeExecutor(ForkJoinPool.commonPool()).setParallelComputeMinKeyCount(1);
+    }
 
     DaVinciTestContext<String, Integer> daVinciTestContext =
         ServiceFactory.getGenericAvroDaVinciFactoryAndClientWithRetries(
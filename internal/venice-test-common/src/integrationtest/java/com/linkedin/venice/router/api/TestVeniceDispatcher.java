@@ -351,7 +351,8 @@ public class TestVeniceDispatcher {
         storageNodeClient,
         routeHttpRequestStats,
         mock(AggHostHealthStats.class),
-        mock(RouterStats.class));
+        mock(RouterStats.class),
+        Optional.empty());
     return dispatcher;
   }
 
@@ -0,0 +1,179 @@
+package com.linkedin.venice.benchmark;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.client.change.capture.protocol.RecordChangeEvent;
+import com.linkedin.venice.client.change.capture.protocol.ValueBytes;
+import com.linkedin.venice.client.consumer.ChangeEvent;
+import com.linkedin.venice.client.consumer.ChangelogClientConfig;
+import com.linkedin.venice.client.consumer.VeniceChangelogConsumer;
+import com.linkedin.venice.client.consumer.VeniceChangelogConsumerImpl;
+import com.linkedin.venice.controllerapi.ControllerClient;
+import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.integration.utils.KafkaBrokerWrapper;
+import com.linkedin.venice.integration.utils.ServiceFactory;
+import com.linkedin.venice.meta.StoreInfo;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.views.ChangeCaptureView;
+import com.linkedin.venice.writer.VeniceWriter;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures how many change events per second a single {@link VeniceChangelogConsumerImpl} can consume from a change
+ * capture topic hosted by a local Kafka broker. Each invocation consumes the whole topic from the beginning with a
+ * new consumer, and either only looks at the keys of the messages, or also deserializes their current values, which
+ * shows the cost of the lazy value deserialization separately from the poll path itself.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChangelogConsumerBenchmark {
+  private static final int RECORD_COUNT = 100_000;
+  private static final int VALUE_SCHEMA_ID = 1;
+  private static final Schema STRING_SCHEMA = Schema.create(Schema.Type.STRING);
+
+  @Param({ "100", "1000" })
+  public int valueSize;
+
+  @Param({ "false", "true" })
+  public boolean deserializeValues;
+
+  private KafkaBrokerWrapper kafkaBroker;
+  private String storeName;
+  private SchemaReader schemaReader;
+  private ControllerClient controllerClient;
+
+  @Setup
+  public void setUp() throws Exception {
+    kafkaBroker = ServiceFactory.getKafkaBroker();
+    storeName = Utils.getUniqueString("changelog_benchmark_store");
+    String changeCaptureTopic =
+        Version.composeKafkaTopic(storeName, 1) + ChangeCaptureView.CHANGE_CAPTURE_TOPIC_SUFFIX;
+
+    Properties adminProperties = new Properties();
+    adminProperties.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBroker.getAddress());
+    try (AdminClient adminClient = AdminClient.create(adminProperties)) {
+      adminClient.createTopics(Collections.singleton(new NewTopic(changeCaptureTopic, 1, (short) 1))).all().get();
+    }
+
+    RecordSerializer<String> stringSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(STRING_SCHEMA);
+    RecordSerializer<RecordChangeEvent> recordChangeEventSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(RecordChangeEvent.SCHEMA$);
+    String valuePrefix = new String(new char[valueSize]).replace('\0', 'v');
+    try (VeniceWriter<byte[], byte[], byte[]> veniceWriter =
+        TestUtils.getVeniceWriterFactory(kafkaBroker.getAddress()).createBasicVeniceWriter(changeCaptureTopic)) {
+      for (int i = 0; i < RECORD_COUNT; i++) {
+        byte[] keyBytes = stringSerializer.serialize("key_" + i);
+        RecordChangeEvent recordChangeEvent = new RecordChangeEvent();
+        recordChangeEvent.previousValue = createValueBytes(stringSerializer.serialize(valuePrefix + (i - 1)));
+        recordChangeEvent.currentValue = createValueBytes(stringSerializer.serialize(valuePrefix + i));
+        recordChangeEvent.key = ByteBuffer.wrap(keyBytes);
+        recordChangeEvent.replicationCheckpointVector = Collections.emptyList();
+        veniceWriter.put(keyBytes, recordChangeEventSerializer.serialize(recordChangeEvent), VALUE_SCHEMA_ID, null);
+      }
+      veniceWriter.flush();
+    }
+
+    schemaReader = mock(SchemaReader.class);
+    doReturn(STRING_SCHEMA).when(schemaReader).getKeySchema();
+    doReturn(STRING_SCHEMA).when(schemaReader).getValueSchema(VALUE_SCHEMA_ID);
+
+    StoreInfo storeInfo = new StoreInfo();
+    storeInfo.setCurrentVersion(1);
+    storeInfo.setVersions(Collections.singletonList(new VersionImpl(storeName, 1, "benchmark_push", 1)));
+    StoreResponse storeResponse = new StoreResponse();
+    storeResponse.setStore(storeInfo);
+    controllerClient = mock(ControllerClient.class);
+    doReturn(storeResponse).when(controllerClient).getStore(storeName);
+
+    // JMH benchmark relies on System.exit to finish one round of benchmark run, otherwise it will hang there.
+    TestUtils.restoreSystemExit();
+  }
+
+  @TearDown
+  public void cleanUp() {
+    Utils.closeQuietlyWithErrorLogged(kafkaBroker);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ChangelogConsumerBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void consumeChangeCaptureTopic(Blackhole blackhole) {
+    Properties consumerProperties = new Properties();
+    consumerProperties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBroker.getAddress());
+    consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    ChangelogClientConfig changelogClientConfig = new ChangelogClientConfig().setStoreName(storeName)
+        .setConsumerProperties(consumerProperties)
+        .setSchemaReader(schemaReader)
+        .setControllerClient(controllerClient);
+    VeniceChangelogConsumer<Object, Object> changelogConsumer =
+        new VeniceChangelogConsumerImpl<>(changelogClientConfig);
+    try {
+      changelogConsumer.subscribeAll().join();
+      int consumedRecordCount = 0;
+      while (consumedRecordCount < RECORD_COUNT) {
+        for (PubSubMessage message: changelogConsumer.poll(100)) {
+          blackhole.consume(message.getKey());
+          if (deserializeValues) {
+            blackhole.consume(((ChangeEvent<Object>) message.getValue()).getCurrentValue());
+          }
+          consumedRecordCount++;
+        }
+      }
+    } finally {
+      changelogConsumer.close();
+    }
+  }
+
+  private static ValueBytes createValueBytes(byte[] value) {
+    ValueBytes valueBytes = new ValueBytes();
+    valueBytes.value = ByteBuffer.wrap(value);
+    valueBytes.schemaId = VALUE_SCHEMA_ID;
+    return valueBytes;
+  }
+}
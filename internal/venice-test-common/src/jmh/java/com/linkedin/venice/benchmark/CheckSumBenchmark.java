@@ -0,0 +1,82 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the cost of the data integrity validation checksum of a segment, which is paid for every record by the
+ * producers and by every consumer. Each invocation checksums a segment of records, like {@code Segment} does, and
+ * finalizes it, and the checksum state is checkpointed once per segment, like when the offset record is synced.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CheckSumBenchmark {
+  private static final int RECORDS_PER_SEGMENT = 1000;
+  private static final int KEY_SIZE = 32;
+
+  @Param({ "MD5", "CRC32", "ADLER32", "CRC32C" })
+  public String checkSumType;
+
+  @Param({ "100", "1000", "10000" })
+  public int valueSize;
+
+  private CheckSum checkSum;
+  private byte[][] keys;
+  private byte[][] values;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    checkSum = CheckSum.getInstance(CheckSumType.valueOf(checkSumType)).get();
+    Random random = new Random(1234);
+    keys = new byte[RECORDS_PER_SEGMENT][KEY_SIZE];
+    values = new byte[RECORDS_PER_SEGMENT][valueSize];
+    for (int i = 0; i < RECORDS_PER_SEGMENT; i++) {
+      random.nextBytes(keys[i]);
+      random.nextBytes(values[i]);
+    }
+  }
+
+  @Benchmark
+  public void checkSumSegment(Blackhole bh) {
+    checkSum.reset();
+    for (int i = 0; i < RECORDS_PER_SEGMENT; i++) {
+      // The message type and the schema id are checksummed along with the key and the value.
+      checkSum.update(i);
+      checkSum.update(keys[i]);
+      checkSum.update(i);
+      checkSum.update(values[i]);
+    }
+    if (checkSum.getType().isCheckpointingSupported()) {
+      bh.consume(checkSum.getEncodedState());
+    }
+    bh.consume(checkSum.getCheckSum());
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(CheckSumBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
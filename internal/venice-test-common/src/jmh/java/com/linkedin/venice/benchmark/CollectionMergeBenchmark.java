@@ -0,0 +1,141 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.schema.rmd.RmdConstants.TIMESTAMP_FIELD_NAME;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.venice.schema.merge.IndexedCollectionFieldOpHandler;
+import com.linkedin.venice.schema.merge.SortBasedCollectionFieldOpHandler;
+import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import com.linkedin.venice.utils.IndexedHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures a collection merge operation which adds a few elements to a large map or list field, e.g. a "follower
+ * list", with the sort-based and the indexed collection merge handlers. Each operation re-adds existing elements with a
+ * newer timestamp, so the size of the collection stays the same across invocations.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CollectionMergeBenchmark {
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\":\"record\",\"name\":\"Followers\",\"namespace\":\"com.linkedin.venice.benchmark\",\"fields\":["
+          + "{\"name\":\"followerToTimestamp\",\"type\":{\"type\":\"map\",\"values\":\"long\"},\"default\":{}},"
+          + "{\"name\":\"followerIds\",\"type\":{\"type\":\"array\",\"items\":\"long\"},\"default\":[]}]}");
+  private static final String MAP_FIELD_NAME = "followerToTimestamp";
+  private static final String LIST_FIELD_NAME = "followerIds";
+  private static final int ELEMENTS_PER_OPERATION = 5;
+
+  @Param({ "1000", "10000", "100000" })
+  public int collectionSize;
+
+  @Param({ "SORT_BASED", "INDEXED" })
+  public String handlerType;
+
+  private SortBasedCollectionFieldOpHandler handler;
+  private GenericRecord valueRecord;
+  private CollectionRmdTimestamp<String> mapRmd;
+  private CollectionRmdTimestamp<Object> listRmd;
+  private long timestamp;
+  private int nextElement;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    handler = handlerType.equals("INDEXED")
+        ? new IndexedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE)
+        : new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+    Schema rmdSchema = RmdSchemaGenerator.generateMetadataSchema(VALUE_SCHEMA);
+    Schema rmdTimestampSchema = rmdSchema.getField(TIMESTAMP_FIELD_NAME).schema().getTypes().get(1);
+    mapRmd = new CollectionRmdTimestamp<>(createCollectionRmdRecord(rmdTimestampSchema.getField(MAP_FIELD_NAME)));
+    listRmd = new CollectionRmdTimestamp<>(createCollectionRmdRecord(rmdTimestampSchema.getField(LIST_FIELD_NAME)));
+
+    valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    IndexedHashMap<String, Object> map = new IndexedHashMap<>(collectionSize);
+    List<Object> list = new ArrayList<>(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      map.put(String.valueOf(i), (long) i);
+      list.add((long) i);
+    }
+    timestamp = 1;
+    handler.handlePutMap(timestamp, 0, map, mapRmd, valueRecord, MAP_FIELD_NAME);
+    handler.handlePutList(timestamp, 0, list, listRmd, valueRecord, LIST_FIELD_NAME);
+    nextElement = 0;
+  }
+
+  @Benchmark
+  public void mergeIntoMap(Blackhole bh) {
+    Map<String, Object> newEntries = new HashMap<>();
+    for (int i = 0; i < ELEMENTS_PER_OPERATION; i++) {
+      newEntries.put(String.valueOf(nextElement()), timestamp);
+    }
+    bh.consume(
+        handler.handleModifyMap(++timestamp, mapRmd, valueRecord, MAP_FIELD_NAME, newEntries, Collections.emptyList()));
+  }
+
+  @Benchmark
+  public void mergeIntoList(Blackhole bh) {
+    List<Object> newElements = new ArrayList<>();
+    for (int i = 0; i < ELEMENTS_PER_OPERATION; i++) {
+      newElements.add((long) nextElement());
+    }
+    bh.consume(
+        handler.handleModifyList(
+            ++timestamp,
+            listRmd,
+            valueRecord,
+            LIST_FIELD_NAME,
+            newElements,
+            Collections.emptyList()));
+  }
+
+  private int nextElement() {
+    nextElement = (nextElement + 1) % collectionSize;
+    return nextElement;
+  }
+
+  private static GenericRecord createCollectionRmdRecord(Schema.Field collectionRmdField) {
+    GenericRecord collectionRmdRecord = new GenericData.Record(collectionRmdField.schema());
+    collectionRmdRecord.put(CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_NAME, 0L);
+    collectionRmdRecord.put(CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_NAME, -1);
+    collectionRmdRecord.put(CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_NAME, 0);
+    collectionRmdRecord.put(CollectionRmdTimestamp.ACTIVE_ELEM_TS_FIELD_NAME, new ArrayList<>());
+    collectionRmdRecord.put(CollectionRmdTimestamp.DELETED_ELEM_FIELD_NAME, new ArrayList<>());
+    collectionRmdRecord.put(CollectionRmdTimestamp.DELETED_ELEM_TS_FIELD_NAME, new ArrayList<>());
+    return collectionRmdRecord;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(CollectionMergeBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
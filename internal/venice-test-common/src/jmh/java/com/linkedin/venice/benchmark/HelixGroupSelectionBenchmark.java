@@ -0,0 +1,91 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import com.linkedin.venice.router.api.routing.helix.HelixGroupLeastLoadedStrategy;
+import com.linkedin.venice.router.api.routing.helix.HelixGroupLockFreeLeastLoadedStrategy;
+import com.linkedin.venice.router.api.routing.helix.HelixGroupSelectionStrategy;
+import com.linkedin.venice.router.api.routing.helix.HelixGroupSelectionStrategyEnum;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the throughput of the least-loaded Helix group selection in Router, when many request threads select a
+ * group and finish the request right away, which isolates the synchronization cost of the strategies:
+ * {@link HelixGroupLeastLoadedStrategy} serializes all the requests on a single monitor and schedules one timeout
+ * future per request, whereas {@link HelixGroupLockFreeLeastLoadedStrategy} only updates atomic counters.
+ *
+ * Run with the thread counts of interest, e.g.: {@link #main(String[])}.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HelixGroupSelectionBenchmark {
+  private static final long TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+  @State(Scope.Benchmark)
+  public static class StrategyState {
+    @Param({ "LEAST_LOADED", "LOCK_FREE_LEAST_LOADED" })
+    public HelixGroupSelectionStrategyEnum strategyType;
+
+    @Param({ "2", "6" })
+    public int groupCount;
+
+    HelixGroupSelectionStrategy strategy;
+    TimeoutProcessor timeoutProcessor;
+    final AtomicLong requestIdGenerator = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      if (strategyType == HelixGroupSelectionStrategyEnum.LEAST_LOADED) {
+        timeoutProcessor = new TimeoutProcessor(null, true, 1);
+        strategy = new HelixGroupLeastLoadedStrategy(timeoutProcessor, TIMEOUT_MS);
+      } else {
+        strategy = new HelixGroupLockFreeLeastLoadedStrategy(TIMEOUT_MS);
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      if (timeoutProcessor != null) {
+        timeoutProcessor.shutdownNow();
+      }
+    }
+  }
+
+  @Benchmark
+  public void selectAndFinish(StrategyState state, Blackhole bh) {
+    long requestId = state.requestIdGenerator.getAndIncrement();
+    int groupId = state.strategy.selectGroup(requestId, state.groupCount);
+    bh.consume(groupId);
+    state.strategy.finishRequest(requestId, groupId);
+  }
+
+  public static void main(String[] args) throws Exception {
+    for (int threads: new int[] { 8, 16, 32, 64 }) {
+      Options opt = new OptionsBuilder().include(HelixGroupSelectionBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build();
+      new Runner(opt).run();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_DB_OPEN_OPERATION_THROTTLE;
+import static com.linkedin.venice.ConfigKeys.ADMIN_PORT;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.KAFKA_ZK_ADDRESS;
+import static com.linkedin.venice.ConfigKeys.LISTENER_PORT;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORAGE_RESTORE_PARALLELISM;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.exceptions.VeniceNoStoreException;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.File;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the restore of the stores persisted on a storage node at startup, when the node hosts many small RocksDB
+ * partitions. Each invocation creates a {@link StorageService}, which opens all the persisted stores and partitions,
+ * and stops it.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StorageRestoreBenchmark {
+  private static final int STORE_COUNT = 20;
+  private static final int PARTITION_COUNT = 16;
+  private static final int RECORDS_PER_PARTITION = 100;
+
+  @Param({ "1", "4", "8" })
+  public int parallelism;
+
+  private File dataDirectory;
+  private VeniceProperties serverProps;
+  private ReadOnlyStoreRepository storeRepository;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    dataDirectory = Utils.getTempDataDirectory();
+    serverProps = new PropertyBuilder().put(CLUSTER_NAME, "storage_restore_benchmark")
+        .put(ZOOKEEPER_ADDRESS, "localhost:2181")
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString())
+        .put(KAFKA_BOOTSTRAP_SERVERS, "127.0.0.1:9092")
+        .put(KAFKA_ZK_ADDRESS, "localhost:2181")
+        .put(LISTENER_PORT, 7072)
+        .put(ADMIN_PORT, 7073)
+        .put(DATA_BASE_PATH, dataDirectory.getAbsolutePath())
+        .put(SERVER_STORAGE_RESTORE_PARALLELISM, parallelism)
+        .put(ROCKSDB_DB_OPEN_OPERATION_THROTTLE, parallelism)
+        .build();
+    storeRepository = mock(ReadOnlyStoreRepository.class);
+    doThrow(new VeniceNoStoreException("")).when(storeRepository).getStoreOrThrow(anyString());
+
+    StorageService storageService = createStorageService();
+    for (int i = 0; i < STORE_COUNT; i++) {
+      String topic = Version.composeKafkaTopic("restore_benchmark_store_" + i, 1);
+      VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(topic, serverProps, PersistenceType.ROCKS_DB);
+      for (int partitionId = 0; partitionId < PARTITION_COUNT; partitionId++) {
+        AbstractStorageEngine storageEngine =
+            storageService.openStoreForNewPartition(storeConfig, partitionId, () -> null);
+        for (int j = 0; j < RECORDS_PER_PARTITION; j++) {
+          storageEngine.put(partitionId, ("key_" + j).getBytes(), ("value_" + j).getBytes());
+        }
+      }
+    }
+    storageService.stop();
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanUp() throws Exception {
+    FileUtils.deleteDirectory(dataDirectory);
+  }
+
+  @Benchmark
+  public void restoreAllStores(Blackhole bh) throws Exception {
+    StorageService storageService = createStorageService();
+    bh.consume(storageService.getRestoredPartitionCount());
+    storageService.stop();
+  }
+
+  private StorageService createStorageService() {
+    return new StorageService(
+        new VeniceConfigLoader(new VeniceProperties(new Properties()), serverProps),
+        mock(AggVersionedStorageEngineStats.class),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        storeRepository);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(StorageRestoreBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
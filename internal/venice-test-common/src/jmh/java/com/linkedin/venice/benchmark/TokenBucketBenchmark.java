@@ -0,0 +1,68 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.throttle.LeasingTokenBucket;
+import com.linkedin.venice.throttle.TokenBucket;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the throughput of a single {@link TokenBucket} shared by many threads, like the storage node bucket of the
+ * server read quota enforcement which is checked by all the Netty I/O threads for every request. The refill rate is
+ * high enough for the bucket to rarely run out of tokens, so that the benchmark mostly measures the contention on
+ * the token counter and on the refill.
+ *
+ * Run with the thread counts of interest, e.g.: {@link #main(String[])}.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenBucketBenchmark {
+  private static final long REFILL_AMOUNT = 1_000_000_000L;
+
+  @State(Scope.Benchmark)
+  public static class BucketState {
+    @Param({ "0", "1000" })
+    public long leaseSize;
+
+    TokenBucket bucket;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      if (leaseSize == 0) {
+        bucket = new TokenBucket(REFILL_AMOUNT, REFILL_AMOUNT, 10, TimeUnit.MILLISECONDS);
+      } else {
+        bucket = new LeasingTokenBucket(REFILL_AMOUNT, REFILL_AMOUNT, 10, TimeUnit.MILLISECONDS, leaseSize);
+      }
+    }
+  }
+
+  @Benchmark
+  public void tryConsume(BucketState state, Blackhole bh) {
+    bh.consume(state.bucket.tryConsume(1));
+  }
+
+  public static void main(String[] args) throws Exception {
+    for (int threads: new int[] { 1, 8, 16, 32 }) {
+      Options opt = new OptionsBuilder().include(TokenBucketBenchmark.class.getSimpleName()).threads(threads).build();
+      new Runner(opt).run();
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.partitioner.XxHash64VenicePartitioner;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the cost of partitioning the keys of a batch get, which is paid by Router for every key, by the fast
+ * client, by the writers and by the storage nodes.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class VenicePartitionerBenchmark {
+  private static final int BATCH_GET_KEY_COUNT = 1000;
+  private static final int PARTITION_COUNT = 64;
+
+  @Param({ "DEFAULT", "XXHASH64" })
+  public String partitionerType;
+
+  @Param({ "16", "64", "256" })
+  public int keySize;
+
+  private VenicePartitioner partitioner;
+  private ByteBuffer[] keys;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    if (partitionerType.equals("DEFAULT")) {
+      partitioner = new DefaultVenicePartitioner();
+    } else {
+      partitioner = new XxHash64VenicePartitioner();
+    }
+    Random random = new Random(1234);
+    keys = new ByteBuffer[BATCH_GET_KEY_COUNT];
+    for (int i = 0; i < BATCH_GET_KEY_COUNT; ++i) {
+      byte[] keyBytes = new byte[keySize];
+      random.nextBytes(keyBytes);
+      keys[i] = ByteBuffer.wrap(keyBytes);
+    }
+  }
+
+  @Benchmark
+  public void partitionBatchGetKeys(Blackhole bh) {
+    for (ByteBuffer key: keys) {
+      bh.consume(partitioner.getPartitionId(key, PARTITION_COUNT));
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(VenicePartitionerBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
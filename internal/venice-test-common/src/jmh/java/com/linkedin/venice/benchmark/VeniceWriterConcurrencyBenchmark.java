@@ -0,0 +1,158 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.serialization.VeniceKafkaSerializer;
+import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.KafkaProducerWrapper;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterOptions;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the throughput of {@link VeniceWriter#put} when a single writer is shared by many producer threads, which
+ * is how leaders and the Samza producer use it. The writer only serializes the DIV bookkeeping and the Kafka send of
+ * the same partition, so the throughput should scale with the partition count, whereas wrapping each call in a
+ * writer-wide monitor (the {@code writerWideLock} baseline) serializes all partitions.
+ *
+ * The Kafka producer is replaced by a stub which burns a fixed amount of CPU per send, so that only the writer's own
+ * synchronization is measured.
+ *
+ * Run with the thread counts of interest, e.g.: {@link #main(String[])}.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VeniceWriterConcurrencyBenchmark {
+  private static final int NUMBER_OF_KEYS = 10_000;
+  private static final int SEND_CPU_TOKENS = 64;
+
+  @State(Scope.Benchmark)
+  public static class WriterState {
+    @Param({ "1", "4", "16", "64" })
+    public int partitionCount;
+
+    @Param({ "false", "true" })
+    public boolean writerWideLock;
+
+    VeniceWriter<Object, Object, Object> writer;
+    String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      VeniceKafkaSerializer serializer = new VeniceAvroKafkaSerializer("\"string\"");
+      VeniceWriterOptions options = new VeniceWriterOptions.Builder("benchmark_topic").setKeySerializer(serializer)
+          .setValueSerializer(serializer)
+          .setWriteComputeSerializer(serializer)
+          .setPartitioner(new DefaultVenicePartitioner())
+          .setTime(SystemTime.INSTANCE)
+          .setPartitionCount(Optional.of(partitionCount))
+          .build();
+      writer = new VeniceWriter<>(options, new VeniceProperties(new Properties()), StubProducer::new);
+      keys = new String[NUMBER_OF_KEYS];
+      for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+        keys[i] = "key_" + i;
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      writer.close(false);
+    }
+  }
+
+  @Benchmark
+  public void put(WriterState state, Blackhole bh) {
+    String key = state.keys[ThreadLocalRandom.current().nextInt(NUMBER_OF_KEYS)];
+    if (state.writerWideLock) {
+      synchronized (state.writer) {
+        bh.consume(state.writer.put(key, key, 1, null));
+      }
+    } else {
+      bh.consume(state.writer.put(key, key, 1, null));
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    for (int threads: new int[] { 1, 4, 16 }) {
+      Options opt = new OptionsBuilder().include(VeniceWriterConcurrencyBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build();
+      new Runner(opt).run();
+    }
+  }
+
+  private static class StubProducer implements KafkaProducerWrapper {
+    private static final Future<RecordMetadata> COMPLETED_FUTURE = CompletableFuture.completedFuture(null);
+
+    @Override
+    public int getNumberOfPartitions(String topic) {
+      throw new UnsupportedOperationException("The partition count is provided through VeniceWriterOptions");
+    }
+
+    @Override
+    public Future<RecordMetadata> sendMessage(
+        String topic,
+        KafkaKey key,
+        KafkaMessageEnvelope value,
+        int partition,
+        Callback callback) {
+      Blackhole.consumeCPU(SEND_CPU_TOKENS);
+      return COMPLETED_FUTURE;
+    }
+
+    @Override
+    public Future<RecordMetadata> sendMessage(
+        ProducerRecord<KafkaKey, KafkaMessageEnvelope> record,
+        Callback callback) {
+      Blackhole.consumeCPU(SEND_CPU_TOKENS);
+      return COMPLETED_FUTURE;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close(int closeTimeOutMs) {
+    }
+
+    @Override
+    public Map<String, Double> getMeasurableProducerMetrics() {
+      return Collections.emptyMap();
+    }
+  }
+}
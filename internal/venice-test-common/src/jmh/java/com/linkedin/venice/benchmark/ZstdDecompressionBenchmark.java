@@ -42,6 +42,8 @@ public class ZstdDecompressionBenchmark {
   private static int PAYLOAD_SIZE;
   private VeniceCompressor compressor;
   private ByteBuffer[] compressedPayloads;
+  private ByteBuffer[] directCompressedPayloads;
+  private ByteBuffer directOutput;
   private byte[] dictionary;
   private Random rd = new Random();
 
@@ -50,11 +52,16 @@ public class ZstdDecompressionBenchmark {
     this.dictionary = ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
     this.compressor = new CompressorFactory().createCompressorWithDictionary(dictionary, Zstd.maxCompressionLevel());
     this.compressedPayloads = new ByteBuffer[NUMBER_OF_PAYLOADS];
+    this.directCompressedPayloads = new ByteBuffer[NUMBER_OF_PAYLOADS];
     for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
       byte[] data = new byte[PAYLOAD_SIZE];
       this.rd.nextBytes(data);
       this.compressedPayloads[i] = compressor.compress(ByteBuffer.wrap(data), 0);
+      this.directCompressedPayloads[i] = ByteBuffer.allocateDirect(compressedPayloads[i].remaining());
+      this.directCompressedPayloads[i].put(compressedPayloads[i].duplicate());
+      this.directCompressedPayloads[i].flip();
     }
+    this.directOutput = ByteBuffer.allocateDirect(PAYLOAD_SIZE);
   }
 
   @Benchmark
@@ -69,6 +76,24 @@ public class ZstdDecompressionBenchmark {
     }
   }
 
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
+  public void measureDecompressionIntoReusableBuffer(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
+    for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
+      bh.consume(compressor.decompressIntoReusableBuffer(compressedPayloads[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
+  public void measureDirectBufferDecompression(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
+    ZstdWithDictCompressor zstdCompressor = (ZstdWithDictCompressor) compressor;
+    for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
+      directOutput.clear();
+      bh.consume(zstdCompressor.decompress(directCompressedPayloads[i], directOutput));
+    }
+  }
+
   @Benchmark
   @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
   public void measureDecompressionWithDictionaryReload(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
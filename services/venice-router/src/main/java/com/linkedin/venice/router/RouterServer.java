@@ -37,6 +37,7 @@ import com.linkedin.venice.router.api.MetaStoreShadowReader;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
 import com.linkedin.venice.router.api.RouterHeartbeat;
 import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.SingleGetResponseCache;
 import com.linkedin.venice.router.api.VeniceDelegateMode;
 import com.linkedin.venice.router.api.VeniceDispatcher;
 import com.linkedin.venice.router.api.VeniceHostFinder;
@@ -52,6 +53,7 @@ import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyHttp2StorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -86,8 +88,10 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultithreadEventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.net.InetSocketAddress;
@@ -410,6 +414,14 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_HTTP2_CLIENT:
+        LOGGER.info("Router will use NETTY HTTP2 CLIENT");
+        storageNodeClient = new NettyHttp2StorageNodeClient(
+            sslFactoryForRequests,
+            config,
+            workerEventLoopGroup,
+            useEpoll ? EpollSocketChannel.class : NioSocketChannel.class);
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
@@ -419,6 +431,9 @@ public class RouterServer extends AbstractVeniceService {
 
     VeniceHostHealth healthMonitor =
         new VeniceHostHealth(liveInstanceMonitor, storageNodeClient, config, routeHttpRequestStats, aggHostHealthStats);
+    Optional<SingleGetResponseCache> singleGetResponseCache = config.getSingleGetCacheStoreList().isEmpty()
+        ? Optional.empty()
+        : Optional.of(new SingleGetResponseCache(config, metadataRepository, routerStats));
     dispatcher = new VeniceDispatcher(
         config,
         metadataRepository,
@@ -427,7 +442,8 @@ public class RouterServer extends AbstractVeniceService {
         storageNodeClient,
         routeHttpRequestStats,
         aggHostHealthStats,
-        routerStats);
+        routerStats,
+        singleGetResponseCache);
     scatterGatherMode = new VeniceDelegateMode(config, routerStats, routeHttpRequestStats);
 
     if (config.isRouterHeartBeatEnabled()) {
@@ -475,7 +491,8 @@ public class RouterServer extends AbstractVeniceService {
         storeConfigRepository,
         config.getClusterToD2Map(),
         config.getClusterName(),
-        compressorFactory);
+        compressorFactory,
+        singleGetResponseCache);
     VenicePathParser pathParser = new VenicePathParser(
         versionFinder,
         partitionFinder,
@@ -15,6 +15,7 @@ import static com.linkedin.venice.ConfigKeys.MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.REFRESH_ATTEMPTS_FOR_ZK_RECONNECT;
 import static com.linkedin.venice.ConfigKeys.REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ASYNC_START_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CACHE_TTL_MILLIS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_DECOMPRESSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_ATTEMPTS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_BACKOFF_MS;
@@ -66,8 +67,11 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_PENDING_REQUEST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_META_STORE_SHADOW_READ_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_GET_ZERO_COPY_REQUEST_SPLIT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_MAX_PENDING_ACQUIRES_PER_HOST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_THREAD_COUNT;
@@ -75,6 +79,8 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORAGE_NODE_READ_QUOTA_
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_CACHE_MAX_MEMORY_PER_VERSION_BYTES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_CACHE_STORE_LIST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SOCKET_TIMEOUT;
@@ -99,6 +105,7 @@ import com.linkedin.venice.router.httpclient.StorageNodeClientType;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -126,6 +133,7 @@ public class VeniceRouterConfig {
   private boolean smartLongTailRetryEnabled;
   private int smartLongTailRetryAbortThresholdMs;
   private int longTailRetryMaxRouteForMultiKeyReq;
+  private boolean multiGetZeroCopyRequestSplitEnabled;
   private int maxKeyCountInMultiGetReq;
   private int connectionLimit;
   private int httpClientPoolSize;
@@ -191,6 +199,8 @@ public class VeniceRouterConfig {
   private int httpClient5PoolSize;
   private int httpClient5TotalIOThreadCount;
   private boolean httpClient5SkipCipherCheck;
+  private int nettyHttp2ClientMaxConnectionsPerHost;
+  private int nettyHttp2ClientMaxPendingAcquiresPerHost;
   private boolean http2InboundEnabled;
   private int http2MaxConcurrentStreams;
   private int http2MaxFrameSize;
@@ -200,6 +210,9 @@ public class VeniceRouterConfig {
   private boolean metaStoreShadowReadEnabled;
   private boolean unregisterMetricForDeletedStoreEnabled;
   private int routerIOWorkerCount;
+  private List<String> singleGetCacheStoreList;
+  private long singleGetCacheMaxMemoryPerVersionBytes;
+  private long cacheTtlMs;
 
   public VeniceRouterConfig(VeniceProperties props) {
     try {
@@ -233,6 +246,7 @@ public class VeniceRouterConfig {
     smartLongTailRetryAbortThresholdMs = props.getInt(ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS, 100);
     // Default: -1 means this feature is not enabled.
     longTailRetryMaxRouteForMultiKeyReq = props.getInt(ROUTER_LONG_TAIL_RETRY_MAX_ROUTE_FOR_MULTI_KEYS_REQ, -1);
+    multiGetZeroCopyRequestSplitEnabled = props.getBoolean(ROUTER_MULTI_GET_ZERO_COPY_REQUEST_SPLIT_ENABLED, false);
     maxKeyCountInMultiGetReq = props.getInt(ROUTER_MAX_KEY_COUNT_IN_MULTIGET_REQ, 500);
     connectionLimit = props.getInt(ROUTER_CONNECTION_LIMIT, 10000);
     httpClientPoolSize = props.getInt(ROUTER_HTTP_CLIENT_POOL_SIZE, 12);
@@ -360,6 +374,9 @@ public class VeniceRouterConfig {
     httpClient5TotalIOThreadCount =
         props.getInt(ROUTER_HTTP_CLIENT5_TOTAL_IO_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
     httpClient5SkipCipherCheck = props.getBoolean(ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, false);
+    nettyHttp2ClientMaxConnectionsPerHost = props.getInt(ROUTER_NETTY_HTTP2_CLIENT_MAX_CONNECTIONS_PER_HOST, 2);
+    nettyHttp2ClientMaxPendingAcquiresPerHost =
+        props.getInt(ROUTER_NETTY_HTTP2_CLIENT_MAX_PENDING_ACQUIRES_PER_HOST, 10000);
     http2InboundEnabled = props.getBoolean(ROUTER_HTTP2_INBOUND_ENABLED, false);
     http2MaxConcurrentStreams = props.getInt(ROUTER_HTTP2_MAX_CONCURRENT_STREAMS, 100);
     http2MaxFrameSize = props.getInt(ROUTER_HTTP2_MAX_FRAME_SIZE, 8 * 1024 * 1024);
@@ -374,6 +391,11 @@ public class VeniceRouterConfig {
      * should consider to use some number, which is proportional to the available cores.
      */
     routerIOWorkerCount = props.getInt(ROUTER_IO_WORKER_COUNT, 24);
+
+    singleGetCacheStoreList = props.getList(ROUTER_SINGLE_GET_CACHE_STORE_LIST, Collections.emptyList());
+    singleGetCacheMaxMemoryPerVersionBytes =
+        props.getSizeInBytes(ROUTER_SINGLE_GET_CACHE_MAX_MEMORY_PER_VERSION_BYTES, 64 * 1024 * 1024L); // 64MB
+    cacheTtlMs = props.getLong(ROUTER_CACHE_TTL_MILLIS, 0);
   }
 
   public String getClusterName() {
@@ -508,6 +530,10 @@ public class VeniceRouterConfig {
     return longTailRetryMaxRouteForMultiKeyReq;
   }
 
+  public boolean isMultiGetZeroCopyRequestSplitEnabled() {
+    return multiGetZeroCopyRequestSplitEnabled;
+  }
+
   public StorageNodeClientType getStorageNodeClientType() {
     return storageNodeClientType;
   }
@@ -769,6 +795,14 @@ public class VeniceRouterConfig {
     return httpClient5SkipCipherCheck;
   }
 
+  public int getNettyHttp2ClientMaxConnectionsPerHost() {
+    return nettyHttp2ClientMaxConnectionsPerHost;
+  }
+
+  public int getNettyHttp2ClientMaxPendingAcquiresPerHost() {
+    return nettyHttp2ClientMaxPendingAcquiresPerHost;
+  }
+
   public boolean isHttp2InboundEnabled() {
     return http2InboundEnabled;
   }
@@ -804,4 +838,16 @@ public class VeniceRouterConfig {
   public int getRouterIOWorkerCount() {
     return routerIOWorkerCount;
   }
+
+  public List<String> getSingleGetCacheStoreList() {
+    return singleGetCacheStoreList;
+  }
+
+  public long getSingleGetCacheMaxMemoryPerVersionBytes() {
+    return singleGetCacheMaxMemoryPerVersionBytes;
+  }
+
+  public long getCacheTtlMs() {
+    return cacheTtlMs;
+  }
 }
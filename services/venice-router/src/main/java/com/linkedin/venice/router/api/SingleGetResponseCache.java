@@ -0,0 +1,315 @@
+package com.linkedin.venice.router.api;
+
+import static com.linkedin.venice.ConfigKeys.ROUTER_CACHE_TTL_MILLIS;
+
+import com.linkedin.alpini.base.cache.ByteBufHashMap;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * {@code SingleGetResponseCache} keeps the storage node responses to the single-get requests of the configured stores,
+ * so that the requests for hot keys can be answered by Router without another hop to the storage nodes.
+ *
+ * Each store version has its own {@link ByteBufHashMap}, whose entries are kept in off-heap blocks, so a cached
+ * response can only be served for the version it was read from, and all the responses of a version are dropped once
+ * {@link VeniceVersionFinder} moves to another version. The oldest blocks of a version are evicted once
+ * {@link VeniceRouterConfig#getSingleGetCacheMaxMemoryPerVersionBytes()} is exceeded. Only the current version of a
+ * store, as last reported by {@link VeniceVersionFinder} to {@link #invalidateOtherVersions}, gets a cache, so a late
+ * response of the previous version can't bring back the cache which was just dropped. Since the cache is not aware of
+ * the nearline writes, the responses of hybrid versions expire after {@link VeniceRouterConfig#getCacheTtlMs()}, and
+ * they are not cached at all if no TTL is configured.
+ */
+public class SingleGetResponseCache {
+  private static final Logger LOGGER = LogManager.getLogger(SingleGetResponseCache.class);
+  /**
+   * The headers of the storage node response which are used by {@link VeniceDispatcher#buildResponse}.
+   */
+  private static final String[] CACHED_HEADERS = { HttpHeaders.CONTENT_TYPE, HttpConstants.VENICE_SCHEMA_ID,
+      HttpConstants.VENICE_COMPRESSION_STRATEGY, HttpConstants.VENICE_REQUEST_RCU };
+  private static final ByteBufHashMap.SerDes<CachedResponse> CACHED_RESPONSE_SER_DES = new CachedResponseSerDes();
+
+  private final Set<String> cacheEnabledStores;
+  private final long maxMemoryPerVersionBytes;
+  private final long hybridTtlMs;
+  private final ReadOnlyStoreRepository storeRepository;
+  private final AggRouterHttpRequestStats stats;
+  private final Map<String, VersionCache> versionCaches = new VeniceConcurrentHashMap<>();
+  private final Map<String, Integer> currentVersions = new VeniceConcurrentHashMap<>();
+
+  public SingleGetResponseCache(
+      VeniceRouterConfig config,
+      ReadOnlyStoreRepository storeRepository,
+      RouterStats<AggRouterHttpRequestStats> routerStats) {
+    this.cacheEnabledStores = new HashSet<>(config.getSingleGetCacheStoreList());
+    this.maxMemoryPerVersionBytes = config.getSingleGetCacheMaxMemoryPerVersionBytes();
+    this.hybridTtlMs = config.getCacheTtlMs();
+    this.storeRepository = storeRepository;
+    this.stats = routerStats.getStatsByType(RequestType.SINGLE_GET);
+    if (hybridTtlMs <= 0) {
+      LOGGER.warn(
+          "The single-get responses of hybrid versions will not be cached, since {} is not set",
+          ROUTER_CACHE_TTL_MILLIS);
+    }
+  }
+
+  public boolean isEnabled(VenicePath path) {
+    return path.getRequestType() == RequestType.SINGLE_GET && cacheEnabledStores.contains(path.getStoreName());
+  }
+
+  /**
+   * @return the cached response to the single-get request, or null if there is none.
+   */
+  public PortableHttpResponse get(VenicePath path) {
+    VersionCache versionCache = versionCaches.get(path.getResourceName());
+    CachedResponse cachedResponse = versionCache == null ? null : versionCache.get(getKey(path));
+    if (cachedResponse == null) {
+      stats.recordCacheMiss(path.getStoreName());
+    } else {
+      stats.recordCacheHit(path.getStoreName());
+    }
+    return cachedResponse;
+  }
+
+  /**
+   * Caches the storage node response to the single-get request, if it is a successful lookup.
+   *
+   * @return the response which should be used in place of the given one, as the content of the given one can only be
+   *         read once.
+   */
+  public PortableHttpResponse put(VenicePath path, PortableHttpResponse response) throws IOException {
+    int statusCode = response.getStatusCode();
+    if (statusCode != HttpStatus.SC_OK && statusCode != HttpStatus.SC_NOT_FOUND) {
+      return response;
+    }
+    String storeName = path.getStoreName();
+    int versionNumber = path.getVersionNumber();
+    boolean isHybrid = isHybrid(storeName, versionNumber);
+    if (isHybrid && hybridTtlMs <= 0) {
+      // The responses of hybrid versions would never reflect the nearline writes without a TTL.
+      return response;
+    }
+    // The current version is checked while holding the lock of the entry, which invalidateOtherVersions also takes to
+    // drop the entry after updating the current version.
+    VersionCache versionCache = versionCaches.compute(path.getResourceName(), (resourceName, existingCache) -> {
+      if (existingCache != null || !Objects.equals(currentVersions.get(storeName), versionNumber)) {
+        return existingCache;
+      }
+      return new VersionCache(storeName, isHybrid ? hybridTtlMs : 0);
+    });
+    if (versionCache == null) {
+      return response;
+    }
+    CachedResponse cachedResponse = new CachedResponse(response, System.currentTimeMillis());
+    versionCache.put(getKey(path), cachedResponse);
+    return cachedResponse;
+  }
+
+  /**
+   * Makes the given version the only version of the store which can be cached, and drops the cached responses of all
+   * the other versions.
+   */
+  public void invalidateOtherVersions(String storeName, int currentVersion) {
+    if (!cacheEnabledStores.contains(storeName)) {
+      return;
+    }
+    currentVersions.put(storeName, currentVersion);
+    String currentResourceName = Version.composeKafkaTopic(storeName, currentVersion);
+    Iterator<Map.Entry<String, VersionCache>> iterator = versionCaches.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, VersionCache> entry = iterator.next();
+      String resourceName = entry.getKey();
+      if (!resourceName.equals(currentResourceName)
+          && storeName.equals(Version.parseStoreFromKafkaTopicName(resourceName))) {
+        iterator.remove();
+        int evictedEntryCount = entry.getValue().clear();
+        stats.recordCacheEviction(storeName, evictedEntryCount);
+        LOGGER.info("Dropped {} cached single-get responses of {}", evictedEntryCount, resourceName);
+      }
+    }
+  }
+
+  private boolean isHybrid(String storeName, int versionNumber) {
+    Store store = storeRepository.getStore(storeName);
+    if (store == null) {
+      return true;
+    }
+    return store.getVersion(versionNumber)
+        .map(version -> version.getHybridStoreConfig() != null)
+        .orElse(store.isHybrid());
+  }
+
+  private static ByteBuffer getKey(VenicePath path) {
+    return path.getPartitionKey().getKeyBuffer();
+  }
+
+  private class VersionCache {
+    private final String storeName;
+    /**
+     * 0 means the responses never expire.
+     */
+    private final long ttlMs;
+    private final ByteBufHashMap<ByteBuffer, CachedResponse> responses;
+
+    VersionCache(String storeName, long ttlMs) {
+      this.storeName = storeName;
+      this.ttlMs = ttlMs;
+      this.responses = new ByteBufHashMap<>(CACHED_RESPONSE_SER_DES);
+      this.responses.setMaxAllocatedMemory(maxMemoryPerVersionBytes);
+      // Expired blocks are only released on writes, so the TTL of each entry is also checked by the lookups.
+      this.responses.setMaxBlockAge(ttlMs, TimeUnit.MILLISECONDS);
+    }
+
+    CachedResponse get(ByteBuffer key) {
+      CachedResponse cachedResponse = responses.get(key);
+      if (cachedResponse == null) {
+        // The key of an entry is removed asynchronously after its block got evicted.
+        if (responses.keySet().remove(key)) {
+          stats.recordCacheEviction(storeName, 1);
+        }
+        return null;
+      }
+      if (ttlMs > 0 && System.currentTimeMillis() - cachedResponse.cachedTimeMs >= ttlMs) {
+        if (responses.removeEntry(key)) {
+          stats.recordCacheEviction(storeName, 1);
+        }
+        return null;
+      }
+      return cachedResponse;
+    }
+
+    void put(ByteBuffer key, CachedResponse cachedResponse) {
+      responses.put(key, cachedResponse);
+    }
+
+    /**
+     * @return the number of dropped entries.
+     */
+    int clear() {
+      int size = responses.size();
+      responses.clear();
+      return size;
+    }
+  }
+
+  private static class CachedResponse implements PortableHttpResponse {
+    private final int statusCode;
+    private final String[] headerValues;
+    private final byte[] content;
+    private final long cachedTimeMs;
+
+    CachedResponse(PortableHttpResponse response, long cachedTimeMs) throws IOException {
+      this.statusCode = response.getStatusCode();
+      this.headerValues = new String[CACHED_HEADERS.length];
+      for (int i = 0; i < CACHED_HEADERS.length; i++) {
+        headerValues[i] = response.getFirstHeader(CACHED_HEADERS[i]);
+      }
+      ByteBuf responseContent = response.getContentInByteBuf();
+      try {
+        this.content = ByteBufUtil.getBytes(responseContent);
+      } finally {
+        responseContent.release();
+      }
+      this.cachedTimeMs = cachedTimeMs;
+    }
+
+    CachedResponse(int statusCode, String[] headerValues, byte[] content, long cachedTimeMs) {
+      this.statusCode = statusCode;
+      this.headerValues = headerValues;
+      this.content = content;
+      this.cachedTimeMs = cachedTimeMs;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content.length == 0 ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(content);
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return getFirstHeader(headerName) != null;
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      for (int i = 0; i < CACHED_HEADERS.length; i++) {
+        if (CACHED_HEADERS[i].equalsIgnoreCase(headerName)) {
+          return headerValues[i];
+        }
+      }
+      return null;
+    }
+  }
+
+  private static class CachedResponseSerDes implements ByteBufHashMap.SerDes<CachedResponse> {
+    @Override
+    public CachedResponse deserialize(@Nonnull ByteBufInputStream inputStream) {
+      try {
+        int statusCode = inputStream.readInt();
+        long cachedTimeMs = inputStream.readLong();
+        String[] headerValues = new String[CACHED_HEADERS.length];
+        for (int i = 0; i < CACHED_HEADERS.length; i++) {
+          headerValues[i] = inputStream.readBoolean() ? inputStream.readUTF() : null;
+        }
+        byte[] content = new byte[inputStream.readInt()];
+        inputStream.readFully(content);
+        return new CachedResponse(statusCode, headerValues, content, cachedTimeMs);
+      } catch (IOException e) {
+        LOGGER.warn("Failed to deserialize a cached single-get response", e);
+        return null;
+      }
+    }
+
+    @Override
+    public boolean serialize(@Nonnull ByteBufOutputStream outputStream, @Nonnull CachedResponse value) {
+      try {
+        outputStream.writeInt(value.statusCode);
+        outputStream.writeLong(value.cachedTimeMs);
+        for (String headerValue: value.headerValues) {
+          outputStream.writeBoolean(headerValue != null);
+          if (headerValue != null) {
+            outputStream.writeUTF(headerValue);
+          }
+        }
+        outputStream.writeInt(value.content.length);
+        outputStream.write(value.content);
+        return true;
+      } catch (IOException e) {
+        LOGGER.warn("Failed to serialize a single-get response", e);
+        return false;
+      }
+    }
+  }
+}
@@ -92,6 +92,8 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  private final Optional<SingleGetResponseCache> singleGetResponseCache;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -100,7 +102,8 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
       StorageNodeClient storageNodeClient,
       RouteHttpRequestStats routeHttpRequestStats,
       AggHostHealthStats aggHostHealthStats,
-      RouterStats<AggRouterHttpRequestStats> routerStats) {
+      RouterStats<AggRouterHttpRequestStats> routerStats,
+      Optional<SingleGetResponseCache> singleGetResponseCache) {
     this.routerConfig = config;
     this.routerUnhealthyPendingConnThresholdPerRoute = routerConfig.getRouterUnhealthyPendingConnThresholdPerRoute();
     this.isStatefulHealthCheckEnabled = routerConfig.isStatefulRouterHealthCheckEnabled();
@@ -115,6 +118,7 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.singleGetResponseCache = singleGetResponseCache;
   }
 
   @Override
@@ -154,12 +158,28 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    boolean isCacheEnabled = singleGetResponseCache.isPresent() && singleGetResponseCache.get().isEnabled(path);
+    if (isCacheEnabled) {
+      PortableHttpResponse cachedResponse = singleGetResponseCache.get().get(path);
+      if (cachedResponse != null) {
+        try {
+          responseFuture.setSuccess(Collections.singletonList(buildResponse(path, cachedResponse)));
+        } catch (Throwable e) {
+          responseFuture.setFailure(e);
+        }
+        return;
+      }
+    }
+
     // sendRequest completes future either immediately in the calling thread context or on the executor
     sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
       try {
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
           retryFuture.setSuccess(INTERNAL_SERVER_ERROR);
+          if (response != null) {
+            response.release();
+          }
           return;
         }
 
@@ -171,6 +191,10 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
+        if (isCacheEnabled) {
+          response = singleGetResponseCache.get().put(path, response);
+        }
+
         responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
       } catch (Throwable e) {
         responseFuture.setFailure(e);
@@ -245,7 +269,12 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
         storageNodeClient.query(
             storageNode,
             path,
-            responseFuture::complete,
+            response -> {
+              // The future might have been completed already, e.g. by the leaked future cleanup.
+              if (!responseFuture.complete(response)) {
+                response.release();
+              }
+            },
             responseFuture::completeExceptionally,
             () -> responseFuture.cancel(false),
             startTime);
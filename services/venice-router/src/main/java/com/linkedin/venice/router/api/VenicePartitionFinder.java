@@ -77,9 +77,19 @@ public class VenicePartitionFinder implements PartitionFinder<RouterKey> {
    * If miss, real search using store info happens in {@link #searchPartitioner}
    */
   private VenicePartitioner findPartitioner(String storeName, int versionNum) {
-    Map<Integer, VenicePartitioner> versionByPartitionerMap =
-        storeByVersionByPartitionerMap.computeIfAbsent(storeName, k -> new VeniceConcurrentHashMap<>());
-    return versionByPartitionerMap.computeIfAbsent(versionNum, k -> searchPartitioner(storeName, versionNum));
+    Map<Integer, VenicePartitioner> versionByPartitionerMap = storeByVersionByPartitionerMap.get(storeName);
+    if (versionByPartitionerMap == null) {
+      versionByPartitionerMap =
+          storeByVersionByPartitionerMap.computeIfAbsent(storeName, k -> new VeniceConcurrentHashMap<>());
+    }
+    /**
+     * Check the map before {@link Map#computeIfAbsent}, which would allocate the capturing lambda for every key.
+     */
+    VenicePartitioner partitioner = versionByPartitionerMap.get(versionNum);
+    if (partitioner == null) {
+      partitioner = versionByPartitionerMap.computeIfAbsent(versionNum, k -> searchPartitioner(storeName, versionNum));
+    }
+    return partitioner;
   }
 
   private VenicePartitioner searchPartitioner(String storeName, int versionNum) {
@@ -16,7 +16,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.exceptions.VeniceStoreIsMigratedException;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
-import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreMetadataSnapshot;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
@@ -159,7 +159,8 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
               routerConfig.isSmartLongTailRetryEnabled(),
               routerConfig.getSmartLongTailRetryAbortThresholdMs(),
               statsOptional,
-              routerConfig.getLongTailRetryMaxRouteForMultiKeyReq());
+              routerConfig.getLongTailRetryMaxRouteForMultiKeyReq(),
+              routerConfig.isMultiGetZeroCopyRequestSplitEnabled());
         } else if (resourceType.equals(TYPE_COMPUTE)) {
           // read compute request
           path = new VeniceComputePath(
@@ -213,11 +214,11 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
 
       boolean decompressOnClient = routerConfig.isDecompressOnClient();
       if (decompressOnClient) {
-        Store store = storeRepository.getStore(storeName);
-        if (store == null) {
+        StoreMetadataSnapshot snapshot = storeRepository.getStoreSnapshot(storeName);
+        if (snapshot == null) {
           throw new VeniceNoStoreException(storeName);
         }
-        decompressOnClient = store.getClientDecompressionEnabled();
+        decompressOnClient = snapshot.isClientDecompressionEnabled();
       }
 
       // TODO: maybe we should use the builder pattern here??
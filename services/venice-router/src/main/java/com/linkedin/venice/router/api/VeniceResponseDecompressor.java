@@ -10,6 +10,8 @@ import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
@@ -22,11 +24,14 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpRequest;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Iterator;
 import java.util.Optional;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
@@ -89,8 +94,7 @@ public class VeniceResponseDecompressor {
     stats.recordCompressedResponseSize(storeName, content.readableBytes());
     long startTimeInNs = System.nanoTime();
     ByteBuf copy = content.isReadOnly() ? content.copy() : content;
-    ByteBuf decompressedData =
-        Unpooled.wrappedBuffer(decompressRecord(compressionStrategy, copy.nioBuffer(), RequestType.SINGLE_GET));
+    ByteBuf decompressedData = decompressRecord(compressionStrategy, copy, RequestType.SINGLE_GET);
     final long decompressionTimeInNs = System.nanoTime() - startTimeInNs;
     stats.recordDecompressionTime(storeName, LatencyUtils.getLatencyInMS(startTimeInNs));
 
@@ -169,31 +173,34 @@ public class VeniceResponseDecompressor {
     return new Pair<>(decompressedContent, CompressionStrategy.NO_OP);
   }
 
-  private ByteBuffer decompressRecord(
+  /**
+   * Decompresses the record into a pooled {@link ByteBuf}, which is released once the response is written. Zstd
+   * payloads are decompressed straight from the storage node response, without any intermediate heap buffer.
+   */
+  private ByteBuf decompressRecord(
       CompressionStrategy compressionStrategy,
-      ByteBuffer compressedData,
+      ByteBuf compressedData,
       RequestType requestType) {
+    VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
+      ByteBuffer src = compressedData.nioBuffer();
+      if (!src.hasRemaining() || !(compressor instanceof ZstdWithDictCompressor)) {
+        return Unpooled.wrappedBuffer(compressor.decompress(src));
+      }
+      ZstdWithDictCompressor zstdCompressor = (ZstdWithDictCompressor) compressor;
+      int decompressedSize = zstdCompressor.getDecompressedSize(src);
+      ByteBuf output = src.isDirect()
+          ? PooledByteBufAllocator.DEFAULT.directBuffer(decompressedSize, decompressedSize)
+          : PooledByteBufAllocator.DEFAULT.heapBuffer(decompressedSize, decompressedSize);
+      try {
+        zstdCompressor.decompress(src, output.nioBuffer(0, decompressedSize));
+      } catch (Throwable e) {
+        output.release();
+        throw e;
       }
-      ByteBuffer decompressed = compressor.decompress(compressedData);
-      return decompressed;
+      return output.writerIndex(decompressedSize);
     } catch (IOException e) {
-      String errorMsg = String
-          .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
-      throw RouterExceptionAndTrackingUtils
-          .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+      throw newDecompressionException(e, requestType);
     }
   }
 
@@ -201,35 +208,71 @@ public class VeniceResponseDecompressor {
       CompressionStrategy compressionStrategy,
       ByteBuf data,
       RequestType requestType) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
+    /**
+     * Storage node responses can be pooled, direct or composite buffers, so the backing array is only decoded in place
+     * when there is one, starting from the readable bytes of the buffer.
+     */
+    final byte[] bytes;
+    final int offset;
+    if (data.hasArray()) {
+      bytes = data.array();
+      offset = data.arrayOffset() + data.readerIndex();
+    } else {
+      bytes = ByteBufUtil.getBytes(data);
+      offset = 0;
+    }
     Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
         OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
+            .createOptimizedBinaryDecoder(bytes, offset, data.readableBytes()));
+    VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
 
-    try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
+    /**
+     * Each record is decompressed right before it gets serialized, so the decompressed value can live in a buffer which
+     * is reused by the next record, instead of materializing all the decompressed values of the response at once.
+     */
+    Iterable<MultiGetResponseRecordV1> decompressedRecords = () -> {
+      Iterator<MultiGetResponseRecordV1> iterator = records.iterator();
+      return new Iterator<MultiGetResponseRecordV1>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
         }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
-      for (MultiGetResponseRecordV1 record: records) {
-        record.value = compressor.decompress(record.value);
+
+        @Override
+        public MultiGetResponseRecordV1 next() {
+          MultiGetResponseRecordV1 record = iterator.next();
+          try {
+            record.value = compressor.decompressIntoReusableBuffer(record.value);
+          } catch (IOException e) {
+            throw newDecompressionException(e, requestType);
+          }
+          return record;
+        }
+      };
+    };
+
+    return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(decompressedRecords, AvroSerializer.REUSE.get()));
+  }
+
+  private VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, RequestType requestType) {
+    if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      VeniceCompressor compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
+      if (compressor == null) {
+        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(requestType),
+            SERVICE_UNAVAILABLE,
+            "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
       }
-    } catch (IOException e) {
-      String errorMsg = String
-          .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
-      throw RouterExceptionAndTrackingUtils
-          .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+      return compressor;
     }
+    return compressorFactory.getCompressor(compressionStrategy);
+  }
 
-    return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(records, AvroSerializer.REUSE.get()));
+  private VeniceException newDecompressionException(IOException e, RequestType requestType) {
+    String errorMsg = String
+        .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
+    return RouterExceptionAndTrackingUtils
+        .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
   }
 }
@@ -14,6 +14,7 @@ import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreConfig;
+import com.linkedin.venice.meta.StoreMetadataSnapshot;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionStatus;
 import com.linkedin.venice.router.stats.StaleVersionReason;
@@ -21,6 +22,7 @@ import com.linkedin.venice.router.stats.StaleVersionStats;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -44,6 +46,7 @@ public class VeniceVersionFinder {
   private final ConcurrentMap<String, Integer> lastCurrentVersionMap = new ConcurrentHashMap<>();
   private final HelixBaseRoutingRepository routingDataRepository;
   private final CompressorFactory compressorFactory;
+  private final Optional<SingleGetResponseCache> singleGetResponseCache;
 
   public VeniceVersionFinder(
       ReadOnlyStoreRepository metadataRepository,
@@ -53,6 +56,26 @@ public class VeniceVersionFinder {
       Map<String, String> clusterToD2Map,
       String clusterName,
       CompressorFactory compressorFactory) {
+    this(
+        metadataRepository,
+        routingDataRepository,
+        stats,
+        storeConfigRepo,
+        clusterToD2Map,
+        clusterName,
+        compressorFactory,
+        Optional.empty());
+  }
+
+  public VeniceVersionFinder(
+      ReadOnlyStoreRepository metadataRepository,
+      HelixBaseRoutingRepository routingDataRepository,
+      StaleVersionStats stats,
+      HelixReadOnlyStoreConfigRepository storeConfigRepo,
+      Map<String, String> clusterToD2Map,
+      String clusterName,
+      CompressorFactory compressorFactory,
+      Optional<SingleGetResponseCache> singleGetResponseCache) {
     this.metadataRepository = metadataRepository;
     this.routingDataRepository = routingDataRepository;
     this.stats = stats;
@@ -60,22 +83,18 @@ public class VeniceVersionFinder {
     this.clusterToD2Map = clusterToD2Map;
     this.clusterName = clusterName;
     this.compressorFactory = compressorFactory;
+    this.singleGetResponseCache = singleGetResponseCache;
   }
 
   public int getVersion(String storeName, BasicFullHttpRequest request) throws VeniceException {
-    /**
-     * TODO: clone a store object is too expensive, and we could choose to expose the necessary methods
-     * in {@link ReadOnlyStoreRepository}, such as 'isEnableReads' and others.
-     */
-    Store store = metadataRepository.getStore(storeName);
-    if (store == null) {
+    StoreMetadataSnapshot snapshot = metadataRepository.getStoreSnapshot(storeName);
+    if (snapshot == null) {
       throw new VeniceNoStoreException(storeName);
     }
-    if (!store.isEnableReads()) {
+    if (!snapshot.isEnableReads()) {
       throw new StoreDisabledException(storeName, "read");
     }
-    Store storeToCheckMigration = store;
-    if (storeToCheckMigration.isMigrating() && request.headers().contains(HttpConstants.VENICE_ALLOW_REDIRECT)) {
+    if (snapshot.isMigrating() && request.headers().contains(HttpConstants.VENICE_ALLOW_REDIRECT)) {
       Optional<StoreConfig> config = storeConfigRepo.getStoreConfig(storeName);
       if (config.isPresent()) {
         String newCluster = config.get().getCluster();
@@ -86,16 +105,18 @@ public class VeniceVersionFinder {
       }
     }
 
-    int metadataCurrentVersion = store.getCurrentVersion();
-    if (!lastCurrentVersionMap.containsKey(storeName)) {
-      lastCurrentVersionMap.put(storeName, metadataCurrentVersion);
+    Store store = snapshot.getStore();
+    int metadataCurrentVersion = snapshot.getCurrentVersion();
+    Integer lastCurrentVersion = lastCurrentVersionMap.get(storeName);
+    if (lastCurrentVersion == null) {
+      lastCurrentVersion = metadataCurrentVersion;
+      lastCurrentVersionMap.put(storeName, lastCurrentVersion);
       if (metadataCurrentVersion == Store.NON_EXISTING_VERSION) {
         /** This should happen at most once per store, since we are adding the mapping to {@link lastCurrentVersionMap} */
         store = metadataRepository.refreshOneStore(storeName);
         metadataCurrentVersion = store.getCurrentVersion();
       }
     }
-    int lastCurrentVersion = lastCurrentVersionMap.get(storeName);
     if (lastCurrentVersion == metadataCurrentVersion) {
       stats.recordNotStale();
       return metadataCurrentVersion;
@@ -111,7 +132,7 @@ public class VeniceVersionFinder {
     boolean currentVersionPartitionResourcesReady = isPartitionResourcesReady(kafkaTopic);
     if (currentVersionPartitionResourcesReady && currentVersionDecompressorReady) {
       // all partitions are online and decompressor is initialized with dictionary
-      lastCurrentVersionMap.put(storeName, newCurrentVersion);
+      updateLastCurrentVersion(storeName, newCurrentVersion);
       stats.recordNotStale();
       return newCurrentVersion;
     }
@@ -157,12 +178,20 @@ public class VeniceVersionFinder {
       if (!EXCEPTION_FILTER.isRedundantException(message)) {
         LOGGER.warn(message);
       }
-      lastCurrentVersionMap.put(storeName, newCurrentVersion);
+      updateLastCurrentVersion(storeName, newCurrentVersion);
       stats.recordNotStale();
       return newCurrentVersion;
     }
   }
 
+  private void updateLastCurrentVersion(String storeName, int newCurrentVersion) {
+    Integer lastCurrentVersion = lastCurrentVersionMap.put(storeName, newCurrentVersion);
+    if (singleGetResponseCache.isPresent() && !Objects.equals(lastCurrentVersion, newCurrentVersion)) {
+      // The cached responses of the previous version must not be served anymore.
+      singleGetResponseCache.get().invalidateOtherVersions(storeName, newCurrentVersion);
+    }
+  }
+
   private boolean isPartitionResourcesReady(String kafkaTopic) {
     if (!routingDataRepository.containsKafkaTopic(kafkaTopic)) {
       return false;
@@ -21,11 +21,17 @@ import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nonnull;
+import org.apache.avro.io.BinaryData;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
@@ -36,6 +42,13 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
   protected static final ReadAvroProtocolDefinition EXPECTED_PROTOCOL =
       ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1;
 
+  /**
+   * Three zig-zag encoded ints: the key index, the key length and the partition id.
+   */
+  private static final int MAX_RECORD_HEADER_SIZE = 3 * 5;
+
+  private final boolean zeroCopyRequestSplitEnabled;
+
   public VeniceMultiGetPath(
       String resourceName,
       BasicFullHttpRequest request,
@@ -64,11 +77,34 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
       int smartLongTailRetryAbortThresholdMs,
       Optional<RouterStats<AggRouterHttpRequestStats>> stats,
       int longTailRetryMaxRouteForMultiKeyReq) throws RouterException {
+    this(
+        resourceName,
+        request,
+        partitionFinder,
+        maxKeyCount,
+        smartLongTailRetryEnabled,
+        smartLongTailRetryAbortThresholdMs,
+        stats,
+        longTailRetryMaxRouteForMultiKeyReq,
+        false);
+  }
+
+  public VeniceMultiGetPath(
+      String resourceName,
+      BasicFullHttpRequest request,
+      VenicePartitionFinder partitionFinder,
+      int maxKeyCount,
+      boolean smartLongTailRetryEnabled,
+      int smartLongTailRetryAbortThresholdMs,
+      Optional<RouterStats<AggRouterHttpRequestStats>> stats,
+      int longTailRetryMaxRouteForMultiKeyReq,
+      boolean zeroCopyRequestSplitEnabled) throws RouterException {
     super(
         resourceName,
         smartLongTailRetryEnabled,
         smartLongTailRetryAbortThresholdMs,
         longTailRetryMaxRouteForMultiKeyReq);
+    this.zeroCopyRequestSplitEnabled = zeroCopyRequestSplitEnabled;
 
     // Validate API version
     int apiVersion = Integer.parseInt(request.headers().get(HttpConstants.VENICE_API_VERSION));
@@ -90,6 +126,10 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
       request.content().readBytes(content);
     }
 
+    /**
+     * The deserialized keys are views of the byte range of each key within the content, which are kept as is in the
+     * {@link MultiGetRouterRequestKeyV1} records, so that the sub-requests can refer to them without any copy.
+     */
     keys = deserialize(content);
     initialize(resourceName, keys, partitionFinder, maxKeyCount, stats);
   }
@@ -100,7 +140,8 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
       Map<Integer, RouterKey> keyIdxToRouterKey,
       boolean smartLongTailRetryEnabled,
       int smartLongTailRetryAbortThresholdMs,
-      int longTailRetryMaxRouteForMultiKeyReq) {
+      int longTailRetryMaxRouteForMultiKeyReq,
+      boolean zeroCopyRequestSplitEnabled) {
     super(
         resourceName,
         smartLongTailRetryEnabled,
@@ -108,6 +149,7 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
         routerKeyMap,
         keyIdxToRouterKey,
         longTailRetryMaxRouteForMultiKeyReq);
+    this.zeroCopyRequestSplitEnabled = zeroCopyRequestSplitEnabled;
     setPartitionKeys(routerKeyMap.keySet());
   }
 
@@ -171,7 +213,8 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
         keyIdxToRouterKey,
         isSmartLongTailRetryEnabled(),
         getSmartLongTailRetryAbortThresholdMs(),
-        getLongTailRetryMaxRouteForMultiKeyReq());
+        getLongTailRetryMaxRouteForMultiKeyReq(),
+        zeroCopyRequestSplitEnabled);
     subPath.setupRetryRelatedInfo(this);
     return subPath;
   }
@@ -192,12 +235,49 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
 
   @Override
   protected byte[] serializeRouterRequest() {
+    if (zeroCopyRequestSplitEnabled) {
+      ByteBuf body = composeRouterRequestBody();
+      try {
+        return ByteBufUtil.getBytes(body);
+      } finally {
+        body.release();
+      }
+    }
     RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
         SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.getClassSchema());
 
     return serializer.serializeObjects(routerKeyMap.values(), AvroSerializer.REUSE.get());
   }
 
+  @Override
+  public ByteBuf getRequestBody() {
+    return zeroCopyRequestSplitEnabled ? composeRouterRequestBody() : super.getRequestBody();
+  }
+
+  /**
+   * Assembles the serialized {@link MultiGetRouterRequestKeyV1} records without re-serializing the keys: each record is
+   * made of its key index and key length, followed by a slice of the client request which contains the key bytes, and
+   * its partition id. The small headers between two consecutive key slices share a single array.
+   */
+  private ByteBuf composeRouterRequestBody() {
+    Collection<MultiGetRouterRequestKeyV1> routerRequestKeys = routerKeyMap.values();
+    byte[] headers = new byte[routerRequestKeys.size() * MAX_RECORD_HEADER_SIZE];
+    CompositeByteBuf body = Unpooled.compositeBuffer(2 * routerRequestKeys.size() + 1);
+    int headerStart = 0;
+    int position = 0;
+    for (MultiGetRouterRequestKeyV1 routerRequestKey: routerRequestKeys) {
+      ByteBuffer keyBytes = routerRequestKey.keyBytes;
+      position += BinaryData.encodeInt(routerRequestKey.keyIndex, headers, position);
+      position += BinaryData.encodeInt(keyBytes.remaining(), headers, position);
+      body.addComponent(true, Unpooled.wrappedBuffer(headers, headerStart, position - headerStart));
+      body.addComponent(true, Unpooled.wrappedBuffer(keyBytes));
+      headerStart = position;
+      position += BinaryData.encodeInt(routerRequestKey.partitionId, headers, position);
+    }
+    body.addComponent(true, Unpooled.wrappedBuffer(headers, headerStart, position - headerStart));
+    return body;
+  }
+
   @Override
   public void setRestRequestEntity(RestRequestBuilder builder) {
     builder.setEntity(serializeRouterRequest());
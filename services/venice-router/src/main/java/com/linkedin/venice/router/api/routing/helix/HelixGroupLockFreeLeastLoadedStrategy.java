@@ -0,0 +1,187 @@
+package com.linkedin.venice.router.api.routing.helix;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This strategy is also trying to distribute more load to Helix Groups with more capacity, the same way as
+ * {@link HelixGroupLeastLoadedStrategy}, but without any lock or any per-request state, so that it won't become a
+ * contention point under high QPS.
+ *
+ * The pending requests of each group are tracked by atomic counters, which are split into two epochs: the requests
+ * are always counted in the current epoch, and the completed requests are discounted from the previous epoch first.
+ * Every {@link #timeoutInMS}, the previous epoch is dropped and the current one becomes the previous one, so the
+ * counters of the requests which never invoked {@link #finishRequest} are reset after at most twice the timeout,
+ * instead of scheduling one timeout future per request.
+ *
+ * The trade-off is accuracy: a request which completes after its epoch got dropped will be discounted from the
+ * current epoch if possible, and the same request id could select more than one group without being detected.
+ */
+public class HelixGroupLockFreeLeastLoadedStrategy implements HelixGroupSelectionStrategy {
+  private static final Logger LOGGER = LogManager.getLogger(HelixGroupLockFreeLeastLoadedStrategy.class);
+
+  public static final int MAX_ALLOWED_GROUP = HelixGroupLeastLoadedStrategy.MAX_ALLOWED_GROUP;
+
+  private final long timeoutInMS;
+  private final Time time;
+  private final AtomicLong nextEpochTimeInMS;
+  private volatile Epochs epochs = new Epochs(new AtomicIntegerArray(MAX_ALLOWED_GROUP), null);
+  /**
+   * The group count could potentially change during the runtime since the storage node cluster can be expanded
+   * without bouncing Routers.
+   */
+  private volatile int currentGroupCount = 0;
+
+  public HelixGroupLockFreeLeastLoadedStrategy(long timeoutInMS) {
+    this(timeoutInMS, SystemTime.INSTANCE);
+  }
+
+  public HelixGroupLockFreeLeastLoadedStrategy(long timeoutInMS, Time time) {
+    this.timeoutInMS = timeoutInMS;
+    this.time = time;
+    this.nextEpochTimeInMS = new AtomicLong(time.getMilliseconds() + timeoutInMS);
+  }
+
+  @Override
+  public int selectGroup(long requestId, int groupCount) {
+    if (groupCount > MAX_ALLOWED_GROUP || groupCount <= 0) {
+      throw new VeniceException(
+          "The valid group num must fail into this range: [1, " + MAX_ALLOWED_GROUP + "], but received: " + groupCount);
+    }
+    this.currentGroupCount = groupCount;
+    maybeStartNewEpoch();
+    Epochs currentEpochs = this.epochs;
+    long smallestCounter = Long.MAX_VALUE;
+    int leastLoadedGroup = 0;
+    int startGroupId = (int) (requestId % groupCount);
+    for (int i = 0; i < groupCount; ++i) {
+      int currentGroup = (i + startGroupId) % groupCount;
+      int currentGroupCounter = currentEpochs.getPendingRequest(currentGroup);
+      if (currentGroupCounter < smallestCounter) {
+        smallestCounter = currentGroupCounter;
+        leastLoadedGroup = currentGroup;
+      }
+    }
+    currentEpochs.current.incrementAndGet(leastLoadedGroup);
+    return leastLoadedGroup;
+  }
+
+  @Override
+  public void finishRequest(long requestId, int groupId) {
+    if (groupId >= MAX_ALLOWED_GROUP || groupId < 0) {
+      throw new VeniceException(
+          "The allowed group id must fail into this range: [0, " + (MAX_ALLOWED_GROUP - 1) + "], but received: "
+              + groupId);
+    }
+    Epochs currentEpochs = this.epochs;
+    if (!decrementIfPositive(currentEpochs.previous, groupId)) {
+      /**
+       * If both counters are already 0, the request must have been counted in an epoch which got dropped already.
+       */
+      decrementIfPositive(currentEpochs.current, groupId);
+    }
+  }
+
+  private void maybeStartNewEpoch() {
+    long nextEpochTime = nextEpochTimeInMS.get();
+    long now = time.getMilliseconds();
+    if (now < nextEpochTime || !nextEpochTimeInMS.compareAndSet(nextEpochTime, now + timeoutInMS)) {
+      return;
+    }
+    Epochs oldEpochs = this.epochs;
+    this.epochs = new Epochs(new AtomicIntegerArray(MAX_ALLOWED_GROUP), oldEpochs.current);
+    if (oldEpochs.previous != null) {
+      int leakedRequestCount = 0;
+      for (int i = 0; i < MAX_ALLOWED_GROUP; ++i) {
+        leakedRequestCount += oldEpochs.previous.get(i);
+      }
+      if (leakedRequestCount > 0) {
+        LOGGER.info(
+            "{} requests have not finished within {}ms, and the group counters will be reset for them",
+            leakedRequestCount,
+            timeoutInMS);
+      }
+    }
+  }
+
+  private static boolean decrementIfPositive(AtomicIntegerArray counters, int groupId) {
+    if (counters == null) {
+      return false;
+    }
+    while (true) {
+      int counter = counters.get(groupId);
+      if (counter <= 0) {
+        return false;
+      }
+      if (counters.compareAndSet(groupId, counter, counter - 1)) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public int getMaxGroupPendingRequest() {
+    int groupCount = currentGroupCount;
+    if (groupCount == 0) {
+      return 0;
+    }
+    Epochs currentEpochs = this.epochs;
+    int maxPendingRequest = 0;
+    for (int i = 0; i < groupCount; ++i) {
+      maxPendingRequest = Math.max(maxPendingRequest, currentEpochs.getPendingRequest(i));
+    }
+    return maxPendingRequest;
+  }
+
+  @Override
+  public int getMinGroupPendingRequest() {
+    int groupCount = currentGroupCount;
+    if (groupCount == 0) {
+      return 0;
+    }
+    Epochs currentEpochs = this.epochs;
+    int minPendingRequest = Integer.MAX_VALUE;
+    for (int i = 0; i < groupCount; ++i) {
+      minPendingRequest = Math.min(minPendingRequest, currentEpochs.getPendingRequest(i));
+    }
+    return minPendingRequest;
+  }
+
+  @Override
+  public int getAvgGroupPendingRequest() {
+    int groupCount = currentGroupCount;
+    if (groupCount == 0) {
+      return 0;
+    }
+    Epochs currentEpochs = this.epochs;
+    int totalPendingRequest = 0;
+    for (int i = 0; i < groupCount; ++i) {
+      totalPendingRequest += currentEpochs.getPendingRequest(i);
+    }
+    return totalPendingRequest / groupCount;
+  }
+
+  /**
+   * The counters of the current and the previous epochs, which are swapped together, so that the readers always see
+   * a consistent pair.
+   */
+  private static class Epochs {
+    private final AtomicIntegerArray current;
+    private final AtomicIntegerArray previous;
+
+    Epochs(AtomicIntegerArray current, AtomicIntegerArray previous) {
+      this.current = current;
+      this.previous = previous;
+    }
+
+    int getPendingRequest(int groupId) {
+      return current.get(groupId) + (previous == null ? 0 : previous.get(groupId));
+    }
+  }
+}
@@ -8,7 +8,11 @@ public enum HelixGroupSelectionStrategyEnum {
   /**
    * This strategy will try to distribute the load to each group according to the capacity of each group.
    */
-  LEAST_LOADED(HelixGroupLeastLoadedStrategy.class);
+  LEAST_LOADED(HelixGroupLeastLoadedStrategy.class),
+  /**
+   * Same as {@link #LEAST_LOADED}, but lock-free, by sacrificing some accuracy of the group counters.
+   */
+  LOCK_FREE_LEAST_LOADED(HelixGroupLockFreeLeastLoadedStrategy.class);
 
   private final Class<? extends HelixGroupSelectionStrategy> strategyClass;
 
@@ -35,6 +35,8 @@ public class HelixGroupSelector implements HelixGroupSelectionStrategy {
     Class<? extends HelixGroupSelectionStrategy> strategyClass = strategyEnum.getStrategyClass();
     if (strategyClass.equals(HelixGroupLeastLoadedStrategy.class)) {
       this.selectionStrategy = new HelixGroupLeastLoadedStrategy(timeoutProcessor, HELIX_GROUP_COUNTER_TIMEOUT_MS);
+    } else if (strategyClass.equals(HelixGroupLockFreeLeastLoadedStrategy.class)) {
+      this.selectionStrategy = new HelixGroupLockFreeLeastLoadedStrategy(HELIX_GROUP_COUNTER_TIMEOUT_MS);
     } else {
       try {
         this.selectionStrategy = strategyClass.newInstance();
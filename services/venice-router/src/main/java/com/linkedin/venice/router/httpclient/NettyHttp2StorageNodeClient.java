@@ -0,0 +1,464 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.base.concurrency.RunOnce;
+import com.linkedin.alpini.base.monitoring.NullCallTracker;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.misc.Http2Utils;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPoolFactory;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ResolveAllBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.DefaultHttp2ResetFrame;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} built on top of the alpini {@link Http2AwareChannelPoolFactory} and
+ * {@link ChannelPoolManagerImpl}, which runs on the Netty event loops of the router itself instead of a dedicated pool
+ * of IO threads, and multiplexes the requests to each storage node over a few HTTP/2 connections.
+ *
+ * The content of the responses is kept in the pooled {@link ByteBuf}s it was received in, and handed over to the
+ * response aggregation without any copy. Its ownership is transferred to the caller of
+ * {@link PortableHttpResponse#getContentInByteBuf()}, or it is released by {@link PortableHttpResponse#release()} if
+ * the response is discarded.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+
+  private static final String QUEUE_NAME = "storage_node";
+  private static final long HEALTH_CHECK_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private static final ChannelHealthChecker HEALTH_CHECKER =
+      channel -> channel.eventLoop().newSucceededFuture(channel.isActive());
+
+  private final ChannelPoolManager channelPoolManager;
+  private final long requestTimeoutMs;
+  /**
+   * Storage node url -> "host:port" of the SSL endpoint, which is the key of the channel pool of the storage node.
+   */
+  private final Map<String, String> hostAndPortMap = new VeniceConcurrentHashMap<>();
+
+  public NettyHttp2StorageNodeClient(
+      Optional<SSLFactory> sslFactory,
+      VeniceRouterConfig routerConfig,
+      MultithreadEventLoopGroup eventLoopGroup,
+      Class<? extends SocketChannel> socketChannelClass) {
+    /**
+     * HTTP/2 is negotiated through ALPN, so the storage nodes must be reached over SSL.
+     */
+    SSLFactory factory = sslFactory.orElseThrow(
+        () -> new VeniceException("Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()));
+    SslContext sslContext = new JdkSslContext(
+        factory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2,
+            ApplicationProtocolNames.HTTP_1_1),
+        ClientAuth.NONE);
+
+    Bootstrap bootstrap = new ResolveAllBootstrap(NullCallTracker.INSTANCE, NullCallTracker.INSTANCE)
+        .channel(socketChannelClass)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout())
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(new HttpClientResponseHandler());
+          }
+        })
+        .attr(Http2AwareChannelPoolFactory.SSL_CONTEXT, sslContext);
+
+    int maxConnectionsPerHost = routerConfig.getNettyHttp2ClientMaxConnectionsPerHost();
+    Http2AwareChannelPoolFactory channelPoolFactory = new Http2AwareChannelPoolFactory(
+        bootstrap,
+        routerConfig.getConnectionTimeout(),
+        maxConnectionsPerHost,
+        routerConfig.getNettyHttp2ClientMaxPendingAcquiresPerHost(),
+        true,
+        HEALTH_CHECK_INTERVAL_MS,
+        HEALTH_CHECKER,
+        NullCallTracker.INSTANCE);
+    channelPoolFactory.setUsingMultiplexHandler(true);
+    channelPoolFactory.setReuseChannels(true);
+    /**
+     * Fall back to a bigger pool of HTTP/1.1 connections if a storage node doesn't support HTTP/2.
+     */
+    channelPoolFactory.setHttp1MaxConnections(routerConfig::getMaxOutgoingConnPerRoute);
+    channelPoolFactory.setHttp1MinConnections(() -> maxConnectionsPerHost);
+
+    this.channelPoolManager = new ChannelPoolManagerImpl(
+        eventLoopGroup,
+        channelPoolFactory,
+        new BasicDnsResolver(),
+        routerConfig.getNettyHttp2ClientMaxPendingAcquiresPerHost());
+    this.requestTimeoutMs = routerConfig.getSocketTimeout();
+    LOGGER.info(
+        "Constructing NettyHttp2StorageNodeClient with max connections per host: {}, socket channel: {}",
+        maxConnectionsPerHost,
+        socketChannelClass.getSimpleName());
+  }
+
+  /**
+   * Only used by tests, to send the requests over the channels of the given pool manager.
+   */
+  NettyHttp2StorageNodeClient(ChannelPoolManager channelPoolManager, long requestTimeoutMs) {
+    this.channelPoolManager = channelPoolManager;
+    this.requestTimeoutMs = requestTimeoutMs;
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  @Override
+  public void close() {
+    channelPoolManager.closeAll().awaitUninterruptibly();
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack,
+      long queryStartTimeInNS) throws RouterException {
+    String hostAndPort = getHostAndPort(host.getHostUrl(true));
+    FullHttpRequest request =
+        buildRequest(path.getHttpMethod(), hostAndPort, "/" + path.getLocation(), path.getRequestBody());
+    path.setupVeniceHeaders((k, v) -> request.headers().set(k, v));
+    send(hostAndPort, request, requestTimeoutMs, completedCallBack::accept, failedCallBack, cancelledCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    String hostAndPort = getHostAndPort(request.getUrl());
+    FullHttpRequest httpRequest = buildRequest(
+        HttpMethod.valueOf(request.getMethod()),
+        hostAndPort,
+        "/" + request.getQuery(),
+        Unpooled.EMPTY_BUFFER);
+    send(
+        hostAndPort,
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : requestTimeoutMs,
+        response -> responseFuture.complete(response.copyToHeap()),
+        responseFuture::completeExceptionally,
+        () -> responseFuture.cancel(false));
+  }
+
+  private String getHostAndPort(String hostUrl) {
+    return hostAndPortMap.computeIfAbsent(hostUrl, url -> {
+      URI uri = URI.create(url);
+      return uri.getHost() + ":" + uri.getPort();
+    });
+  }
+
+  private static FullHttpRequest buildRequest(HttpMethod method, String hostAndPort, String uri, ByteBuf body) {
+    FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, method, uri, body);
+    request.headers().set(HttpHeaderNames.HOST, hostAndPort).set(HttpHeaderNames.CONTENT_LENGTH, body.readableBytes());
+    return request;
+  }
+
+  private void send(
+      String hostAndPort,
+      FullHttpRequest request,
+      long timeoutMs,
+      Consumer<NettyHttp2Response> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) {
+    channelPoolManager.acquire(hostAndPort, QUEUE_NAME, QOS.NORMAL).addListener((Future<Channel> channelFuture) -> {
+      if (!channelFuture.isSuccess()) {
+        request.release();
+        if (channelFuture.isCancelled()) {
+          cancelledCallBack.getAsBoolean();
+        } else {
+          failedCallBack.accept(channelFuture.cause());
+        }
+        return;
+      }
+      Channel channel = channelFuture.getNow();
+      ResponseConsumer responseConsumer =
+          new ResponseConsumer(channel, completedCallBack, failedCallBack, cancelledCallBack);
+      responseConsumer.scheduleTimeout(timeoutMs);
+      channel.writeAndFlush(new FullHttpRequestResponseConsumer(request, responseConsumer))
+          .addListener((ChannelFuture writeFuture) -> {
+            if (!writeFuture.isSuccess()) {
+              responseConsumer.accept(writeFuture.cause());
+            }
+          });
+      /**
+       * Without the multiplex handler, the parent channel is returned and a new stream is created for each request,
+       * so it can be released right away.
+       */
+      if (Http2Utils.isHttp2ParentChannelPipeline(channel.pipeline())) {
+        responseConsumer.releaseChannel.run();
+      }
+    });
+  }
+
+  /**
+   * Collects the response of a single request, on the event loop of its channel.
+   */
+  private class ResponseConsumer implements Consumer<Object> {
+    private final Channel channel;
+    private final Runnable releaseChannel;
+    private final Consumer<NettyHttp2Response> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private final BooleanSupplier cancelledCallBack;
+    private HttpResponse response;
+    private ByteBuf content;
+    private CompositeByteBuf compositeContent;
+    private ScheduledFuture<?> timeoutFuture;
+    private boolean done;
+
+    ResponseConsumer(
+        Channel channel,
+        Consumer<NettyHttp2Response> completedCallBack,
+        Consumer<Throwable> failedCallBack,
+        BooleanSupplier cancelledCallBack) {
+      this.channel = channel;
+      this.releaseChannel = RunOnce.make(channel, channelPoolManager::release);
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+      this.cancelledCallBack = cancelledCallBack;
+    }
+
+    void scheduleTimeout(long timeoutMs) {
+      timeoutFuture = channel.eventLoop()
+          .schedule(
+              () -> accept(new TimeoutException("Request to " + channel.remoteAddress() + " timed out")),
+              timeoutMs,
+              TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void accept(Object o) {
+      if (done) {
+        // The message is released by HttpClientResponseHandler.
+        return;
+      }
+      if (o instanceof Throwable) {
+        onFailure((Throwable) o);
+        return;
+      }
+      if (o instanceof HttpResponse) {
+        response = (HttpResponse) o;
+      }
+      if (o instanceof HttpContent) {
+        addContent(((HttpContent) o).content());
+      }
+      if (o instanceof LastHttpContent) {
+        onComplete();
+      }
+    }
+
+    /**
+     * Each chunk is retained as is, and chained in a composite buffer if there is more than one.
+     */
+    private void addContent(ByteBuf chunk) {
+      if (!chunk.isReadable()) {
+        return;
+      }
+      if (content == null) {
+        content = chunk.retain();
+        return;
+      }
+      if (compositeContent == null) {
+        compositeContent = content.alloc().compositeBuffer(Integer.MAX_VALUE).addComponent(true, content);
+        content = compositeContent;
+      }
+      compositeContent.addComponent(true, chunk.retain());
+    }
+
+    private void onComplete() {
+      done = true;
+      timeoutFuture.cancel(false);
+      if (HttpUtil.isKeepAlive(response)) {
+        releaseChannel.run();
+      } else {
+        channel.close().addListener(closeFuture -> releaseChannel.run());
+      }
+      NettyHttp2Response nettyResponse =
+          new NettyHttp2Response(response, content == null ? Unpooled.EMPTY_BUFFER : content);
+      content = null;
+      completedCallBack.accept(nettyResponse);
+    }
+
+    private void onFailure(Throwable cause) {
+      done = true;
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+      if (content != null) {
+        content.release();
+        content = null;
+      }
+      /**
+       * The connection can't be reused after a failure, unless it is a HTTP/2 connection where only the stream fails.
+       * The stream is reset explicitly, so the storage node stops working on a request which timed out.
+       */
+      if (channel instanceof Http2StreamChannel) {
+        channel.writeAndFlush(new DefaultHttp2ResetFrame(Http2Error.CANCEL))
+            .addListener(resetFuture -> channel.close().addListener(closeFuture -> releaseChannel.run()));
+      } else if (Http2Utils.isHttp2ParentChannelPipeline(channel.pipeline())) {
+        releaseChannel.run();
+      } else {
+        channel.close().addListener(closeFuture -> releaseChannel.run());
+      }
+      if (cause instanceof CancellationException) {
+        cancelledCallBack.getAsBoolean();
+      } else {
+        failedCallBack.accept(cause);
+      }
+    }
+  }
+
+  private static final class FullHttpRequestResponseConsumer extends DefaultFullHttpRequest
+      implements HttpClientResponseHandler.ResponseConsumer {
+    private final Consumer<Object> responseConsumer;
+
+    FullHttpRequestResponseConsumer(FullHttpRequest request, Consumer<Object> responseConsumer) {
+      super(
+          request.protocolVersion(),
+          request.method(),
+          request.uri(),
+          request.content(),
+          request.headers(),
+          request.trailingHeaders());
+      this.responseConsumer = responseConsumer;
+    }
+
+    @Override
+    public Consumer<Object> responseConsumer() {
+      return responseConsumer;
+    }
+
+    @Override
+    public FullHttpRequest copy() {
+      return new FullHttpRequestResponseConsumer(super.copy(), responseConsumer());
+    }
+
+    @Override
+    public FullHttpRequest duplicate() {
+      return new FullHttpRequestResponseConsumer(super.duplicate(), responseConsumer());
+    }
+
+    @Override
+    public FullHttpRequest retainedDuplicate() {
+      return new FullHttpRequestResponseConsumer(super.retainedDuplicate(), responseConsumer());
+    }
+
+    @Override
+    public FullHttpRequest replace(ByteBuf content) {
+      return new FullHttpRequestResponseConsumer(super.replace(content), responseConsumer());
+    }
+  }
+
+  private static final class NettyHttp2Response implements PortableHttpResponse {
+    private final HttpResponse response;
+    private ByteBuf content;
+
+    NettyHttp2Response(HttpResponse response, ByteBuf content) {
+      this.response = response;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.status().code();
+    }
+
+    /**
+     * The content can only be read once, since its ownership is transferred to the caller.
+     */
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      ByteBuf result = content;
+      content = Unpooled.EMPTY_BUFFER;
+      return result;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.headers().contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.headers().get(headerName);
+    }
+
+    @Override
+    public void release() {
+      content.release();
+      content = Unpooled.EMPTY_BUFFER;
+    }
+
+    /**
+     * @return a copy of this response whose content is on the heap, for the callers which don't release it.
+     */
+    NettyHttp2Response copyToHeap() {
+      try {
+        return new NettyHttp2Response(response, Unpooled.wrappedBuffer(ByteBufUtil.getBytes(content)));
+      } finally {
+        release();
+      }
+    }
+  }
+}
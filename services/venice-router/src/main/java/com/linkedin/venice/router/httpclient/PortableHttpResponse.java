@@ -34,4 +34,12 @@ public interface PortableHttpResponse {
    * @return the value of the first header for header name specified in the parameters
    */
   String getFirstHeader(String headerName);
+
+  /**
+   * Releases the content of the response if it is reference counted and hasn't been retrieved by
+   * {@link #getContentInByteBuf()}, which transfers its ownership to the caller. It should be called when the response
+   * is discarded.
+   */
+  default void release() {
+  }
 }
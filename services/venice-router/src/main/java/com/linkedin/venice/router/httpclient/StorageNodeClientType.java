@@ -2,5 +2,9 @@ package com.linkedin.venice.router.httpclient;
 
 public enum StorageNodeClientType {
   @Deprecated
-  APACHE_HTTP_ASYNC_CLIENT, HTTP_CLIENT_5_CLIENT
+  APACHE_HTTP_ASYNC_CLIENT, HTTP_CLIENT_5_CLIENT,
+  /**
+   * {@link NettyHttp2StorageNodeClient}, which shares the Netty event loops of the router.
+   */
+  NETTY_HTTP2_CLIENT
 }
@@ -190,6 +190,21 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordMetaStoreShadowRead();
   }
 
+  public void recordCacheHit(String storeName) {
+    totalStats.recordCacheHit();
+    getStoreStats(storeName).recordCacheHit();
+  }
+
+  public void recordCacheMiss(String storeName) {
+    totalStats.recordCacheMiss();
+    getStoreStats(storeName).recordCacheMiss();
+  }
+
+  public void recordCacheEviction(String storeName, int evictedEntryCount) {
+    totalStats.recordCacheEviction(evictedEntryCount);
+    getStoreStats(storeName).recordCacheEviction(evictedEntryCount);
+  }
+
   private class AggScatterGatherStats extends ScatterGatherStats {
     private long getAggStats(Function<ScatterGatherStats, Long> func) {
       long total = 0;
@@ -62,6 +62,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor errorRetryAttemptTriggeredByPendingRequestCheckSensor;
   private final Sensor retryDelaySensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor cacheHitRequestSensor;
+  private final Sensor cacheMissRequestSensor;
+  private final Sensor cacheEvictionSensor;
 
   // QPS metrics
   public RouterHttpRequestStats(
@@ -177,6 +180,9 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor("error_retry_attempt_triggered_by_pending_request_check", new OccurrenceRate());
     retryDelaySensor = registerSensor("retry_delay", new Avg(), new Max());
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+    cacheHitRequestSensor = registerSensor("cache_hit_request", new Count(), new OccurrenceRate());
+    cacheMissRequestSensor = registerSensor("cache_miss_request", new Count(), new OccurrenceRate());
+    cacheEvictionSensor = registerSensor("cache_eviction_count", new Total(), new Rate());
   }
 
   /**
@@ -354,4 +360,16 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   public void recordMetaStoreShadowRead() {
     metaStoreShadowReadSensor.record();
   }
+
+  public void recordCacheHit() {
+    cacheHitRequestSensor.record();
+  }
+
+  public void recordCacheMiss() {
+    cacheMissRequestSensor.record();
+  }
+
+  public void recordCacheEviction(int evictedEntryCount) {
+    cacheEvictionSensor.record(evictedEntryCount);
+  }
 }
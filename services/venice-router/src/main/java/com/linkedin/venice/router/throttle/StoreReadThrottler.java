@@ -1,12 +1,14 @@
 package com.linkedin.venice.router.throttle;
 
+import com.linkedin.venice.exceptions.QuotaExceededException;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.Partition;
 import com.linkedin.venice.meta.PartitionAssignment;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
-import com.linkedin.venice.throttle.EventThrottler;
-import com.linkedin.venice.throttle.EventThrottlingStrategy;
+import com.linkedin.venice.throttle.LeasingTokenBucket;
+import com.linkedin.venice.throttle.TokenBucket;
+import com.linkedin.venice.utils.Time;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -14,6 +16,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -22,13 +25,21 @@ import org.apache.logging.log4j.Logger;
  * Throttler used to limit how many read request could hit this store and each storage node which has been assigned
  * with
  * this store's  replicas.
+ *
+ * The quotas are enforced by lock-free {@link TokenBucket}s holding the quota of one time window, so the Netty I/O
+ * threads don't contend on a lock for every request. The store bucket is checked by all the requests of the store,
+ * so it is a {@link LeasingTokenBucket} when its quota is large enough.
  */
 public class StoreReadThrottler {
   private static final Logger LOGGER = LogManager.getLogger(StoreReadThrottler.class);
+  /**
+   * The leases of the store bucket are this portion of the quota of a time window.
+   */
+  private static final double STORE_BUCKET_LEASE_PORTION = 0.001;
+  private static final String UNIT_POSTFIX = " RCU/sec";
   private final String storeName;
   private final long localQuota;
-  private final EventThrottlingStrategy throttlingStrategy;
-  private final EventThrottler storeThrottler;
+  private final ReadQuota storeThrottler;
   private final double perStorageNodeReadQuotaBuffer;
   private final long storageNodeQuotaCheckTimeWindow;
 
@@ -39,23 +50,20 @@ public class StoreReadThrottler {
    * <p>
    * This class is thread safe. Only one thread could access to the method to update storage nodes' throttlers.
    */
-  private ConcurrentMap<String, EventThrottler> storageNodesThrottlers;
+  private ConcurrentMap<String, ReadQuota> storageNodesThrottlers;
 
   public StoreReadThrottler(
       String storeName,
       long localQuota,
-      EventThrottlingStrategy throttlingStrategy,
       Optional<PartitionAssignment> partitionAssignment,
       double perStorageNodeReadQuotaBuffer,
       long storeQuotaCheckTimeWindow,
       long storageNodeQuotaCheckTimeWindow) {
     this.storeName = storeName;
     this.localQuota = localQuota;
-    this.throttlingStrategy = throttlingStrategy;
     this.perStorageNodeReadQuotaBuffer = perStorageNodeReadQuotaBuffer;
     storageNodesThrottlers = new ConcurrentHashMap<>();
-    storeThrottler =
-        new EventThrottler(localQuota, storeQuotaCheckTimeWindow, storeName + "-throttler", true, throttlingStrategy);
+    storeThrottler = new ReadQuota(storeName + "-throttler", localQuota, storeQuotaCheckTimeWindow, true);
     this.storageNodeQuotaCheckTimeWindow = storageNodeQuotaCheckTimeWindow;
     if (partitionAssignment.isPresent()) {
       updateStorageNodesThrottlers(partitionAssignment.get());
@@ -64,14 +72,14 @@ public class StoreReadThrottler {
 
   public void mayThrottleRead(double readCapacityUnit, Optional<String> storageNodeId) {
     if (storageNodeId.isPresent()) {
-      EventThrottler storageNodeThrottler = storageNodesThrottlers.get(storageNodeId.get());
+      ReadQuota storageNodeThrottler = storageNodesThrottlers.get(storageNodeId.get());
       // TODO While updating storage nodes' throttlers, there might be a very short period that we haven't create a
       // TODO throttler for the given storage node. Right now just accept this request, could add a default quota later.
       if (storageNodeThrottler != null) {
-        storageNodeThrottler.maybeThrottle(readCapacityUnit);
+        storageNodeThrottler.mayThrottle(readCapacityUnit);
       }
     }
-    storeThrottler.maybeThrottle(readCapacityUnit);
+    storeThrottler.mayThrottle(readCapacityUnit);
   }
 
   public synchronized void updateStorageNodesThrottlers(PartitionAssignment partitionAssignment) {
@@ -102,12 +110,11 @@ public class StoreReadThrottler {
         .forEach(entry -> {
           storageNodesThrottlers.put(
               entry.getKey(),
-              new EventThrottler(
+              new ReadQuota(
+                  storeName + "-" + entry.getKey() + "-throttler",
                   (long) (entry.getValue() * (1 + perStorageNodeReadQuotaBuffer)),
                   storageNodeQuotaCheckTimeWindow,
-                  storeName + "-" + entry.getKey() + "-throttler",
-                  true,
-                  throttlingStrategy));
+                  false));
           addedOrUpdated[0]++;
         });
     int deleted = 0;
@@ -148,11 +155,56 @@ public class StoreReadThrottler {
   }
 
   protected long getQuotaForStorageNode(String storageNodeId) {
-    EventThrottler storageNodeThrottler = storageNodesThrottlers.get(storageNodeId);
+    ReadQuota storageNodeThrottler = storageNodesThrottlers.get(storageNodeId);
     if (storageNodeThrottler != null) {
       return storageNodeThrottler.getMaxRatePerSecond();
     } else {
       return -1;
     }
   }
+
+  /**
+   * Rejects the reads exceeding the quota of a time window, by throwing a {@link QuotaExceededException}.
+   */
+  private static class ReadQuota {
+    private final String throttlerName;
+    private final long maxRatePerSecond;
+    /**
+     * Null if the quota is too small to allow any read within a time window.
+     */
+    private final TokenBucket bucket;
+
+    ReadQuota(String throttlerName, long maxRatePerSecond, long timeWindowMs, boolean leasing) {
+      this.throttlerName = throttlerName;
+      this.maxRatePerSecond = maxRatePerSecond;
+      long tokensPerWindow = maxRatePerSecond * timeWindowMs / Time.MS_PER_SECOND;
+      long leaseSize = leasing ? (long) (tokensPerWindow * STORE_BUCKET_LEASE_PORTION) : 0;
+      if (tokensPerWindow <= 0) {
+        this.bucket = null;
+      } else if (leaseSize > 1) {
+        this.bucket = new LeasingTokenBucket(
+            tokensPerWindow,
+            tokensPerWindow,
+            timeWindowMs,
+            TimeUnit.MILLISECONDS,
+            leaseSize);
+      } else {
+        this.bucket = new TokenBucket(tokensPerWindow, tokensPerWindow, timeWindowMs, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    void mayThrottle(double readCapacityUnit) {
+      long tokens = (long) Math.ceil(readCapacityUnit);
+      if (tokens <= 0) {
+        return;
+      }
+      if (bucket == null || !bucket.tryConsume(tokens)) {
+        throw new QuotaExceededException(throttlerName, tokens + " RCU", maxRatePerSecond + UNIT_POSTFIX);
+      }
+    }
+
+    long getMaxRatePerSecond() {
+      return maxRatePerSecond;
+    }
+  }
 }
@@ -0,0 +1,189 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class TestSingleGetResponseCache {
+  private static final String STORE_NAME = "test_store";
+  private static final String HYBRID_STORE_NAME = "test_hybrid_store";
+  private static final long TTL_MS = 100;
+
+  private AggRouterHttpRequestStats stats;
+  private SingleGetResponseCache cache;
+
+  @BeforeMethod
+  public void setUp() {
+    cache = createCache(TTL_MS);
+    cache.invalidateOtherVersions(STORE_NAME, 1);
+    cache.invalidateOtherVersions(HYBRID_STORE_NAME, 1);
+  }
+
+  private SingleGetResponseCache createCache(long ttlMs) {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(Arrays.asList(STORE_NAME, HYBRID_STORE_NAME)).when(config).getSingleGetCacheStoreList();
+    doReturn(1024 * 1024L).when(config).getSingleGetCacheMaxMemoryPerVersionBytes();
+    doReturn(ttlMs).when(config).getCacheTtlMs();
+
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    doReturn(Optional.empty()).when(store).getVersion(anyInt());
+    doReturn(false).when(store).isHybrid();
+    doReturn(store).when(storeRepository).getStore(STORE_NAME);
+    Store hybridStore = mock(Store.class);
+    doReturn(Optional.empty()).when(hybridStore).getVersion(anyInt());
+    doReturn(true).when(hybridStore).isHybrid();
+    doReturn(hybridStore).when(storeRepository).getStore(HYBRID_STORE_NAME);
+
+    stats = mock(AggRouterHttpRequestStats.class);
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(RequestType.SINGLE_GET);
+    return new SingleGetResponseCache(config, storeRepository, routerStats);
+  }
+
+  @Test
+  public void testIsEnabled() {
+    Assert.assertTrue(cache.isEnabled(mockPath(STORE_NAME, 1, "key")));
+    Assert.assertFalse(cache.isEnabled(mockPath("another_store", 1, "key")));
+    VenicePath multiGetPath = mockPath(STORE_NAME, 1, "key");
+    doReturn(RequestType.MULTI_GET).when(multiGetPath).getRequestType();
+    Assert.assertFalse(cache.isEnabled(multiGetPath));
+  }
+
+  @Test
+  public void testCacheHitAndMiss() throws IOException {
+    VenicePath path = mockPath(STORE_NAME, 1, "key");
+    Assert.assertNull(cache.get(path));
+    verify(stats).recordCacheMiss(STORE_NAME);
+
+    PortableHttpResponse response = cache.put(path, mockResponse(HttpStatus.SC_OK, "value"));
+    assertResponse(response, HttpStatus.SC_OK, "value");
+    assertResponse(cache.get(mockPath(STORE_NAME, 1, "key")), HttpStatus.SC_OK, "value");
+    verify(stats).recordCacheHit(STORE_NAME);
+
+    // The responses of a version are never served for another version.
+    Assert.assertNull(cache.get(mockPath(STORE_NAME, 2, "key")));
+    Assert.assertNull(cache.get(mockPath(STORE_NAME, 1, "another_key")));
+    verify(stats, times(3)).recordCacheMiss(STORE_NAME);
+
+    // Missing keys are cached as well.
+    cache.put(mockPath(STORE_NAME, 1, "missing_key"), mockResponse(HttpStatus.SC_NOT_FOUND, ""));
+    assertResponse(cache.get(mockPath(STORE_NAME, 1, "missing_key")), HttpStatus.SC_NOT_FOUND, "");
+  }
+
+  @Test
+  public void testErrorResponseIsNotCached() throws IOException {
+    VenicePath path = mockPath(STORE_NAME, 1, "key");
+    PortableHttpResponse errorResponse = mockResponse(HttpStatus.SC_INTERNAL_SERVER_ERROR, "error");
+    Assert.assertSame(cache.put(path, errorResponse), errorResponse);
+    Assert.assertNull(cache.get(path));
+  }
+
+  @Test
+  public void testHybridStoreResponseExpires() throws IOException {
+    cache.put(mockPath(HYBRID_STORE_NAME, 1, "key"), mockResponse(HttpStatus.SC_OK, "value"));
+    cache.put(mockPath(STORE_NAME, 1, "key"), mockResponse(HttpStatus.SC_OK, "value"));
+    assertResponse(cache.get(mockPath(HYBRID_STORE_NAME, 1, "key")), HttpStatus.SC_OK, "value");
+
+    Utils.sleep(2 * TTL_MS);
+    Assert.assertNull(cache.get(mockPath(HYBRID_STORE_NAME, 1, "key")));
+    verify(stats).recordCacheEviction(HYBRID_STORE_NAME, 1);
+    // The responses of batch-only stores only change with the version.
+    assertResponse(cache.get(mockPath(STORE_NAME, 1, "key")), HttpStatus.SC_OK, "value");
+  }
+
+  @Test
+  public void testHybridStoreResponseIsNotCachedWithoutTtl() throws IOException {
+    cache = createCache(0);
+    cache.invalidateOtherVersions(STORE_NAME, 1);
+    cache.invalidateOtherVersions(HYBRID_STORE_NAME, 1);
+    PortableHttpResponse response = mockResponse(HttpStatus.SC_OK, "value");
+    Assert.assertSame(cache.put(mockPath(HYBRID_STORE_NAME, 1, "key"), response), response);
+    Assert.assertNull(cache.get(mockPath(HYBRID_STORE_NAME, 1, "key")));
+
+    // The responses of batch-only stores never expire.
+    cache.put(mockPath(STORE_NAME, 1, "key"), mockResponse(HttpStatus.SC_OK, "value"));
+    assertResponse(cache.get(mockPath(STORE_NAME, 1, "key")), HttpStatus.SC_OK, "value");
+  }
+
+  @Test
+  public void testInvalidateOtherVersions() throws IOException {
+    cache.put(mockPath(STORE_NAME, 1, "key1"), mockResponse(HttpStatus.SC_OK, "value1"));
+    cache.put(mockPath(STORE_NAME, 1, "key2"), mockResponse(HttpStatus.SC_OK, "value2"));
+    cache.put(mockPath(HYBRID_STORE_NAME, 1, "key1"), mockResponse(HttpStatus.SC_OK, "value1"));
+    // Only the current version is cached.
+    PortableHttpResponse response = mockResponse(HttpStatus.SC_OK, "value1_v2");
+    Assert.assertSame(cache.put(mockPath(STORE_NAME, 2, "key1"), response), response);
+
+    cache.invalidateOtherVersions(STORE_NAME, 2);
+    verify(stats).recordCacheEviction(STORE_NAME, 2);
+    Assert.assertNull(cache.get(mockPath(STORE_NAME, 1, "key1")));
+    Assert.assertNull(cache.get(mockPath(STORE_NAME, 1, "key2")));
+    cache.put(mockPath(STORE_NAME, 2, "key1"), mockResponse(HttpStatus.SC_OK, "value1_v2"));
+    assertResponse(cache.get(mockPath(STORE_NAME, 2, "key1")), HttpStatus.SC_OK, "value1_v2");
+    // Other stores are not affected.
+    assertResponse(cache.get(mockPath(HYBRID_STORE_NAME, 1, "key1")), HttpStatus.SC_OK, "value1");
+
+    // A late response of the dropped version does not bring its cache back.
+    response = mockResponse(HttpStatus.SC_OK, "value1");
+    Assert.assertSame(cache.put(mockPath(STORE_NAME, 1, "key1"), response), response);
+    Assert.assertNull(cache.get(mockPath(STORE_NAME, 1, "key1")));
+    cache.invalidateOtherVersions(STORE_NAME, 2);
+    verify(stats).recordCacheEviction(STORE_NAME, 2);
+  }
+
+  private static VenicePath mockPath(String storeName, int version, String key) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+    doReturn(storeName).when(path).getStoreName();
+    doReturn(version).when(path).getVersionNumber();
+    doReturn(Version.composeKafkaTopic(storeName, version)).when(path).getResourceName();
+    doReturn(new RouterKey(key.getBytes(StandardCharsets.UTF_8))).when(path).getPartitionKey();
+    return path;
+  }
+
+  private static PortableHttpResponse mockResponse(int statusCode, String content) {
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(statusCode).when(response).getStatusCode();
+    doReturn("avro/binary").when(response).getFirstHeader(HttpHeaders.CONTENT_TYPE);
+    doReturn("1").when(response).getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+    doReturn(Unpooled.copiedBuffer(content, StandardCharsets.UTF_8)).when(response).getContentInByteBuf();
+    return response;
+  }
+
+  private static void assertResponse(PortableHttpResponse response, int statusCode, String content) {
+    Assert.assertNotNull(response);
+    Assert.assertEquals(response.getStatusCode(), statusCode);
+    Assert.assertEquals(response.getFirstHeader(HttpHeaders.CONTENT_TYPE), "avro/binary");
+    Assert.assertEquals(response.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID), "1");
+    Assert.assertNull(response.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY));
+    byte[] responseContent = ByteBufUtil.getBytes(response.getContentInByteBuf());
+    Assert.assertEquals(new String(responseContent, StandardCharsets.UTF_8), content);
+  }
+}
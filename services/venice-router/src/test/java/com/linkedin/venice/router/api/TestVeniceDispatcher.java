@@ -0,0 +1,129 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.base.concurrency.AsyncFuture;
+import com.linkedin.alpini.base.concurrency.AsyncPromise;
+import com.linkedin.alpini.netty4.misc.BasicHttpRequest;
+import com.linkedin.alpini.router.api.Scatter;
+import com.linkedin.alpini.router.api.ScatterGatherRequest;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.AggHostHealthStats;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceDispatcher {
+  private static final String STORE_NAME = "test_store";
+
+  @Test
+  public void testRetriableResponseIsReleased() throws Exception {
+    PortableHttpResponse response = mockResponse(HttpStatus.SC_SERVICE_UNAVAILABLE);
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    doAnswer(invocation -> {
+      Consumer<PortableHttpResponse> completedCallBack = invocation.getArgument(2);
+      completedCallBack.accept(response);
+      return null;
+    }).when(storageNodeClient).query(any(), any(), any(), any(), any(), anyLong());
+
+    AsyncPromise<HttpResponseStatus> retryFuture = AsyncFuture.deferred(false);
+    AsyncPromise<List<FullHttpResponse>> responseFuture = dispatch(storageNodeClient, retryFuture);
+    Assert.assertEquals(retryFuture.getNow(), HttpResponseStatus.INTERNAL_SERVER_ERROR);
+    Assert.assertFalse(responseFuture.isDone());
+    verify(response).release();
+  }
+
+  @Test
+  public void testLateResponseIsReleased() throws Exception {
+    PortableHttpResponse response = mockResponse(HttpStatus.SC_OK);
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    doAnswer(invocation -> {
+      Consumer<Throwable> failedCallBack = invocation.getArgument(3);
+      failedCallBack.accept(new VeniceException("Leaking response future"));
+      // The response arrives after the request was given up on, and nobody else would release it.
+      Consumer<PortableHttpResponse> completedCallBack = invocation.getArgument(2);
+      completedCallBack.accept(response);
+      return null;
+    }).when(storageNodeClient).query(any(), any(), any(), any(), any(), anyLong());
+
+    AsyncPromise<HttpResponseStatus> retryFuture = AsyncFuture.deferred(false);
+    dispatch(storageNodeClient, retryFuture);
+    Assert.assertEquals(retryFuture.getNow(), HttpResponseStatus.INTERNAL_SERVER_ERROR);
+    verify(response).release();
+  }
+
+  private static AsyncPromise<List<FullHttpResponse>> dispatch(
+      StorageNodeClient storageNodeClient,
+      AsyncPromise<HttpResponseStatus> retryFuture) throws Exception {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(100L).when(config).getMaxPendingRequest();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(config).getLeakedFutureCleanupPollIntervalMs();
+    doReturn(TimeUnit.MINUTES.toMillis(1)).when(config).getLeakedFutureCleanupThresholdMs();
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(routerStats).getStatsByType(any());
+    VeniceDispatcher dispatcher = new VeniceDispatcher(
+        config,
+        mock(ReadOnlyStoreRepository.class),
+        routerStats,
+        new MetricsRepository(),
+        storageNodeClient,
+        mock(RouteHttpRequestStats.class),
+        mock(AggHostHealthStats.class),
+        routerStats,
+        Optional.empty());
+
+    Instance instance = new Instance("localhost_1234", "localhost", 1234);
+    ScatterGatherRequest<Instance, RouterKey> part = mock(ScatterGatherRequest.class);
+    doReturn(Collections.singletonList(instance)).when(part).getHosts();
+    VenicePath path = mock(VenicePath.class);
+    doReturn(STORE_NAME).when(path).getStoreName();
+    doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+
+    AsyncPromise<List<FullHttpResponse>> responseFuture = AsyncFuture.deferred(false);
+    try {
+      dispatcher.dispatch(
+          mock(Scatter.class),
+          part,
+          path,
+          mock(BasicHttpRequest.class),
+          AsyncFuture.deferred(false),
+          responseFuture,
+          retryFuture,
+          AsyncFuture.deferred(false),
+          Runnable::run);
+    } finally {
+      dispatcher.stop();
+    }
+    return responseFuture;
+  }
+
+  private static PortableHttpResponse mockResponse(int statusCode) {
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(statusCode).when(response).getStatusCode();
+    return response;
+  }
+}
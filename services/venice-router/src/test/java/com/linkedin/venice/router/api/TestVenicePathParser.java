@@ -2,6 +2,7 @@ package com.linkedin.venice.router.api;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -63,6 +64,7 @@ public class TestVenicePathParser {
     doReturn(true).when(mockStore).isEnableReads();
     doReturn(CompressionStrategy.NO_OP).when(mockStore).getCompressionStrategy();
     ReadOnlyStoreRepository mockMetadataRepository = mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(mockMetadataRepository).getStoreSnapshot(anyString());
     doReturn(mockStore).when(mockMetadataRepository).getStore(Mockito.anyString());
     StaleVersionStats stats = mock(StaleVersionStats.class);
     HelixReadOnlyStoreConfigRepository storeConfigRepo = mock(HelixReadOnlyStoreConfigRepository.class);
@@ -8,12 +8,24 @@ import static org.mockito.Mockito.mock;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.GzipCompressor;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -120,4 +132,85 @@ public class TestVeniceResponseDecompressor {
       Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
     }
   }
+
+  /**
+   * Storage node responses can be direct or composite buffers, which have no backing array, or slices of a larger
+   * buffer, whose readable bytes don't start at the beginning of the backing array.
+   */
+  @Test
+  public void testDecompressMultiGetContentWithoutBackingArray() throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        "storage/test-store_v1",
+        System.currentTimeMillis(),
+        100000);
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(true, null, request, "test-store", 1, compressorFactory);
+
+      byte[] firstRecords = serializeGzipRecords(0, 3);
+      byte[] secondRecords = serializeGzipRecords(3, 2);
+
+      // Direct buffer
+      ByteBuf directContent = Unpooled.directBuffer(firstRecords.length).writeBytes(firstRecords);
+      ContentDecompressResult result =
+          responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, directContent);
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+      verifyRecords(result.getContent(), 0, 3);
+      Assert.assertEquals(directContent.refCnt(), 0);
+
+      // Slice of a heap buffer
+      byte[] prefixedRecords = new byte[firstRecords.length + 10];
+      System.arraycopy(firstRecords, 0, prefixedRecords, 10, firstRecords.length);
+      ByteBuf slicedContent = Unpooled.wrappedBuffer(prefixedRecords).slice(10, firstRecords.length);
+      result = responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, slicedContent);
+      verifyRecords(result.getContent(), 0, 3);
+
+      // Composite buffer with a direct component and a heap component which is read from a non-zero index
+      ByteBuf heapComponent = Unpooled.buffer(secondRecords.length + 5).writeZero(5).writeBytes(secondRecords);
+      heapComponent.readerIndex(5);
+      CompositeByteBuf compositeContent = Unpooled.compositeBuffer()
+          .addComponent(true, Unpooled.directBuffer(firstRecords.length).writeBytes(firstRecords))
+          .addComponent(true, heapComponent);
+      result = responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, compositeContent);
+      verifyRecords(result.getContent(), 0, 5);
+      Assert.assertEquals(compositeContent.refCnt(), 0);
+
+      // Composite buffer with a single direct component
+      compositeContent = Unpooled.compositeBuffer()
+          .addComponent(true, Unpooled.directBuffer(secondRecords.length).writeBytes(secondRecords));
+      result = responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, compositeContent);
+      verifyRecords(result.getContent(), 3, 2);
+    }
+  }
+
+  private static byte[] serializeGzipRecords(int firstKeyIndex, int count) throws IOException {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>(count);
+    try (GzipCompressor compressor = new GzipCompressor()) {
+      for (int i = firstKeyIndex; i < firstKeyIndex + count; i++) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i;
+        record.value = ByteBuffer.wrap(compressor.compress(("value" + i).getBytes(StandardCharsets.UTF_8)));
+        record.schemaId = 1;
+        records.add(record);
+      }
+    }
+    return FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema())
+        .serializeObjects(records);
+  }
+
+  private static void verifyRecords(ByteBuf content, int firstKeyIndex, int count) {
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer = FastSerializerDeserializerFactory
+        .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+    int keyIndex = firstKeyIndex;
+    for (MultiGetResponseRecordV1 record: deserializer.deserializeObjects(ByteBufUtil.getBytes(content))) {
+      Assert.assertEquals(record.keyIndex, keyIndex);
+      Assert.assertEquals(
+          ByteUtils.extractByteArray(record.value),
+          ("value" + keyIndex).getBytes(StandardCharsets.UTF_8));
+      keyIndex++;
+    }
+    Assert.assertEquals(keyIndex, firstKeyIndex + count);
+  }
 }
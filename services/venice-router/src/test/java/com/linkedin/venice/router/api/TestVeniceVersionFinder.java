@@ -2,6 +2,7 @@ package com.linkedin.venice.router.api;
 
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
@@ -60,6 +61,7 @@ public class TestVeniceVersionFinder {
   @Test
   public void throws404onMissingStore() {
     ReadOnlyStoreRepository mockRepo = Mockito.mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(mockRepo).getStoreSnapshot(anyString());
     doReturn(null).when(mockRepo).getStore(anyString());
     StaleVersionStats stats = mock(StaleVersionStats.class);
     HelixReadOnlyStoreConfigRepository storeConfigRepo = mock(HelixReadOnlyStoreConfigRepository.class);
@@ -84,6 +86,7 @@ public class TestVeniceVersionFinder {
   @Test
   public void throws301onMigratedStore() {
     ReadOnlyStoreRepository mockRepo = Mockito.mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(mockRepo).getStoreSnapshot(anyString());
     Store store = new ZKStore(
         "store",
         "owner",
@@ -127,6 +130,7 @@ public class TestVeniceVersionFinder {
   @Test
   public void returnNonExistingVersionOnceStoreIsDisabled() {
     ReadOnlyStoreRepository mockRepo = Mockito.mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(mockRepo).getStoreSnapshot(anyString());
     String storeName = "TestVeniceVersionFinder";
     int currentVersion = 10;
     Store store = TestUtils.createTestStore(storeName, "unittest", System.currentTimeMillis());
@@ -159,6 +163,7 @@ public class TestVeniceVersionFinder {
   @Test
   public void testSwapsVersionWhenAllPartitionsAreOnline() {
     ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(storeRepository).getStoreSnapshot(anyString());
     String storeName = Utils.getUniqueString("version-finder-test-store");
     int firstVersion = 1;
     int secondVersion = 2;
@@ -233,6 +238,7 @@ public class TestVeniceVersionFinder {
   @Test
   public void returnsCurrentVersionWhenTheDictionaryExists() {
     ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(storeRepository).getStoreSnapshot(anyString());
     String storeName = Utils.getUniqueString("version-finder-test-store");
     int firstVersion = 1;
     ByteBuffer firstVersionDictionary = ByteBuffer.allocate(1);
@@ -284,6 +290,7 @@ public class TestVeniceVersionFinder {
     // If the dictionary is not downloaded by the time the records needs to be decompressed, then the router will return
     // an error response.
     ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(storeRepository).getStoreSnapshot(anyString());
     String storeName = Utils.getUniqueString("version-finder-test-store");
     int firstVersion = 1;
 
@@ -327,6 +334,7 @@ public class TestVeniceVersionFinder {
   @Test
   public void returnsPreviousVersionWhenDictionaryNotDownloaded() {
     ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(storeRepository).getStoreSnapshot(anyString());
     String storeName = Utils.getUniqueString("version-finder-test-store");
     int firstVersion = 1;
     int secondVersion = 2;
@@ -381,6 +389,7 @@ public class TestVeniceVersionFinder {
   @Test
   public void returnsNewVersionWhenDictionaryDownloads() {
     ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(storeRepository).getStoreSnapshot(anyString());
     String storeName = Utils.getUniqueString("version-finder-test-store");
     int firstVersion = 1;
     int secondVersion = 2;
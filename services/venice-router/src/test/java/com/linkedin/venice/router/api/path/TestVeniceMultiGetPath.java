@@ -9,8 +9,10 @@ import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.RouterThrottleHandler;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
+import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.exception.VeniceKeyCountLimitException;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
@@ -19,12 +21,16 @@ import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.testng.Assert;
@@ -145,4 +151,47 @@ public class TestVeniceMultiGetPath {
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRoute());
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRoute());
   }
+
+  @Test
+  public void testZeroCopyRequestSplit() throws RouterException {
+    String resourceName = Utils.getUniqueString("test_store") + "_v1";
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = 0; i < 200; ++i) {
+      // Some keys and key indices need more than one byte to be encoded, and the first key is empty.
+      byte[] key = new byte[i];
+      Arrays.fill(key, (byte) i);
+      keys.add(ByteBuffer.wrap(key));
+    }
+    VeniceMultiGetPath path = new VeniceMultiGetPath(
+        resourceName,
+        getMultiGetHttpRequest(resourceName, keys, Optional.empty()),
+        getVenicePartitionFinder(1000),
+        1000,
+        false,
+        -1,
+        Optional.empty(),
+        -1,
+        true);
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.getClassSchema());
+
+    List<RouterKey> subset = new ArrayList<>();
+    int keyCount = 0;
+    for (RouterKey key: path.getPartitionKeys()) {
+      if (keyCount++ % 3 == 0) {
+        subset.add(key);
+      }
+    }
+    for (Collection<RouterKey> routerKeys: Arrays.asList(path.getPartitionKeys(), subset)) {
+      VeniceMultiGetPath subPath = (VeniceMultiGetPath) path.substitutePartitionKey(routerKeys);
+      byte[] expectedBody = serializer.serializeObjects(subPath.routerKeyMap.values());
+      Assert.assertEquals(subPath.getBody().get(), expectedBody);
+      ByteBuf requestBody = subPath.getRequestBody();
+      try {
+        Assert.assertEquals(ByteBufUtil.getBytes(requestBody), expectedBody);
+      } finally {
+        requestBody.release();
+      }
+    }
+  }
 }
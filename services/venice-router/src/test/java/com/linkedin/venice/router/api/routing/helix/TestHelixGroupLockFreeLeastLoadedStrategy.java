@@ -0,0 +1,99 @@
+package com.linkedin.venice.router.api.routing.helix;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.Time;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestHelixGroupLockFreeLeastLoadedStrategy {
+  private static final long TIMEOUT_MS = 10000;
+
+  @Test
+  public void testSelectGroup() {
+    HelixGroupLockFreeLeastLoadedStrategy strategy = new HelixGroupLockFreeLeastLoadedStrategy(TIMEOUT_MS);
+    int groupNum = 3;
+    // Group 0 is slow.
+    Assert.assertEquals(strategy.selectGroup(0, groupNum), 0);
+    Assert.assertEquals(strategy.selectGroup(1, groupNum), 1);
+    Assert.assertEquals(strategy.selectGroup(2, groupNum), 2);
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 1);
+    Assert.assertEquals(strategy.getMinGroupPendingRequest(), 1);
+    Assert.assertEquals(strategy.getAvgGroupPendingRequest(), 1);
+    strategy.finishRequest(1, 1);
+    strategy.finishRequest(2, 2);
+    Assert.assertEquals(strategy.selectGroup(3, groupNum), 1);
+    Assert.assertEquals(strategy.selectGroup(4, groupNum), 2);
+    strategy.finishRequest(0, 0);
+    strategy.finishRequest(3, 1);
+    strategy.finishRequest(4, 2);
+    // Group 0 is recovered
+    Assert.assertEquals(strategy.selectGroup(5, groupNum), 2);
+    Assert.assertEquals(strategy.selectGroup(6, groupNum), 0);
+
+    Assert.assertThrows(VeniceException.class, () -> strategy.selectGroup(7, 0));
+    Assert.assertThrows(VeniceException.class, () -> strategy.finishRequest(7, -1));
+  }
+
+  @Test
+  public void testLeakedRequestsAreReset() {
+    Time time = mock(Time.class);
+    doReturn(0L).when(time).getMilliseconds();
+    HelixGroupLockFreeLeastLoadedStrategy strategy = new HelixGroupLockFreeLeastLoadedStrategy(TIMEOUT_MS, time);
+    int groupNum = 2;
+    // Request 0 never finishes.
+    Assert.assertEquals(strategy.selectGroup(0, groupNum), 0);
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 1);
+
+    // The leaked request is still counted during the next epoch.
+    doReturn(TIMEOUT_MS).when(time).getMilliseconds();
+    Assert.assertEquals(strategy.selectGroup(1, groupNum), 1);
+    Assert.assertEquals(strategy.getMinGroupPendingRequest(), 1);
+    strategy.finishRequest(1, 1);
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 1);
+    Assert.assertEquals(strategy.getMinGroupPendingRequest(), 0);
+
+    // And gets reset once its epoch is dropped.
+    doReturn(2 * TIMEOUT_MS).when(time).getMilliseconds();
+    Assert.assertEquals(strategy.selectGroup(2, groupNum), 0);
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 1);
+    strategy.finishRequest(2, 0);
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 0);
+
+    // Finishing a request whose counter was already reset doesn't make any counter negative.
+    strategy.finishRequest(0, 0);
+    Assert.assertEquals(strategy.getMinGroupPendingRequest(), 0);
+  }
+
+  @Test
+  public void testConcurrentRequests() throws InterruptedException {
+    HelixGroupLockFreeLeastLoadedStrategy strategy = new HelixGroupLockFreeLeastLoadedStrategy(TIMEOUT_MS);
+    int groupNum = 4;
+    int threadCount = 8;
+    int requestCountPerThread = 10000;
+    AtomicLong requestIdGenerator = new AtomicLong();
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (int t = 0; t < threadCount; ++t) {
+        executor.submit(() -> {
+          for (int i = 0; i < requestCountPerThread; ++i) {
+            long requestId = requestIdGenerator.getAndIncrement();
+            strategy.finishRequest(requestId, strategy.selectGroup(requestId, groupNum));
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+    Assert.assertEquals(requestIdGenerator.get(), threadCount * requestCountPerThread);
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 0);
+  }
+}
@@ -0,0 +1,289 @@
+package com.linkedin.venice.router.httpclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2FrameLogger;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.logging.LogLevel;
+import io.netty.util.concurrent.Promise;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class TestNettyHttp2StorageNodeClient {
+  private static final long TIMEOUT_MS = 10;
+
+  private final Instance instance = new Instance("localhost_1234", "localhost", 1234);
+  private List<PortableHttpResponse> responses;
+  private List<Throwable> failures;
+  private AtomicInteger cancellations;
+
+  @BeforeMethod
+  public void setUp() {
+    responses = new ArrayList<>();
+    failures = new ArrayList<>();
+    cancellations = new AtomicInteger();
+  }
+
+  @Test
+  public void testMultiChunkResponseIsHandedOver() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpClientResponseHandler());
+    ChannelPoolManager channelPoolManager = mockChannelPoolManager(channel);
+    query(new NettyHttp2StorageNodeClient(channelPoolManager, TIMEOUT_MS));
+    releaseRequest(channel);
+
+    ByteBuf firstChunk = directBuffer("first,");
+    ByteBuf secondChunk = directBuffer("second,");
+    ByteBuf lastChunk = directBuffer("last");
+    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    response.headers().set(HttpHeaderNames.CONTENT_TYPE, "avro/binary");
+    channel.writeInbound(
+        response,
+        new DefaultHttpContent(firstChunk),
+        new DefaultHttpContent(secondChunk),
+        new DefaultLastHttpContent(lastChunk));
+
+    Assert.assertTrue(failures.isEmpty());
+    Assert.assertEquals(responses.size(), 1);
+    PortableHttpResponse portableResponse = responses.get(0);
+    Assert.assertEquals(portableResponse.getStatusCode(), HttpResponseStatus.OK.code());
+    Assert.assertEquals(portableResponse.getFirstHeader(HttpHeaderNames.CONTENT_TYPE.toString()), "avro/binary");
+    // The chunks are handed over as is, without any copy.
+    Assert.assertEquals(firstChunk.refCnt(), 1);
+    Assert.assertEquals(lastChunk.refCnt(), 1);
+    ByteBuf content = portableResponse.getContentInByteBuf();
+    Assert.assertEquals(content.toString(StandardCharsets.UTF_8), "first,second,last");
+    Assert.assertFalse(portableResponse.getContentInByteBuf().isReadable());
+    content.release();
+    Assert.assertEquals(firstChunk.refCnt(), 0);
+    Assert.assertEquals(secondChunk.refCnt(), 0);
+    Assert.assertEquals(lastChunk.refCnt(), 0);
+
+    // The connection is kept alive.
+    Assert.assertTrue(channel.isOpen());
+    verify(channelPoolManager).release(channel);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testDiscardedResponseIsReleased() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpClientResponseHandler());
+    query(new NettyHttp2StorageNodeClient(mockChannelPoolManager(channel), TIMEOUT_MS));
+    releaseRequest(channel);
+
+    ByteBuf chunk = directBuffer("value");
+    channel.writeInbound(
+        new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK),
+        new DefaultLastHttpContent(chunk));
+    Assert.assertEquals(responses.size(), 1);
+    responses.get(0).release();
+    Assert.assertEquals(chunk.refCnt(), 0);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testPartialResponseIsReleasedOnError() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpClientResponseHandler());
+    ChannelPoolManager channelPoolManager = mockChannelPoolManager(channel);
+    query(new NettyHttp2StorageNodeClient(channelPoolManager, TIMEOUT_MS));
+    releaseRequest(channel);
+
+    ByteBuf chunk = directBuffer("partial");
+    channel.writeInbound(
+        new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK),
+        new DefaultHttpContent(chunk));
+    Assert.assertEquals(chunk.refCnt(), 1);
+    IOException cause = new IOException("Connection reset by peer");
+    channel.pipeline().fireExceptionCaught(cause);
+    channel.runPendingTasks();
+
+    Assert.assertTrue(responses.isEmpty());
+    Assert.assertEquals(failures.size(), 1);
+    Assert.assertSame(failures.get(0), cause);
+    Assert.assertEquals(chunk.refCnt(), 0);
+    // The connection is not reused after a failure.
+    Assert.assertFalse(channel.isOpen());
+    verify(channelPoolManager).release(channel);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testRequestTimesOut() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpClientResponseHandler());
+    ChannelPoolManager channelPoolManager = mockChannelPoolManager(channel);
+    query(new NettyHttp2StorageNodeClient(channelPoolManager, TIMEOUT_MS));
+    releaseRequest(channel);
+
+    channel.runPendingTasks();
+    Assert.assertTrue(failures.isEmpty());
+    Utils.sleep(5 * TIMEOUT_MS);
+    channel.runPendingTasks();
+
+    Assert.assertTrue(responses.isEmpty());
+    Assert.assertEquals(failures.size(), 1);
+    Assert.assertTrue(failures.get(0) instanceof TimeoutException, failures.get(0).toString());
+    Assert.assertFalse(channel.isOpen());
+    verify(channelPoolManager).release(channel);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testCancelledAcquire() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpClientResponseHandler());
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    Promise<Channel> acquireFuture = channel.eventLoop().newPromise();
+    acquireFuture.cancel(false);
+    doReturn(acquireFuture).when(channelPoolManager).acquire(anyString(), anyString(), any(QOS.class));
+    query(new NettyHttp2StorageNodeClient(channelPoolManager, TIMEOUT_MS));
+
+    Assert.assertEquals(cancellations.get(), 1);
+    Assert.assertTrue(failures.isEmpty());
+    Assert.assertTrue(responses.isEmpty());
+    Assert.assertNull(channel.readOutbound());
+    verify(channelPoolManager, never()).release(any());
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testMetadataResponseIsCopiedToHeap() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new HttpClientResponseHandler());
+    NettyHttp2StorageNodeClient client = new NettyHttp2StorageNodeClient(mockChannelPoolManager(channel), TIMEOUT_MS);
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    client.sendRequest(new VeniceMetaDataRequest(instance, "metadata/test_store", "GET", true), responseFuture);
+    FullHttpRequest request = channel.readOutbound();
+    Assert.assertEquals(request.uri(), "/metadata/test_store");
+    request.release();
+
+    ByteBuf firstChunk = directBuffer("meta");
+    ByteBuf lastChunk = directBuffer("data");
+    channel.writeInbound(
+        new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK),
+        new DefaultHttpContent(firstChunk),
+        new DefaultLastHttpContent(lastChunk));
+
+    Assert.assertTrue(responseFuture.isDone());
+    // The metadata responses are never released by their callers, so nothing is retained from the pooled chunks.
+    Assert.assertEquals(firstChunk.refCnt(), 0);
+    Assert.assertEquals(lastChunk.refCnt(), 0);
+    ByteBuf content = responseFuture.get().getContentInByteBuf();
+    Assert.assertTrue(content.hasArray());
+    Assert.assertEquals(content.toString(StandardCharsets.UTF_8), "metadata");
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testTimedOutStreamIsReset() throws Exception {
+    ResetFrameLogger frameLogger = new ResetFrameLogger();
+    EmbeddedChannel parentChannel = new EmbeddedChannel(
+        Http2FrameCodecBuilder.forClient().frameLogger(frameLogger).build(),
+        new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+    Http2StreamChannel streamChannel =
+        new Http2StreamChannelBootstrap(parentChannel).handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false), new HttpClientResponseHandler());
+          }
+        }).open().syncUninterruptibly().getNow();
+    ChannelPoolManager channelPoolManager = mockChannelPoolManager(streamChannel);
+    query(new NettyHttp2StorageNodeClient(channelPoolManager, TIMEOUT_MS));
+    parentChannel.runPendingTasks();
+    Assert.assertTrue(frameLogger.outboundResetErrorCodes.isEmpty());
+
+    Utils.sleep(5 * TIMEOUT_MS);
+    parentChannel.runPendingTasks();
+    parentChannel.runPendingTasks();
+
+    Assert.assertEquals(failures.size(), 1);
+    Assert.assertTrue(failures.get(0) instanceof TimeoutException, failures.get(0).toString());
+    // Only the stream is reset, the connection is still used by the other requests.
+    Assert.assertFalse(frameLogger.outboundResetErrorCodes.isEmpty());
+    Assert.assertEquals((long) frameLogger.outboundResetErrorCodes.get(0), Http2Error.CANCEL.code());
+    Assert.assertFalse(streamChannel.isOpen());
+    Assert.assertTrue(parentChannel.isOpen());
+    verify(channelPoolManager).release(streamChannel);
+    parentChannel.finishAndReleaseAll();
+  }
+
+  private void query(NettyHttp2StorageNodeClient client) throws Exception {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(HttpMethod.GET).when(path).getHttpMethod();
+    doReturn("storage/test_store_v1/0/key").when(path).getLocation();
+    doReturn(Unpooled.EMPTY_BUFFER).when(path).getRequestBody();
+    client.query(instance, path, responses::add, failures::add, cancellations::incrementAndGet, System.nanoTime());
+  }
+
+  private static void releaseRequest(EmbeddedChannel channel) {
+    FullHttpRequest request = channel.readOutbound();
+    Assert.assertEquals(request.uri(), "/storage/test_store_v1/0/key");
+    Assert.assertEquals(request.headers().get(HttpHeaderNames.HOST), "localhost:1234");
+    request.release();
+  }
+
+  private static ChannelPoolManager mockChannelPoolManager(Channel channel) {
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    doReturn(channel.eventLoop().newSucceededFuture(channel)).when(channelPoolManager)
+        .acquire(anyString(), anyString(), any(QOS.class));
+    doAnswer(invocation -> channel.eventLoop().newSucceededFuture(null)).when(channelPoolManager).release(any());
+    return channelPoolManager;
+  }
+
+  private static ByteBuf directBuffer(String content) {
+    return Unpooled.directBuffer().writeBytes(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class ResetFrameLogger extends Http2FrameLogger {
+    private final List<Long> outboundResetErrorCodes = new ArrayList<>();
+
+    ResetFrameLogger() {
+      super(LogLevel.DEBUG);
+    }
+
+    @Override
+    public void logRstStream(Direction direction, ChannelHandlerContext ctx, int streamId, long errorCode) {
+      if (direction == Direction.OUTBOUND) {
+        outboundResetErrorCodes.add(errorCode);
+      }
+    }
+  }
+}
@@ -23,6 +23,7 @@ import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
 
 /***
@@ -31,10 +32,20 @@ import java.nio.charset.StandardCharsets;
 
 public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
   private final StatsHandler statsHandler;
+  private final double readPhaseTraceSampleRate;
 
   public OutboundHttpWrapperHandler(StatsHandler handler) {
+    this(handler, 0);
+  }
+
+  /**
+   * @param readPhaseTraceSampleRate the fraction of the read responses which carry their latency breakdown in the
+   *                                 {@link HttpConstants#VENICE_READ_PHASE_TRACE} header.
+   */
+  public OutboundHttpWrapperHandler(StatsHandler handler, double readPhaseTraceSampleRate) {
     super();
     statsHandler = handler;
+    this.readPhaseTraceSampleRate = readPhaseTraceSampleRate;
   }
 
   @Override
@@ -46,6 +57,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     int responseRcu = 1;
     CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
     boolean isStreamingResponse = false;
+    String readPhaseTrace = null;
     try {
       if (msg instanceof ReadResponse) {
         ReadResponse obj = (ReadResponse) msg;
@@ -63,6 +75,11 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         statsHandler.setCountOperatorCount(obj.getCountOperatorCount());
         statsHandler.setKeySizeList(obj.getKeySizeList());
         statsHandler.setValueSizeList(obj.getValueSizeList());
+        statsHandler.setReadPhaseTimings(obj.getReadPhaseTimings());
+        if (readPhaseTraceSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < readPhaseTraceSampleRate) {
+          // The time spent writing the response can't be part of the trace, since it is sent along with it.
+          readPhaseTrace = obj.getReadPhaseTimings().toTrace();
+        }
         compressionStrategy = obj.getCompressionStrategy();
         if (obj.isFound()) {
           body = obj.getResponseBody();
@@ -137,6 +154,9 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     if (isStreamingResponse) {
       response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
     }
+    if (readPhaseTrace != null) {
+      response.headers().set(HttpConstants.VENICE_READ_PHASE_TRACE, readPhaseTrace);
+    }
 
     /** {@link io.netty.handler.timeout.IdleStateHandler} is in charge of detecting the state
      *  of connection, and {@link RouterRequestHttpHandler} will close the connection if necessary.
@@ -19,6 +19,7 @@ import com.linkedin.venice.meta.VersionStatus;
 import com.linkedin.venice.pushmonitor.ReadOnlyPartitionStatus;
 import com.linkedin.venice.stats.AbstractVeniceAggStats;
 import com.linkedin.venice.stats.AggServerQuotaUsageStats;
+import com.linkedin.venice.throttle.LeasingTokenBucket;
 import com.linkedin.venice.throttle.TokenBucket;
 import com.linkedin.venice.utils.ExpiringSet;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -43,6 +44,11 @@ import org.apache.logging.log4j.Logger;
 public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<RouterRequest>
     implements RoutingDataRepository.RoutingDataChangedListener, StoreDataChangedListener {
   private static final Logger LOGGER = LogManager.getLogger(ReadQuotaEnforcementHandler.class);
+  /**
+   * The storage node bucket is checked by all the I/O threads for every request, so they lease tokens from it in
+   * chunks of this portion of its refill amount instead of contending on it for every request.
+   */
+  private static final double STORAGE_NODE_BUCKET_LEASE_PORTION = 0.001;
   private final ConcurrentMap<String, TokenBucket> storeVersionBuckets = new VeniceConcurrentHashMap<>();
   private final TokenBucket storageNodeBucket;
   private final ReadOnlyStoreRepository storeRepository;
@@ -77,7 +83,7 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
       AggServerQuotaUsageStats stats,
       Clock clock) {
     this.clock = clock;
-    this.storageNodeBucket = tokenBucketfromRcuPerSecond(storageNodeRcuCapacity, 1);
+    this.storageNodeBucket = storageNodeTokenBucketFromRcuPerSecond(storageNodeRcuCapacity);
     this.storeRepository = storeRepository;
     this.thisNodeId = nodeId;
     this.stats = stats;
@@ -141,7 +147,7 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
         // TODO: check if extra node capacity and can still process this request out of quota
         stats.recordRejected(storeName, rcu);
         if (enforcing) {
-          long storeQuota = storeRepository.getStore(storeName).getReadQuotaInCU();
+          long storeQuota = storeRepository.getStoreSnapshotOrThrow(storeName).getReadQuotaInCU();
           float thisNodeRcuPerSecond = storeVersionBuckets.get(request.getResourceName()).getAmortizedRefillPerSecond();
           String errorMessage =
               "Total quota for store " + storeName + " is " + storeQuota + " RCU per second. Storage Node " + thisNodeId
@@ -227,6 +233,25 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     return new TokenBucket(thisCapacity, thisRefillAmount, enforcementIntervalSeconds, SECONDS, clock);
   }
 
+  /**
+   * Same as {@link #tokenBucketfromRcuPerSecond(long, double)} with the full proportion, except that the returned
+   * bucket is a {@link LeasingTokenBucket} if the refill amount is large enough for the leases to be meaningful.
+   */
+  private TokenBucket storageNodeTokenBucketFromRcuPerSecond(long totalRcuPerSecond) {
+    long refillAmount = totalRcuPerSecond * enforcementIntervalSeconds;
+    long leaseSize = (long) (refillAmount * STORAGE_NODE_BUCKET_LEASE_PORTION);
+    if (leaseSize <= 1) {
+      return tokenBucketfromRcuPerSecond(totalRcuPerSecond, 1);
+    }
+    return new LeasingTokenBucket(
+        refillAmount * enforcementCapacityMultiple,
+        refillAmount,
+        enforcementIntervalSeconds,
+        SECONDS,
+        leaseSize,
+        clock);
+  }
+
   @Override
   public void onExternalViewChange(PartitionAssignment partitionAssignment) {
     updateQuota(partitionAssignment);
@@ -425,7 +450,7 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     if (storeName.equals(AbstractVeniceAggStats.STORE_NAME_FOR_TOTAL_STAT)) {
       return storageNodeBucket;
     } else {
-      int currentVersion = storeRepository.getStore(storeName).getCurrentVersion();
+      int currentVersion = storeRepository.getStoreSnapshotOrThrow(storeName).getCurrentVersion();
       String topic = Version.composeKafkaTopic(storeName, currentVersion);
       return storeVersionBuckets.get(topic);
     }
@@ -3,6 +3,8 @@ package com.linkedin.venice.listener;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import com.linkedin.davinci.listener.response.ReadPhase;
+import com.linkedin.davinci.listener.response.ReadPhaseTimings;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.listener.request.RouterRequest;
 import com.linkedin.venice.read.RequestType;
@@ -20,6 +22,8 @@ import it.unimi.dsi.fastutil.ints.IntList;
 
 
 public class StatsHandler extends ChannelDuplexHandler {
+  private static final ReadPhase[] READ_PHASES = ReadPhase.values();
+
   private long startTimeInNS;
   private HttpResponseStatus responseStatus;
   private String storeName = null;
@@ -37,6 +41,7 @@ public class StatsHandler extends ChannelDuplexHandler {
   private int hadamardProductCount = 0;
   private int countOperatorCount = 0;
   private boolean isRequestTerminatedEarly = false;
+  private ReadPhaseTimings readPhaseTimings;
 
   private IntList keySizeList;
   private IntList valueSizeList;
@@ -179,6 +184,10 @@ public class StatsHandler extends ChannelDuplexHandler {
     this.multiChunkLargeValueCount = multiChunkLargeValueCount;
   }
 
+  public void setReadPhaseTimings(ReadPhaseTimings readPhaseTimings) {
+    this.readPhaseTimings = readPhaseTimings;
+  }
+
   public void setKeySizeList(IntList keySizeList) {
     this.keySizeList = keySizeList;
   }
@@ -224,6 +233,7 @@ public class StatsHandler extends ChannelDuplexHandler {
       cosineSimilarityCount = 0;
       hadamardProductCount = 0;
       isRequestTerminatedEarly = false;
+      readPhaseTimings = null;
 
       /**
        * For a single 'channelRead' invocation, Netty will guarantee all the following 'channelRead' functions
@@ -268,6 +278,9 @@ public class StatsHandler extends ChannelDuplexHandler {
        * multiple times for a single request
        */
       if (!statCallbackExecuted) {
+        if (readPhaseTimings != null) {
+          readPhaseTimings.endResponseWrite();
+        }
         ServerHttpRequestStats serverHttpRequestStats = currentStats.getStoreStats(storeName);
         recordBasicMetrics(serverHttpRequestStats);
 
@@ -347,6 +360,15 @@ public class StatsHandler extends ChannelDuplexHandler {
       if (isRequestTerminatedEarly) {
         serverHttpRequestStats.recordEarlyTerminatedEarlyRequest();
       }
+      if (readPhaseTimings != null) {
+        // Only record the phases which the request went through.
+        for (ReadPhase phase: READ_PHASES) {
+          long latencyInNS = readPhaseTimings.get(phase);
+          if (latencyInNS > 0) {
+            serverHttpRequestStats.recordReadPhaseLatency(phase, LatencyUtils.convertLatencyFromNSToMS(latencyInNS));
+          }
+        }
+      }
       if (keySizeList != null) {
         for (int i = 0; i < keySizeList.size(); i++) {
           serverHttpRequestStats.recordKeySizeInByte(keySizeList.getInt(i));
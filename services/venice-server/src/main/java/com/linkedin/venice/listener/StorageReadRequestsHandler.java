@@ -4,11 +4,13 @@ import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.listener.response.AdminResponse;
+import com.linkedin.davinci.listener.response.ReadPhase;
 import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
@@ -71,6 +73,7 @@ import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntLists;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -81,6 +84,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -120,6 +124,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
   private final boolean fastAvroEnabled;
   private final boolean parallelBatchGetEnabled;
   private final int parallelBatchGetChunkSize;
+  private final boolean batchedStorageLookupEnabled;
   private final boolean keyValueProfilingEnabled;
   private final RocksDBComputeAccessMode rocksDBComputeAccessMode;
   private final VeniceServerConfig serverConfig;
@@ -179,6 +184,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetEnabled = parallelBatchGetEnabled;
     this.parallelBatchGetChunkSize = parallelBatchGetChunkSize;
+    this.batchedStorageLookupEnabled = serverConfig.isBatchedStorageLookupEnabled();
     this.keyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
     this.rocksDBComputeAccessMode = serverConfig.getRocksDBServerConfig().getServerStorageOperation();
     this.serverConfig = serverConfig;
@@ -250,6 +256,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
                       new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR));
                 }
               } else {
+                v.getReadPhaseTimings().startResponseWrite();
                 context.writeAndFlush(v);
               }
             });
@@ -262,7 +269,8 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
           if (request.shouldRequestBeTerminatedEarly()) {
             throw new VeniceRequestEarlyTerminationException(request.getStoreName());
           }
-          double submissionWaitTime = LatencyUtils.getLatencyInMS(preSubmissionTimeNs);
+          long submissionWaitTimeInNS = System.nanoTime() - preSubmissionTimeNs;
+          double submissionWaitTime = LatencyUtils.convertLatencyFromNSToMS(submissionWaitTimeInNS);
           int queueLen = executor.getQueue().size();
           ReadResponse response;
           switch (request.getRequestType()) {
@@ -279,11 +287,13 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
               throw new VeniceException("Unknown request type: " + request.getRequestType());
           }
           response.setStorageExecutionSubmissionWaitTime(submissionWaitTime);
+          response.addReadPhaseLatency(ReadPhase.QUEUE_WAIT, submissionWaitTimeInNS);
           response.setStorageExecutionQueueLen(queueLen);
           response.setRCU(ReadQuotaEnforcementHandler.getRcu(request));
           if (request.isStreamingRequest()) {
             response.setStreamingResponse();
           }
+          response.getReadPhaseTimings().startResponseWrite();
           context.writeAndFlush(response);
         } catch (VeniceNoStoreException e) {
           context.writeAndFlush(
@@ -356,6 +366,37 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     return subPartition;
   }
 
+  /**
+   * Groups the given keys by sub-partition and looks up each group with a single call to {@param batchLookup}, so
+   * that storage engines supporting batched reads pay the lookup overhead once per sub-partition rather than once
+   * per key.
+   *
+   * @return a list aligned with {@param keys}.
+   */
+  private static <T> List<T> lookUpInBatches(
+      IntList subPartitionIds,
+      List<ByteBuffer> keys,
+      BiFunction<Integer, List<ByteBuffer>, List<T>> batchLookup) {
+    Map<Integer, IntList> keyPositionsBySubPartition = new HashMap<>();
+    for (int keyPosition = 0; keyPosition < keys.size(); keyPosition++) {
+      keyPositionsBySubPartition.computeIfAbsent(subPartitionIds.getInt(keyPosition), k -> new IntArrayList())
+          .add(keyPosition);
+    }
+    T[] results = (T[]) new Object[keys.size()];
+    for (Map.Entry<Integer, IntList> entry: keyPositionsBySubPartition.entrySet()) {
+      IntList keyPositions = entry.getValue();
+      List<ByteBuffer> partitionKeys = new ArrayList<>(keyPositions.size());
+      for (int i = 0; i < keyPositions.size(); i++) {
+        partitionKeys.add(keys.get(keyPositions.getInt(i)));
+      }
+      List<T> partitionResults = batchLookup.apply(entry.getKey(), partitionKeys);
+      for (int i = 0; i < keyPositions.size(); i++) {
+        results[keyPositions.getInt(i)] = partitionResults.get(i);
+      }
+    }
+    return Arrays.asList(results);
+  }
+
   private PartitionerConfig getPartitionerConfig(String resourceName) {
     return resourceToPartitionConfigMap.computeIfAbsent(resourceName, name -> {
       try {
@@ -413,7 +454,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     AbstractStorageEngine storageEngine = getStorageEngine(topic);
 
-    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper();
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
     responseWrapper.setDatabaseLookupLatency(0);
     boolean isChunked = storageEngine.isChunked();
@@ -441,14 +482,34 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
         }
         int startPos = finalCur * parallelChunkSize;
         int endPos = Math.min((finalCur + 1) * parallelChunkSize, totalKeyNum);
+        List<MultiGetResponseRecordV1> prefetchedRecords = null;
+        if (batchedStorageLookupEnabled) {
+          List<ByteBuffer> keyBytesList = new ArrayList<>(endPos - startPos);
+          IntList subPartitionIds = new IntArrayList(endPos - startPos);
+          for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+            final MultiGetRouterRequestKeyV1 key = keyList.get(subChunkCur);
+            keyBytesList.add(key.keyBytes);
+            subPartitionIds.add(getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array()));
+          }
+          prefetchedRecords = lookUpInBatches(
+              subPartitionIds,
+              keyBytesList,
+              (subPartitionId, partitionKeys) -> BatchGetChunkingAdapter
+                  .multiGet(storageEngine, subPartitionId, partitionKeys, isChunked, responseWrapper));
+        }
         for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
           final MultiGetRouterRequestKeyV1 key = keyList.get(subChunkCur);
           if (responseKeySizeList != null) {
             responseKeySizeList.set(subChunkCur, key.keyBytes.remaining());
           }
-          int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array());
-          MultiGetResponseRecordV1 record =
-              BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
+          MultiGetResponseRecordV1 record;
+          if (prefetchedRecords != null) {
+            record = prefetchedRecords.get(subChunkCur - startPos);
+          } else {
+            int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array());
+            record =
+                BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
+          }
           if (record == null) {
             if (request.isStreamingRequest()) {
               // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
@@ -485,6 +546,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
 
     return CompletableFuture.allOf(chunkFutures).handle((v, e) -> {
       if (e != null) {
+        responseWrapper.release();
         throw new VeniceException(e);
       }
       responseWrapper.setKeySizeList(responseKeySizeList);
@@ -499,35 +561,60 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     PartitionerConfig partitionerConfig = getPartitionerConfig(request.getResourceName());
     AbstractStorageEngine storageEngine = getStorageEngine(topic);
 
-    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
-    responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
-    responseWrapper.setDatabaseLookupLatency(0);
-    boolean isChunked = storageEngine.isChunked();
-    for (MultiGetRouterRequestKeyV1 key: keys) {
-      int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array());
-      MultiGetResponseRecordV1 record =
-          BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
-      if (record == null) {
-        if (request.isStreamingRequest()) {
-          // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-          // non-existing keys in the response if the response is partial.
-          record = new MultiGetResponseRecordV1();
-          // Negative key index to indicate the non-existing keys
-          record.keyIndex = Math.negateExact(key.keyIndex);
-          record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper();
+    try {
+      responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
+      responseWrapper.setDatabaseLookupLatency(0);
+      boolean isChunked = storageEngine.isChunked();
+      List<MultiGetResponseRecordV1> prefetchedRecords = null;
+      if (batchedStorageLookupEnabled) {
+        List<ByteBuffer> keyBytesList = new ArrayList<>(request.getKeyCount());
+        IntList subPartitionIds = new IntArrayList(request.getKeyCount());
+        for (MultiGetRouterRequestKeyV1 key: keys) {
+          keyBytesList.add(key.keyBytes);
+          subPartitionIds.add(getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array()));
         }
-      } else {
-        record.keyIndex = key.keyIndex;
+        prefetchedRecords = lookUpInBatches(
+            subPartitionIds,
+            keyBytesList,
+            (subPartitionId, partitionKeys) -> BatchGetChunkingAdapter
+                .multiGet(storageEngine, subPartitionId, partitionKeys, isChunked, responseWrapper));
       }
+      int keyPosition = 0;
+      for (MultiGetRouterRequestKeyV1 key: keys) {
+        MultiGetResponseRecordV1 record;
+        if (prefetchedRecords != null) {
+          record = prefetchedRecords.get(keyPosition++);
+        } else {
+          int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array());
+          record = BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
+        }
+        if (record == null) {
+          if (request.isStreamingRequest()) {
+            // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
+            // non-existing keys in the response if the response is partial.
+            record = new MultiGetResponseRecordV1();
+            // Negative key index to indicate the non-existing keys
+            record.keyIndex = Math.negateExact(key.keyIndex);
+            record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
+            record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+          }
+        } else {
+          record.keyIndex = key.keyIndex;
+        }
 
-      if (record != null) {
-        // TODO: streaming support in storage node
-        responseWrapper.addRecord(record);
+        if (record != null) {
+          // TODO: streaming support in storage node
+          responseWrapper.addRecord(record);
+        }
       }
-    }
 
-    return responseWrapper;
+      return responseWrapper;
+    } catch (RuntimeException e) {
+      // The records added so far are held by pooled buffers.
+      responseWrapper.release();
+      throw e;
+    }
   }
 
   private ReadResponse handleComputeRequest(ComputeRouterRequestWrapper request) {
@@ -559,71 +646,96 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       computeResultSchemaCache.putIfAbsent(computeResultSchemaStr, computeResultSchema);
     }
 
-    ComputeResponseWrapper responseWrapper = new ComputeResponseWrapper(request.getKeyCount());
-    CompressionStrategy compressionStrategy = storageEngine.getCompressionStrategy();
-    boolean isChunked = storageEngine.isChunked();
+    ComputeResponseWrapper responseWrapper = new ComputeResponseWrapper();
+    try {
+      CompressionStrategy compressionStrategy = storageEngine.getCompressionStrategy();
+      boolean isChunked = storageEngine.isChunked();
 
-    // The following metrics will get incremented for each record processed in computeResult()
-    responseWrapper.setReadComputeDeserializationLatency(0.0);
-    responseWrapper.setDatabaseLookupLatency(0.0);
-    responseWrapper.setReadComputeSerializationLatency(0.0);
-    responseWrapper.setReadComputeLatency(0.0);
+      // The following metrics will get incremented for each record processed in computeResult()
+      responseWrapper.setReadComputeDeserializationLatency(0.0);
+      responseWrapper.setDatabaseLookupLatency(0.0);
+      responseWrapper.setReadComputeSerializationLatency(0.0);
+      responseWrapper.setReadComputeLatency(0.0);
 
-    responseWrapper.setCompressionStrategy(CompressionStrategy.NO_OP);
+      responseWrapper.setCompressionStrategy(CompressionStrategy.NO_OP);
 
-    StorageExecReusableObjects reusableObjects = threadLocalReusableObjects.get();
+      StorageExecReusableObjects reusableObjects = threadLocalReusableObjects.get();
 
-    GenericRecord reuseValueRecord =
-        reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
-    Schema finalComputeResultSchema1 = computeResultSchema;
-    GenericRecord reuseResultRecord = reusableObjects.reuseResultRecordMap
-        .computeIfAbsent(computeResultSchema, k -> new GenericData.Record(finalComputeResultSchema1));
+      GenericRecord reuseValueRecord =
+          reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
+      Schema finalComputeResultSchema1 = computeResultSchema;
+      GenericRecord reuseResultRecord = reusableObjects.reuseResultRecordMap
+          .computeIfAbsent(computeResultSchema, k -> new GenericData.Record(finalComputeResultSchema1));
 
-    // Reuse the same value record and result record instances for all values
-    ByteBuffer reusedRawValue = null;
-    if (rocksDBComputeAccessMode == RocksDBComputeAccessMode.SINGLE_GET_WITH_REUSE) {
-      reusedRawValue = reusableObjects.reusedByteBuffer;
-    }
+      // Reuse the same value record and result record instances for all values
+      ByteBuffer reusedRawValue = null;
+      if (rocksDBComputeAccessMode == RocksDBComputeAccessMode.SINGLE_GET_WITH_REUSE) {
+        reusedRawValue = reusableObjects.reusedByteBuffer;
+      }
 
-    RecordSerializer<GenericRecord> resultSerializer;
-    if (fastAvroEnabled) {
-      resultSerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(computeResultSchema);
-    } else {
-      resultSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(computeResultSchema);
-    }
+      RecordSerializer<GenericRecord> resultSerializer;
+      if (fastAvroEnabled) {
+        resultSerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(computeResultSchema);
+      } else {
+        resultSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(computeResultSchema);
+      }
 
-    Map<String, Object> globalContext = new HashMap<>();
-    VeniceCompressor compressor = compressorFactory.getCompressor(compressionStrategy, topic);
-    for (ComputeRouterRequestKeyV1 key: keys) {
-      clearFieldsInReusedRecord(reuseResultRecord, computeResultSchema);
-      int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array());
-      ComputeResponseRecordV1 record = computeResult(
-          storageEngine,
-          storeName,
-          key.keyBytes,
-          key.keyIndex,
-          subPartitionId,
-          computeRequestWrapper.getComputeRequestVersion(),
-          computeRequestWrapper.getOperations(),
-          compressionStrategy,
-          computeResultSchema,
-          resultSerializer,
-          reuseValueRecord,
-          reuseResultRecord,
-          reusableObjects,
-          isChunked,
-          request.isStreamingRequest(),
-          responseWrapper,
-          globalContext,
-          reusedRawValue,
-          compressor);
-      if (record != null) {
-        // TODO: streaming support in storage node
-        responseWrapper.addRecord(record);
+      Map<String, Object> globalContext = new HashMap<>();
+      VeniceCompressor compressor = compressorFactory.getCompressor(compressionStrategy, topic);
+      List<ByteBuffer> keyBytesList = new ArrayList<>(request.getKeyCount());
+      IntList subPartitionIds = new IntArrayList(request.getKeyCount());
+      for (ComputeRouterRequestKeyV1 key: keys) {
+        keyBytesList.add(key.keyBytes);
+        subPartitionIds.add(getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array()));
+      }
+      List<byte[]> prefetchedValues = null;
+      if (batchedStorageLookupEnabled) {
+        prefetchedValues = lookUpInBatches(
+            subPartitionIds,
+            keyBytesList,
+            (subPartitionId, partitionKeys) -> ChunkingUtils
+                .multiGetTopLevelValues(storageEngine, subPartitionId, partitionKeys, isChunked, responseWrapper));
+      }
+      int keyPosition = 0;
+      for (ComputeRouterRequestKeyV1 key: keys) {
+        clearFieldsInReusedRecord(reuseResultRecord, computeResultSchema);
+        int subPartitionId = subPartitionIds.getInt(keyPosition);
+        byte[] prefetchedValue = prefetchedValues == null ? null : prefetchedValues.get(keyPosition);
+        keyPosition++;
+        ComputeResponseRecordV1 record = computeResult(
+            storageEngine,
+            storeName,
+            key.keyBytes,
+            key.keyIndex,
+            subPartitionId,
+            computeRequestWrapper.getComputeRequestVersion(),
+            computeRequestWrapper.getOperations(),
+            compressionStrategy,
+            computeResultSchema,
+            resultSerializer,
+            reuseValueRecord,
+            reuseResultRecord,
+            reusableObjects,
+            isChunked,
+            request.isStreamingRequest(),
+            responseWrapper,
+            globalContext,
+            reusedRawValue,
+            prefetchedValues != null,
+            prefetchedValue,
+            compressor);
+        if (record != null) {
+          // TODO: streaming support in storage node
+          responseWrapper.addRecord(record);
+        }
       }
-    }
 
-    return responseWrapper;
+      return responseWrapper;
+    } catch (RuntimeException e) {
+      // The records added so far are held by pooled buffers.
+      responseWrapper.release();
+      throw e;
+    }
   }
 
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
@@ -658,42 +770,59 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       ComputeResponseWrapper response,
       Map<String, Object> globalContext,
       ByteBuffer reuseRawValue,
+      boolean isValuePrefetched,
+      byte[] prefetchedValue,
       VeniceCompressor compressor) {
 
-    switch (rocksDBComputeAccessMode) {
-      case SINGLE_GET:
-        reuseValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
-            store,
-            partition,
-            key,
-            isChunked,
-            reuseValueRecord,
-            reusableObjects.binaryDecoder,
-            response,
-            compressionStrategy,
-            fastAvroEnabled,
-            this.schemaRepo,
-            storeName,
-            compressor);
-        break;
-      case SINGLE_GET_WITH_REUSE:
-        reuseValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
-            storeName,
-            store,
-            partition,
-            ByteUtils.extractByteArray(key),
-            reuseRawValue,
-            reuseValueRecord,
-            reusableObjects.binaryDecoder,
-            isChunked,
-            compressionStrategy,
-            fastAvroEnabled,
-            this.schemaRepo,
-            response,
-            compressor);
-        break;
-      default:
-        throw new VeniceException("Unknown rocksDB compute storage operation");
+    if (isValuePrefetched) {
+      reuseValueRecord = GenericRecordChunkingAdapter.INSTANCE.getFromPrefetchedValue(
+          store,
+          partition,
+          prefetchedValue,
+          reuseValueRecord,
+          reusableObjects.binaryDecoder,
+          response,
+          compressionStrategy,
+          fastAvroEnabled,
+          this.schemaRepo,
+          storeName,
+          compressor);
+    } else {
+      switch (rocksDBComputeAccessMode) {
+        case SINGLE_GET:
+          reuseValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
+              store,
+              partition,
+              key,
+              isChunked,
+              reuseValueRecord,
+              reusableObjects.binaryDecoder,
+              response,
+              compressionStrategy,
+              fastAvroEnabled,
+              this.schemaRepo,
+              storeName,
+              compressor);
+          break;
+        case SINGLE_GET_WITH_REUSE:
+          reuseValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
+              storeName,
+              store,
+              partition,
+              ByteUtils.extractByteArray(key),
+              reuseRawValue,
+              reuseValueRecord,
+              reusableObjects.binaryDecoder,
+              isChunked,
+              compressionStrategy,
+              fastAvroEnabled,
+              this.schemaRepo,
+              response,
+              compressor);
+          break;
+        default:
+          throw new VeniceException("Unknown rocksDB compute storage operation");
+      }
     }
 
     if (reuseValueRecord == null) {
@@ -743,7 +872,9 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
         }
       }
     }
-    response.addReadComputeLatency(LatencyUtils.getLatencyInMS(computeStartTimeInNS));
+    long computeLatencyInNS = System.nanoTime() - computeStartTimeInNS;
+    response.addReadComputeLatency(LatencyUtils.convertLatencyFromNSToMS(computeLatencyInNS));
+    response.addReadPhaseLatency(ReadPhase.COMPUTE, computeLatencyInNS);
 
     // create a response record
     ComputeResponseRecordV1 responseRecord = new ComputeResponseRecordV1();
@@ -752,7 +883,9 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     // serialize the compute result
     long serializeStartTimeInNS = System.nanoTime();
     responseRecord.value = ByteBuffer.wrap(resultSerializer.serialize(reuseResultRecord, reusableObjects));
-    response.addReadComputeSerializationLatency(LatencyUtils.getLatencyInMS(serializeStartTimeInNS));
+    long serializeLatencyInNS = System.nanoTime() - serializeStartTimeInNS;
+    response.addReadComputeSerializationLatency(LatencyUtils.convertLatencyFromNSToMS(serializeLatencyInNS));
+    response.addReadPhaseLatency(ReadPhase.SERIALIZATION, serializeLatencyInNS);
 
     return responseRecord;
   }
@@ -2,22 +2,13 @@ package com.linkedin.venice.listener.response;
 
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
-import com.linkedin.venice.serializer.AvroSerializer;
-import com.linkedin.venice.serializer.RecordSerializer;
-import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 
 
 public class ComputeResponseWrapper extends MultiKeyResponseWrapper<ComputeResponseRecordV1> {
-  public ComputeResponseWrapper(int maxKeyCount) {
-    super(maxKeyCount);
-  }
-
   @Override
-  protected byte[] serializedResponse() {
-    RecordSerializer<ComputeResponseRecordV1> serializer =
-        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema());
-
-    return serializer.serializeObjects(records, AvroSerializer.REUSE.get());
+  protected void writeRecord(ComputeResponseRecordV1 record, MultiKeyResponseBodyEncoder encoder) {
+    encoder.writeInt(record.keyIndex);
+    encoder.writeBytes(record.value);
   }
 
   @Override
@@ -0,0 +1,110 @@
+package com.linkedin.venice.listener.response;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+
+
+/**
+ * This class encodes the records of a multi-key response incrementally, in the Avro binary format which is expected
+ * by Router and the clients, i.e. the serialized records concatenated one after the other, which is the same as what
+ * {@link com.linkedin.venice.serializer.RecordSerializer#serializeObjects} produces.
+ *
+ * The record fields are written into direct buffers of {@link #BLOCK_SIZE} bytes taken from the given allocator,
+ * while the values bigger than {@link #ZERO_COPY_VALUE_SIZE_THRESHOLD} are added to the response as they are, without
+ * being copied, so that the response body is a {@link CompositeByteBuf} of the blocks and the big values, and no
+ * per-request byte array is needed to hold the whole response.
+ *
+ * This class is not thread-safe, and the caller should either release the buffer returned by {@link #finish()} or
+ * invoke {@link #release()}, otherwise the pooled buffers will be leaked.
+ */
+public class MultiKeyResponseBodyEncoder {
+  static final int BLOCK_SIZE = 16 * 1024;
+  static final int ZERO_COPY_VALUE_SIZE_THRESHOLD = 4 * 1024;
+  /**
+   * Max size of an int encoded with the Avro zig-zag variable length encoding.
+   */
+  private static final int MAX_INT_SIZE = 5;
+
+  private final ByteBufAllocator allocator;
+  private final CompositeByteBuf body;
+  private ByteBuf currentBlock;
+
+  public MultiKeyResponseBodyEncoder(ByteBufAllocator allocator) {
+    this.allocator = allocator;
+    // Don't let the composite buffer consolidate its components, since it would copy all of them.
+    this.body = allocator.compositeDirectBuffer(Integer.MAX_VALUE);
+  }
+
+  public void writeInt(int value) {
+    ensureWritable(MAX_INT_SIZE);
+    int n = (value << 1) ^ (value >> 31);
+    while ((n & ~0x7F) != 0) {
+      currentBlock.writeByte((n & 0x7F) | 0x80);
+      n >>>= 7;
+    }
+    currentBlock.writeByte(n);
+  }
+
+  /**
+   * Writes the bytes between the position and the limit of the given buffer, without modifying its position. The
+   * content of a value which is added without being copied should not be modified until the response is released.
+   */
+  public void writeBytes(ByteBuffer value) {
+    int length = value.remaining();
+    writeInt(length);
+    if (length >= ZERO_COPY_VALUE_SIZE_THRESHOLD) {
+      addCurrentBlockToBody();
+      body.addComponent(true, Unpooled.wrappedBuffer(value));
+      return;
+    }
+    ensureWritable(length);
+    if (value.hasArray()) {
+      currentBlock.writeBytes(value.array(), value.arrayOffset() + value.position(), length);
+    } else {
+      currentBlock.writeBytes(value.duplicate());
+    }
+  }
+
+  /**
+   * @return the encoded response, whose ownership is transferred to the caller.
+   */
+  public ByteBuf finish() {
+    addCurrentBlockToBody();
+    releaseCurrentBlock();
+    return body;
+  }
+
+  public void release() {
+    releaseCurrentBlock();
+    body.release();
+  }
+
+  private void ensureWritable(int length) {
+    if (currentBlock != null && currentBlock.writableBytes() >= length) {
+      return;
+    }
+    addCurrentBlockToBody();
+    releaseCurrentBlock();
+    currentBlock = allocator.directBuffer(Math.max(BLOCK_SIZE, length));
+  }
+
+  /**
+   * Adds the bytes written so far into the current block to the response, while the rest of the block can still be
+   * used by the next records.
+   */
+  private void addCurrentBlockToBody() {
+    if (currentBlock != null && currentBlock.isReadable()) {
+      body.addComponent(true, currentBlock.readRetainedSlice(currentBlock.readableBytes()));
+    }
+  }
+
+  private void releaseCurrentBlock() {
+    if (currentBlock != null) {
+      currentBlock.release();
+      currentBlock = null;
+    }
+  }
+}
@@ -1,34 +1,48 @@
 package com.linkedin.venice.listener.response;
 
+import com.linkedin.davinci.listener.response.ReadPhase;
 import com.linkedin.davinci.listener.response.ReadResponse;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
-import java.util.ArrayList;
-import java.util.List;
+import io.netty.buffer.PooledByteBufAllocator;
 
 
+/**
+ * The records are encoded into pooled buffers as soon as they are added, instead of being collected and serialized
+ * into a single byte array once all the lookups are done, so the response body doesn't need to be copied again, and
+ * the big values are not copied at all, see {@link MultiKeyResponseBodyEncoder}.
+ *
+ * The response body should either be retrieved by {@link #getResponseBody()}, which transfers the ownership of the
+ * pooled buffers to the caller, or be released by {@link #release()} if the response won't be sent.
+ */
 public abstract class MultiKeyResponseWrapper<K> extends ReadResponse {
-  protected final List<K> records;
-
-  public MultiKeyResponseWrapper(int maxKeyCount) {
-    this.records = new ArrayList<>(maxKeyCount);
-  }
+  private final MultiKeyResponseBodyEncoder encoder = new MultiKeyResponseBodyEncoder(PooledByteBufAllocator.DEFAULT);
+  private int recordCount = 0;
 
   public void addRecord(K record) {
-    records.add(record);
+    long encodingStartTimeInNS = System.nanoTime();
+    writeRecord(record, encoder);
+    addReadPhaseLatency(ReadPhase.RESPONSE_ENCODING, System.nanoTime() - encodingStartTimeInNS);
+    recordCount++;
   }
 
-  protected abstract byte[] serializedResponse();
+  /**
+   * Encodes the given record the same way as its Avro serializer would.
+   */
+  protected abstract void writeRecord(K record, MultiKeyResponseBodyEncoder encoder);
 
   public abstract int getResponseSchemaIdHeader();
 
   public int getRecordCount() {
-    return records.size();
+    return recordCount;
   }
 
   @Override
   public ByteBuf getResponseBody() {
-    return Unpooled.wrappedBuffer(serializedResponse());
+    return encoder.finish();
+  }
+
+  public void release() {
+    encoder.release();
   }
 
   /**
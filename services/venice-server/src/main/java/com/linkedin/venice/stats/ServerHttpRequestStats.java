@@ -1,5 +1,6 @@
 package com.linkedin.venice.stats;
 
+import com.linkedin.davinci.listener.response.ReadPhase;
 import com.linkedin.venice.read.RequestType;
 import io.tehuti.metrics.MeasurableStat;
 import io.tehuti.metrics.MetricsRepository;
@@ -19,6 +20,8 @@ import java.util.function.Supplier;
  * handling requests from Routers.
  */
 public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
+  private static final ReadPhase[] READ_PHASES = ReadPhase.values();
+
   private final Sensor successRequestSensor;
   private final Sensor errorRequestSensor;
   private final Sensor successRequestLatencySensor;
@@ -50,6 +53,11 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
 
   private final Sensor earlyTerminatedEarlyRequestCountSensor;
 
+  /**
+   * The latency breakdown of the requests, indexed by the ordinal of their {@link ReadPhase}.
+   */
+  private final Sensor[] readPhaseLatencySensors = new Sensor[READ_PHASES.length];
+
   private Sensor requestKeySizeSensor;
   private Sensor requestValueSizeSensor;
 
@@ -280,6 +288,15 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         () -> totalStats.earlyTerminatedEarlyRequestCountSensor,
         new OccurrenceRate());
 
+    for (ReadPhase phase: READ_PHASES) {
+      String sensorName = "read_phase_" + phase.getName() + "_latency";
+      readPhaseLatencySensors[phase.ordinal()] = registerPerStoreAndTotal(
+          sensorName,
+          totalStats,
+          () -> totalStats.readPhaseLatencySensors[phase.ordinal()],
+          TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName(sensorName)));
+    }
+
     if (isKeyValueProfilingEnabled) {
       String requestValueSizeSensorName = "request_value_size";
       requestValueSizeSensor = registerPerStoreAndTotal(
@@ -409,6 +426,10 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     earlyTerminatedEarlyRequestCountSensor.record();
   }
 
+  public void recordReadPhaseLatency(ReadPhase phase, double latency) {
+    readPhaseLatencySensors[phase.ordinal()].record(latency);
+  }
+
   public void recordKeySizeInByte(long keySize) {
     requestKeySizeSensor.record(keySize);
   }
@@ -4,6 +4,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
@@ -50,6 +51,8 @@ public class ReadQuotaEnforcementHandlerTest {
     currentTime = 0;
     doReturn(currentTime).when(clock).millis();
     storeRepository = mock(ReadOnlyStoreRepository.class);
+    doCallRealMethod().when(storeRepository).getStoreSnapshot(any());
+    doCallRealMethod().when(storeRepository).getStoreSnapshotOrThrow(any());
     routingRepository = mock(RoutingDataRepository.class);
     stats = mock(AggServerQuotaUsageStats.class);
     quotaEnforcer = new ReadQuotaEnforcementHandler(
@@ -0,0 +1,115 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.streaming.StreamingUtils;
+import io.netty.buffer.ByteBuf;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MultiKeyResponseWrapperTest {
+  private static ByteBuffer createValue(int size, boolean direct) {
+    ByteBuffer value = direct ? ByteBuffer.allocateDirect(size + 2) : ByteBuffer.allocate(size + 2);
+    for (int i = 0; i < size + 2; ++i) {
+      value.put((byte) i);
+    }
+    // Leave some bytes before and after the value, which should not be part of the response.
+    value.position(1);
+    value.limit(size + 1);
+    return value.slice();
+  }
+
+  private static byte[] toBytes(ByteBuf body) {
+    byte[] bytes = new byte[body.readableBytes()];
+    body.getBytes(body.readerIndex(), bytes);
+    return bytes;
+  }
+
+  @Test
+  public void testMultiGetResponseIsSerializedLikeAvro() {
+    int zeroCopyThreshold = MultiKeyResponseBodyEncoder.ZERO_COPY_VALUE_SIZE_THRESHOLD;
+    int[] valueSizes =
+        { 0, 10, 100, zeroCopyThreshold - 1, zeroCopyThreshold, MultiKeyResponseBodyEncoder.BLOCK_SIZE + 1, 20 };
+    List<MultiGetResponseRecordV1> records = new ArrayList<>();
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper();
+    for (int i = 0; i < valueSizes.length * 2; ++i) {
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i % 3 == 0 ? -i : i * 1000;
+      record.schemaId = i;
+      record.value = createValue(valueSizes[i % valueSizes.length], i >= valueSizes.length);
+      records.add(record);
+      responseWrapper.addRecord(record);
+    }
+    Assert.assertEquals(responseWrapper.getRecordCount(), records.size());
+
+    ByteBuf body = responseWrapper.getResponseBody();
+    try {
+      for (int i = 0; i < records.size(); ++i) {
+        ByteBuffer value = records.get(i).value;
+        // Adding the records to the response should not modify them.
+        Assert.assertEquals(value.position(), 0);
+        Assert.assertEquals(value.remaining(), valueSizes[i % valueSizes.length]);
+        // Serialize the expected response from heap buffers only.
+        byte[] valueBytes = new byte[value.remaining()];
+        value.duplicate().get(valueBytes);
+        records.get(i).value = ByteBuffer.wrap(valueBytes);
+      }
+      byte[] expectedResponse = SerializerDeserializerFactory
+          .getAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema())
+          .serializeObjects(records, AvroSerializer.REUSE.get());
+      Assert.assertEquals(toBytes(body), expectedResponse);
+    } finally {
+      Assert.assertTrue(body.release());
+    }
+  }
+
+  @Test
+  public void testComputeResponseIsSerializedLikeAvro() {
+    List<ComputeResponseRecordV1> records = new ArrayList<>();
+    ComputeResponseWrapper responseWrapper = new ComputeResponseWrapper();
+    for (int i = 0; i < 100; ++i) {
+      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+      record.keyIndex = i;
+      record.value = i % 10 == 0 ? StreamingUtils.EMPTY_BYTE_BUFFER : createValue(i * 100, false);
+      records.add(record);
+      responseWrapper.addRecord(record);
+    }
+
+    byte[] expectedResponse = SerializerDeserializerFactory
+        .getAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema())
+        .serializeObjects(records, AvroSerializer.REUSE.get());
+    ByteBuf body = responseWrapper.getResponseBody();
+    try {
+      Assert.assertEquals(toBytes(body), expectedResponse);
+    } finally {
+      Assert.assertTrue(body.release());
+    }
+  }
+
+  @Test
+  public void testEmptyResponse() {
+    ByteBuf body = new MultiGetResponseWrapper().getResponseBody();
+    Assert.assertEquals(body.readableBytes(), 0);
+    Assert.assertTrue(body.release());
+  }
+
+  @Test
+  public void testReleaseUnsentResponse() {
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper();
+    for (int i = 0; i < 10; ++i) {
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i;
+      record.schemaId = 1;
+      record.value = createValue(i * MultiKeyResponseBodyEncoder.ZERO_COPY_VALUE_SIZE_THRESHOLD / 4, true);
+      responseWrapper.addRecord(record);
+    }
+    responseWrapper.release();
+    Assert.assertEquals(responseWrapper.getResponseBody().refCnt(), 0);
+  }
+}
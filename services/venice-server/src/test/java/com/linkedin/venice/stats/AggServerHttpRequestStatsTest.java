@@ -1,5 +1,6 @@
 package com.linkedin.venice.stats;
 
+import com.linkedin.davinci.listener.response.ReadPhase;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.tehuti.MockTehutiReporter;
@@ -22,6 +23,7 @@ public class AggServerHttpRequestStatsTest {
   private static final String STORE_BAR = "store_bar";
   private static final String STORE_WITH_SMALL_VALUES = "store_with_small_values";
   private static final String STORE_WITH_LARGE_VALUES = "store_with_large_values";
+  private static final String STORE_WITH_READ_PHASES = "store_with_read_phases";
 
   @BeforeTest
   public void setUp() {
@@ -94,6 +96,24 @@ public class AggServerHttpRequestStatsTest {
     }
   }
 
+  @Test
+  public void testReadPhaseMetrics() {
+    ServerHttpRequestStats batchGetServerStats = batchGetStats.getStoreStats(STORE_WITH_READ_PHASES);
+    batchGetServerStats.recordReadPhaseLatency(ReadPhase.QUEUE_WAIT, 2);
+    batchGetServerStats.recordReadPhaseLatency(ReadPhase.CHUNK_ASSEMBLY, 5);
+    batchGetServerStats.recordReadPhaseLatency(ReadPhase.CHUNK_ASSEMBLY, 7);
+
+    Assert.assertEquals(
+        reporter.query("." + STORE_WITH_READ_PHASES + "--multiget_read_phase_queue_wait_latency.Max").value(),
+        2d);
+    Assert.assertEquals(
+        reporter.query("." + STORE_WITH_READ_PHASES + "--multiget_read_phase_chunk_assembly_latency.Avg").value(),
+        6d);
+    Assert.assertTrue(
+        reporter.query(".total--multiget_read_phase_chunk_assembly_latency.Max").value() >= 7d,
+        "The read phase latency should be recorded in the total stats as well");
+  }
+
   /**
    * Store FOO is a small value store, while store BAR is a large value store.
    */